@@ -196,6 +196,15 @@ public abstract class JavaBuilderSet extends DefaultBuilderSet implements IJavaB
      */
     public static final String CONFIG_PROPERTY_GENERATE_MINIMAL_JAVADOC = "minimalJavadoc"; //$NON-NLS-1$
 
+    /**
+     * Configuration property that enables/disables storing the rows of generated tables column by
+     * column.
+     *
+     * @see org.faktorips.runtime.internal.ColumnarRows
+     * @since 27.1
+     */
+    public static final String CONFIG_PROPERTY_GENERATE_COLUMNAR_TABLE_ROWS = "columnarTableRows"; //$NON-NLS-1$
+
     /**
      * Configuration property for the unify value set methods option.
      */
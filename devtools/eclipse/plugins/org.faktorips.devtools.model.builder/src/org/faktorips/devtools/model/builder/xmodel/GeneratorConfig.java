@@ -234,6 +234,18 @@ public class GeneratorConfig {
         return propertyValueAsBoolean == null ? false : propertyValueAsBoolean;
     }
 
+    /**
+     * Returns whether generated tables store their rows column by column.
+     *
+     * @see JavaBuilderSet#CONFIG_PROPERTY_GENERATE_COLUMNAR_TABLE_ROWS
+     * @since 27.1
+     */
+    public boolean isGenerateColumnarTableRows() {
+        Boolean propertyValueAsBoolean = config
+                .getPropertyValueAsBoolean(JavaBuilderSet.CONFIG_PROPERTY_GENERATE_COLUMNAR_TABLE_ROWS);
+        return propertyValueAsBoolean == null ? false : propertyValueAsBoolean;
+    }
+
     public Locale getLanguageUsedInGeneratedSourceCode() {
         String localeString = config.getPropertyValueAsString(JavaBuilderSet.CONFIG_PROPERTY_GENERATOR_LOCALE);
         if (localeString == null) {
@@ -29,6 +29,7 @@ import org.faktorips.devtools.model.tablestructure.IIndex;
 import org.faktorips.devtools.model.tablestructure.IKeyItem;
 import org.faktorips.devtools.model.tablestructure.ITableStructure;
 import org.faktorips.runtime.internal.IpsStringUtils;
+import org.faktorips.runtime.internal.tableindex.CompositeKey;
 import org.faktorips.runtime.internal.tableindex.KeyStructure;
 import org.faktorips.runtime.internal.tableindex.RangeStructure;
 import org.faktorips.runtime.internal.tableindex.RangeType;
@@ -98,12 +99,12 @@ public class XIndex extends AbstractGeneratorModelNode {
     }
 
     /**
-     * @return class name if any key is a column. Else returns the class name of the type of the
-     *             first key item
+     * @return {@link CompositeKey} if any key is a column. Else returns the class name of the type
+     *             of the first key item
      */
     public String getClassOrTypeName() {
         if (getIndex().containsColumns()) {
-            return "Index" + indexInList;
+            return addImport(CompositeKey.class.getName());
         } else {
             return getJavaClassName(getIndex().getKeyItemAt(0));
         }
@@ -278,17 +279,6 @@ public class XIndex extends AbstractGeneratorModelNode {
         return columns;
     }
 
-    /**
-     * @return parameters with data type as a list for constructor
-     */
-    public List<MethodParameter> getConstructorParameters() {
-        List<MethodParameter> params = new ArrayList<>();
-        for (XColumn key : columnKeys) {
-            params.add(new MethodParameter(key.getDatatypeName(), key.getAttributeName()));
-        }
-        return params;
-    }
-
     public String getRangeStructureParameter() {
         IKeyItem keyItem = getIndex().getKeyItemAt(0);
         String parameter = "";
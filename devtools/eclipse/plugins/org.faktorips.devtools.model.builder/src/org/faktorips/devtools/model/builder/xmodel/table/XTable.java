@@ -106,21 +106,6 @@ public class XTable extends XTableStructure {
         return String.join(",", columnNames);
     }
 
-    /**
-     *
-     * @return a list of indices those have only column key items
-     */
-    public List<XIndex> getColumnKeyIndexModelNodes() {
-        List<XIndex> keyIndices = new ArrayList<>();
-        for (XIndex index : getIndexModelNodes()) {
-            if (index.hasColumnKeys()) {
-                keyIndices.add(index);
-            }
-        }
-        return keyIndices;
-
-    }
-
     /**
      *
      * @param xIndex that is needed to check for suffix name
@@ -32,6 +32,14 @@ class CopySupportTmpl {
             @Override
             public «CommonGeneratorExtensions::isAbstract(it)» «getClassName(genInterface())» «newCopy()»;
 
+            /**
+             *«inheritDoc»
+             *
+             * @generated
+             */
+            @Override
+            public «CommonGeneratorExtensions::isAbstract(it)» «getClassName(genInterface())» «newSharingCopy(IModelObject+"... objectsToModify")»;
+
     '''
 
     def private static copyMethodsImpl(XPolicyCmptClass it) '''
@@ -44,7 +52,20 @@ class CopySupportTmpl {
                 */
                @Override
                public «implClassName» «newCopy» {
-                   «Map(IModelObject, IModelObject)» copyMap = new «HashMap»();
+                   «Map(IModelObject, IModelObject)» copyMap = new «IdentityHashMap»();
+                   «implClassName» newCopy = «newCopyInternal("copyMap")»;
+                   «copyAssociationsInternal("newCopy", "copyMap")»;
+                   return newCopy;
+               }
+
+               /**
+                *«inheritDoc»
+                *
+                * @generated
+                */
+               @Override
+               public «implClassName» «newSharingCopy(IModelObject+"... objectsToModify")» {
+                   «Map(IModelObject, IModelObject)» copyMap = new «SharingCopyMap»(this, objectsToModify);
                    «implClassName» newCopy = «newCopyInternal("copyMap")»;
                    «copyAssociationsInternal("newCopy", "copyMap")»;
                    return newCopy;
@@ -61,6 +82,9 @@ class CopySupportTmpl {
         «overrideAnnotationIfHasSuperclass()»
         public «implClassName» «newCopyInternal(Map(IModelObject, IModelObject)+" copyMap")» {
             «IF !abstract»
+                if (isSharedInCopy(this, copyMap)) {
+                    return this;
+                }
                 «implClassName» newCopy = («implClassName»)copyMap.get(this);
                 if (newCopy == null) {
                     newCopy = new «implClassName»();
@@ -153,7 +177,9 @@ class CopySupportTmpl {
                         «targetClassName» «copySupportLoopVarName» = «castToImplementation(targetModelNode, targetClassName)» it.next();
                             «targetClassName» «copySupportCopyVarName» = «copySupportLoopVarName».newCopyInternal(copyMap);
                             «IF setInverseAssociationInCopySupport»
-                                «copySupportCopyVarName».«inverseAssociation.methodNameSetOrAddInternal»(concreteCopy);
+                                if («copySupportCopyVarName» != «copySupportLoopVarName») {
+                                    «copySupportCopyVarName».«inverseAssociation.methodNameSetOrAddInternal»(concreteCopy);
+                                }
                             «ENDIF»
                             concreteCopy.«fieldName».add(«copySupportCopyVarName»);
                         }
@@ -161,7 +187,9 @@ class CopySupportTmpl {
                         if («fieldName» != null) {
                         concreteCopy.«fieldName» = «fieldName».newCopyInternal(copyMap);
                             «IF setInverseAssociationInCopySupport»
-                                concreteCopy.«fieldName».«inverseAssociation.methodNameSetOrAddInternal»(concreteCopy);
+                                if (concreteCopy.«fieldName» != «fieldName») {
+                                    concreteCopy.«fieldName».«inverseAssociation.methodNameSetOrAddInternal»(concreteCopy);
+                                }
                             «ENDIF»
                         }
                     «ENDIF»
@@ -174,12 +202,7 @@ class CopySupportTmpl {
         «IF considerInCopySupport»
             «IF typeAssociation»
                 «IF oneToMany»
-                    for («targetInterfaceName» «copySupportLoopVarNameInternal» : «fieldName») {
-                        if (copyMap.containsKey(«copySupportLoopVarNameInternal»)) {
-                            newCopy.«fieldName».remove(«copySupportLoopVarNameInternal»);
-                            newCopy.«fieldName».add((«targetInterfaceName»)copyMap.get(«copySupportLoopVarNameInternal»));
-                        }
-                    }
+                    replaceCopiedTargets(newCopy.«fieldName», copyMap);
                 «ELSE»
                     if (copyMap.containsKey(«fieldName»)) {
                         newCopy.«fieldName» = («targetClassName»)copyMap.get(«fieldName»);
@@ -189,10 +212,12 @@ class CopySupportTmpl {
                 «IF oneToMany»
                     for («targetInterfaceName» «copySupportLoopVarNameInternal» : «fieldName») {
                         «targetClassName» «copySupportCopyVarName» = («targetClassName»)copyMap.get(«copySupportLoopVarNameInternal»);
-                        «castToImplementation(targetModelNode, targetClassName, copySupportLoopVarNameInternal)».copyAssociationsInternal(«copySupportCopyVarName», copyMap);
+                        if («copySupportCopyVarName» != null) {
+                            «castToImplementation(targetModelNode, targetClassName, copySupportLoopVarNameInternal)».copyAssociationsInternal(«copySupportCopyVarName», copyMap);
+                        }
                     }
                 «ELSE»
-                    if («fieldName» != null) {
+                    if («fieldName» != null && copyMap.containsKey(«fieldName»)) {
                         «targetClassName» «copySupportCopyVarName» = («targetClassName»)copyMap.get(«fieldName»);
                         «fieldName».copyAssociationsInternal(«copySupportCopyVarName», copyMap);
                     }
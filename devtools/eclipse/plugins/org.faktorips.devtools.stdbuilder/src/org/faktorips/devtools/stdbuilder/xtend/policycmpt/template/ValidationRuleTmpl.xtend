@@ -165,9 +165,9 @@ def private static createMessageFor (XValidationRule it, String modelObject, Str
         «ENDIF»
         «MessagesHelper()» messageHelper = new «MessagesHelper()»("«validateMessageBundleName»",
                 getClass().getClassLoader(), «defaultLocale»);
-        String msgText = messageHelper.getMessage("«validationMessageKey»", context.getLocale() «FOR param : replacementParameters», «param»«ENDFOR»);
 
-           «Message()».Builder builder = new «Message()».Builder(msgText, «severityConstant»)
+           «Message()».Builder builder = new «Message()».Builder(«severityConstant»)
+               .text(messageHelper, "«validationMessageKey»", context.getLocale() «FOR param : replacementParameters», «param»«ENDFOR»)
                .code(«qualifierForConstantNameMessageCodeIfNecessary»«constantNameMessageCode»)
           «IF validatedAttrSpecifiedInSrc»
                .invalidObjects(invalidObjectProperties)
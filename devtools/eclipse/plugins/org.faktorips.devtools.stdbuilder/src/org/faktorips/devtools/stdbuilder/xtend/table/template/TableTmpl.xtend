@@ -7,7 +7,6 @@ import org.faktorips.devtools.model.builder.xmodel.table.XTable
 import static org.faktorips.devtools.model.builder.java.annotations.AnnotatedJavaElementType.*
 import static org.faktorips.devtools.stdbuilder.xtend.template.MethodNames.*
 
-import static extension org.faktorips.devtools.stdbuilder.xtend.table.template.HashKeyClassTmpl.*
 import static extension org.faktorips.devtools.stdbuilder.xtend.template.ClassNames.*
 import static extension org.faktorips.devtools.stdbuilder.xtend.template.CommonGeneratorExtensions.*
 import static extension org.faktorips.devtools.stdbuilder.xtend.template.Constants.*
@@ -33,6 +32,10 @@ class TableTmpl {
         
             «initKeyMaps»
         
+            «IF generateColumnarTableRows»
+                «createColumnarRows»
+            «ENDIF»
+        
             «IF singleContentTable »
                 «getInstanceForSingleContent»
             «ENDIF»
@@ -40,9 +43,7 @@ class TableTmpl {
             «getInstanceForMultipleContents»
             
             «FOR nodes : indexModelNodes» «findMethods(nodes) »«ENDFOR»
-            
-            «FOR it : columnKeyIndexModelNodes» «body» «ENDFOR»
-                 
+
             «writeToXmlMethod»
         }
     '''
@@ -119,13 +120,30 @@ class TableTmpl {
         protected final void «method("initKeyMaps")»{
             «IF hasIndices»
                 «FOR node : indexModelNodes» «keyMapInitialization(node)» «ENDFOR»
-                for(«tableRowName» row : rows){
+                for(int rowIndex = 0; rowIndex < rows.size(); rowIndex++){
+                        «tableRowName» row = rows.get(rowIndex);
                         «FOR it : indexModelNodes » «forLoop» «ENDFOR»
                 }
             «ENDIF»
         }
     '''
 
+    def private static createColumnarRows(XTable it) '''
+        /**
+         *«inheritDoc»
+         *
+         * @generated
+         */
+        @Override
+        protected «ColumnarRows_(tableRowName)» createColumnarRows() {
+            return «ColumnarRows».<«tableRowName»> builder()
+                «FOR column : validColumns»
+                    .column(«column.datatypeName».class, «tableRowName»::«column.methodNameGetter»)
+                «ENDFOR»
+                .build(values -> new «tableRowName»(«FOR column : validColumns.indexed SEPARATOR ", "»(«column.value.datatypeName»)values[«column.key»]«ENDFOR»));
+        }
+    '''
+
     def private static keyMapInitialization(XTable table, XIndex it) '''
         «keySearchStructureName» = «structureClass.genericClass».«structureClass.paramsWithBracket()» create(«rangeStructureParameter»);
     '''
@@ -140,7 +158,7 @@ class TableTmpl {
                     row.«methodNameGetter»(),
                 «ENDFOR»
             «ELSE»
-                new «classOrTypeName»(
+                «classOrTypeName».of(
                     «FOR column : columnKeys.indexed»
                         row.«column.value.methodNameGetter»()«IF column.key < columnKeys.size-1», «ENDIF»
                     «ENDFOR»
@@ -149,7 +167,7 @@ class TableTmpl {
             «IF hasRangeKeysNotFirst()»
                 «keyItemsForInitKeyMap.get(keyItemsForInitKeyMap.size - 1).searchStrucutreName»
             «ELSE»
-                «resultStructureClassName».createWith(row)
+                «createResultStructure»
             «ENDIF»
         );
     '''
@@ -163,13 +181,17 @@ class TableTmpl {
                 row.«methodNameGetter»(),
             «ENDFOR»
             «IF prevSearchStructureName == ""»
-                «index.resultStructureClassName».createWith(row)
+                «index.createResultStructure»
             «ELSE»
                 «prevSearchStructureName»
             «ENDIF»
         );
     '''
 
+    def private static createResultStructure(XIndex it) '''
+        «IF uniqueKey»createUniqueResultStructure«ELSE»createResultStructure«ENDIF»(row, rowIndex)
+    '''
+
     def private static getInstanceForSingleContent(XTable it) '''
         /**
          *«localizedJDoc("METHOD_GET_INSTANCE")»
@@ -247,7 +269,7 @@ class TableTmpl {
 
     def private static findRowMethodPart(XIndex it) '''
         return «keySearchStructureName»
-        «IF hasColumnKeys()».get(new «classOrTypeName» («columnKeyNames»))
+        «IF hasColumnKeys()».getByKeyValues(«columnKeyNames»)
         «ENDIF»
         «FOR rangeName : rangeKeyNames» .get(«rangeName»)
         «ENDFOR»
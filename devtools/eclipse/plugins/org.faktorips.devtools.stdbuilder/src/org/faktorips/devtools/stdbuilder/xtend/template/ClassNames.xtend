@@ -11,6 +11,7 @@ import java.util.Arrays
 import java.util.Calendar
 import java.util.Collections
 import java.util.HashMap
+import java.util.IdentityHashMap
 import java.util.Iterator
 import java.util.LinkedHashMap
 import java.util.Locale
@@ -44,6 +45,7 @@ import org.faktorips.runtime.MessageList
 import org.faktorips.runtime.MsgReplacementParameter
 import org.faktorips.runtime.ObjectProperty
 import org.faktorips.runtime.internal.AbstractModelObject
+import org.faktorips.runtime.internal.ColumnarRows
 import org.faktorips.runtime.internal.DateTime
 import org.faktorips.runtime.internal.EnumValues
 import org.faktorips.runtime.internal.IXmlPersistenceSupport
@@ -52,6 +54,7 @@ import org.faktorips.runtime.internal.MultiValueXmlHelper
 import org.faktorips.runtime.internal.ProductComponentLink
 import org.faktorips.runtime.internal.ProductConfiguration
 import org.faktorips.runtime.internal.Range
+import org.faktorips.runtime.internal.SharingCopyMap
 import org.faktorips.runtime.internal.Table
 import org.faktorips.runtime.internal.ValueToXmlHelper
 import org.faktorips.runtime.internal.XmlCallback
@@ -105,6 +108,8 @@ class ClassNames {
 
     def static ProductConfiguration(AbstractGeneratorModelNode it) { addImport(typeof(ProductConfiguration)) }
 
+    def static SharingCopyMap(AbstractGeneratorModelNode it) { addImport(typeof(SharingCopyMap)) }
+
     def static IValidationContext(AbstractGeneratorModelNode it) { addImport(typeof(IValidationContext)) }
 
     def static INotificationSupport(AbstractGeneratorModelNode it) { addImport(typeof(INotificationSupport)) }
@@ -144,6 +149,10 @@ class ClassNames {
         addImport(typeof(HashMap)) + "<>"
     }
 
+    def static IdentityHashMap(AbstractGeneratorModelNode it) {
+        addImport(typeof(IdentityHashMap)) + "<>"
+    }
+
     def static LinkedHashMap(AbstractGeneratorModelNode it) {
         addImport(typeof(LinkedHashMap)) + "<>"
     }
@@ -246,6 +255,12 @@ class ClassNames {
         addImport(Table.name) + "<" + genericType + ">"
     }
 
+    def static ColumnarRows(AbstractGeneratorModelNode it) { addImport(typeof(ColumnarRows)) }
+
+    def static ColumnarRows_(AbstractGeneratorModelNode it, String genericType) {
+        addImport(typeof(ColumnarRows)) + "<" + genericType + ">"
+    }
+
     def static MessagesHelper(AbstractGeneratorModelNode it) { addImport(typeof(MessagesHelper)) }
 
     // EXECPTIONS
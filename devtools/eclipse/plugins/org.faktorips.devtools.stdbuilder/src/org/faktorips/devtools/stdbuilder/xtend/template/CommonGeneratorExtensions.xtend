@@ -61,6 +61,10 @@ class CommonGeneratorExtensions {
     def static generateToXmlSupport(AbstractGeneratorModelNode it){
         generatorConfig.generateToXmlSupport
     }
+
+    def static generateColumnarTableRows(AbstractGeneratorModelNode it){
+        generatorConfig.generateColumnarTableRows
+    }
     
     def static generateProductBuilder(AbstractGeneratorModelNode it){
         generatorConfig.generateProductBuilder
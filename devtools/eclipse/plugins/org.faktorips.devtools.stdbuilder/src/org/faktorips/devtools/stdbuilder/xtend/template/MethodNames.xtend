@@ -232,6 +232,8 @@ class MethodNames {
 
     def static newCopy() {     "newCopy()"    }
 
+    def static newSharingCopy(String argument) {     "newSharingCopy("+argument+")"    }
+
     def static newCopyInternal(String argument) {     "newCopyInternal("+argument+")"    }
 
     def static copyProperties(String arg1, String arg2) {     "copyProperties("+arg1+","+arg2+")"    }
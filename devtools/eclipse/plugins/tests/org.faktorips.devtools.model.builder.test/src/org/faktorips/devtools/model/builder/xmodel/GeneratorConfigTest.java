@@ -113,6 +113,18 @@ public class GeneratorConfigTest {
         assertThat(propertyValueAsBoolean, is(false));
     }
 
+    @Test
+    public void testIsGenerateColumnarTableRows_Default() throws Exception {
+        assertThat(generatorConfig.isGenerateColumnarTableRows(), is(false));
+    }
+
+    @Test
+    public void testIsGenerateColumnarTableRows() throws Exception {
+        when(config.getPropertyValueAsBoolean(JavaBuilderSet.CONFIG_PROPERTY_GENERATE_COLUMNAR_TABLE_ROWS))
+                .thenReturn(true);
+        assertThat(generatorConfig.isGenerateColumnarTableRows(), is(true));
+    }
+
     @Test
     public void testGetJaxbSupport_Default() throws Exception {
         assertThat(generatorConfig.getJaxbSupport(), is(JaxbSupportVariant.None));
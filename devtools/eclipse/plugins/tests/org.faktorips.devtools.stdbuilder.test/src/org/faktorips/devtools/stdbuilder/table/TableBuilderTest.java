@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.devtools.stdbuilder.table;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.eclipse.core.runtime.MultiStatus;
+import org.faktorips.datatype.Datatype;
+import org.faktorips.devtools.abstraction.ABuildKind;
+import org.faktorips.devtools.abstraction.AFile;
+import org.faktorips.devtools.model.tablestructure.IColumn;
+import org.faktorips.devtools.model.tablestructure.IIndex;
+import org.faktorips.devtools.model.tablestructure.ITableStructure;
+import org.faktorips.devtools.stdbuilder.AbstractStdBuilderTest;
+import org.faktorips.devtools.stdbuilder.StandardBuilderSet;
+import org.faktorips.devtools.stdbuilder.xtend.table.TableBuilder;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the generated table classes.
+ */
+public class TableBuilderTest extends AbstractStdBuilderTest {
+
+    private ITableStructure tableStructure;
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        tableStructure = newTableStructure(ipsProject, "RateTable");
+        IColumn idColumn = tableStructure.newColumn();
+        idColumn.setName("id");
+        idColumn.setDatatype(Datatype.STRING.getQualifiedName());
+        IColumn nameColumn = tableStructure.newColumn();
+        nameColumn.setName("name");
+        nameColumn.setDatatype(Datatype.STRING.getQualifiedName());
+        IIndex index = tableStructure.newIndex();
+        index.addKeyItem("id");
+        index.addKeyItem("name");
+        index.setUniqueKey(true);
+        tableStructure.getIpsSrcFile().save(null);
+    }
+
+    @Test
+    public void testBuild_ColumnIndexUsesCompositeKey() throws Exception {
+        String content = buildTable();
+
+        assertThat(content, containsString("import org.faktorips.runtime.internal.tableindex.CompositeKey;"));
+        assertThat(content, containsString("CompositeKey.of("));
+        assertThat(content, containsString(".getByKeyValues("));
+        assertThat(content, not(containsString("class Index0")));
+    }
+
+    @Test
+    public void testBuild_NoColumnarTableRowsByDefault() throws Exception {
+        String content = buildTable();
+
+        assertThat(content, not(containsString("createColumnarRows()")));
+    }
+
+    @Test
+    public void testBuild_ColumnarTableRows() throws Exception {
+        setGeneratorProperty(ipsProject, StandardBuilderSet.CONFIG_PROPERTY_GENERATE_COLUMNAR_TABLE_ROWS,
+                Boolean.TRUE.toString());
+
+        String content = buildTable();
+
+        assertThat(content, containsString("protected ColumnarRows<RateTableRow> createColumnarRows()"));
+        assertThat(content, containsString("RateTableRow::getId"));
+        assertThat(content, containsString("RateTableRow::getName"));
+        assertThat(content, containsString("values[1]"));
+    }
+
+    private String buildTable() throws Exception {
+        TableBuilder tableBuilder = builderSet.getTableBuilder();
+        MultiStatus status = new MultiStatus("org.faktorips.devtools.stdbuilder", 0, "test", null);
+        tableBuilder.beforeBuildProcess(ipsProject, ABuildKind.FULL);
+        tableBuilder.beforeBuild(tableStructure.getIpsSrcFile(), status);
+        tableBuilder.build(tableStructure.getIpsSrcFile());
+        tableBuilder.afterBuild(tableStructure.getIpsSrcFile());
+
+        AFile javaFile = tableBuilder.getJavaFile(tableStructure.getIpsSrcFile());
+        assertThat("Generated Java file does not exist: " + javaFile.toString(), javaFile.exists(), is(true));
+        return getFileContent(javaFile);
+    }
+
+}
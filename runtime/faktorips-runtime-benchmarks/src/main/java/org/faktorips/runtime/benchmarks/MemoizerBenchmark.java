@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.faktorips.runtime.caching.BoundedMemoizer;
+import org.faktorips.runtime.caching.IComputable;
+import org.faktorips.runtime.caching.Memoizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures cache hits in the caches used by the runtime repositories.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MemoizerBenchmark {
+
+    private static final int KEY_COUNT = 4096;
+
+    @Param({ "Memoizer", "BoundedMemoizer" })
+    public String cacheType;
+
+    private IComputable<String, String> cache;
+
+    private final String[] keys = new String[KEY_COUNT];
+
+    private int next;
+
+    @Setup
+    public void fillCache() throws InterruptedException {
+        IComputable<String, String> computable = IComputable.of(String.class, key -> key + "-value");
+        cache = switch (cacheType) {
+            case "Memoizer" -> new Memoizer<>(computable);
+            case "BoundedMemoizer" -> new BoundedMemoizer<>(computable, 2 * KEY_COUNT);
+            default -> throw new IllegalArgumentException("Unknown cache type " + cacheType);
+        };
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "key" + i;
+            cache.compute(keys[i]);
+        }
+    }
+
+    @Benchmark
+    public String computeHit() throws InterruptedException {
+        next = (next + 1) & (KEY_COUNT - 1);
+        return cache.compute(keys[next]);
+    }
+
+}
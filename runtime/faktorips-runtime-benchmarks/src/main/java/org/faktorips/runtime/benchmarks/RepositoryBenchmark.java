@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.benchmarks;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.concurrent.TimeUnit;
+
+import org.faktorips.runtime.IProductComponent;
+import org.faktorips.runtime.IProductComponentGeneration;
+import org.faktorips.runtime.IRuntimeRepository;
+import org.faktorips.runtime.benchmarks.model.BenchmarkEnum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures lookups in a repository whose caches already contain all objects of the
+ * {@link SyntheticProductModel}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RepositoryBenchmark {
+
+    private IRuntimeRepository repository;
+
+    private String[] productIds;
+
+    private Calendar[] generationDates;
+
+    private String[] enumIds;
+
+    private int nextProduct;
+
+    private int nextGeneration;
+
+    private int nextEnum;
+
+    @Setup
+    public void warmUpRepository(SyntheticProductModelState state) {
+        SyntheticProductModel model = state.getModel();
+        repository = model.createRepository();
+        productIds = new String[model.getProductCount()];
+        for (int i = 0; i < productIds.length; i++) {
+            productIds[i] = SyntheticProductModel.getProductId(i);
+            repository.getProductComponentGenerations(repository.getProductComponent(productIds[i]));
+        }
+        generationDates = new Calendar[model.getGenerationCount()];
+        for (int i = 0; i < generationDates.length; i++) {
+            generationDates[i] = new GregorianCalendar(SyntheticProductModel.FIRST_YEAR + i, Calendar.JUNE, 1);
+        }
+        enumIds = new String[model.getEnumValueCount()];
+        for (int i = 0; i < enumIds.length; i++) {
+            enumIds[i] = SyntheticProductModel.getEnumId(i);
+        }
+        repository.getEnumValues(BenchmarkEnum.class);
+    }
+
+    @Benchmark
+    public IProductComponent getProductComponent() {
+        nextProduct = (nextProduct + 1) % productIds.length;
+        return repository.getProductComponent(productIds[nextProduct]);
+    }
+
+    @Benchmark
+    public IProductComponentGeneration getProductComponentGeneration() {
+        nextProduct = (nextProduct + 1) % productIds.length;
+        nextGeneration = (nextGeneration + 1) % generationDates.length;
+        return repository.getProductComponentGeneration(productIds[nextProduct], generationDates[nextGeneration]);
+    }
+
+    @Benchmark
+    public BenchmarkEnum getEnumValue() {
+        nextEnum = (nextEnum + 1) % enumIds.length;
+        return repository.getEnumValue(BenchmarkEnum.class, enumIds[nextEnum]);
+    }
+
+}
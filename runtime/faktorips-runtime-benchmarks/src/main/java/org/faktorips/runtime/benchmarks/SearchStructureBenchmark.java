@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.benchmarks;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.faktorips.runtime.benchmarks.model.RateTable;
+import org.faktorips.runtime.benchmarks.model.RateTableRow;
+import org.faktorips.values.Decimal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures finding rows in the {@link RateTable} of the {@link SyntheticProductModel}, that is
+ * lookups in its key structure, two column range structure and one column range structure.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SearchStructureBenchmark {
+
+    private static final int QUERY_COUNT = 1024;
+
+    private RateTable table;
+
+    private final String[] regions = new String[QUERY_COUNT];
+
+    private final Integer[] ages = new Integer[QUERY_COUNT];
+
+    private final Decimal[] sumsInsured = new Decimal[QUERY_COUNT];
+
+    private int next;
+
+    @Setup
+    public void loadTable(SyntheticProductModelState state) {
+        SyntheticProductModel model = state.getModel();
+        table = RateTable.getInstance(model.createRepository());
+        Random random = new Random(42);
+        int maxSumInsured = model.getRegionCount() * SyntheticProductModel.AGE_BANDS * 1000;
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            regions[i] = SyntheticProductModel.getRegion(random.nextInt(model.getRegionCount()));
+            ages[i] = random.nextInt(SyntheticProductModel.AGE_BANDS * 5);
+            sumsInsured[i] = Decimal.valueOf(random.nextInt(maxSumInsured) + 1000);
+        }
+    }
+
+    @Benchmark
+    public RateTableRow findRowByRegionAndAge() {
+        next = (next + 1) & (QUERY_COUNT - 1);
+        return table.findRow(regions[next], ages[next]);
+    }
+
+    @Benchmark
+    public Set<RateTableRow> findRowsBySumInsured() {
+        next = (next + 1) & (QUERY_COUNT - 1);
+        return table.findRows(sumsInsured[next]);
+    }
+
+}
@@ -0,0 +1,297 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.faktorips.runtime.ClassloaderRuntimeRepository;
+import org.faktorips.runtime.benchmarks.model.BenchmarkEnum;
+import org.faktorips.runtime.benchmarks.model.BenchmarkProduct;
+import org.faktorips.runtime.benchmarks.model.BenchmarkProductGen;
+import org.faktorips.runtime.benchmarks.model.RateTable;
+import org.faktorips.values.Decimal;
+
+/**
+ * Writes the XML resources of a synthetic product model with a configurable number of product
+ * components, generations, table rows and enum values to a directory. All values are derived from
+ * a fixed random seed, so the same parameters always create the same model and benchmark results
+ * are repeatable without any external product data.
+ * <p>
+ * The model consists of
+ * <ul>
+ * <li>{@link BenchmarkProduct product components} with the ids {@link #getProductId(int)}, each
+ * with the given number of {@link BenchmarkProductGen generations}, valid from the first of
+ * January of consecutive years starting with {@value #FIRST_YEAR},</li>
+ * <li>one {@link RateTable} with {@value #AGE_BANDS} age bands for each region
+ * {@link #getRegion(int)},</li>
+ * <li>the values of the extensible enum {@link BenchmarkEnum} with the ids
+ * {@link #getEnumId(int)}.</li>
+ * </ul>
+ */
+public final class SyntheticProductModel {
+
+    /**
+     * The path of the table of contents resource relative to the model's directory.
+     */
+    public static final String TOC_RESOURCE = "benchmark/faktorips-repository-toc.xml";
+
+    /**
+     * The qualified name of the rate table.
+     */
+    public static final String RATE_TABLE = "benchmark.RateTable";
+
+    /**
+     * The year the first generation of each product component is valid from.
+     */
+    public static final int FIRST_YEAR = 2000;
+
+    /**
+     * The number of age bands in the rate table for each region, each band covers five years.
+     */
+    public static final int AGE_BANDS = 20;
+
+    private static final long SEED = 4711L;
+
+    private static final String PACKAGE = "benchmark/";
+
+    private static final String ENUM_RESOURCE = PACKAGE + "BenchmarkEnum.xml";
+
+    private static final String TABLE_RESOURCE = PACKAGE + "RateTable.xml";
+
+    private final Path directory;
+
+    private final int productCount;
+
+    private final int generationCount;
+
+    private final int regionCount;
+
+    private final int enumValueCount;
+
+    private final URLClassLoader classLoader;
+
+    private SyntheticProductModel(Path directory, int productCount, int generationCount, int regionCount,
+            int enumValueCount) {
+        this.directory = directory;
+        this.productCount = productCount;
+        this.generationCount = generationCount;
+        this.regionCount = regionCount;
+        this.enumValueCount = enumValueCount;
+        try {
+            classLoader = new URLClassLoader(new URL[] { directory.toUri().toURL() },
+                    SyntheticProductModel.class.getClassLoader());
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * Writes a new synthetic product model to the given directory.
+     *
+     * @param directory the directory the XML resources are written to
+     * @param productCount the number of product components
+     * @param generationCount the number of generations of each product component
+     * @param regionCount the number of regions in the rate table, which has {@value #AGE_BANDS}
+     *            rows for each region
+     * @param enumValueCount the number of enum values
+     *
+     * @throws IOException if the resources can't be written
+     */
+    public static SyntheticProductModel generate(Path directory,
+            int productCount,
+            int generationCount,
+            int regionCount,
+            int enumValueCount) throws IOException {
+        SyntheticProductModel model = new SyntheticProductModel(directory, productCount, generationCount,
+                regionCount, enumValueCount);
+        model.write();
+        return model;
+    }
+
+    /**
+     * Writes a new synthetic product model to a new temporary directory, which is deleted by
+     * {@link #delete()}.
+     *
+     * @see #generate(Path, int, int, int, int)
+     */
+    public static SyntheticProductModel generateTemporary(int productCount,
+            int generationCount,
+            int regionCount,
+            int enumValueCount) throws IOException {
+        return generate(Files.createTempDirectory("faktorips-benchmark"), productCount, generationCount, regionCount,
+                enumValueCount);
+    }
+
+    /**
+     * Returns the id of the product component with the given number.
+     */
+    public static String getProductId(int number) {
+        return String.format("benchmark.Product%05d", number);
+    }
+
+    /**
+     * Returns the name of the region with the given number.
+     */
+    public static String getRegion(int number) {
+        return String.format("R%04d", number);
+    }
+
+    /**
+     * Returns the id of the enum value with the given number.
+     */
+    public static String getEnumId(int number) {
+        return String.format("E%05d", number);
+    }
+
+    public int getProductCount() {
+        return productCount;
+    }
+
+    public int getGenerationCount() {
+        return generationCount;
+    }
+
+    public int getRegionCount() {
+        return regionCount;
+    }
+
+    public int getEnumValueCount() {
+        return enumValueCount;
+    }
+
+    /**
+     * Returns the class loader providing the XML resources of this model.
+     */
+    public ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    /**
+     * Creates a new repository containing this model. Every repository has its own caches, so
+     * the product data is read from XML again.
+     */
+    public ClassloaderRuntimeRepository createRepository() {
+        return ClassloaderRuntimeRepository.create(TOC_RESOURCE, classLoader);
+    }
+
+    /**
+     * Deletes the directory this model was written to.
+     */
+    public void delete() throws IOException {
+        classLoader.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> {
+                try {
+                    Files.delete(file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private void write() throws IOException {
+        Files.createDirectories(directory.resolve(PACKAGE));
+        Random random = new Random(SEED);
+        try (Writer toc = newWriter(TOC_RESOURCE)) {
+            toc.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<FaktorIps-TableOfContents>\n");
+            for (int i = 0; i < productCount; i++) {
+                writeProduct(toc, i, random);
+            }
+            writeTable(toc, random);
+            writeEnum(toc);
+            toc.write("</FaktorIps-TableOfContents>\n");
+        }
+    }
+
+    private void writeProduct(Writer toc, int number, Random random) throws IOException {
+        String id = getProductId(number);
+        String resource = PACKAGE + id.substring(id.lastIndexOf('.') + 1) + ".ipsproduct";
+        toc.write(" <ProductComponent ipsObjectId=\"" + id + "\" ipsObjectQualifiedName=\"" + id + "\" kindId=\""
+                + id + "\" versionId=\"" + FIRST_YEAR + "-01\" xmlResource=\"" + resource
+                + "\" implementationClass=\"" + BenchmarkProduct.class.getName() + "\">\n");
+        try (Writer product = newWriter(resource)) {
+            product.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<ProductCmpt productCmptType=\"benchmark.Product\">\n");
+            for (int year = FIRST_YEAR; year < FIRST_YEAR + generationCount; year++) {
+                String validFrom = year + "-01-01";
+                toc.write("  <Generation validFrom=\"" + validFrom + "\" xmlResource=\"" + resource
+                        + "\" implementationClass=\"" + BenchmarkProductGen.class.getName() + "\"/>\n");
+                product.write(" <Generation validFrom=\"" + validFrom + "\">\n");
+                product.write("  <AttributeValue attribute=\"" + BenchmarkProductGen.ATTRIBUTE_BASE_PREMIUM
+                        + "\"><Value>" + (100 + random.nextInt(900)) + "." + random.nextInt(10) + "0 EUR</Value></AttributeValue>\n");
+                product.write("  <AttributeValue attribute=\"" + BenchmarkProductGen.ATTRIBUTE_RATE
+                        + "\"><Value>" + randomRate(random) + "</Value></AttributeValue>\n");
+                product.write(" </Generation>\n");
+            }
+            product.write("</ProductCmpt>\n");
+        }
+        toc.write(" </ProductComponent>\n");
+    }
+
+    private void writeTable(Writer toc, Random random) throws IOException {
+        toc.write(" <TableContent ipsObjectId=\"" + RATE_TABLE + "\" ipsObjectQualifiedName=\"" + RATE_TABLE
+                + "\" implementationClass=\"" + RateTable.class.getName() + "\" xmlResource=\"" + TABLE_RESOURCE
+                + "\"/>\n");
+        try (Writer table = newWriter(TABLE_RESOURCE)) {
+            table.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<TableContents numOfColumns=\"5\" tableStructure=\""
+                    + RATE_TABLE + "\">\n");
+            for (String column : new String[] { "region", "ageFrom", "ageTo", "sumInsured", "rate" }) {
+                table.write(" <ColumnTableReference name=\"" + column + "\"/>\n");
+            }
+            table.write(" <Rows>\n");
+            for (int region = 0; region < regionCount; region++) {
+                for (int band = 0; band < AGE_BANDS; band++) {
+                    int sumInsured = (region * AGE_BANDS + band + 1) * 1000;
+                    table.write("  <Row><Value>" + getRegion(region) + "</Value><Value>" + band * 5
+                            + "</Value><Value>" + (band * 5 + 4) + "</Value><Value>" + sumInsured
+                            + "</Value><Value>" + randomRate(random) + "</Value></Row>\n");
+                }
+            }
+            table.write(" </Rows>\n</TableContents>\n");
+        }
+    }
+
+    private void writeEnum(Writer toc) throws IOException {
+        toc.write(" <EnumContent ipsObjectId=\"benchmark.BenchmarkEnum\" ipsObjectQualifiedName=\"benchmark.BenchmarkEnum\""
+                + " implementationClass=\"" + BenchmarkEnum.class.getName() + "\" xmlResource=\"" + ENUM_RESOURCE
+                + "\"/>\n");
+        try (Writer enumContent = newWriter(ENUM_RESOURCE)) {
+            enumContent.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<EnumContent enumType=\"benchmark.BenchmarkEnum\">\n");
+            for (int i = 0; i < enumValueCount; i++) {
+                enumContent.write(" <EnumValue><EnumAttributeValue>" + getEnumId(i)
+                        + "</EnumAttributeValue><EnumAttributeValue>Value " + i
+                        + "</EnumAttributeValue></EnumValue>\n");
+            }
+            enumContent.write(" <EnumAttributeReference name=\"id\"/>\n <EnumAttributeReference name=\"name\"/>\n");
+            enumContent.write("</EnumContent>\n");
+        }
+    }
+
+    private static String randomRate(Random random) {
+        return Decimal.valueOf(random.nextInt(100_000), 4).toString();
+    }
+
+    private Writer newWriter(String resource) throws IOException {
+        return Files.newBufferedWriter(directory.resolve(resource), StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.benchmarks;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * JMH state providing a {@link SyntheticProductModel} that is generated once per benchmark. The
+ * size of the model can be changed using JMH's <code>-p</code> option, for example
+ * <code>-p productCount=10000</code>. The parameter fields are public because JMH sets them from
+ * the generated benchmark classes.
+ */
+@State(Scope.Benchmark)
+public class SyntheticProductModelState {
+
+    @Param("2000")
+    public int productCount;
+
+    @Param("10")
+    public int generationCount;
+
+    @Param("250")
+    public int regionCount;
+
+    @Param("1000")
+    public int enumValueCount;
+
+    private SyntheticProductModel model;
+
+    @Setup(Level.Trial)
+    public void generateModel() throws IOException {
+        model = SyntheticProductModel.generateTemporary(productCount, generationCount, regionCount,
+                enumValueCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteModel() throws IOException {
+        model.delete();
+    }
+
+    public SyntheticProductModel getModel() {
+        return model;
+    }
+
+}
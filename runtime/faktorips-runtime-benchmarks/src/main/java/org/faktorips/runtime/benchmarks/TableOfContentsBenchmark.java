@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.faktorips.runtime.benchmarks.model.BenchmarkEnum;
+import org.faktorips.runtime.benchmarks.model.RateTable;
+import org.faktorips.runtime.internal.XmlUtil;
+import org.faktorips.runtime.internal.toc.EnumContentTocEntry;
+import org.faktorips.runtime.internal.toc.ProductCmptTocEntry;
+import org.faktorips.runtime.internal.toc.ReadonlyTableOfContents;
+import org.faktorips.runtime.internal.toc.TableContentTocEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Element;
+import org.xml.sax.SAXException;
+
+/**
+ * Measures reading the table of contents of the {@link SyntheticProductModel} and looking up its
+ * entries.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TableOfContentsBenchmark {
+
+    private ReadonlyTableOfContents toc;
+
+    private Element tocElement;
+
+    private ClassLoader classLoader;
+
+    private String[] productIds;
+
+    private int next;
+
+    @Setup
+    public void readToc(SyntheticProductModelState state) throws IOException, SAXException {
+        SyntheticProductModel model = state.getModel();
+        classLoader = model.getClassLoader();
+        try (InputStream is = classLoader.getResourceAsStream(SyntheticProductModel.TOC_RESOURCE)) {
+            tocElement = XmlUtil.getDocumentBuilder().parse(is).getDocumentElement();
+        }
+        toc = new ReadonlyTableOfContents(classLoader);
+        toc.initFromXml(tocElement);
+        productIds = new String[model.getProductCount()];
+        for (int i = 0; i < productIds.length; i++) {
+            productIds[i] = SyntheticProductModel.getProductId(i);
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ReadonlyTableOfContents initFromXml() {
+        ReadonlyTableOfContents newToc = new ReadonlyTableOfContents(classLoader);
+        newToc.initFromXml(tocElement);
+        return newToc;
+    }
+
+    @Benchmark
+    public ProductCmptTocEntry getProductCmptTocEntry() {
+        next = (next + 1) % productIds.length;
+        return toc.getProductCmptTocEntry(productIds[next]);
+    }
+
+    @Benchmark
+    public ProductCmptTocEntry getProductCmptTocEntryByKindAndVersion() {
+        next = (next + 1) % productIds.length;
+        return toc.getProductCmptTocEntry(productIds[next], SyntheticProductModel.FIRST_YEAR + "-01");
+    }
+
+    @Benchmark
+    public TableContentTocEntry getTableTocEntryByClassname() {
+        return toc.getTableTocEntryByClassname(RateTable.class.getName());
+    }
+
+    @Benchmark
+    public EnumContentTocEntry getEnumContentTocEntry() {
+        return toc.getEnumContentTocEntry(BenchmarkEnum.class.getName());
+    }
+
+}
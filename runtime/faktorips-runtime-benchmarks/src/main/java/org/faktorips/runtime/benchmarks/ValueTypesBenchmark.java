@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.benchmarks;
+
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.faktorips.values.Decimal;
+import org.faktorips.values.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the arithmetic of {@link Decimal} and {@link Money} typically used in premium
+ * calculations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValueTypesBenchmark {
+
+    private static final int VALUE_COUNT = 1024;
+
+    private final Decimal[] decimals = new Decimal[VALUE_COUNT];
+
+    private final Money[] amounts = new Money[VALUE_COUNT];
+
+    private int next;
+
+    @Setup
+    public void createValues() {
+        Random random = new Random(42);
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            decimals[i] = Decimal.valueOf(random.nextInt(1_000_000) + 1, 4);
+            amounts[i] = Money.valueOf(Decimal.valueOf(random.nextInt(1_000_000), 2), Money.EUR);
+        }
+    }
+
+    private int nextIndex() {
+        next = (next + 1) & (VALUE_COUNT - 1);
+        return next;
+    }
+
+    @Benchmark
+    public Decimal decimalAdd() {
+        int i = nextIndex();
+        return decimals[i].add(decimals[VALUE_COUNT - 1 - i]);
+    }
+
+    @Benchmark
+    public Decimal decimalMultiply() {
+        int i = nextIndex();
+        return decimals[i].multiply(decimals[VALUE_COUNT - 1 - i]);
+    }
+
+    @Benchmark
+    public Decimal decimalDivide() {
+        int i = nextIndex();
+        return decimals[i].divide(decimals[VALUE_COUNT - 1 - i], 10, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public int decimalCompareTo() {
+        int i = nextIndex();
+        return decimals[i].compareTo(decimals[VALUE_COUNT - 1 - i]);
+    }
+
+    @Benchmark
+    public Money moneyAdd() {
+        int i = nextIndex();
+        return amounts[i].add(amounts[VALUE_COUNT - 1 - i]);
+    }
+
+    @Benchmark
+    public Money moneyMultiply() {
+        int i = nextIndex();
+        return amounts[i].multiply(decimals[i], RoundingMode.HALF_UP);
+    }
+
+}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.faktorips.runtime.IProductComponentGeneration;
+import org.faktorips.runtime.IRuntimeRepository;
+import org.faktorips.runtime.benchmarks.model.BenchmarkEnum;
+import org.faktorips.runtime.benchmarks.model.RateTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures loading product components, tables and enum values of the
+ * {@link SyntheticProductModel} from XML into a new repository with empty caches.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class XmlLoadingBenchmark {
+
+    @Param("100")
+    public int productsPerInvocation;
+
+    private SyntheticProductModel model;
+
+    private IRuntimeRepository repository;
+
+    private int nextProduct;
+
+    @Setup(Level.Trial)
+    public void setModel(SyntheticProductModelState state) {
+        model = state.getModel();
+    }
+
+    @Setup(Level.Invocation)
+    public void createRepository() {
+        repository = model.createRepository();
+    }
+
+    @Benchmark
+    public int loadProductComponentsWithGenerations() {
+        int generations = 0;
+        for (int i = 0; i < productsPerInvocation; i++) {
+            nextProduct = (nextProduct + 1) % model.getProductCount();
+            List<IProductComponentGeneration> loaded = repository.getProductComponentGenerations(
+                    repository.getProductComponent(SyntheticProductModel.getProductId(nextProduct)));
+            generations += loaded.size();
+        }
+        return generations;
+    }
+
+    @Benchmark
+    public RateTable loadTable() {
+        return RateTable.getInstance(repository);
+    }
+
+    @Benchmark
+    public List<BenchmarkEnum> loadEnumValues() {
+        return repository.getEnumValues(BenchmarkEnum.class);
+    }
+
+}
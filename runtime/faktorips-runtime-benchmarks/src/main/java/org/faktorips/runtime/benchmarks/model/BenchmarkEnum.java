@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.benchmarks.model;
+
+import org.faktorips.runtime.IRuntimeRepository;
+import org.faktorips.runtime.model.annotation.IpsEnumAttribute;
+import org.faktorips.runtime.model.annotation.IpsEnumType;
+import org.faktorips.runtime.model.annotation.IpsExtensibleEnum;
+
+/**
+ * An extensible enum of the synthetic benchmark model whose values are all defined in the enum
+ * content, written like generated code.
+ */
+@IpsEnumType(name = "benchmark.BenchmarkEnum", attributeNames = { "id", "name" })
+@IpsExtensibleEnum(enumContentName = "benchmark.BenchmarkEnum")
+public final class BenchmarkEnum implements Comparable<BenchmarkEnum> {
+
+    private final int index;
+
+    private final String id;
+
+    private final String name;
+
+    @SuppressWarnings("unused")
+    private final IRuntimeRepository productRepository;
+
+    protected BenchmarkEnum(int index, String id, String name, IRuntimeRepository productRepository) {
+        this.index = index;
+        this.id = id;
+        this.name = name;
+        this.productRepository = productRepository;
+    }
+
+    @IpsEnumAttribute(name = "id", identifier = true, unique = true)
+    public String getId() {
+        return id;
+    }
+
+    @IpsEnumAttribute(name = "name", unique = true, displayName = true)
+    public String getName() {
+        return name;
+    }
+
+    Object getEnumValueId() {
+        return id;
+    }
+
+    @Override
+    public int compareTo(BenchmarkEnum o) {
+        return index - o.index;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof BenchmarkEnum other && id.equals(other.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "BenchmarkEnum: " + id + '(' + name + ')';
+    }
+
+}
@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.benchmarks.model;
+
+import org.faktorips.runtime.IConfigurableModelObject;
+import org.faktorips.runtime.IRuntimeRepository;
+import org.faktorips.runtime.internal.ProductComponent;
+
+/**
+ * A product component of the synthetic benchmark model, written like generated code.
+ */
+public class BenchmarkProduct extends ProductComponent {
+
+    public BenchmarkProduct(IRuntimeRepository repository, String id, String productKindId, String versionId) {
+        super(repository, id, productKindId, versionId);
+    }
+
+    @Override
+    public boolean isChangingOverTime() {
+        return true;
+    }
+
+    @Override
+    public IConfigurableModelObject createPolicyComponent() {
+        throw new UnsupportedOperationException("The benchmark model has no policy components.");
+    }
+
+}
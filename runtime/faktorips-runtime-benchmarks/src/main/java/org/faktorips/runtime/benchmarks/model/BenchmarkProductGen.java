@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.benchmarks.model;
+
+import java.util.List;
+import java.util.Map;
+
+import org.faktorips.runtime.internal.ProductComponentGeneration;
+import org.faktorips.runtime.internal.ValueToXmlHelper;
+import org.faktorips.values.Decimal;
+import org.faktorips.values.Money;
+import org.w3c.dom.Element;
+
+/**
+ * A generation of a {@link BenchmarkProduct}, written like generated code.
+ */
+public class BenchmarkProductGen extends ProductComponentGeneration {
+
+    public static final String ATTRIBUTE_BASE_PREMIUM = "basePremium";
+
+    public static final String ATTRIBUTE_RATE = "rate";
+
+    private Money basePremium = Money.NULL;
+
+    private Decimal rate = Decimal.NULL;
+
+    public BenchmarkProductGen(BenchmarkProduct productCmpt) {
+        super(productCmpt);
+    }
+
+    public Money getBasePremium() {
+        return basePremium;
+    }
+
+    public Decimal getRate() {
+        return rate;
+    }
+
+    @Override
+    protected void doInitPropertiesFromXml(Map<String, Element> configMap) {
+        super.doInitPropertiesFromXml(configMap);
+        Element configElement = configMap.get(ATTRIBUTE_BASE_PREMIUM);
+        if (configElement != null) {
+            basePremium = Money.valueOf(ValueToXmlHelper.getValueFromElement(configElement, ValueToXmlHelper.XML_TAG_VALUE));
+        }
+        configElement = configMap.get(ATTRIBUTE_RATE);
+        if (configElement != null) {
+            rate = Decimal.valueOf(ValueToXmlHelper.getValueFromElement(configElement, ValueToXmlHelper.XML_TAG_VALUE));
+        }
+    }
+
+    @Override
+    protected void doInitReferencesFromXml(Map<String, List<Element>> elementsMap) {
+        // the benchmark model has no links
+    }
+
+}
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.benchmarks.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.faktorips.runtime.IRuntimeRepository;
+import org.faktorips.runtime.internal.IpsStringUtils;
+import org.faktorips.runtime.internal.Table;
+import org.faktorips.runtime.internal.tableindex.CompositeKey;
+import org.faktorips.runtime.internal.tableindex.KeyStructure;
+import org.faktorips.runtime.internal.tableindex.RangeStructure;
+import org.faktorips.runtime.internal.tableindex.RangeType;
+import org.faktorips.runtime.internal.tableindex.ResultStructure;
+import org.faktorips.runtime.internal.tableindex.TwoColumnRangeStructure;
+import org.faktorips.runtime.internal.tableindex.UniqueResultStructure;
+import org.faktorips.runtime.model.annotation.IpsTableStructure;
+import org.faktorips.runtime.model.table.TableStructureKind;
+import org.faktorips.values.Decimal;
+
+/**
+ * A table of the synthetic benchmark model, written like the code generated for a table structure
+ * with a unique key consisting of the column <code>region</code> and the two column range
+ * <code>age</code> and a non unique key consisting of the one column range
+ * <code>sumInsured</code>.
+ */
+@IpsTableStructure(name = "benchmark.RateTable", type = TableStructureKind.SINGLE_CONTENT, columns = { "region",
+        "ageFrom", "ageTo", "sumInsured", "rate" })
+public final class RateTable extends Table<RateTableRow> {
+
+    private KeyStructure<CompositeKey, TwoColumnRangeStructure<Integer, UniqueResultStructure<RateTableRow>, RateTableRow>, RateTableRow> key0SearchStructure;
+
+    private RangeStructure<Decimal, ResultStructure<RateTableRow>, RateTableRow> key1SearchStructure;
+
+    public RateTable() {
+        super();
+        rows = new ArrayList<>();
+        init();
+    }
+
+    public RateTable(List<RateTableRow> content) {
+        super();
+        rows = new ArrayList<>(content);
+        init();
+    }
+
+    @Override
+    protected void addRow(List<String> values, IRuntimeRepository productRepository) {
+        String columnValue = values.get(0);
+        String region = columnValue;
+        columnValue = values.get(1);
+        Integer ageFrom = IpsStringUtils.isEmpty(columnValue) ? null : Integer.valueOf(columnValue);
+        columnValue = values.get(2);
+        Integer ageTo = IpsStringUtils.isEmpty(columnValue) ? null : Integer.valueOf(columnValue);
+        columnValue = values.get(3);
+        Decimal sumInsured = columnValue == null ? Decimal.NULL : Decimal.valueOf(columnValue);
+        columnValue = values.get(4);
+        Decimal rate = columnValue == null ? Decimal.NULL : Decimal.valueOf(columnValue);
+        rows.add(new RateTableRow(region, ageFrom, ageTo, sumInsured, rate));
+    }
+
+    @Override
+    protected void initKeyMaps() {
+        key0SearchStructure = KeyStructure.create();
+        key1SearchStructure = RangeStructure.create(RangeType.LOWER_BOUND_EQUAL);
+        for (int rowIndex = 0; rowIndex < rows.size(); rowIndex++) {
+            RateTableRow row = rows.get(rowIndex);
+            TwoColumnRangeStructure<Integer, UniqueResultStructure<RateTableRow>, RateTableRow> ageSearchStructure0 = TwoColumnRangeStructure
+                    .createWith(row.getAgeFrom(), row.getAgeTo(), createUniqueResultStructure(row, rowIndex));
+            key0SearchStructure.put(CompositeKey.of(row.getRegion()), ageSearchStructure0);
+            key1SearchStructure.put(row.getSumInsured(), createResultStructure(row, rowIndex));
+        }
+    }
+
+    public static final RateTable getInstance(IRuntimeRepository repository) {
+        return repository.getTable(RateTable.class);
+    }
+
+    public RateTableRow findRow(String region, Integer age) {
+        return key0SearchStructure.getByKeyValues(region).get(age).getUnique(null);
+    }
+
+    public Set<RateTableRow> findRows(Decimal sumInsured) {
+        return key1SearchStructure.get(sumInsured).get();
+    }
+
+}
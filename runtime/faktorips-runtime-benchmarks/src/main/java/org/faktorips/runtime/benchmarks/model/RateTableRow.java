@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.benchmarks.model;
+
+import org.faktorips.runtime.model.annotation.IpsTableColumn;
+import org.faktorips.values.Decimal;
+
+/**
+ * A row of the {@link RateTable}, written like generated code.
+ */
+public class RateTableRow {
+
+    public static final RateTableRow NULL_ROW = new RateTableRow(null, null, null, Decimal.NULL, Decimal.NULL);
+
+    private final String region;
+
+    private final Integer ageFrom;
+
+    private final Integer ageTo;
+
+    private final Decimal sumInsured;
+
+    private final Decimal rate;
+
+    public RateTableRow(String region, Integer ageFrom, Integer ageTo, Decimal sumInsured, Decimal rate) {
+        this.region = region;
+        this.ageFrom = ageFrom;
+        this.ageTo = ageTo;
+        this.sumInsured = sumInsured;
+        this.rate = rate;
+    }
+
+    @IpsTableColumn(name = "region")
+    public String getRegion() {
+        return region;
+    }
+
+    @IpsTableColumn(name = "ageFrom")
+    public Integer getAgeFrom() {
+        return ageFrom;
+    }
+
+    @IpsTableColumn(name = "ageTo")
+    public Integer getAgeTo() {
+        return ageTo;
+    }
+
+    @IpsTableColumn(name = "sumInsured")
+    public Decimal getSumInsured() {
+        return sumInsured;
+    }
+
+    @IpsTableColumn(name = "rate")
+    public Decimal getRate() {
+        return rate;
+    }
+
+    @Override
+    public String toString() {
+        return "" + region + "|" + ageFrom + "|" + ageTo + "|" + sumInsured + "|" + rate;
+    }
+
+}
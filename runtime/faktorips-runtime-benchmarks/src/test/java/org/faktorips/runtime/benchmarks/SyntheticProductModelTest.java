@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.benchmarks;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.io.IOException;
+import java.util.GregorianCalendar;
+
+import org.faktorips.runtime.IRuntimeRepository;
+import org.faktorips.runtime.benchmarks.model.BenchmarkEnum;
+import org.faktorips.runtime.benchmarks.model.BenchmarkProduct;
+import org.faktorips.runtime.benchmarks.model.BenchmarkProductGen;
+import org.faktorips.runtime.benchmarks.model.RateTable;
+import org.faktorips.runtime.benchmarks.model.RateTableRow;
+import org.faktorips.values.Decimal;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SyntheticProductModelTest {
+
+    private SyntheticProductModel model;
+
+    private IRuntimeRepository repository;
+
+    @Before
+    public void setUp() throws IOException {
+        model = SyntheticProductModel.generateTemporary(20, 3, 5, 10);
+        repository = model.createRepository();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        model.delete();
+    }
+
+    @Test
+    public void testProductComponents() {
+        BenchmarkProduct product = (BenchmarkProduct)repository
+                .getProductComponent(SyntheticProductModel.getProductId(19));
+
+        assertThat(repository.getAllProductComponentIds().size(), is(20));
+        assertThat(repository.getProductComponentGenerations(product).size(), is(3));
+        BenchmarkProductGen generation = (BenchmarkProductGen)repository.getProductComponentGeneration(
+                product.getId(), new GregorianCalendar(SyntheticProductModel.FIRST_YEAR + 1, 5, 1));
+        assertThat(generation.getBasePremium().isNull(), is(false));
+        assertThat(generation.getRate().isNull(), is(false));
+    }
+
+    @Test
+    public void testTable() {
+        RateTable table = RateTable.getInstance(repository);
+
+        assertThat(table.getAllRows().size(), is(5 * SyntheticProductModel.AGE_BANDS));
+        RateTableRow row = table.findRow(SyntheticProductModel.getRegion(4), 42);
+        assertThat(row.getAgeFrom(), is(40));
+        assertThat(row.getAgeTo(), is(44));
+        assertThat(table.findRows(Decimal.valueOf(1500)).size(), is(1));
+    }
+
+    @Test
+    public void testEnum() {
+        assertThat(repository.getEnumValues(BenchmarkEnum.class).size(), is(10));
+        BenchmarkEnum value = repository.getEnumValue(BenchmarkEnum.class, SyntheticProductModel.getEnumId(7));
+        assertThat(value, is(notNullValue()));
+        assertThat(value.getName(), is("Value 7"));
+    }
+
+    @Test
+    public void testGenerate_Repeatable() throws IOException {
+        SyntheticProductModel otherModel = SyntheticProductModel.generateTemporary(20, 3, 5, 10);
+        try {
+            RateTable table = RateTable.getInstance(repository);
+            RateTable otherTable = RateTable.getInstance(otherModel.createRepository());
+            assertThat(otherTable.getAllRows().toString(), is(table.getAllRows().toString()));
+        } finally {
+            otherModel.delete();
+        }
+    }
+
+}
@@ -55,6 +55,29 @@ public class GroovyFormulaEvaluator extends AbstractFormulaEvaluator {
         groovyScript = groovyShell.parse(sourceCode);
     }
 
+    /**
+     * Creates a new formula evaluator like {@link #GroovyFormulaEvaluator(Object, Map)} but takes
+     * the compiled script from the given cache instead of compiling it for this evaluator.
+     *
+     * @param object the product component or product component generation in which context the
+     *            compiled expression methods would run
+     * @param nameToExpressionMap a list of compiled expression methods, one for each formula
+     * @param scriptCache the cache of the compiled scripts
+     */
+    public GroovyFormulaEvaluator(Object object, Map<String, String> nameToExpressionMap,
+            GroovyScriptCache scriptCache) {
+        super(object, nameToExpressionMap);
+        binding.setVariable(THIS_CLASS_VAR, object);
+        String sourceCode = getSourceCode(getNameToExpressionMap());
+        groovyScript = scriptCache.createScript(sourceCode, binding, getClassLoader());
+    }
+
+    private static ClassLoader getClassLoader() {
+        // the same parent class loader a new GroovyShell would use
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        return contextClassLoader != null ? contextClassLoader : GroovyShell.class.getClassLoader();
+    }
+
     private String getSourceCode(Map<String, String> expressionMap) {
         return expressionMap.values()
                 .stream()
@@ -22,9 +22,26 @@ import org.faktorips.runtime.formula.IFormulaEvaluatorFactory;
  */
 public class GroovyFormulaEvaluatorFactory implements IFormulaEvaluatorFactory {
 
+    private final GroovyScriptCache scriptCache;
+
+    /**
+     * Creates a factory whose evaluators share a new script cache holding at most
+     * {@value GroovyScriptCache#DEFAULT_MAXIMUM_SIZE} script classes.
+     */
+    public GroovyFormulaEvaluatorFactory() {
+        this(new GroovyScriptCache(GroovyScriptCache.DEFAULT_MAXIMUM_SIZE));
+    }
+
+    /**
+     * Creates a factory whose evaluators use the given script cache.
+     */
+    public GroovyFormulaEvaluatorFactory(GroovyScriptCache scriptCache) {
+        this.scriptCache = scriptCache;
+    }
+
     @Override
     public IFormulaEvaluator createFormulaEvaluator(Object object, Map<String, String> nameToCompiledExpressionMap) {
-        return new GroovyFormulaEvaluator(object, nameToCompiledExpressionMap);
+        return new GroovyFormulaEvaluator(object, nameToCompiledExpressionMap, scriptCache);
     }
 
 }
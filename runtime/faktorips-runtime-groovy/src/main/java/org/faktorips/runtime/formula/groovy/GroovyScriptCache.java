@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.formula.groovy;
+
+import org.codehaus.groovy.runtime.InvokerHelper;
+import org.faktorips.runtime.caching.BoundedMemoizer;
+import org.faktorips.runtime.caching.CacheStatistics;
+import org.faktorips.runtime.caching.IComputable;
+
+import groovy.lang.Binding;
+import groovy.lang.GroovyShell;
+import groovy.lang.Script;
+
+/**
+ * A cache of compiled groovy script classes shared by {@link GroovyFormulaEvaluator formula
+ * evaluators}. Product components and generations using the same formulas share the same script
+ * class, only the script instance holding the {@link Binding} is created for every evaluator.
+ * <p>
+ * The scripts are keyed by their source code and the class loader they are compiled with. Every
+ * script class is compiled by its own class loader, so evicted classes can be unloaded as soon as
+ * no evaluator uses them any longer. The number of cached classes is bounded, the least recently
+ * used classes are evicted first.
+ * <p>
+ * As the cache references the class loaders it compiles with, there is no cache shared by the
+ * whole application. Every {@link GroovyFormulaEvaluatorFactory} has its own cache, so the cached
+ * classes can be unloaded together with the runtime repository using the factory.
+ */
+public class GroovyScriptCache {
+
+    /**
+     * The maximum number of script classes cached by the cache of a
+     * {@link GroovyFormulaEvaluatorFactory#GroovyFormulaEvaluatorFactory() default factory}.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private final BoundedMemoizer<ScriptKey, Class<? extends Script>> scriptClasses;
+
+    /**
+     * Creates a new cache holding at most the given number of script classes.
+     */
+    public GroovyScriptCache(long maximumSize) {
+        scriptClasses = new BoundedMemoizer<>(IComputable.of(Class.class, GroovyScriptCache::compile),
+                maximumSize);
+    }
+
+    /**
+     * Creates a new script for the given source code using the given binding. The source code is
+     * only compiled if no script class for the same source code and class loader is cached.
+     *
+     * @param sourceCode the groovy source code of the script
+     * @param binding the binding holding the variables of the new script instance
+     * @param classLoader the parent class loader for compiling the script
+     */
+    public Script createScript(String sourceCode, Binding binding, ClassLoader classLoader) {
+        try {
+            Class<? extends Script> scriptClass = scriptClasses.compute(new ScriptKey(classLoader, sourceCode));
+            return InvokerHelper.createScript(scriptClass, binding);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the statistics of this cache.
+     */
+    public CacheStatistics getStatistics() {
+        return scriptClasses.getStatistics();
+    }
+
+    /**
+     * Returns the number of cached script classes.
+     */
+    public int size() {
+        return scriptClasses.size();
+    }
+
+    private static Class<? extends Script> compile(ScriptKey key) {
+        return new GroovyShell(key.classLoader(), new Binding()).parse(key.sourceCode()).getClass();
+    }
+
+    private record ScriptKey(ClassLoader classLoader, String sourceCode) {
+    }
+
+}
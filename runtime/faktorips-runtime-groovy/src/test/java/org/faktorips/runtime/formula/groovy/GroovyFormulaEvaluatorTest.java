@@ -93,6 +93,38 @@ public class GroovyFormulaEvaluatorTest {
         assertGetString(evaluator);
     }
 
+    @Test
+    public void testEvaluate_SharedScriptClass() {
+        GroovyScriptCache scriptCache = new GroovyScriptCache(10);
+        IFormulaEvaluator generationEvaluator = new GroovyFormulaEvaluator(testGen, expressions, scriptCache);
+        IFormulaEvaluator cmptEvaluator = new GroovyFormulaEvaluator(testCmpt, expressions, scriptCache);
+
+        testGen.var1 = 1;
+        testGen.var2 = 3;
+        testCmpt.var1 = 10;
+        testCmpt.var2 = 30;
+        assertEquals(4, generationEvaluator.evaluate("add"));
+        assertEquals(40, cmptEvaluator.evaluate("add"));
+        assertEquals(1, scriptCache.size());
+        assertEquals(1, scriptCache.getStatistics().getLoadCount());
+    }
+
+    @Test
+    public void testEvaluate_BoundedScriptCache() {
+        GroovyScriptCache scriptCache = new GroovyScriptCache(1);
+        new GroovyFormulaEvaluator(testGen, expressions, scriptCache);
+        Map<String, String> otherExpressions = Map.of("add", """
+                public int add() {
+                    return this.var1 - this.var2
+                }""");
+        IFormulaEvaluator evaluator = new GroovyFormulaEvaluator(testGen, otherExpressions, scriptCache);
+
+        testGen.var1 = 1;
+        testGen.var2 = 3;
+        assertEquals(-2, evaluator.evaluate("add"));
+        assertEquals(1, scriptCache.size());
+    }
+
     private void assertGetString(IFormulaEvaluator evaluator) {
         String testString = "asd";
         assertEquals(testString, evaluator.evaluate("getString", testString));
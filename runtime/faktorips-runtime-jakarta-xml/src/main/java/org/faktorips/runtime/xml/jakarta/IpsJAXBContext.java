@@ -12,6 +12,9 @@ package org.faktorips.runtime.xml.jakarta;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.faktorips.runtime.IRuntimeRepository;
 import org.faktorips.runtime.xml.IIpsXmlAdapter;
@@ -36,9 +39,23 @@ import jakarta.xml.bind.annotation.adapters.XmlAdapter;
  */
 public class IpsJAXBContext extends JAXBContext {
 
-    private JAXBContext wrappedCtx;
-    private List<XmlAdapter<?, ?>> xmlAdapters;
-    private IRuntimeRepository repository;
+    private final JAXBContext wrappedCtx;
+    private final List<XmlAdapter<?, ?>> xmlAdapters;
+    private final IRuntimeRepository repository;
+
+    /**
+     * Marshallers that were returned by {@link #returnMarshaller(Marshaller)} and can be borrowed
+     * again. The {@link Marshaller} is not thread safe, so every marshaller is used by only one
+     * caller at a time.
+     */
+    private final Pool<Marshaller> marshallerPool = new Pool<>();
+
+    /**
+     * Unmarshallers that were returned by {@link #returnUnmarshaller(Unmarshaller)} and can be
+     * borrowed again. The {@link Unmarshaller} is not thread safe, so every unmarshaller is used by
+     * only one caller at a time.
+     */
+    private final Pool<Unmarshaller> unmarshallerPool = new Pool<>();
 
     public IpsJAXBContext(JAXBContext wrappedCtx, List<? extends IIpsXmlAdapter<?, ?>> enumXmlAdapters,
             IRuntimeRepository repository) {
@@ -85,6 +102,82 @@ public class IpsJAXBContext extends JAXBContext {
         return unmarshaller;
     }
 
+    /**
+     * Returns a {@link Marshaller} like {@link #createMarshaller()} that is taken from a pool of
+     * returned marshallers if possible. Use it to marshal many objects without setting up a new
+     * marshaller every time.
+     * <p>
+     * The returned marshaller is used only by the caller until it is given back with
+     * {@link #returnMarshaller(Marshaller)}. The event handler, schema, listener, attachment
+     * marshaller, adapters and the properties {@link Marshaller#JAXB_FORMATTED_OUTPUT},
+     * {@link Marshaller#JAXB_FRAGMENT} and {@link Marshaller#JAXB_ENCODING} are reset when the
+     * marshaller is returned. Any other configuration must not be changed, because it would be
+     * kept for the next caller. Use {@link #createMarshaller()} to get a marshaller with such a
+     * configuration.
+     *
+     * @since 27.1
+     */
+    public Marshaller borrowMarshaller() throws JAXBException {
+        Marshaller marshaller = marshallerPool.poll();
+        return marshaller != null ? marshaller : createMarshaller();
+    }
+
+    /**
+     * Gives back a marshaller borrowed by {@link #borrowMarshaller()}. The marshaller is reset to
+     * the configuration of {@link #createMarshaller()} and must not be used by the caller anymore.
+     *
+     * @since 27.1
+     */
+    public void returnMarshaller(Marshaller marshaller) throws JAXBException {
+        marshaller.setEventHandler(null);
+        marshaller.setSchema(null);
+        marshaller.setListener(null);
+        marshaller.setAttachmentMarshaller(null);
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.FALSE);
+        marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.FALSE);
+        marshaller.setProperty(Marshaller.JAXB_ENCODING, "UTF-8");
+        for (XmlAdapter<?, ?> xmlAdapter : xmlAdapters) {
+            marshaller.setAdapter(xmlAdapter);
+        }
+        marshallerPool.offer(marshaller);
+    }
+
+    /**
+     * Returns an {@link Unmarshaller} like {@link #createUnmarshaller()} that is taken from a pool
+     * of returned unmarshallers if possible. Use it to unmarshal many objects without setting up a
+     * new unmarshaller every time.
+     * <p>
+     * The returned unmarshaller is used only by the caller until it is given back with
+     * {@link #returnUnmarshaller(Unmarshaller)}. The event handler, schema, listener, attachment
+     * unmarshaller and adapters are reset when the unmarshaller is returned. Any other
+     * configuration must not be changed, because it would be kept for the next caller. Use
+     * {@link #createUnmarshaller()} to get an unmarshaller with such a configuration.
+     *
+     * @since 27.1
+     */
+    public Unmarshaller borrowUnmarshaller() throws JAXBException {
+        Unmarshaller unmarshaller = unmarshallerPool.poll();
+        return unmarshaller != null ? unmarshaller : createUnmarshaller();
+    }
+
+    /**
+     * Gives back an unmarshaller borrowed by {@link #borrowUnmarshaller()}. The unmarshaller is
+     * reset to the configuration of {@link #createUnmarshaller()} and must not be used by the
+     * caller anymore.
+     *
+     * @since 27.1
+     */
+    public void returnUnmarshaller(Unmarshaller unmarshaller) throws JAXBException {
+        unmarshaller.setEventHandler(null);
+        unmarshaller.setSchema(null);
+        unmarshaller.setListener(null);
+        unmarshaller.setAttachmentUnmarshaller(null);
+        for (XmlAdapter<?, ?> xmlAdapter : xmlAdapters) {
+            unmarshaller.setAdapter(xmlAdapter);
+        }
+        unmarshallerPool.offer(unmarshaller);
+    }
+
     @Override
     public Binder<Node> createBinder() {
         return wrappedCtx.createBinder();
@@ -105,4 +198,38 @@ public class IpsJAXBContext extends JAXBContext {
         wrappedCtx.generateSchema(outputResolver);
     }
 
+    /**
+     * A bounded pool of instances. Unlike a thread local variable, the pool does not keep instances
+     * in threads that outlive this context, so the context and its repository can be garbage
+     * collected once they are no longer used.
+     */
+    private static final class Pool<T> {
+
+        private static final int MAX_SIZE = Runtime.getRuntime().availableProcessors();
+
+        private final Queue<T> instances = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger size = new AtomicInteger();
+
+        private T poll() {
+            T instance = instances.poll();
+            if (instance != null) {
+                size.decrementAndGet();
+            }
+            return instance;
+        }
+
+        /**
+         * Adds the instance to the pool, or drops it if the pool is full.
+         */
+        private void offer(T instance) {
+            if (size.incrementAndGet() <= MAX_SIZE) {
+                instances.offer(instance);
+            } else {
+                size.decrementAndGet();
+            }
+        }
+
+    }
+
 }
@@ -11,16 +11,27 @@
 package org.faktorips.runtime.xml.jakarta3;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertNotNull;
 
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import javax.xml.XMLConstants;
+import javax.xml.validation.SchemaFactory;
 
 import org.faktorips.runtime.IModelObject;
 import org.faktorips.runtime.IProductComponent;
@@ -32,13 +43,16 @@ import org.faktorips.runtime.internal.AbstractRuntimeRepository;
 import org.faktorips.runtime.test.IpsTest2;
 import org.faktorips.runtime.test.IpsTestCaseBase;
 import org.faktorips.runtime.xml.IIpsXmlAdapter;
+import org.faktorips.runtime.xml.jakarta.IpsJAXBContext;
 import org.faktorips.runtime.xml.jakarta.JaxbSupport;
 import org.faktorips.runtime.xml.jakarta.ProductConfigurationXmlAdapter;
 import org.junit.Test;
 
 import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
 import jakarta.xml.bind.Unmarshaller;
+import jakarta.xml.bind.ValidationEventHandler;
 import jakarta.xml.bind.annotation.XmlAccessType;
 import jakarta.xml.bind.annotation.XmlAccessorType;
 import jakarta.xml.bind.annotation.XmlAttribute;
@@ -64,6 +78,114 @@ public class AbstractRuntimeRepositoryJaxbTest {
         assertThat(foo2.getMyId(), is(foo.getMyId()));
     }
 
+    @Test
+    public void testBorrowMarshaller() throws Exception {
+        AbstractRuntimeRepository repository = new TestAbstractRuntimeRepository(Foo.class);
+        IpsJAXBContext jaxbContext = (IpsJAXBContext)JaxbSupport.INSTANCE.newJAXBContext(repository);
+        Foo foo = new Foo();
+        foo.setX(42);
+
+        Marshaller marshaller = jaxbContext.borrowMarshaller();
+        StringWriter writer = new StringWriter();
+        marshaller.marshal(foo, writer);
+        Unmarshaller unmarshaller = jaxbContext.borrowUnmarshaller();
+        Foo foo2 = (Foo)unmarshaller.unmarshal(new StringReader(writer.toString()));
+        jaxbContext.returnMarshaller(marshaller);
+        jaxbContext.returnUnmarshaller(unmarshaller);
+
+        assertThat(foo2.getX(), is(foo.getX()));
+        assertThat(foo2.getMyId(), is(foo.getMyId()));
+        assertThat(jaxbContext.borrowMarshaller(), is(sameInstance(marshaller)));
+        assertThat(jaxbContext.borrowUnmarshaller(), is(sameInstance(unmarshaller)));
+    }
+
+    @Test
+    public void testBorrowMarshaller_NotReturned() throws Exception {
+        AbstractRuntimeRepository repository = new TestAbstractRuntimeRepository(Foo.class);
+        IpsJAXBContext jaxbContext = (IpsJAXBContext)JaxbSupport.INSTANCE.newJAXBContext(repository);
+        Marshaller marshaller = jaxbContext.borrowMarshaller();
+        Unmarshaller unmarshaller = jaxbContext.borrowUnmarshaller();
+
+        Marshaller otherMarshaller = CompletableFuture.supplyAsync(() -> {
+            try {
+                return jaxbContext.borrowMarshaller();
+            } catch (JAXBException e) {
+                throw new RuntimeException(e);
+            }
+        }).get();
+
+        assertThat(otherMarshaller, is(not(sameInstance(marshaller))));
+        assertThat(jaxbContext.borrowUnmarshaller(), is(not(sameInstance(unmarshaller))));
+    }
+
+    @Test
+    public void testReturnMarshaller_ResetsConfiguration() throws Exception {
+        AbstractRuntimeRepository repository = new TestAbstractRuntimeRepository(Foo.class);
+        IpsJAXBContext jaxbContext = (IpsJAXBContext)JaxbSupport.INSTANCE.newJAXBContext(repository);
+        Marshaller marshaller = jaxbContext.borrowMarshaller();
+        ValidationEventHandler eventHandler = event -> false;
+        marshaller.setEventHandler(eventHandler);
+        marshaller.setSchema(SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema());
+        marshaller.setListener(new Marshaller.Listener() {
+            // nothing to do
+        });
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+
+        jaxbContext.returnMarshaller(marshaller);
+
+        Marshaller reusedMarshaller = jaxbContext.borrowMarshaller();
+        assertThat(reusedMarshaller, is(sameInstance(marshaller)));
+        assertThat(reusedMarshaller.getEventHandler(), is(not(sameInstance(eventHandler))));
+        assertThat(reusedMarshaller.getSchema(), is(nullValue()));
+        assertThat(reusedMarshaller.getListener(), is(nullValue()));
+        assertThat(reusedMarshaller.getProperty(Marshaller.JAXB_FORMATTED_OUTPUT), is(Boolean.FALSE));
+    }
+
+    @Test
+    public void testReturnUnmarshaller_ResetsConfiguration() throws Exception {
+        AbstractRuntimeRepository repository = new TestAbstractRuntimeRepository(Foo.class);
+        IpsJAXBContext jaxbContext = (IpsJAXBContext)JaxbSupport.INSTANCE.newJAXBContext(repository);
+        Unmarshaller unmarshaller = jaxbContext.borrowUnmarshaller();
+        ValidationEventHandler eventHandler = event -> false;
+        unmarshaller.setEventHandler(eventHandler);
+        unmarshaller.setSchema(SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema());
+        unmarshaller.setListener(new Unmarshaller.Listener() {
+            // nothing to do
+        });
+        unmarshaller.setAdapter(ProductConfigurationXmlAdapter.class, null);
+
+        jaxbContext.returnUnmarshaller(unmarshaller);
+
+        Unmarshaller reusedUnmarshaller = jaxbContext.borrowUnmarshaller();
+        assertThat(reusedUnmarshaller, is(sameInstance(unmarshaller)));
+        assertThat(reusedUnmarshaller.getEventHandler(), is(not(sameInstance(eventHandler))));
+        assertThat(reusedUnmarshaller.getSchema(), is(nullValue()));
+        assertThat(reusedUnmarshaller.getListener(), is(nullValue()));
+        assertThat(reusedUnmarshaller.getAdapter(ProductConfigurationXmlAdapter.class), is(notNullValue()));
+    }
+
+    @Test
+    public void testReturnUnmarshaller_PoolIsBounded() throws Exception {
+        AbstractRuntimeRepository repository = new TestAbstractRuntimeRepository(Foo.class);
+        IpsJAXBContext jaxbContext = (IpsJAXBContext)JaxbSupport.INSTANCE.newJAXBContext(repository);
+        int poolSize = Runtime.getRuntime().availableProcessors();
+        List<Unmarshaller> unmarshallers = new ArrayList<>();
+        for (int i = 0; i <= poolSize; i++) {
+            unmarshallers.add(jaxbContext.borrowUnmarshaller());
+        }
+        for (Unmarshaller unmarshaller : unmarshallers) {
+            jaxbContext.returnUnmarshaller(unmarshaller);
+        }
+
+        Set<Unmarshaller> reused = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i <= poolSize; i++) {
+            reused.add(jaxbContext.borrowUnmarshaller());
+        }
+
+        assertThat(reused.size(), is(poolSize + 1));
+        assertThat(reused.contains(unmarshallers.get(poolSize)), is(false));
+    }
+
     @Test
     public void testNewJAXBContext_SuperSuperClass() {
         AbstractRuntimeRepository repository = new TestAbstractRuntimeRepository(FooSuppe2.class);
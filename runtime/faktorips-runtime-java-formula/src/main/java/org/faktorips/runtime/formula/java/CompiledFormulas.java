@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.formula.java;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The class compiled from the formulas of a product component or generation, with method handles
+ * for its constructor and all formula methods.
+ */
+class CompiledFormulas {
+
+    private final boolean hidden;
+
+    private final MethodHandle constructor;
+
+    private final Map<String, FormulaMethod[]> methods;
+
+    CompiledFormulas(Class<?> formulasClass, Class<?> thisType) {
+        hidden = formulasClass.isHidden();
+        try {
+            Lookup lookup = MethodHandles.privateLookupIn(formulasClass, MethodHandles.lookup());
+            constructor = lookup.findConstructor(formulasClass, MethodType.methodType(void.class, thisType))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            Map<String, List<FormulaMethod>> methodsByName = new HashMap<>();
+            for (Method method : formulasClass.getDeclaredMethods()) {
+                if (!Modifier.isStatic(method.getModifiers()) && !method.isSynthetic()) {
+                    methodsByName.computeIfAbsent(method.getName(), n -> new ArrayList<>())
+                            .add(new FormulaMethod(method, lookup.unreflect(method)));
+                }
+            }
+            methods = new HashMap<>();
+            methodsByName.forEach((name, m) -> methods.put(name, m.toArray(new FormulaMethod[m.size()])));
+        } catch (IllegalAccessException | NoSuchMethodException e) {
+            throw new IllegalStateException("Unable to access the compiled formula class " + formulasClass, e);
+        }
+    }
+
+    /**
+     * Returns whether the compiled class is a hidden class, that can be unloaded independently of
+     * the class loader of the product component's or generation's class.
+     */
+    boolean isHidden() {
+        return hidden;
+    }
+
+    /**
+     * Creates a new instance of the compiled class for the given product component or generation
+     * and returns the formula methods bound to this instance, by their name.
+     */
+    Map<String, BoundFormulaMethod[]> bind(Object object) {
+        Object instance;
+        try {
+            instance = constructor.invoke(object);
+            // CSOFF: IllegalCatch
+        } catch (Throwable e) {
+            // CSON: IllegalCatch
+            throw new IllegalStateException("Unable to create the compiled formulas for " + object, e);
+        }
+        Map<String, BoundFormulaMethod[]> boundMethods = new HashMap<>((int)(methods.size() / 0.75f) + 1);
+        methods.forEach((name, m) -> {
+            BoundFormulaMethod[] bound = new BoundFormulaMethod[m.length];
+            for (int i = 0; i < m.length; i++) {
+                bound[i] = new BoundFormulaMethod(m[i].parameterTypes(), m[i].handle().bindTo(instance));
+            }
+            boundMethods.put(name, bound);
+        });
+        return boundMethods;
+    }
+
+    /**
+     * A formula method with a handle of the type <code>(Object, Object[])Object</code>, taking the
+     * instance of the compiled class and the formula's parameters.
+     */
+    private record FormulaMethod(Class<?>[] parameterTypes, MethodHandle handle) {
+
+        FormulaMethod(Method method, MethodHandle handle) {
+            this(wrap(method.getParameterTypes()),
+                    handle.asType(MethodType.genericMethodType(method.getParameterCount() + 1))
+                            .asSpreader(Object[].class, method.getParameterCount()));
+        }
+
+        private static Class<?>[] wrap(Class<?>[] types) {
+            Class<?>[] wrapped = new Class<?>[types.length];
+            for (int i = 0; i < types.length; i++) {
+                wrapped[i] = MethodType.methodType(types[i]).wrap().returnType();
+            }
+            return wrapped;
+        }
+
+    }
+
+    /**
+     * A formula method bound to an instance of the compiled class, with a handle of the type
+     * <code>(Object[])Object</code>.
+     */
+    record BoundFormulaMethod(Class<?>[] parameterTypes, MethodHandle handle) {
+
+        /**
+         * Returns whether this method can be called with the given parameters.
+         */
+        boolean accepts(Object[] parameters) {
+            if (parameters.length != parameterTypes.length) {
+                return false;
+            }
+            for (int i = 0; i < parameters.length; i++) {
+                if (parameters[i] != null && !parameterTypes[i].isInstance(parameters[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Object invoke(Object[] parameters) throws Exception {
+            try {
+                return (Object)handle.invokeExact(parameters);
+                // CSOFF: IllegalCatch
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                // CSON: IllegalCatch
+                throw new IllegalStateException(e);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.formula.java;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.faktorips.runtime.caching.BoundedMemoizer;
+import org.faktorips.runtime.caching.CacheStatistics;
+import org.faktorips.runtime.caching.IComputable;
+
+/**
+ * A cache of the classes compiled from formulas, shared by {@link JavaFormulaEvaluator formula
+ * evaluators}. Product components and generations of the same class using the same formulas share
+ * the same compiled class, only its instance holding the product component or generation is
+ * created for every evaluator.
+ * <p>
+ * The compiled classes are cached per product component or generation class using a
+ * {@link ClassValue}, so the cache does not keep these classes and their class loaders from being
+ * unloaded. The number of cached classes per product component or generation class is bounded,
+ * the least recently used classes are evicted first. Evicted hidden classes can be unloaded as soon
+ * as no evaluator uses them any longer. Classes that had to be defined in the class loader of the
+ * product component or generation class can only be unloaded together with that class loader, so
+ * they are never evicted to never define them again.
+ */
+public class FormulaClassCache {
+
+    /**
+     * The maximum number of compiled classes per product component or generation class cached by
+     * the {@link #getDefault() default cache}.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private static final FormulaClassCache DEFAULT = new FormulaClassCache(DEFAULT_MAXIMUM_SIZE);
+
+    private final long maximumSize;
+
+    private final Set<ClassFormulas> allClassFormulas = Collections
+            .synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private final ClassValue<ClassFormulas> classFormulas = new ClassValue<>() {
+        @Override
+        protected ClassFormulas computeValue(Class<?> type) {
+            ClassFormulas formulas = new ClassFormulas(type, maximumSize);
+            allClassFormulas.add(formulas);
+            return formulas;
+        }
+    };
+
+    /**
+     * Creates a new cache holding at most the given number of compiled classes per product
+     * component or generation class.
+     */
+    public FormulaClassCache(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Returns the cache shared by all {@link JavaFormulaEvaluator formula evaluators} that are not
+     * created with a cache of their own.
+     */
+    public static FormulaClassCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the compiled formulas for the given source code running in the context of an instance
+     * of the given class. The source code is only compiled if it is not cached.
+     */
+    CompiledFormulas getCompiledFormulas(Class<?> objectClass, String sourceCode) {
+        try {
+            return classFormulas.get(objectClass).get(sourceCode);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the statistics of this cache, summed up over all product component and generation
+     * classes.
+     */
+    public CacheStatistics getStatistics() {
+        long hitCount = 0;
+        long missCount = 0;
+        long loadCount = 0;
+        long totalLoadTime = 0;
+        long evictionCount = 0;
+        long size = 0;
+        for (ClassFormulas formulas : getAllClassFormulas()) {
+            CacheStatistics statistics = formulas.compiledFormulas.getStatistics();
+            hitCount += statistics.getHitCount();
+            missCount += statistics.getMissCount();
+            loadCount += statistics.getLoadCount();
+            totalLoadTime += statistics.getTotalLoadTime();
+            evictionCount += statistics.getEvictionCount();
+            size += formulas.size();
+        }
+        return new CacheStatistics(hitCount, missCount, loadCount, totalLoadTime, evictionCount, size);
+    }
+
+    /**
+     * Returns the number of cached classes.
+     */
+    public int size() {
+        return getAllClassFormulas().stream().mapToInt(ClassFormulas::size).sum();
+    }
+
+    private List<ClassFormulas> getAllClassFormulas() {
+        synchronized (allClassFormulas) {
+            return new ArrayList<>(allClassFormulas);
+        }
+    }
+
+    /**
+     * The compiled formulas of one product component or generation class.
+     */
+    private static final class ClassFormulas {
+
+        private final BoundedMemoizer<String, CompiledFormulas> compiledFormulas;
+
+        private final Map<String, CompiledFormulas> definedFormulas = new ConcurrentHashMap<>();
+
+        ClassFormulas(Class<?> objectClass, long maximumSize) {
+            compiledFormulas = new BoundedMemoizer<>(
+                    IComputable.of(CompiledFormulas.class, (String sourceCode) -> compile(objectClass, sourceCode)),
+                    maximumSize);
+        }
+
+        /**
+         * Compiles the formulas and returns them if they are a hidden class. Otherwise they are
+         * kept in {@link #definedFormulas} and <code>null</code> is returned, so the bounded cache
+         * does not hold them.
+         */
+        private CompiledFormulas compile(Class<?> objectClass, String sourceCode) {
+            CompiledFormulas formulas = FormulaCompiler.compile(objectClass, sourceCode);
+            if (formulas.isHidden()) {
+                return formulas;
+            }
+            definedFormulas.put(sourceCode, formulas);
+            return null;
+        }
+
+        CompiledFormulas get(String sourceCode) throws InterruptedException {
+            CompiledFormulas formulas = definedFormulas.get(sourceCode);
+            if (formulas == null) {
+                formulas = compiledFormulas.compute(sourceCode);
+            }
+            return formulas != null ? formulas : definedFormulas.get(sourceCode);
+        }
+
+        int size() {
+            return compiledFormulas.size() + definedFormulas.size();
+        }
+
+    }
+
+}
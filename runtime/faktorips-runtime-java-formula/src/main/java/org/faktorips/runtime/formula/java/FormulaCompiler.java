@@ -0,0 +1,349 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.formula.java;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.JavaFileObject.Kind;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+/**
+ * Compiles the Java code of formulas to a class using the Java compiler of the running JDK.
+ * <p>
+ * The formulas of a product component or generation are compiled as methods of a class in the
+ * package of the product component's or generation's class. The class holds the product component
+ * or generation in the field {@value #THIS_FIELD}. Like in the Groovy formula evaluator, every
+ * <code>this</code> followed by a dot or a whitespace in the formulas is replaced by this field.
+ * Import declarations of the formulas are moved to the beginning of the compilation unit.
+ * <p>
+ * The class is defined as hidden class, so it can be unloaded as soon as it is no longer used. If
+ * the formulas need more than one class, for example because they contain anonymous classes, or a
+ * hidden class cannot be defined, the classes are defined in the class loader of the product
+ * component's or generation's class.
+ */
+class FormulaCompiler {
+
+    static final String THIS_FIELD = "thiz";
+
+    private static final Pattern IMPORT_PATTERN = Pattern.compile("^\\s*import\\s+[^;]+;", Pattern.MULTILINE);
+
+    private static final Pattern THIS_PATTERN = Pattern.compile("this([\\.\\s])");
+
+    private static final List<String> COMPILER_OPTIONS = List.of("-proc:none", "-implicit:none", "-nowarn");
+
+    private static final AtomicLong CLASS_COUNTER = new AtomicLong();
+
+    private FormulaCompiler() {
+        // utility class
+    }
+
+    /**
+     * Compiles the given source code of formulas that run in the context of an instance of the
+     * given class.
+     *
+     * @throws IllegalArgumentException if the formulas cannot be compiled
+     * @throws IllegalStateException if there is no Java compiler available
+     */
+    static CompiledFormulas compile(Class<?> objectClass, String sourceCode) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException(
+                    "No Java compiler available, formulas can only be compiled when running on a JDK");
+        }
+        Class<?> thisType = getAccessibleType(objectClass);
+        String packageName = objectClass.getPackageName();
+        String simpleName = objectClass.getSimpleName().replaceAll("\\W", "") + "$$Formulas"
+                + CLASS_COUNTER.incrementAndGet();
+        String className = packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+        SourceFile source = new SourceFile(className,
+                createCompilationUnit(packageName, simpleName, thisType, sourceCode));
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        ClassLoader classLoader = objectClass.getClassLoader() != null ? objectClass.getClassLoader()
+                : ClassLoader.getSystemClassLoader();
+        try (ClassLoaderFileManager fileManager = new ClassLoaderFileManager(
+                compiler.getStandardFileManager(diagnostics, null, null), classLoader)) {
+            boolean success = compiler
+                    .getTask(null, fileManager, diagnostics, COMPILER_OPTIONS, null, List.of(source)).call();
+            if (!success) {
+                throw new IllegalArgumentException("Unable to compile the formulas of " + objectClass.getName()
+                        + ":\n" + getErrors(diagnostics) + "\n" + source.code);
+            }
+            Class<?> formulasClass = defineClasses(objectClass, className, fileManager.classFiles);
+            return new CompiledFormulas(formulasClass, thisType);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String createCompilationUnit(String packageName,
+            String simpleName,
+            Class<?> thisType,
+            String sourceCode) {
+        Set<String> imports = new LinkedHashSet<>();
+        Matcher importMatcher = IMPORT_PATTERN.matcher(sourceCode);
+        while (importMatcher.find()) {
+            imports.add(importMatcher.group().trim());
+        }
+        String methods = THIS_PATTERN.matcher(importMatcher.replaceAll("")).replaceAll(THIS_FIELD + "$1");
+        StringBuilder code = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            code.append("package ").append(packageName).append(";\n\n");
+        }
+        imports.forEach(i -> code.append(i).append('\n'));
+        String typeName = thisType.getCanonicalName();
+        code.append("\npublic final class ").append(simpleName).append(" {\n\n")
+                .append("    private final ").append(typeName).append(' ').append(THIS_FIELD).append(";\n\n")
+                .append("    public ").append(simpleName).append('(').append(typeName).append(' ').append(THIS_FIELD)
+                .append(") {\n")
+                .append("        this.").append(THIS_FIELD).append(" = ").append(THIS_FIELD).append(";\n")
+                .append("    }\n\n")
+                .append(methods)
+                .append("\n}\n");
+        return code.toString();
+    }
+
+    /**
+     * Returns the given class or its first superclass that can be referenced from another class in
+     * the given class's package.
+     */
+    private static Class<?> getAccessibleType(Class<?> objectClass) {
+        for (Class<?> type = objectClass; type != null; type = type.getSuperclass()) {
+            if (isAccessible(type, objectClass.getPackageName())) {
+                return type;
+            }
+        }
+        return Object.class;
+    }
+
+    private static boolean isAccessible(Class<?> type, String packageName) {
+        if (type.isAnonymousClass() || type.isLocalClass() || type.isHidden()) {
+            return false;
+        }
+        for (Class<?> c = type; c != null; c = c.getEnclosingClass()) {
+            int modifiers = c.getModifiers();
+            if (Modifier.isPrivate(modifiers)
+                    || (!Modifier.isPublic(modifiers) && !c.getPackageName().equals(packageName))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String getErrors(DiagnosticCollector<JavaFileObject> diagnostics) {
+        return diagnostics.getDiagnostics().stream()
+                .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                .map(d -> "line " + d.getLineNumber() + ": " + d.getMessage(null))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static Class<?> defineClasses(Class<?> objectClass,
+            String className,
+            Map<String, ByteArrayOutputStream> classFiles) {
+        try {
+            Lookup lookup = MethodHandles.privateLookupIn(objectClass, MethodHandles.lookup());
+            if (classFiles.size() == 1) {
+                try {
+                    return lookup.defineHiddenClass(classFiles.get(className).toByteArray(), true).lookupClass();
+                } catch (IllegalAccessException e) {
+                    // without full privilege access the class is defined as normal class below
+                }
+            }
+            Class<?> formulasClass = null;
+            for (Entry<String, ByteArrayOutputStream> classFile : classFiles.entrySet()) {
+                Class<?> definedClass = lookup.defineClass(classFile.getValue().toByteArray());
+                if (classFile.getKey().equals(className)) {
+                    formulasClass = definedClass;
+                }
+            }
+            return formulasClass;
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Unable to define the formula class in the package of "
+                    + objectClass.getName(), e);
+        }
+    }
+
+    private static final class SourceFile extends SimpleJavaFileObject {
+
+        private final String code;
+
+        SourceFile(String className, String code) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.code = code;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return code;
+        }
+
+    }
+
+    /**
+     * A class file found by the class loader the formulas are compiled with.
+     */
+    private static final class ClassFile extends SimpleJavaFileObject {
+
+        private final String binaryName;
+
+        private final URL url;
+
+        ClassFile(String binaryName, URL url) throws URISyntaxException {
+            super(url.toURI(), Kind.CLASS);
+            this.binaryName = binaryName;
+            this.url = url;
+        }
+
+        @Override
+        public InputStream openInputStream() throws IOException {
+            return url.openStream();
+        }
+
+    }
+
+    /**
+     * Collects the compiled classes in memory and resolves the class path from the class loader of
+     * the product component's or generation's class in addition to the class path of the running
+     * VM, so that formulas compile in containers with their own class loaders, too.
+     */
+    private static final class ClassLoaderFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+        private final ClassLoader classLoader;
+
+        private final Map<String, ByteArrayOutputStream> classFiles = new LinkedHashMap<>();
+
+        ClassLoaderFileManager(StandardJavaFileManager fileManager, ClassLoader classLoader) {
+            super(fileManager);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        public Iterable<JavaFileObject> list(Location location, String packageName, Set<Kind> kinds, boolean recurse)
+                throws IOException {
+            Iterable<JavaFileObject> files = super.list(location, packageName, kinds, recurse);
+            if (location != StandardLocation.CLASS_PATH || !kinds.contains(Kind.CLASS)) {
+                return files;
+            }
+            List<JavaFileObject> result = new ArrayList<>();
+            Set<String> binaryNames = new HashSet<>();
+            for (JavaFileObject file : files) {
+                result.add(file);
+                binaryNames.add(inferBinaryName(location, file));
+            }
+            String path = packageName.replace('.', '/');
+            Enumeration<URL> packageUrls = classLoader.getResources(path);
+            while (packageUrls.hasMoreElements()) {
+                for (String classFileName : listClassFiles(packageUrls.nextElement(), path)) {
+                    String binaryName = (packageName.isEmpty() ? "" : packageName + '.')
+                            + classFileName.substring(0, classFileName.length() - Kind.CLASS.extension.length());
+                    URL classUrl = classLoader.getResource(path + '/' + classFileName);
+                    if (classUrl != null && binaryNames.add(binaryName)) {
+                        try {
+                            result.add(new ClassFile(binaryName, classUrl));
+                        } catch (URISyntaxException e) {
+                            throw new IOException(e);
+                        }
+                    }
+                }
+            }
+            return result;
+        }
+
+        private List<String> listClassFiles(URL packageUrl, String path) throws IOException {
+            List<String> classFileNames = new ArrayList<>();
+            if ("file".equals(packageUrl.getProtocol())) {
+                try (Stream<Path> files = Files.list(Path.of(packageUrl.toURI()))) {
+                    files.map(f -> f.getFileName().toString())
+                            .filter(f -> f.endsWith(Kind.CLASS.extension))
+                            .forEach(classFileNames::add);
+                } catch (URISyntaxException e) {
+                    throw new IOException(e);
+                }
+            } else if (packageUrl.openConnection() instanceof JarURLConnection connection) {
+                JarFile jarFile = connection.getJarFile();
+                String prefix = path + '/';
+                for (Enumeration<JarEntry> entries = jarFile.entries(); entries.hasMoreElements();) {
+                    String name = entries.nextElement().getName();
+                    if (name.startsWith(prefix) && name.endsWith(Kind.CLASS.extension)
+                            && name.indexOf('/', prefix.length()) < 0) {
+                        classFileNames.add(name.substring(prefix.length()));
+                    }
+                }
+            }
+            return classFileNames;
+        }
+
+        @Override
+        public String inferBinaryName(Location location, JavaFileObject file) {
+            if (file instanceof ClassFile classFile) {
+                return classFile.binaryName;
+            }
+            return super.inferBinaryName(location, file);
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(Location location,
+                String className,
+                Kind kind,
+                FileObject sibling) {
+            return new SimpleJavaFileObject(
+                    URI.create("bytes:///" + className.replace('.', '/') + kind.extension), kind) {
+
+                @Override
+                public OutputStream openOutputStream() {
+                    ByteArrayOutputStream classFile = new ByteArrayOutputStream();
+                    classFiles.put(className, classFile);
+                    return classFile;
+                }
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.formula.java;
+
+import java.util.Map;
+
+import org.faktorips.runtime.formula.AbstractFormulaEvaluator;
+import org.faktorips.runtime.formula.java.CompiledFormulas.BoundFormulaMethod;
+
+/**
+ * This formula evaluator compiles the formulas' Java code to bytecode at runtime and calls the
+ * compiled methods through method handles. Like the Groovy formula evaluator it expects each
+ * compiled expression to be a complete Java method including the method signature, optionally
+ * preceded by import declarations. The methods run in the context of the product component or
+ * product component generation, which is referenced as 'this' within the methods.
+ * <p>
+ * Unlike in Groovy, the formulas can only access members of the product component or generation
+ * that are accessible from another class in its package.
+ *
+ * @see FormulaClassCache
+ */
+public class JavaFormulaEvaluator extends AbstractFormulaEvaluator {
+
+    private static final Object[] NO_PARAMETERS = new Object[0];
+
+    private final Map<String, BoundFormulaMethod[]> methods;
+
+    /**
+     * The constructor expects the product component or product component generation and a list of
+     * java methods, one for every formula that should be evaluated by this formula evaluator. The
+     * methods should be designed to run in the context of the product component generation. The
+     * product component generation should be referenced as 'this' within the methods body.
+     *
+     * @param object the product component or product component generation in which context the
+     *            compiled expression methods would run
+     * @param nameToExpressionMap a list of compiled expression methods, one for each formula
+     *
+     * @throws IllegalArgumentException if the formulas cannot be compiled
+     */
+    public JavaFormulaEvaluator(Object object, Map<String, String> nameToExpressionMap) {
+        this(object, nameToExpressionMap, FormulaClassCache.getDefault());
+    }
+
+    /**
+     * Creates a new formula evaluator like {@link #JavaFormulaEvaluator(Object, Map)} but uses the
+     * given cache for the compiled class instead of the {@link FormulaClassCache#getDefault()
+     * default cache}.
+     *
+     * @param object the product component or product component generation in which context the
+     *            compiled expression methods would run
+     * @param nameToExpressionMap a list of compiled expression methods, one for each formula
+     * @param formulaClassCache the cache of the compiled classes
+     *
+     * @throws IllegalArgumentException if the formulas cannot be compiled
+     */
+    public JavaFormulaEvaluator(Object object, Map<String, String> nameToExpressionMap,
+            FormulaClassCache formulaClassCache) {
+        super(object, nameToExpressionMap);
+        String sourceCode = String.join("\n", nameToExpressionMap.values());
+        methods = formulaClassCache.getCompiledFormulas(object.getClass(), sourceCode).bind(object);
+    }
+
+    @Override
+    protected Object evaluateInternal(String formularName, Object... parameters) throws Exception {
+        Object[] parameterValues = parameters == null ? NO_PARAMETERS : parameters;
+        BoundFormulaMethod[] candidates = methods.get(formularName);
+        if (candidates != null) {
+            if (candidates.length == 1) {
+                return candidates[0].invoke(parameterValues);
+            }
+            for (BoundFormulaMethod candidate : candidates) {
+                if (candidate.accepts(parameterValues)) {
+                    return candidate.invoke(parameterValues);
+                }
+            }
+        }
+        throw new NoSuchMethodException("No formula " + formularName + " accepting " + parameterValues.length
+                + " parameters found");
+    }
+
+}
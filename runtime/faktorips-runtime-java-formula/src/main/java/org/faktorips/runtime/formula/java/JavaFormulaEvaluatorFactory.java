@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.formula.java;
+
+import java.util.Map;
+
+import org.faktorips.runtime.formula.IFormulaEvaluator;
+import org.faktorips.runtime.formula.IFormulaEvaluatorFactory;
+
+/**
+ * This is a {@link IFormulaEvaluatorFactory} creating {@link JavaFormulaEvaluator}s.
+ */
+public class JavaFormulaEvaluatorFactory implements IFormulaEvaluatorFactory {
+
+    private final FormulaClassCache formulaClassCache;
+
+    /**
+     * Creates a factory whose evaluators share the {@link FormulaClassCache#getDefault() default
+     * formula class cache}.
+     */
+    public JavaFormulaEvaluatorFactory() {
+        this(FormulaClassCache.getDefault());
+    }
+
+    /**
+     * Creates a factory whose evaluators use the given formula class cache.
+     */
+    public JavaFormulaEvaluatorFactory(FormulaClassCache formulaClassCache) {
+        this.formulaClassCache = formulaClassCache;
+    }
+
+    @Override
+    public IFormulaEvaluator createFormulaEvaluator(Object object, Map<String, String> nameToCompiledExpressionMap) {
+        return new JavaFormulaEvaluator(object, nameToCompiledExpressionMap, formulaClassCache);
+    }
+
+}
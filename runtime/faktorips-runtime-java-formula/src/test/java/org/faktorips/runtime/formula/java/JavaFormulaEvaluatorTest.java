@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.formula.java;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.faktorips.runtime.FormulaExecutionException;
+import org.faktorips.runtime.IConfigurableModelObject;
+import org.faktorips.runtime.IRuntimeRepository;
+import org.faktorips.runtime.InMemoryRuntimeRepository;
+import org.faktorips.runtime.formula.IFormulaEvaluator;
+import org.faktorips.runtime.internal.ProductComponent;
+import org.faktorips.runtime.internal.ProductComponentGeneration;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JavaFormulaEvaluatorTest {
+
+    private MyCmpt testCmpt;
+    private MyCmptGeneration testGen;
+    private Map<String, String> expressions;
+
+    @Before
+    public void setUp() {
+        expressions = new LinkedHashMap<>();
+        expressions.put("add", """
+                public int add() {
+                    return this.var1 + this.var2;
+                }""");
+        expressions.put("getStringWithParam", """
+                public String getString(String param) {
+                    return param;
+                }""");
+        expressions.put("getString", """
+                import org.faktorips.runtime.formula.java.JavaFormulaEvaluatorTest.OtherClass;
+
+                public String getString() {
+                    return new OtherClass().anyMethod();
+                }""");
+        testCmpt = new MyCmpt(new InMemoryRuntimeRepository(), "Test 2010-01", "Test", "2010-01");
+        testGen = new MyCmptGeneration(testCmpt);
+    }
+
+    @Test
+    public void testEvaluate_Generation() {
+        IFormulaEvaluator evaluator = new JavaFormulaEvaluator(testGen, expressions, new FormulaClassCache(10));
+
+        testGen.var1 = 1;
+        testGen.var2 = 3;
+        assertThat(evaluator.evaluate("add"), is(4));
+
+        testGen.var1 = -1;
+        testGen.var2 = 3;
+        assertThat(evaluator.evaluate("add"), is(2));
+
+        assertGetString(evaluator);
+    }
+
+    @Test
+    public void testEvaluate_ProductCmpt() {
+        IFormulaEvaluator evaluator = new JavaFormulaEvaluator(testCmpt, expressions, new FormulaClassCache(10));
+
+        testCmpt.var1 = 1;
+        testCmpt.var2 = 3;
+        assertThat(evaluator.evaluate("add"), is(4));
+
+        assertGetString(evaluator);
+    }
+
+    @Test
+    public void testEvaluate_PrimitiveParameters() {
+        Map<String, String> formulas = Map.of("compute", """
+                public int computeTestFormula(int parameter_1, String parameter_2) {
+                    return parameter_1 == 0 ? 0 : parameter_2.length();
+                }""");
+        IFormulaEvaluator evaluator = new JavaFormulaEvaluatorFactory(new FormulaClassCache(10))
+                .createFormulaEvaluator(testGen, formulas);
+
+        assertThat(evaluator.evaluate("computeTestFormula", 0, "abc"), is(0));
+        assertThat(evaluator.evaluate("computeTestFormula", 123, "abc"), is(3));
+    }
+
+    @Test
+    public void testEvaluate_UnknownFormula() {
+        IFormulaEvaluator evaluator = new JavaFormulaEvaluator(testGen, expressions, new FormulaClassCache(10));
+
+        FormulaExecutionException exception = assertThrows(FormulaExecutionException.class,
+                () -> evaluator.evaluate("unknown"));
+
+        assertThat(exception.getCause(), is(instanceOf(NoSuchMethodException.class)));
+    }
+
+    @Test
+    public void testEvaluate_SharedFormulaClass() {
+        FormulaClassCache formulaClassCache = new FormulaClassCache(10);
+        MyCmptGeneration otherGen = new MyCmptGeneration(testCmpt);
+        IFormulaEvaluator evaluator = new JavaFormulaEvaluator(testGen, expressions, formulaClassCache);
+        IFormulaEvaluator otherEvaluator = new JavaFormulaEvaluator(otherGen, expressions, formulaClassCache);
+
+        testGen.var1 = 1;
+        testGen.var2 = 3;
+        otherGen.var1 = 10;
+        otherGen.var2 = 30;
+        assertThat(evaluator.evaluate("add"), is(4));
+        assertThat(otherEvaluator.evaluate("add"), is(40));
+        assertThat(formulaClassCache.size(), is(1));
+        assertThat(formulaClassCache.getStatistics().getLoadCount(), is(1L));
+    }
+
+    @Test
+    public void testEvaluate_ThisNotFollowedByDotOrWhitespace() {
+        Map<String, String> formulas = Map.of("getThis", """
+                public String getThis() {
+                    return "this";
+                }""");
+        IFormulaEvaluator evaluator = new JavaFormulaEvaluator(testGen, formulas, new FormulaClassCache(10));
+
+        assertThat(evaluator.evaluate("getThis"), is("this"));
+    }
+
+    @Test
+    public void testEvaluate_DefinedFormulaClassNotEvicted() {
+        Map<String, String> formulas = Map.of("getAnswer", """
+                public int getAnswer() {
+                    java.util.function.IntSupplier supplier = new java.util.function.IntSupplier() {
+                        public int getAsInt() {
+                            return 42;
+                        }
+                    };
+                    return supplier.getAsInt();
+                }""");
+        FormulaClassCache formulaClassCache = new FormulaClassCache(1);
+
+        new JavaFormulaEvaluator(testGen, formulas, formulaClassCache);
+        new JavaFormulaEvaluator(testGen, expressions, formulaClassCache);
+        IFormulaEvaluator evaluator = new JavaFormulaEvaluator(testGen, formulas, formulaClassCache);
+
+        assertThat(evaluator.evaluate("getAnswer"), is(42));
+        assertThat(formulaClassCache.size(), is(2));
+        assertThat(formulaClassCache.getStatistics().getLoadCount(), is(2L));
+    }
+
+    @Test
+    public void testNew_CompilationError() {
+        Map<String, String> formulas = Map.of("broken", """
+                public int broken() {
+                    return this.unknownField;
+                }""");
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new JavaFormulaEvaluator(testGen, formulas, new FormulaClassCache(10)));
+
+        assertThat(exception.getMessage(), containsString("unknownField"));
+    }
+
+    private void assertGetString(IFormulaEvaluator evaluator) {
+        assertThat(evaluator.evaluate("getString", "asd"), is("asd"));
+        assertThat(evaluator.evaluate("getString", (Object)null), is(nullValue()));
+        assertThat(evaluator.evaluate("getString"), is("abc"));
+    }
+
+    public static class OtherClass {
+
+        public String anyMethod() {
+            return "abc";
+        }
+
+    }
+
+    public static class MyCmptGeneration extends ProductComponentGeneration {
+
+        int var1;
+        int var2;
+
+        public MyCmptGeneration(ProductComponent productCmpt) {
+            super(productCmpt);
+        }
+
+    }
+
+    public static class MyCmpt extends ProductComponent {
+
+        int var1;
+        int var2;
+
+        public MyCmpt(IRuntimeRepository repository, String id, String productKindId, String versionId) {
+            super(repository, id, productKindId, versionId);
+        }
+
+        @Override
+        public IConfigurableModelObject createPolicyComponent() {
+            return null;
+        }
+
+        @Override
+        public boolean isChangingOverTime() {
+            return true;
+        }
+
+    }
+
+}
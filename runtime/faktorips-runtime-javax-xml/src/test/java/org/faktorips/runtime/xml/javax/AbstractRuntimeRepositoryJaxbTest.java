@@ -11,25 +11,37 @@
 package org.faktorips.runtime.xml.javax;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertNotNull;
 
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
+import javax.xml.XMLConstants;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.bind.ValidationEventHandler;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlID;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.validation.SchemaFactory;
 
 import org.faktorips.runtime.IModelObject;
 import org.faktorips.runtime.IProductComponent;
@@ -64,6 +76,114 @@ public class AbstractRuntimeRepositoryJaxbTest {
         assertThat(foo2.getMyId(), is(foo.getMyId()));
     }
 
+    @Test
+    public void testBorrowMarshaller() throws Exception {
+        AbstractRuntimeRepository repository = new TestAbstractRuntimeRepository(Foo.class);
+        IpsJAXBContext jaxbContext = (IpsJAXBContext)JaxbSupport.INSTANCE.newJAXBContext(repository);
+        Foo foo = new Foo();
+        foo.setX(42);
+
+        Marshaller marshaller = jaxbContext.borrowMarshaller();
+        StringWriter writer = new StringWriter();
+        marshaller.marshal(foo, writer);
+        Unmarshaller unmarshaller = jaxbContext.borrowUnmarshaller();
+        Foo foo2 = (Foo)unmarshaller.unmarshal(new StringReader(writer.toString()));
+        jaxbContext.returnMarshaller(marshaller);
+        jaxbContext.returnUnmarshaller(unmarshaller);
+
+        assertThat(foo2.getX(), is(foo.getX()));
+        assertThat(foo2.getMyId(), is(foo.getMyId()));
+        assertThat(jaxbContext.borrowMarshaller(), is(sameInstance(marshaller)));
+        assertThat(jaxbContext.borrowUnmarshaller(), is(sameInstance(unmarshaller)));
+    }
+
+    @Test
+    public void testBorrowMarshaller_NotReturned() throws Exception {
+        AbstractRuntimeRepository repository = new TestAbstractRuntimeRepository(Foo.class);
+        IpsJAXBContext jaxbContext = (IpsJAXBContext)JaxbSupport.INSTANCE.newJAXBContext(repository);
+        Marshaller marshaller = jaxbContext.borrowMarshaller();
+        Unmarshaller unmarshaller = jaxbContext.borrowUnmarshaller();
+
+        Marshaller otherMarshaller = CompletableFuture.supplyAsync(() -> {
+            try {
+                return jaxbContext.borrowMarshaller();
+            } catch (JAXBException e) {
+                throw new RuntimeException(e);
+            }
+        }).get();
+
+        assertThat(otherMarshaller, is(not(sameInstance(marshaller))));
+        assertThat(jaxbContext.borrowUnmarshaller(), is(not(sameInstance(unmarshaller))));
+    }
+
+    @Test
+    public void testReturnMarshaller_ResetsConfiguration() throws Exception {
+        AbstractRuntimeRepository repository = new TestAbstractRuntimeRepository(Foo.class);
+        IpsJAXBContext jaxbContext = (IpsJAXBContext)JaxbSupport.INSTANCE.newJAXBContext(repository);
+        Marshaller marshaller = jaxbContext.borrowMarshaller();
+        ValidationEventHandler eventHandler = event -> false;
+        marshaller.setEventHandler(eventHandler);
+        marshaller.setSchema(SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema());
+        marshaller.setListener(new Marshaller.Listener() {
+            // nothing to do
+        });
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+
+        jaxbContext.returnMarshaller(marshaller);
+
+        Marshaller reusedMarshaller = jaxbContext.borrowMarshaller();
+        assertThat(reusedMarshaller, is(sameInstance(marshaller)));
+        assertThat(reusedMarshaller.getEventHandler(), is(not(sameInstance(eventHandler))));
+        assertThat(reusedMarshaller.getSchema(), is(nullValue()));
+        assertThat(reusedMarshaller.getListener(), is(nullValue()));
+        assertThat(reusedMarshaller.getProperty(Marshaller.JAXB_FORMATTED_OUTPUT), is(Boolean.FALSE));
+    }
+
+    @Test
+    public void testReturnUnmarshaller_ResetsConfiguration() throws Exception {
+        AbstractRuntimeRepository repository = new TestAbstractRuntimeRepository(Foo.class);
+        IpsJAXBContext jaxbContext = (IpsJAXBContext)JaxbSupport.INSTANCE.newJAXBContext(repository);
+        Unmarshaller unmarshaller = jaxbContext.borrowUnmarshaller();
+        ValidationEventHandler eventHandler = event -> false;
+        unmarshaller.setEventHandler(eventHandler);
+        unmarshaller.setSchema(SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema());
+        unmarshaller.setListener(new Unmarshaller.Listener() {
+            // nothing to do
+        });
+        unmarshaller.setAdapter(ProductConfigurationXmlAdapter.class, null);
+
+        jaxbContext.returnUnmarshaller(unmarshaller);
+
+        Unmarshaller reusedUnmarshaller = jaxbContext.borrowUnmarshaller();
+        assertThat(reusedUnmarshaller, is(sameInstance(unmarshaller)));
+        assertThat(reusedUnmarshaller.getEventHandler(), is(not(sameInstance(eventHandler))));
+        assertThat(reusedUnmarshaller.getSchema(), is(nullValue()));
+        assertThat(reusedUnmarshaller.getListener(), is(nullValue()));
+        assertThat(reusedUnmarshaller.getAdapter(ProductConfigurationXmlAdapter.class), is(notNullValue()));
+    }
+
+    @Test
+    public void testReturnUnmarshaller_PoolIsBounded() throws Exception {
+        AbstractRuntimeRepository repository = new TestAbstractRuntimeRepository(Foo.class);
+        IpsJAXBContext jaxbContext = (IpsJAXBContext)JaxbSupport.INSTANCE.newJAXBContext(repository);
+        int poolSize = Runtime.getRuntime().availableProcessors();
+        List<Unmarshaller> unmarshallers = new ArrayList<>();
+        for (int i = 0; i <= poolSize; i++) {
+            unmarshallers.add(jaxbContext.borrowUnmarshaller());
+        }
+        for (Unmarshaller unmarshaller : unmarshallers) {
+            jaxbContext.returnUnmarshaller(unmarshaller);
+        }
+
+        Set<Unmarshaller> reused = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i <= poolSize; i++) {
+            reused.add(jaxbContext.borrowUnmarshaller());
+        }
+
+        assertThat(reused.size(), is(poolSize + 1));
+        assertThat(reused.contains(unmarshallers.get(poolSize)), is(false));
+    }
+
     @Test
     public void testNewJAXBContext_SuperSuperClass() {
         AbstractRuntimeRepository repository = new TestAbstractRuntimeRepository(FooSuppe2.class);
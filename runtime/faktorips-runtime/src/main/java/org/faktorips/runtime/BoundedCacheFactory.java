@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+import org.faktorips.runtime.caching.BoundedMemoizer;
+import org.faktorips.runtime.caching.HardMemoizer;
+import org.faktorips.runtime.caching.IComputable;
+import org.faktorips.runtime.internal.AbstractCacheFactory;
+import org.faktorips.runtime.internal.IpsEnum;
+
+/**
+ * Cache factory creating {@link BoundedMemoizer bounded caches} that keep their values until they
+ * are evicted because the cache is full. In contrast to the {@link DefaultCacheFactory}, whose
+ * caches may lose any value when the garbage collector clears soft references, the memory used by
+ * these caches is predictable.
+ * <p>
+ * Each cache is bounded by the number of entries and optionally by the total weight of its values,
+ * for example the number of rows of the cached tables:
+ *
+ * <pre>
+ * BoundedCacheFactory cacheFactory = new BoundedCacheFactory();
+ * cacheFactory.setMaximumSize(IProductComponent.class, 20_000);
+ * cacheFactory.setMaximumWeight(ITable.class, 2_000_000, BoundedCacheFactory::weighByRowCount);
+ * </pre>
+ *
+ * The bounds are configured per value class. Enum values are always cached without any bound.
+ */
+public class BoundedCacheFactory extends AbstractCacheFactory {
+
+    private final Map<String, Long> maximumSizeMap = new HashMap<>();
+
+    private final Map<String, Long> maximumWeightMap = new HashMap<>();
+
+    private final Map<String, ToLongFunction<Object>> weigherMap = new HashMap<>();
+
+    private long defaultMaximumSize = 10_000;
+
+    /**
+     * Sets the maximum number of entries of the cache for the given type. The type is the class of
+     * the values, for example {@link IProductComponent}, {@link IProductComponentGeneration} or
+     * {@link ITable}.
+     */
+    public void setMaximumSize(Class<?> typeClass, long maximumSize) {
+        maximumSizeMap.put(typeClass.getName(), maximumSize);
+    }
+
+    /**
+     * Sets the maximum total weight of the cache for the given type, using the given weigher to
+     * estimate the weight of a single value.
+     *
+     * @see #weighByRowCount(ITable)
+     */
+    @SuppressWarnings("unchecked")
+    public <V> void setMaximumWeight(Class<V> typeClass, long maximumWeight, ToLongFunction<? super V> weigher) {
+        maximumWeightMap.put(typeClass.getName(), maximumWeight);
+        weigherMap.put(typeClass.getName(), (ToLongFunction<Object>)weigher);
+    }
+
+    /**
+     * @param defaultMaximumSize The maximum number of entries for all caches that have no explicitly
+     *            configured size.
+     */
+    public void setDefaultMaximumSize(long defaultMaximumSize) {
+        this.defaultMaximumSize = defaultMaximumSize;
+    }
+
+    protected long getMaximumSize(Class<?> typeClass) {
+        return maximumSizeMap.getOrDefault(typeClass.getName(), defaultMaximumSize);
+    }
+
+    protected long getMaximumWeight(Class<?> typeClass) {
+        return maximumWeightMap.getOrDefault(typeClass.getName(), Long.MAX_VALUE);
+    }
+
+    protected ToLongFunction<Object> getWeigher(Class<?> typeClass) {
+        return weigherMap.getOrDefault(typeClass.getName(), v -> 1);
+    }
+
+    @Override
+    public <K, V> BoundedMemoizer<K, V> createCache(IComputable<K, V> computable) {
+        Class<? super V> valueClass = computable.getValueClass();
+        return new BoundedMemoizer<>(computable, getMaximumSize(valueClass), getMaximumWeight(valueClass),
+                getWeigher(valueClass));
+    }
+
+    @Override
+    public IComputable<Class<?>, IpsEnum<?>> createIpsEnumCache(IComputable<Class<?>, IpsEnum<?>> computable) {
+        return HardMemoizer.of(computable);
+    }
+
+    /**
+     * A weigher for table caches using the number of rows as the weight of a table.
+     *
+     * @see #setMaximumWeight(Class, long, ToLongFunction)
+     */
+    public static long weighByRowCount(ITable<?> table) {
+        return Math.max(1, table.getAllRows().size());
+    }
+
+}
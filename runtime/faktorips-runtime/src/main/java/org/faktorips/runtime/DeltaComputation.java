@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+import org.faktorips.runtime.internal.delta.DeltaComputationContext;
+
+/**
+ * Computes deltas between model objects with the given {@link IDeltaComputationOptions}. In
+ * addition to {@link IDeltaSupport#computeDelta(IModelObject, IDeltaComputationOptions)} the
+ * deltas can be
+ * <ul>
+ * <li>{@linkplain #computeDelta(IDeltaSupport, IModelObject, IModelObjectDeltaListener) reported}
+ * while they are computed, for example to stream them to an audit log,</li>
+ * <li>computed only until the {@linkplain #hasDifference(IDeltaSupport, IModelObject) first
+ * difference} is found and</li>
+ * <li>computed {@linkplain #inParallel(ForkJoinPool) in parallel} for the children of a
+ * composition.</li>
+ * </ul>
+ *
+ * @since 27.1
+ */
+public class DeltaComputation {
+
+    private final IDeltaComputationOptions options;
+
+    private ForkJoinPool pool;
+
+    public DeltaComputation(IDeltaComputationOptions options) {
+        this.options = Objects.requireNonNull(options, "options must not be null");
+    }
+
+    /**
+     * Computes the deltas of the children of a composition in parallel using the given pool. The
+     * delta computation of all model objects must be thread safe, so the compared objects must not
+     * be modified during the computation.
+     */
+    public DeltaComputation inParallel(ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool, "pool must not be null");
+        return this;
+    }
+
+    /**
+     * Computes the delta between the given objects.
+     *
+     * @see IDeltaSupport#computeDelta(IModelObject, IDeltaComputationOptions)
+     */
+    public IModelObjectDelta computeDelta(IDeltaSupport original, IModelObject refObject) {
+        return new DeltaComputationContext(options, null, false, pool).compute(original, refObject);
+    }
+
+    /**
+     * Computes the delta between the given objects and reports every non-empty delta to the given
+     * listener as soon as it is computed. The computation stops if the listener returns
+     * <code>false</code>.
+     *
+     * @return <code>true</code> if the delta was computed completely, <code>false</code> if the
+     *             listener stopped the computation
+     * @see IModelObjectDeltaListener#deltaComputed(IModelObjectDelta)
+     */
+    public boolean computeDelta(IDeltaSupport original, IModelObject refObject, IModelObjectDeltaListener listener) {
+        Objects.requireNonNull(listener, "listener must not be null");
+        return new DeltaComputationContext(options, listener, false, pool).compute(original, refObject) != null;
+    }
+
+    /**
+     * Returns whether there is any difference between the given objects. The delta computation stops
+     * at the first difference.
+     */
+    public boolean hasDifference(IDeltaSupport original, IModelObject refObject) {
+        IModelObjectDelta delta = new DeltaComputationContext(options, null, true, pool).compute(original,
+                refObject);
+        return delta == null || !delta.isEmpty();
+    }
+
+}
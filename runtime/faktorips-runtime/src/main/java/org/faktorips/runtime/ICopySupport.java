@@ -22,4 +22,31 @@ public interface ICopySupport {
      */
     IModelObject newCopy();
 
+    /**
+     * Creates and returns a new copy of this object that shares the unchanged parts of its object
+     * tree with this object. Only this object, the given objects to modify and all objects on the
+     * path from an object to modify up to this object are copied. All other parts of this object's
+     * object tree are not copied but referenced by the copy.
+     * <p>
+     * This is useful to create many slightly different variants of a large object tree, as the
+     * cost of the copy depends on the number of copied objects instead of the size of the tree.
+     * But as the shared objects belong to both object trees, their parent is still the original
+     * object and neither the shared objects nor the original objects they reference may be
+     * modified as long as the copy is in use. To modify an object in the copy, navigate from the
+     * copy to the copy of that object.
+     * <p>
+     * The default implementation ignores the objects to modify and returns a complete
+     * {@link #newCopy() copy}.
+     *
+     * @param objectsToModify the objects of this object's tree that will be modified in the copy
+     *
+     * @throws IllegalArgumentException if one of the objects to modify is not part of this object's
+     *             tree
+     *
+     * @since 27.1
+     */
+    default IModelObject newSharingCopy(IModelObject... objectsToModify) {
+        return newCopy();
+    }
+
 }
@@ -110,6 +110,28 @@ public interface IDeltaComputationOptions {
      */
     boolean isSame(IModelObject object1, IModelObject object2);
 
+    /**
+     * Returns a key identifying the conceptual object the given object represents, or
+     * <code>null</code> if there is no such key. The key is used to match the objects of an
+     * association computed {@link ComputationMethod#BY_OBJECT by object} with a hash based lookup
+     * instead of comparing every original object with every reference object using
+     * {@link #isSame(IModelObject, IModelObject)}.
+     * <p>
+     * If keys are provided, two objects must have {@link Object#equals(Object) equal} keys exactly
+     * if {@link #isSame(IModelObject, IModelObject)} returns <code>true</code> for them. If the key
+     * of any object of an association is <code>null</code>, the objects of that association are
+     * compared using {@link #isSame(IModelObject, IModelObject)}.
+     * <p>
+     * The default implementation returns <code>null</code>.
+     *
+     * @param object the object to get the key for
+     * @return the key identifying the given object or <code>null</code>
+     * @since 27.1
+     */
+    default Object getIdentityKey(IModelObject object) {
+        return null;
+    }
+
     /**
      * Returns <code>true</code> if the given property should be ignored in the delta computation.
      * If you compare for example two versions of the same contract, you might want to ignore the
@@ -14,6 +14,7 @@ package org.faktorips.runtime;
  * Interface indicating that it is possible to compute a delta between two instances of the class
  * implementing this interface.
  * 
+ * @see DeltaComputation
  * @author Jan Ortmann
  */
 public interface IDeltaSupport {
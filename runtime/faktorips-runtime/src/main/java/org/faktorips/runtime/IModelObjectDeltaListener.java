@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime;
+
+/**
+ * Listener that is notified of the deltas while a {@link DeltaComputation} computes them.
+ *
+ * @since 27.1
+ */
+@FunctionalInterface
+public interface IModelObjectDeltaListener {
+
+    /**
+     * Called for every non-empty delta as soon as it is computed completely. A delta is reported
+     * after all its child deltas, the delta of the compared objects themselves is reported last.
+     * <p>
+     * If the delta computation runs in parallel, this method is called concurrently from different
+     * threads.
+     *
+     * @param delta the computed delta
+     * @return <code>true</code> to continue the delta computation, <code>false</code> to stop it
+     */
+    boolean deltaComputed(IModelObjectDelta delta);
+
+}
@@ -219,11 +219,15 @@ public class InMemoryRuntimeRepository extends AbstractRuntimeRepository impleme
     public <T> void putEnumValues(Class<T> enumTypeClass, List<T> enumValues, InternationalString description) {
         enumValuesMap.put(enumTypeClass, new ArrayList<>(enumValues));
         enumDescriptionMap.put(enumTypeClass, description);
+        enumValuesChanged();
     }
 
     @Override
     public <T> boolean removeEnumValues(Class<T> enumTypeClass) {
-        return enumValuesMap.remove(enumTypeClass) != null | enumDescriptionMap.remove(enumTypeClass) != null;
+        boolean removed = enumValuesMap.remove(enumTypeClass) != null
+                | enumDescriptionMap.remove(enumTypeClass) != null;
+        enumValuesChanged();
+        return removed;
     }
 
     @Override
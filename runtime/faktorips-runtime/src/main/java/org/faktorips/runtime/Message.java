@@ -10,16 +10,21 @@
 
 package org.faktorips.runtime;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 
+import org.faktorips.runtime.util.MessagesHelper;
 import org.faktorips.runtime.util.StringBuilderJoiner;
 
 /**
@@ -39,6 +44,11 @@ import org.faktorips.runtime.util.StringBuilderJoiner;
  * IMarker object and provide some additional markers to the message. The exact use of the markers
  * depends on the custom implementation.
  * <p>
+ * The text of a message can be rendered lazily (see {@link Builder#text(Supplier)}), so messages
+ * that are only checked for their severity or code never format their text. The text is rendered
+ * when it is first requested, for example by {@link #getText()}, {@link #toString()} or
+ * {@link #equals(Object)}, and before the message is serialized.
+ * <p>
  * Message is an immutable value object. Two message objects are considered equal if they have the
  * same severity, code, text, "invalid properties" and replacement parameters.
  *
@@ -71,8 +81,11 @@ public class Message implements Serializable {
     /** One of the constants ERROR, WARNING or INFO. */
     private final Severity severity;
 
-    /** The human readable text. */
-    private final String text;
+    /** The human readable text, <code>null</code> until it is rendered by the {@link #textSupplier}. */
+    private volatile String text;
+
+    /** Renders the text on first access, <code>null</code> if the text is already rendered. */
+    private transient volatile Supplier<String> textSupplier;
 
     /** Code to identify the type of message. */
     private final String code;
@@ -98,6 +111,7 @@ public class Message implements Serializable {
     public Message(Builder builder) {
         this(builder.code, builder.text, builder.severity, builder.invalidObjectProperties, builder.replacementParams,
                 builder.markers);
+        textSupplier = builder.textSupplier;
     }
 
     /**
@@ -106,7 +120,7 @@ public class Message implements Serializable {
      * @param msg the {@link Message} to copy from
      */
     public Message(Message msg) {
-        this(msg.code, msg.text, msg.severity, msg.invalidOp, msg.replacementParameters, msg.markers);
+        this(new Builder(msg));
     }
 
     /**
@@ -345,7 +359,7 @@ public class Message implements Serializable {
                 newOp.add(objectProperty);
             }
         }
-        return new Builder(msg.text, msg.severity).code(msg.code).invalidObjects(newOp)
+        return new Builder(msg.severity).textOf(msg).code(msg.code).invalidObjects(newOp)
                 .replacements(msg.getReplacementParameters()).markers(msg.getMarkers()).create();
     }
 
@@ -367,7 +381,7 @@ public class Message implements Serializable {
                 newOp.add(objectProperty);
             }
         }
-        return new Builder(msg.text, msg.severity).code(msg.code).invalidObjects(newOp)
+        return new Builder(msg.severity).textOf(msg).code(msg.code).invalidObjects(newOp)
                 .replacements(msg.getReplacementParameters()).markers(msg.getMarkers()).create();
     }
 
@@ -472,10 +486,45 @@ public class Message implements Serializable {
         return severity;
     }
 
+    /**
+     * Returns the human readable text of this message. If the text is rendered lazily, it is
+     * rendered on the first call.
+     */
     public String getText() {
+        String result = text;
+        if (result == null) {
+            /*
+             * The supplier is cleared only after the text is set, so if there is no supplier
+             * anymore, the text has to be read again as another thread may just have rendered it.
+             */
+            result = textSupplier == null ? text : renderText();
+        }
+        return result;
+    }
+
+    /**
+     * Renders the text while holding the lock of this message, so the text supplier is called at
+     * most once even if several threads request the text at the same time.
+     */
+    private synchronized String renderText() {
+        Supplier<String> supplier = textSupplier;
+        if (supplier != null) {
+            text = supplier.get();
+            textSupplier = null;
+        }
         return text;
     }
 
+    /**
+     * Returns whether the text of this message is rendered, which is always the case if the message
+     * was not created with a lazily rendered text.
+     *
+     * @since 27.1
+     */
+    public boolean isTextRendered() {
+        return textSupplier == null;
+    }
+
     public String getCode() {
         return code;
     }
@@ -597,7 +646,7 @@ public class Message implements Serializable {
         sb.append(code);
         appendInvalidObjectProperties(sb);
         sb.append(System.lineSeparator());
-        sb.append(text);
+        sb.append(getText());
         return sb.toString();
     }
 
@@ -621,7 +670,7 @@ public class Message implements Serializable {
         if (!(o instanceof Message other)) {
             return false;
         }
-        if (!Objects.equals(code, other.code) || !Objects.equals(text, other.text) || (severity != other.severity)
+        if (!Objects.equals(code, other.code) || !Objects.equals(getText(), other.getText()) || (severity != other.severity)
                 || !Objects.equals(invalidOp, other.invalidOp)) {
             return false;
         }
@@ -632,9 +681,18 @@ public class Message implements Serializable {
         return true;
     }
 
+    /**
+     * The hash code does not depend on the text, so lazily rendered texts are not rendered to put
+     * messages into hash based collections.
+     */
     @Override
     public int hashCode() {
-        return text.hashCode();
+        return Objects.hash(code, severity);
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        getText();
+        out.defaultWriteObject();
     }
 
     /**
@@ -658,6 +716,8 @@ public class Message implements Serializable {
 
         private String text;
 
+        private Supplier<String> textSupplier;
+
         private Severity severity;
 
         private String code;
@@ -680,6 +740,18 @@ public class Message implements Serializable {
             this.severity = severity;
         }
 
+        /**
+         * Creates a new builder for a message without a text yet. Set the text with one of the
+         * <code>text</code> methods, for example {@link #text(Supplier)} to render it lazily.
+         *
+         * @param severity The message's severity: {@link #ERROR}, {@link #WARNING} or {@link #INFO}
+         *
+         * @since 27.1
+         */
+        public Builder(Severity severity) {
+            this.severity = severity;
+        }
+
         /**
          * Creates a new builder from a given {@link Message} to create a copy of the
          * {@link Message} with all information.
@@ -687,7 +759,8 @@ public class Message implements Serializable {
          * @param message the {@link Message} to copy
          */
         public Builder(Message message) {
-            this(message.text, message.severity);
+            this(message.severity);
+            textOf(message);
             code = message.code;
             invalidObjectProperties.addAll(message.getInvalidObjectProperties());
             replacementParams.addAll(message.getReplacementParameters());
@@ -713,9 +786,62 @@ public class Message implements Serializable {
          */
         public Builder text(String text) {
             this.text = text;
+            textSupplier = null;
+            return this;
+        }
+
+        /**
+         * Set a supplier rendering the message's human readable text. The supplier is called when
+         * the text of the message is first requested, so the text is not rendered if the message is
+         * only checked for its severity, code or invalid object properties.
+         *
+         * @param textSupplier Renders the human readable text of this message, called at most once
+         *            per message (and its copies)
+         * @return This builder instance to directly add further properties
+         *
+         * @since 27.1
+         */
+        public Builder text(Supplier<String> textSupplier) {
+            text = null;
+            this.textSupplier = Objects.requireNonNull(textSupplier);
             return this;
         }
 
+        /**
+         * Set the message's human readable text to the message for the given key in the given
+         * {@link MessagesHelper}, with the given replacements. The message is looked up
+         * immediately, so a missing message fails here just like
+         * {@link MessagesHelper#getMessage(String, Locale, Object...)}, but it is only formatted
+         * when the text is first requested.
+         *
+         * @param messagesHelper the {@link MessagesHelper} containing the message
+         * @param key the key of the message
+         * @param locale the locale of the message
+         * @param replacements the replacements in the message text
+         * @return This builder instance to directly add further properties
+         * @throws java.util.MissingResourceException if there is no message for the given key
+         *
+         * @see #text(Supplier)
+         * @see MessagesHelper#getMessage(String, Locale, Object...)
+         * @since 27.1
+         */
+        public Builder text(MessagesHelper messagesHelper, String key, Locale locale, Object... replacements) {
+            messagesHelper.getMessage(key, locale);
+            return text(() -> messagesHelper.getMessage(key, locale, replacements));
+        }
+
+        /**
+         * Takes the text from the given message. If it is not rendered yet, it is rendered only
+         * once for the given message and the new one.
+         */
+        Builder textOf(Message message) {
+            if (message.isTextRendered()) {
+                return text(message.getText());
+            } else {
+                return text(message::getText);
+            }
+        }
+
         /**
          * Set the message's severity, in exact {@link #ERROR}, {@link #WARNING} or {@link #INFO}.
          *
@@ -12,6 +12,8 @@ package org.faktorips.runtime;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -27,6 +29,9 @@ import org.faktorips.runtime.internal.IpsStringUtils;
 
 /**
  * A list of {@link Message Messages}.
+ * <p>
+ * Queries by code, severity, invalid object or marker search all messages unless the message list
+ * is {@link #setIndexed(boolean) indexed}.
  * 
  * @see Message
  */
@@ -35,6 +40,10 @@ public class MessageList implements Serializable, Iterable<Message> {
     private static final long serialVersionUID = 5518835977871253111L;
     private List<Message> messages = new ArrayList<>(0);
 
+    private boolean indexed;
+
+    private transient volatile MessageIndex index;
+
     /**
      * Creates an empty message list.
      */
@@ -133,6 +142,10 @@ public class MessageList implements Serializable, Iterable<Message> {
     public void add(Message message) {
         if (message != null) {
             messages.add(message);
+            MessageIndex currentIndex = index;
+            if (currentIndex != null) {
+                currentIndex.add(message);
+            }
         }
     }
 
@@ -164,7 +177,8 @@ public class MessageList implements Serializable, Iterable<Message> {
         }
         for (Message message : messageList) {
             if (override || message.getInvalidObjectProperties().size() == 0) {
-                add(new Message(message.getCode(), message.getText(), message.getSeverity(), invalidObjectProperty));
+                add(new Message.Builder(message.getSeverity()).textOf(message).code(message.getCode())
+                        .invalidObjects(invalidObjectProperty).create());
             } else {
                 add(message);
             }
@@ -246,24 +260,83 @@ public class MessageList implements Serializable, Iterable<Message> {
     }
 
     /**
-     * Returns the message list.
+     * Returns the message list. If this message list is {@link #isIndexed() indexed}, the returned
+     * list cannot be modified.
      */
     public List<Message> getMessages() {
-        return messages;
+        return indexed ? Collections.unmodifiableList(messages) : messages;
     }
 
     /**
-     * Sets the message list.
+     * Sets the message list. If this message list is {@link #isIndexed() indexed}, it keeps a copy
+     * of the given list.
      */
     public void setMessages(List<Message> messages) {
-        this.messages = messages;
+        this.messages = indexed ? new ArrayList<>(messages) : messages;
+        index = null;
+    }
+
+    /**
+     * Returns whether the queries by code, severity, invalid object or marker use an index.
+     *
+     * @see #setIndexed(boolean)
+     * @since 27.1
+     */
+    public boolean isIndexed() {
+        return indexed;
+    }
+
+    /**
+     * Sets whether the queries by code, severity, invalid object or marker use an index. This is
+     * useful for large message lists that are queried repeatedly, for example by a user interface
+     * displaying the messages for each field. Without an index, every query searches all messages.
+     * <p>
+     * The index is built on the first query and kept up to date when messages are added. Any other
+     * modification discards the index, so it is rebuilt by the next query. To make sure that the
+     * messages are not modified without this message list noticing, an indexed message list copies
+     * the messages given to {@link #setMessages(List)} and hands out only an unmodifiable list in
+     * {@link #getMessages()}. The index of invalid objects relies on their {@link Object#hashCode()
+     * hash codes} being consistent with {@link Object#equals(Object) equals}.
+     *
+     * @param indexed whether this message list should use an index
+     * @since 27.1
+     */
+    public void setIndexed(boolean indexed) {
+        if (indexed && !this.indexed) {
+            messages = new ArrayList<>(messages);
+        }
+        this.indexed = indexed;
+        index = null;
+    }
+
+    private MessageIndex index() {
+        MessageIndex currentIndex = index;
+        if (currentIndex == null) {
+            currentIndex = new MessageIndex(messages);
+            index = currentIndex;
+        }
+        return currentIndex;
+    }
+
+    private static Message first(List<Message> messages) {
+        return messages.isEmpty() ? null : messages.get(0);
+    }
+
+    private MessageList toMessageList(MessageList messageList, List<Message> messagesToAdd) {
+        for (Message message : messagesToAdd) {
+            messageList.add(message);
+        }
+        return messageList;
     }
 
     /**
      * Returns the first message with the given severity or null if none is found.
      */
     public Message getFirstMessage(Severity severity) {
-        for (Message message : getMessages()) {
+        if (indexed) {
+            return first(index().getBySeverity(severity));
+        }
+        for (Message message : messages) {
             if (message.getSeverity() == severity) {
                 return message;
             }
@@ -277,7 +350,7 @@ public class MessageList implements Serializable, Iterable<Message> {
      */
     public Message getMessageWithHighestSeverity() {
         Message result = null;
-        for (Message message : getMessages()) {
+        for (Message message : messages) {
             if ((result == null) || (result.getSeverity().compareTo(message.getSeverity()) < 0)) {
                 result = message;
             }
@@ -293,7 +366,10 @@ public class MessageList implements Serializable, Iterable<Message> {
      *            <code>null</code> as their message code.
      */
     public Message getMessageByCode(String code) {
-        for (Message message : getMessages()) {
+        if (indexed) {
+            return first(index().getByCode(code));
+        }
+        for (Message message : messages) {
             if (Objects.equals(message.getCode(), code)) {
                 return message;
             }
@@ -310,8 +386,11 @@ public class MessageList implements Serializable, Iterable<Message> {
      *            <code>null</code> as their message code.
      */
     public MessageList getMessagesByCode(String code) {
+        if (indexed) {
+            return toMessageList(createEmptyMessageList(), index().getByCode(code));
+        }
         MessageList sublist = createEmptyMessageList();
-        for (Message message : getMessages()) {
+        for (Message message : messages) {
             if (Objects.equals(message.getCode(), code)) {
                 sublist.add(message);
             }
@@ -325,8 +404,11 @@ public class MessageList implements Serializable, Iterable<Message> {
      * given severity.
      */
     public MessageList getMessagesBySeverity(Severity severity) {
+        if (indexed) {
+            return toMessageList(createEmptyMessageList(), index().getBySeverity(severity));
+        }
         MessageList messageList = createEmptyMessageList();
-        for (Message message : getMessages()) {
+        for (Message message : messages) {
             if (message.getSeverity() == severity) {
                 messageList.add(message);
             }
@@ -338,13 +420,16 @@ public class MessageList implements Serializable, Iterable<Message> {
      * Returns the number of messages in this list that have the indicated severity.
      */
     public int getNoOfMessages(Severity severity) {
-        List<Message> msgList = new ArrayList<>(getMessages().size());
-        for (Message msg : getMessages()) {
-            if (msg.getSeverity() == severity) {
-                msgList.add(msg);
+        if (indexed) {
+            return index().getBySeverity(severity).size();
+        }
+        int count = 0;
+        for (Message message : messages) {
+            if (message.getSeverity() == severity) {
+                count++;
             }
         }
-        return msgList.size();
+        return count;
     }
 
     /**
@@ -372,8 +457,11 @@ public class MessageList implements Serializable, Iterable<Message> {
      *            {@link IMarker} are returned.
      */
     public MessageList getMessagesByMarker(IMarker marker) {
+        if (indexed && marker != null) {
+            return toMessageList(new MessageList(), index().getByMarker(marker));
+        }
         MessageList sublist = new MessageList();
-        for (Message message : getMessages()) {
+        for (Message message : messages) {
             Set<? extends IMarker> markers = message.getMarkers();
             if (marker == null && markers.isEmpty() || markers.contains(marker)) {
                 sublist.add(message);
@@ -398,7 +486,7 @@ public class MessageList implements Serializable, Iterable<Message> {
             throw new NullPointerException("markerPredicate must not be null");
         }
         MessageList sublist = new MessageList();
-        messages: for (Message message : getMessages()) {
+        messages: for (Message message : this.messages) {
             for (IMarker marker : message.getMarkers()) {
                 if (markerPredicate.test(marker)) {
                     sublist.add(message);
@@ -414,8 +502,17 @@ public class MessageList implements Serializable, Iterable<Message> {
      * the list does not contain any messages, the method returns 0.
      */
     public Severity getSeverity() {
+        if (indexed) {
+            Severity[] severities = Severity.values();
+            for (int i = severities.length - 1; i > 0; i--) {
+                if (!index().getBySeverity(severities[i]).isEmpty()) {
+                    return severities[i];
+                }
+            }
+            return Severity.NONE;
+        }
         Severity severity = Severity.NONE;
-        for (Message message : getMessages()) {
+        for (Message message : messages) {
             if (message.getSeverity().compareTo(severity) > 0) {
                 severity = message.getSeverity();
             }
@@ -428,7 +525,7 @@ public class MessageList implements Serializable, Iterable<Message> {
      * separator.
      */
     public String getText() {
-        return IpsStringUtils.join(getMessages(), Message::getText, System.lineSeparator());
+        return IpsStringUtils.join(messages, Message::getText, System.lineSeparator());
     }
 
     /**
@@ -439,14 +536,18 @@ public class MessageList implements Serializable, Iterable<Message> {
      * @param message message to remove from this message list
      */
     public void remove(Message message) {
-        getMessages().remove(message);
+        messages.remove(message);
+        index = null;
     }
 
     /**
      * Returns true if one the messages in the list is an error message, otherwise false.
      */
     public boolean containsErrorMsg() {
-        for (Message message : getMessages()) {
+        if (indexed) {
+            return !index().getBySeverity(Severity.ERROR).isEmpty();
+        }
+        for (Message message : messages) {
             if (message.getSeverity() == Severity.ERROR) {
                 return true;
             }
@@ -477,7 +578,7 @@ public class MessageList implements Serializable, Iterable<Message> {
      */
     public MessageList getMessagesFor(Object object, String property, int index) {
         MessageList result = new MessageList();
-        for (Message message : getMessages()) {
+        for (Message message : indexed ? index().getByObject(object) : messages) {
             List<ObjectProperty> op = message.getInvalidObjectProperties();
             for (ObjectProperty objectProperty : op) {
                 if (objectProperty.getObject().equals(object)) {
@@ -506,7 +607,7 @@ public class MessageList implements Serializable, Iterable<Message> {
      */
     public void wrapUpMessages(String messageCode) {
         Map<String, Message> messageTextMap = new LinkedHashMap<>();
-        for (Message message : getMessages()) {
+        for (Message message : messages) {
             if (message.getCode().equals(messageCode)) {
                 Message msgByText = getMessageByText(messageTextMap, message);
                 List<ObjectProperty> newInvalidObjects = concatInvalidObject(msgByText.getInvalidObjectProperties(),
@@ -516,7 +617,8 @@ public class MessageList implements Serializable, Iterable<Message> {
                 messageTextMap.put(newMessage.getText(), newMessage);
             }
         }
-        setMessages(new ArrayList<>(messageTextMap.values()));
+        messages = new ArrayList<>(messageTextMap.values());
+        index = null;
     }
 
     private Message getMessageByText(Map<String, Message> messageTextMap, Message message) {
@@ -562,7 +664,25 @@ public class MessageList implements Serializable, Iterable<Message> {
      */
     @Override
     public Iterator<Message> iterator() {
-        return messages.iterator();
+        Iterator<Message> iterator = messages.iterator();
+        return new Iterator<>() {
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Message next() {
+                return iterator.next();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                index = null;
+            }
+        };
     }
 
     /**
@@ -570,6 +690,7 @@ public class MessageList implements Serializable, Iterable<Message> {
      */
     public void clear() {
         messages.clear();
+        index = null;
     }
 
     /**
@@ -584,7 +705,7 @@ public class MessageList implements Serializable, Iterable<Message> {
     public int hashCode() {
         final int prime = 31;
         int result = 1;
-        return prime * result + ((getMessages() == null) ? 0 : getMessages().hashCode());
+        return prime * result + ((messages == null) ? 0 : messages.hashCode());
     }
 
     @Override
@@ -597,11 +718,11 @@ public class MessageList implements Serializable, Iterable<Message> {
         }
         try {
             MessageList other = (MessageList)obj;
-            if (getMessages() == null) {
-                if (other.getMessages() != null) {
+            if (messages == null) {
+                if (other.messages != null) {
                     return false;
                 }
-            } else if (!getMessages().equals(other.getMessages())) {
+            } else if (!messages.equals(other.messages)) {
                 return false;
             }
             return true;
@@ -637,4 +758,61 @@ public class MessageList implements Serializable, Iterable<Message> {
     public Stream<Message> parallelStream() {
         return messages.parallelStream();
     }
+
+    /**
+     * Indexes the messages of a message list by code, severity, invalid object and marker. The
+     * lists in the index keep the order of the message list. An index is built completely before
+     * it is published, so several threads may query a message list at the same time. Like the
+     * message list itself, it must not be read while messages are added.
+     */
+    private static class MessageIndex {
+
+        private final Map<String, List<Message>> byCode = new HashMap<>();
+
+        private final Map<Severity, List<Message>> bySeverity = new HashMap<>(4);
+
+        private final Map<Object, List<Message>> byObject = new HashMap<>();
+
+        private final Map<IMarker, List<Message>> byMarker = new HashMap<>();
+
+        MessageIndex(List<Message> messages) {
+            for (Message message : messages) {
+                add(message);
+            }
+        }
+
+        void add(Message message) {
+            byCode.computeIfAbsent(message.getCode(), c -> new ArrayList<>(1)).add(message);
+            bySeverity.computeIfAbsent(message.getSeverity(), s -> new ArrayList<>()).add(message);
+            for (ObjectProperty objectProperty : message.getInvalidObjectProperties()) {
+                addIfNotLast(byObject.computeIfAbsent(objectProperty.getObject(), o -> new ArrayList<>(1)), message);
+            }
+            for (IMarker marker : message.getMarkers()) {
+                addIfNotLast(byMarker.computeIfAbsent(marker, m -> new ArrayList<>(1)), message);
+            }
+        }
+
+        private static void addIfNotLast(List<Message> messages, Message message) {
+            if (messages.isEmpty() || messages.get(messages.size() - 1) != message) {
+                messages.add(message);
+            }
+        }
+
+        List<Message> getByCode(String code) {
+            return byCode.getOrDefault(code, Collections.emptyList());
+        }
+
+        List<Message> getBySeverity(Severity severity) {
+            return bySeverity.getOrDefault(severity, Collections.emptyList());
+        }
+
+        List<Message> getByObject(Object object) {
+            return byObject.getOrDefault(object, Collections.emptyList());
+        }
+
+        List<Message> getByMarker(IMarker marker) {
+            return byMarker.getOrDefault(marker, Collections.emptyList());
+        }
+
+    }
 }
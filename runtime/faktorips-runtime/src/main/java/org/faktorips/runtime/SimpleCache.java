@@ -12,6 +12,9 @@ package org.faktorips.runtime;
 
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.faktorips.runtime.caching.CacheStatistics;
+import org.faktorips.runtime.caching.CacheStatisticsCounter;
+import org.faktorips.runtime.caching.ICacheStatisticsProvider;
 import org.faktorips.runtime.caching.IComputable;
 
 /**
@@ -20,10 +23,11 @@ import org.faktorips.runtime.caching.IComputable;
  * 
  * @author Jan Ortmann
  */
-public class SimpleCache implements IComputable<Object, Object> {
+public class SimpleCache implements IComputable<Object, Object>, ICacheStatisticsProvider {
 
     private final ConcurrentHashMap<Object, Object> objects;
     private final IComputable<Object, Object> computable;
+    private final CacheStatisticsCounter statistics = new CacheStatisticsCounter();
 
     public SimpleCache(IComputable<Object, Object> computable) {
         this(computable, 16);
@@ -41,14 +45,19 @@ public class SimpleCache implements IComputable<Object, Object> {
     public Object compute(Object key) throws InterruptedException {
         Object result = objects.get(key);
         if (result != null) {
+            statistics.recordHit();
             return result;
         }
         synchronized (this) {
             result = objects.get(key);
             if (result != null) {
+                statistics.recordHit();
                 return result;
             }
+            statistics.recordMiss();
+            long start = System.nanoTime();
             result = computable.compute(key);
+            statistics.recordLoad(System.nanoTime() - start);
             if (result != null) {
                 objects.put(key, result);
                 return result;
@@ -57,6 +66,11 @@ public class SimpleCache implements IComputable<Object, Object> {
         }
     }
 
+    @Override
+    public CacheStatistics getStatistics() {
+        return statistics.snapshot(objects.size());
+    }
+
     @Override
     public Class<? super Object> getValueClass() {
         return computable.getValueClass();
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import org.faktorips.runtime.internal.AbstractClassLoadingRuntimeRepository;
+import org.faktorips.runtime.internal.IpsStringUtils;
+import org.faktorips.runtime.internal.RepositorySnapshot;
+import org.faktorips.runtime.internal.toc.EnumContentTocEntry;
+import org.faktorips.runtime.internal.toc.GenerationTocEntry;
+import org.faktorips.runtime.internal.toc.ReadonlyTableOfContents;
+import org.faktorips.runtime.internal.toc.TableContentTocEntry;
+import org.faktorips.runtime.internal.toc.TocEntry;
+
+/**
+ * A runtime repository that loads the table of contents and all XML resources from a single
+ * snapshot file instead of looking up each resource via
+ * {@link ClassLoader#getResourceAsStream(String)}. The snapshot file is memory mapped, so opening
+ * the repository only reads the snapshot's index including the entries of the table of contents,
+ * without parsing any XML.
+ * <p>
+ * A snapshot is created at build time from the resources of a {@link ClassloaderRuntimeRepository}
+ * using {@link #writeSnapshot(ClassLoader, String, Path)} or by running this class' {@link #main(String[])
+ * main method}. The classes of the product model are still loaded from the given class loader.
+ */
+public class SnapshotRuntimeRepository extends AbstractClassLoadingRuntimeRepository {
+
+    private final RepositorySnapshot snapshot;
+
+    private SnapshotRuntimeRepository(RepositorySnapshot snapshot, ClassLoader cl, ICacheFactory cacheFactory) {
+        super(snapshot.getTocResourcePath(), cacheFactory, Objects.requireNonNull(cl));
+        this.snapshot = snapshot;
+        initialize();
+    }
+
+    /**
+     * Creates a new repository that loads its contents from the given snapshot file using this
+     * class' classloader.
+     *
+     * @param snapshotFile the snapshot file written by
+     *            {@link #writeSnapshot(ClassLoader, String, Path)}
+     *
+     * @throws NullPointerException if any argument is <code>null</code>.
+     * @throws IllegalArgumentException if the file is not a snapshot of a supported version.
+     * @throws RuntimeException if the snapshot file or its table of contents can't be read.
+     */
+    public static final SnapshotRuntimeRepository create(Path snapshotFile) {
+        return create(snapshotFile, SnapshotRuntimeRepository.class.getClassLoader());
+    }
+
+    /**
+     * Creates a new repository that loads its contents from the given snapshot file and its classes
+     * from the given classloader.
+     *
+     * @param snapshotFile the snapshot file written by
+     *            {@link #writeSnapshot(ClassLoader, String, Path)}
+     * @param cl The classloader to use.
+     *
+     * @throws NullPointerException if any argument is <code>null</code>.
+     * @throws IllegalArgumentException if the file is not a snapshot of a supported version.
+     * @throws RuntimeException if the snapshot file or its table of contents can't be read.
+     */
+    public static final SnapshotRuntimeRepository create(Path snapshotFile, ClassLoader cl) {
+        return create(snapshotFile, cl, new DefaultCacheFactory(cl));
+    }
+
+    /**
+     * Creates a new repository that loads its contents from the given snapshot file and its classes
+     * from the given classloader.
+     *
+     * @param snapshotFile the snapshot file written by
+     *            {@link #writeSnapshot(ClassLoader, String, Path)}
+     * @param cl The classloader to use.
+     * @param cacheFactory The CacheFactory used to create the cache objects in the repository
+     *
+     * @throws NullPointerException if any argument is <code>null</code>.
+     * @throws IllegalArgumentException if the file is not a snapshot of a supported version.
+     * @throws RuntimeException if the snapshot file or its table of contents can't be read.
+     */
+    public static final SnapshotRuntimeRepository create(Path snapshotFile,
+            ClassLoader cl,
+            ICacheFactory cacheFactory) {
+        try {
+            return new SnapshotRuntimeRepository(RepositorySnapshot.open(Objects.requireNonNull(snapshotFile)), cl,
+                    cacheFactory);
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading the repository snapshot " + snapshotFile, e);
+        }
+    }
+
+    /**
+     * Writes a snapshot of the repository described by the given ToC resource, including all
+     * product components, tables, enum contents and test cases it references, to the given file.
+     *
+     * @param cl The classloader providing the ToC and the XML resources.
+     * @param tocResource Path to the resource containing the ToC file. E.g.
+     *            "org/faktorips/sample/internal/faktorips-repository-toc.xml"
+     * @param snapshotFile the file to write, an existing file is replaced
+     *
+     * @throws IOException if a resource can't be read or the file can't be written
+     */
+    public static void writeSnapshot(ClassLoader cl, String tocResource, Path snapshotFile) throws IOException {
+        RepositorySnapshot.write(cl, tocResource, snapshotFile);
+    }
+
+    /**
+     * Writes a snapshot at build time, for example using the exec-maven-plugin with the product
+     * data on the class path.
+     * <p>
+     * Usage: <code>SnapshotRuntimeRepository &lt;tocResource&gt; &lt;snapshotFile&gt;</code>
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: SnapshotRuntimeRepository <tocResource> <snapshotFile>");
+        }
+        writeSnapshot(Thread.currentThread().getContextClassLoader(), args[0], Path.of(args[1]));
+    }
+
+    @Override
+    protected ReadonlyTableOfContents loadTableOfContents() {
+        try {
+            return snapshot.readTableOfContents(getClassLoader());
+            // CSOFF: IllegalCatch
+        } catch (Exception e) {
+            // CSON: IllegalCatch
+            throw new RuntimeException("Error loading table of contents from " + snapshot.getTocResourcePath(), e);
+        }
+    }
+
+    @Override
+    protected String getProductComponentGenerationImplClass(GenerationTocEntry tocEntry) {
+        return tocEntry.getImplementationClassName();
+    }
+
+    @Override
+    protected InputStream getXmlAsStream(TableContentTocEntry tocEntry) {
+        return getXmlAsStream((TocEntry)tocEntry);
+    }
+
+    @Override
+    protected InputStream getXmlAsStream(EnumContentTocEntry tocEntry) {
+        if (IpsStringUtils.isBlank(tocEntry.getXmlResourceName())) {
+            return InputStream.nullInputStream();
+        }
+        return getXmlAsStream((TocEntry)tocEntry);
+    }
+
+    @Override
+    protected InputStream getXmlAsStream(TocEntry tocEntry) {
+        InputStream is = snapshot.getResourceAsStream(tocEntry.getXmlResourceName());
+        if (is == null) {
+            throw new RuntimeException("Can't find resource " + tocEntry.getXmlResourceName()
+                    + " in the repository snapshot for ToC entry " + tocEntry);
+        }
+        return is;
+    }
+
+    @Override
+    public boolean isModifiable() {
+        return false;
+    }
+
+}
@@ -0,0 +1,252 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.caching;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.function.ToLongFunction;
+
+/**
+ * A thread safe caching {@link IComputable} that keeps its values with hard references but is bounded
+ * by the number of entries and/or by the total weight of its values. In contrast to the
+ * {@link Memoizer} the values are not released by the garbage collector but evicted by a segmented
+ * LRU policy as soon as one of the bounds would be exceeded.
+ * <p>
+ * New values are put into a <em>probation</em> segment. A value that is requested again is promoted
+ * to the <em>protected</em> segment, which may take up to 80% of the bounds. Values that fall out of
+ * the protected segment are demoted to the probation segment again. Eviction always removes the
+ * least recently used value of the probation segment first, so values that are used once (for
+ * example while iterating over all product components) do not displace frequently used ones.
+ * <p>
+ * Like the {@link Memoizer}, concurrent requests for the same key compute the value only once.
+ * <code>null</code> values are not cached.
+ */
+public class BoundedMemoizer<K, V> implements IComputable<K, V>, ICacheStatisticsProvider {
+
+    private static final double PROTECTED_SHARE = 0.8;
+
+    private final IComputable<K, V> computable;
+
+    private final long maximumSize;
+
+    private final long maximumWeight;
+
+    private final ToLongFunction<? super V> weigher;
+
+    private final ConcurrentMap<K, Future<V>> loading = new ConcurrentHashMap<>();
+
+    private final LinkedHashMap<K, WeightedValue<V>> probation = new LinkedHashMap<>();
+
+    private final LinkedHashMap<K, WeightedValue<V>> protectedSegment = new LinkedHashMap<>();
+
+    private long totalWeight;
+
+    private long protectedWeight;
+
+    private final CacheStatisticsCounter statistics = new CacheStatisticsCounter();
+
+    /**
+     * Creates a new {@link BoundedMemoizer} that holds at most the given number of values.
+     *
+     * @param computable the {@link IComputable} to load new items
+     * @param maximumSize the maximum number of cached values
+     */
+    public BoundedMemoizer(IComputable<K, V> computable, long maximumSize) {
+        this(computable, maximumSize, Long.MAX_VALUE, v -> 1);
+    }
+
+    /**
+     * Creates a new {@link BoundedMemoizer} bounded by the number of values as well as by their total
+     * weight. Use {@link Long#MAX_VALUE} for a bound that should not be applied. A value that is
+     * heavier than the maximum weight on its own is returned but never cached.
+     *
+     * @param computable the {@link IComputable} to load new items
+     * @param maximumSize the maximum number of cached values
+     * @param maximumWeight the maximum sum of the weights of all cached values
+     * @param weigher the function estimating the weight of a value, must not return negative values
+     */
+    public BoundedMemoizer(IComputable<K, V> computable, long maximumSize, long maximumWeight,
+            ToLongFunction<? super V> weigher) {
+        if (maximumSize < 0 || maximumWeight < 0) {
+            throw new IllegalArgumentException("The bounds of a cache must not be negative");
+        }
+        this.computable = computable;
+        this.maximumSize = maximumSize;
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+    }
+
+    @Override
+    public V compute(final K key) throws InterruptedException {
+        // In case of CancellationException we want to try again - in all other cases we exit with
+        // return or throwing an exception
+        while (true) {
+            V cached = getIfPresent(key);
+            if (cached != null) {
+                statistics.recordHit();
+                return cached;
+            }
+            Future<V> future = loading.get(key);
+            FutureTask<V> futureTask = null;
+            if (future == null) {
+                Callable<V> eval = () -> {
+                    // another thread may have finished loading the value in the meantime
+                    V value = getIfPresent(key);
+                    if (value == null) {
+                        long start = System.nanoTime();
+                        value = computable.compute(key);
+                        statistics.recordLoad(System.nanoTime() - start);
+                        put(key, value);
+                    }
+                    return value;
+                };
+                futureTask = new FutureTask<>(eval);
+                future = loading.putIfAbsent(key, futureTask);
+                if (future == null) {
+                    future = futureTask;
+                    futureTask.run();
+                }
+            }
+            try {
+                V value = future.get();
+                if (future == futureTask) {
+                    statistics.recordMiss();
+                } else {
+                    statistics.recordHit();
+                }
+                return value;
+            } catch (CancellationException e) {
+                loading.remove(key, future);
+                // try again: while (true)
+            } catch (ExecutionException e) {
+                throw Memoizer.launderThrowable(e.getCause());
+            } finally {
+                if (future == futureTask) {
+                    loading.remove(key, futureTask);
+                }
+            }
+        }
+    }
+
+    private synchronized V getIfPresent(K key) {
+        WeightedValue<V> weightedValue = protectedSegment.remove(key);
+        if (weightedValue != null) {
+            protectedSegment.put(key, weightedValue);
+            return weightedValue.value();
+        }
+        weightedValue = probation.remove(key);
+        if (weightedValue != null) {
+            protectedSegment.put(key, weightedValue);
+            protectedWeight += weightedValue.weight();
+            demoteFromProtectedSegment();
+            return weightedValue.value();
+        }
+        return null;
+    }
+
+    private synchronized void put(K key, V value) {
+        if (value == null || maximumSize == 0) {
+            return;
+        }
+        long weight = weigher.applyAsLong(value);
+        if (weight < 0) {
+            throw new IllegalStateException("The weight of a cached value must not be negative: " + value);
+        }
+        if (weight > maximumWeight || probation.containsKey(key) || protectedSegment.containsKey(key)) {
+            return;
+        }
+        probation.put(key, new WeightedValue<>(value, weight));
+        totalWeight += weight;
+        evict();
+    }
+
+    private void demoteFromProtectedSegment() {
+        long maxProtectedSize = (long)(maximumSize * PROTECTED_SHARE);
+        long maxProtectedWeight = (long)(maximumWeight * PROTECTED_SHARE);
+        while (protectedSegment.size() > 1
+                && (protectedSegment.size() > maxProtectedSize || protectedWeight > maxProtectedWeight)) {
+            Entry<K, WeightedValue<V>> eldest = removeEldest(protectedSegment);
+            protectedWeight -= eldest.getValue().weight();
+            probation.put(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    private void evict() {
+        while (size() > maximumSize || totalWeight > maximumWeight) {
+            Entry<K, WeightedValue<V>> eldest;
+            if (!probation.isEmpty()) {
+                eldest = removeEldest(probation);
+            } else {
+                eldest = removeEldest(protectedSegment);
+                protectedWeight -= eldest.getValue().weight();
+            }
+            totalWeight -= eldest.getValue().weight();
+            statistics.recordEviction();
+        }
+    }
+
+    private static <K, V> Entry<K, V> removeEldest(LinkedHashMap<K, V> segment) {
+        Iterator<Entry<K, V>> iterator = segment.entrySet().iterator();
+        Entry<K, V> eldest = iterator.next();
+        iterator.remove();
+        return eldest;
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        return statistics.snapshot(size());
+    }
+
+    /**
+     * Returns the number of currently cached values.
+     */
+    public synchronized int size() {
+        return probation.size() + protectedSegment.size();
+    }
+
+    /**
+     * Returns the sum of the weights of all currently cached values.
+     */
+    public synchronized long getWeight() {
+        return totalWeight;
+    }
+
+    /**
+     * Returns the maximum number of values held by this cache.
+     */
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns the maximum sum of weights of the values held by this cache.
+     */
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    @Override
+    public Class<? super V> getValueClass() {
+        return computable.getValueClass();
+    }
+
+    private record WeightedValue<V>(V value, long weight) {
+    }
+
+}
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.caching;
+
+/**
+ * An immutable snapshot of the statistics of a cache.
+ * <p>
+ * A <em>hit</em> is a request that could be answered from the cache, a <em>miss</em> a request that
+ * had to wait for a value being computed. Every miss usually leads to a <em>load</em>, that is a
+ * call of the underlying {@link IComputable}. The <em>eviction count</em> is the number of values
+ * removed from the cache, either because the garbage collector cleared their soft references or
+ * because a bounded cache was full.
+ *
+ * @see ICacheStatisticsProvider
+ */
+public final class CacheStatistics {
+
+    private final long hitCount;
+
+    private final long missCount;
+
+    private final long loadCount;
+
+    private final long totalLoadTime;
+
+    private final long evictionCount;
+
+    private final long size;
+
+    public CacheStatistics(long hitCount, long missCount, long loadCount, long totalLoadTime, long evictionCount,
+            long size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadCount = loadCount;
+        this.totalLoadTime = totalLoadTime;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    /**
+     * Returns the number of requests that could be answered from the cache.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of requests that could not be answered from the cache.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of requests.
+     */
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Returns the ratio of requests that could be answered from the cache, or 1.0 if there was no
+     * request yet.
+     */
+    public double getHitRate() {
+        long requestCount = getRequestCount();
+        return requestCount == 0 ? 1.0 : (double)hitCount / requestCount;
+    }
+
+    /**
+     * Returns the ratio of requests that could not be answered from the cache, or 0.0 if there was
+     * no request yet.
+     */
+    public double getMissRate() {
+        long requestCount = getRequestCount();
+        return requestCount == 0 ? 0.0 : (double)missCount / requestCount;
+    }
+
+    /**
+     * Returns the number of values computed by the underlying {@link IComputable}.
+     */
+    public long getLoadCount() {
+        return loadCount;
+    }
+
+    /**
+     * Returns the total time in nanoseconds spent computing values.
+     */
+    public long getTotalLoadTime() {
+        return totalLoadTime;
+    }
+
+    /**
+     * Returns the average time in nanoseconds spent computing a value.
+     */
+    public double getAverageLoadPenalty() {
+        return loadCount == 0 ? 0.0 : (double)totalLoadTime / loadCount;
+    }
+
+    /**
+     * Returns the number of values that were removed from the cache, because their soft references
+     * were cleared or because the cache was full.
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the number of values in the cache at the time this snapshot was taken.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics [hitCount=" + hitCount + ", missCount=" + missCount + ", loadCount=" + loadCount
+                + ", totalLoadTime=" + totalLoadTime + ", evictionCount=" + evictionCount + ", size=" + size + "]";
+    }
+
+}
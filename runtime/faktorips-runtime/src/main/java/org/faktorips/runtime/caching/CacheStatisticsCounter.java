@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.caching;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread safe counter used by caches to record their {@link CacheStatistics}.
+ */
+public class CacheStatisticsCounter {
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder loadCount = new LongAdder();
+
+    private final LongAdder totalLoadTime = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    public void recordHit() {
+        hitCount.increment();
+    }
+
+    public void recordMiss() {
+        missCount.increment();
+    }
+
+    /**
+     * Records a call of the underlying {@link IComputable} that took the given time.
+     *
+     * @param loadTime the time in nanoseconds spent computing the value
+     */
+    public void recordLoad(long loadTime) {
+        loadCount.increment();
+        totalLoadTime.add(loadTime);
+    }
+
+    public void recordEviction() {
+        evictionCount.increment();
+    }
+
+    /**
+     * Creates a snapshot of the current counts.
+     *
+     * @param size the current number of values in the cache
+     */
+    public CacheStatistics snapshot(long size) {
+        return new CacheStatistics(hitCount.sum(), missCount.sum(), loadCount.sum(), totalLoadTime.sum(),
+                evictionCount.sum(), size);
+    }
+
+}
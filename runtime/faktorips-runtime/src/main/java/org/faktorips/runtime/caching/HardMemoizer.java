@@ -26,9 +26,10 @@ import java.util.function.Function;
  * It is called "hard" to differentiate it from the previous {@link Memoizer} using
  * {@link SoftReference SoftReferences}.
  */
-public class HardMemoizer<A, V> implements IComputable<A, V> {
+public class HardMemoizer<A, V> implements IComputable<A, V>, ICacheStatisticsProvider {
     private final ConcurrentMap<A, Future<V>> cache = new ConcurrentHashMap<>();
     private final IComputable<A, V> computable;
+    private final CacheStatisticsCounter statistics = new CacheStatisticsCounter();
 
     private HardMemoizer(IComputable<A, V> computable) {
         this.computable = computable;
@@ -70,9 +71,15 @@ public class HardMemoizer<A, V> implements IComputable<A, V> {
     public V compute(final A arg) throws InterruptedException {
         while (true) {
             Future<V> f = cache.get(arg);
+            FutureTask<V> ft = null;
             if (f == null) {
-                Callable<V> eval = () -> computable.compute(arg);
-                FutureTask<V> ft = new FutureTask<>(eval);
+                Callable<V> eval = () -> {
+                    long start = System.nanoTime();
+                    V computed = computable.compute(arg);
+                    statistics.recordLoad(System.nanoTime() - start);
+                    return computed;
+                };
+                ft = new FutureTask<>(eval);
                 f = cache.putIfAbsent(arg, ft);
                 if (f == null) {
                     f = ft;
@@ -80,7 +87,13 @@ public class HardMemoizer<A, V> implements IComputable<A, V> {
                 }
             }
             try {
-                return f.get();
+                V value = f.get();
+                if (f == ft) {
+                    statistics.recordMiss();
+                } else {
+                    statistics.recordHit();
+                }
+                return value;
             } catch (CancellationException e) {
                 cache.remove(arg, f);
             } catch (ExecutionException e) {
@@ -88,4 +101,9 @@ public class HardMemoizer<A, V> implements IComputable<A, V> {
             }
         }
     }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        return statistics.snapshot(cache.size());
+    }
 }
\ No newline at end of file
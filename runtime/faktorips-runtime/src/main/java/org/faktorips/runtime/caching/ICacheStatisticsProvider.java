@@ -0,0 +1,23 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.caching;
+
+/**
+ * A cache that records statistics about its usage.
+ */
+public interface ICacheStatisticsProvider {
+
+    /**
+     * Returns a snapshot of the statistics recorded since this cache was created.
+     */
+    CacheStatistics getStatistics();
+
+}
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.caching;
+
+import java.util.Map;
+
+/**
+ * Management interface exposing the {@link CacheStatistics} of the caches of a runtime repository
+ * via JMX.
+ *
+ * @see org.faktorips.runtime.internal.AbstractCachingRuntimeRepository#registerCacheStatisticsMBean()
+ */
+public interface IRepositoryCacheStatisticsMXBean {
+
+    /**
+     * Returns the name of the runtime repository.
+     */
+    String getRepositoryName();
+
+    /**
+     * Returns the statistics of the repository's caches by the qualified name of the cached values'
+     * class.
+     */
+    Map<String, CacheStatistics> getCacheStatistics();
+
+}
@@ -31,7 +31,7 @@ import java.util.function.Function;
  *
  * @author dirmeier
  */
-public class Memoizer<K, V> implements IComputable<K, V> {
+public class Memoizer<K, V> implements IComputable<K, V>, ICacheStatisticsProvider {
 
     private final ConcurrentMap<K, Future<SoftValue<V>>> cache;
 
@@ -39,6 +39,8 @@ public class Memoizer<K, V> implements IComputable<K, V> {
 
     private final ReferenceQueue<V> queue = new ReferenceQueue<>();
 
+    private final CacheStatisticsCounter statistics = new CacheStatisticsCounter();
+
     /**
      * The constructor to create a Memoizer with default values for the internal ConcurrentHashMap.
      *
@@ -86,15 +88,18 @@ public class Memoizer<K, V> implements IComputable<K, V> {
         // all other cases we exit with return or throwing an exception
         while (true) {
             Future<SoftValue<V>> future = cache.get(key);
+            FutureTask<SoftValue<V>> futureTask = null;
             if (future == null) {
                 Callable<SoftValue<V>> eval = () -> {
+                    long start = System.nanoTime();
                     V computed = computable.compute(key);
+                    statistics.recordLoad(System.nanoTime() - start);
                     if (computed == null) {
                         return null;
                     }
                     return new SoftValue<>(key, computed, queue);
                 };
-                FutureTask<SoftValue<V>> futureTask = new FutureTask<>(eval);
+                futureTask = new FutureTask<>(eval);
                 processQueue();
                 future = cache.putIfAbsent(key, futureTask);
                 if (future == null) {
@@ -107,13 +112,17 @@ public class Memoizer<K, V> implements IComputable<K, V> {
                 if (softValue == null) {
                     // computable returned null
                     cache.remove(key);
+                    recordRequest(future == futureTask);
                     return null;
-                } else if (softValue.get() == null) {
+                }
+                V value = softValue.get();
+                if (value == null) {
                     // softreference was garbaged
                     cache.remove(softValue.key);
                     // try again: while (true)
                 } else {
-                    return softValue.get();
+                    recordRequest(future == futureTask);
+                    return value;
                 }
             } catch (CancellationException e) {
                 cache.remove(key, future);
@@ -124,6 +133,14 @@ public class Memoizer<K, V> implements IComputable<K, V> {
         }
     }
 
+    private void recordRequest(boolean loaded) {
+        if (loaded) {
+            statistics.recordMiss();
+        } else {
+            statistics.recordHit();
+        }
+    }
+
     /**
      * Go through the ReferenceQueue and remove garbage collected SoftValue objects.
      */
@@ -132,9 +149,22 @@ public class Memoizer<K, V> implements IComputable<K, V> {
         while ((ref = queue.poll()) != null) {
             SoftValue<? extends V> sv = (SoftValue<? extends V>)ref;
             cache.remove(sv.key);
+            statistics.recordEviction();
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The eviction count is the number of values whose soft references were cleared by the garbage
+     * collector.
+     */
+    @Override
+    public CacheStatistics getStatistics() {
+        processQueue();
+        return statistics.snapshot(cache.size());
+    }
+
     /**
      * Coerce an unchecked Throwable to a RuntimeException
      * <p>
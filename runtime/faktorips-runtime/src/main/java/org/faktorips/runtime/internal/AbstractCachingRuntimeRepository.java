@@ -10,20 +10,30 @@
 
 package org.faktorips.runtime.internal;
 
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
 import org.faktorips.runtime.GenerationId;
 import org.faktorips.runtime.ICacheFactory;
 import org.faktorips.runtime.IProductComponent;
 import org.faktorips.runtime.IProductComponentGeneration;
 import org.faktorips.runtime.IRuntimeRepository;
 import org.faktorips.runtime.ITable;
+import org.faktorips.runtime.caching.CacheStatistics;
+import org.faktorips.runtime.caching.ICacheStatisticsProvider;
 import org.faktorips.runtime.caching.IComputable;
+import org.faktorips.runtime.caching.IRepositoryCacheStatisticsMXBean;
 import org.faktorips.runtime.xml.IIpsXmlAdapter;
 import org.faktorips.values.DefaultInternationalString;
 import org.faktorips.values.InternationalString;
@@ -200,4 +210,85 @@ public abstract class AbstractCachingRuntimeRepository extends AbstractRuntimeRe
         }
         return new DefaultInternationalString(new ArrayList<>(), Locale.getDefault());
     }
+
+    /**
+     * Returns the statistics of the caches of this repository by the class of the cached values, for
+     * example {@link IProductComponent}, {@link IProductComponentGeneration}, {@link ITable} and
+     * {@link IpsEnum}. Caches created by an {@link ICacheFactory} that do not record statistics are
+     * omitted.
+     *
+     * @see ICacheStatisticsProvider
+     */
+    public Map<Class<?>, CacheStatistics> getCacheStatistics() {
+        Map<Class<?>, CacheStatistics> statistics = new LinkedHashMap<>();
+        addCacheStatistics(statistics, productCmptCache);
+        addCacheStatistics(statistics, productCmptGenerationCache);
+        addCacheStatistics(statistics, tableCacheByQName);
+        addCacheStatistics(statistics, enumValuesCacheByClass);
+        new ArrayList<>(customRuntimeObjectsByTypeCache.values())
+                .forEach(cache -> addCacheStatistics(statistics, cache));
+        return statistics;
+    }
+
+    private static void addCacheStatistics(Map<Class<?>, CacheStatistics> statistics, IComputable<?, ?> cache) {
+        if (cache instanceof ICacheStatisticsProvider statisticsProvider) {
+            statistics.put(cache.getValueClass(), statisticsProvider.getStatistics());
+        }
+    }
+
+    /**
+     * Registers an {@link IRepositoryCacheStatisticsMXBean} for this repository at the platform
+     * {@link MBeanServer}, so the {@link #getCacheStatistics() cache statistics} can be monitored
+     * using JMX.
+     *
+     * @return the name under which the MBean was registered
+     * @see #unregisterCacheStatisticsMBean()
+     */
+    public ObjectName registerCacheStatisticsMBean() {
+        IRepositoryCacheStatisticsMXBean mxBean = new IRepositoryCacheStatisticsMXBean() {
+
+            @Override
+            public String getRepositoryName() {
+                return getName();
+            }
+
+            @Override
+            public Map<String, CacheStatistics> getCacheStatistics() {
+                Map<String, CacheStatistics> statistics = new LinkedHashMap<>();
+                AbstractCachingRuntimeRepository.this.getCacheStatistics()
+                        .forEach((valueClass, cacheStatistics) -> statistics.put(valueClass.getName(),
+                                cacheStatistics));
+                return statistics;
+            }
+        };
+        try {
+            ObjectName objectName = getCacheStatisticsObjectName();
+            ManagementFactory.getPlatformMBeanServer()
+                    .registerMBean(new StandardMBean(mxBean, IRepositoryCacheStatisticsMXBean.class, true), objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Removes the MBean registered by {@link #registerCacheStatisticsMBean()} from the platform
+     * {@link MBeanServer}. Does nothing if there is no such MBean.
+     */
+    public void unregisterCacheStatisticsMBean() {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = getCacheStatisticsObjectName();
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private ObjectName getCacheStatisticsObjectName() throws JMException {
+        return new ObjectName("org.faktorips.runtime:type=RepositoryCacheStatistics,name="
+                + ObjectName.quote(getName()));
+    }
 }
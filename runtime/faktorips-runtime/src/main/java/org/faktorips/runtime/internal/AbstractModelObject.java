@@ -11,6 +11,8 @@
 package org.faktorips.runtime.internal;
 
 import java.util.HashMap;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
 
 import org.faktorips.runtime.IModelObject;
@@ -37,6 +39,40 @@ public abstract class AbstractModelObject implements IModelObject {
         // empty default implementation
     }
 
+    /**
+     * Replaces every target of an association that was copied by its copy in the given copy map.
+     * The targets keep their order and targets that were not copied are kept.
+     * <p>
+     * Used by the generated copy support to link the associations of a copy to the copied targets.
+     *
+     * @param targets the (modifiable) targets of the association in the copy
+     * @param copyMap the copies by their original objects
+     * @since 27.1
+     */
+    @SuppressWarnings("unchecked")
+    protected static <T> void replaceCopiedTargets(List<T> targets, Map<IModelObject, IModelObject> copyMap) {
+        for (ListIterator<T> targetIterator = targets.listIterator(); targetIterator.hasNext();) {
+            IModelObject copy = copyMap.get(targetIterator.next());
+            if (copy != null) {
+                targetIterator.set((T)copy);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the given original object is shared with instead of copied to the copy
+     * created with the given copy map. This is only the case for a {@link SharingCopyMap}.
+     * <p>
+     * Used by the generated copy support to create a sharing copy.
+     *
+     * @param original the object to copy
+     * @param copyMap the copies by their original objects
+     * @since 27.1
+     */
+    protected static boolean isSharedInCopy(IModelObject original, Map<IModelObject, IModelObject> copyMap) {
+        return copyMap instanceof SharingCopyMap sharingCopyMap && sharingCopyMap.isShared(original);
+    }
+
     @Override
     public MessageList validate(IValidationContext context) {
         if (context == null) {
@@ -67,6 +103,21 @@ public abstract class AbstractModelObject implements IModelObject {
         validateDependants(list, context);
     }
 
+    /**
+     * Validates only this policy component's state without validating the dependant components, by
+     * calling {@link #validateSelf(MessageList, IValidationContext)}.
+     *
+     * @return <code>true</code> if the dependant components should be validated, <code>false</code>
+     *             else.
+     *
+     *             This method is model internal, it is not part of the published interface and
+     *             should not be used by clients
+     * @since 27.1
+     */
+    public boolean validateSelfInternal(MessageList list, IValidationContext context) {
+        return validateSelf(list, context);
+    }
+
     /**
      * Validates the policy component's dependant components and adds any message generated to the
      * given list.
@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -24,6 +25,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.faktorips.runtime.IEnumValueLookupService;
 import org.faktorips.runtime.IModelObject;
@@ -67,10 +69,17 @@ public abstract class AbstractRuntimeRepository implements IRuntimeRepository {
 
     private Map<Class<?>, IEnumValueLookupService<?>> enumValueLookups = new ConcurrentHashMap<>();
 
+    // the enum values of extensible enums by their id, see getEnumValue(Class, Object)
+    private final Map<Class<?>, EnumValueIndex> enumValueIndices = new ConcurrentHashMap<>();
+
+    private final AtomicInteger enumValuesModificationCount = new AtomicInteger();
+
     private IFormulaEvaluatorFactory formulaEvaluatorFactory;
 
     private IRuntimeRepositoryLookup runtimeRepositoryLookup;
 
+    private volatile boolean cachingProductComponentLinkTargets;
+
     public AbstractRuntimeRepository(String name) {
         this.name = Objects.requireNonNull(name);
     }
@@ -91,6 +100,32 @@ public abstract class AbstractRuntimeRepository implements IRuntimeRepository {
         return name;
     }
 
+    /**
+     * Returns whether {@link ProductComponentLink product component links} of product components
+     * in this repository keep their target once it has been resolved.
+     *
+     * @see #setCachingProductComponentLinkTargets(boolean)
+     */
+    public boolean isCachingProductComponentLinkTargets() {
+        return cachingProductComponentLinkTargets;
+    }
+
+    /**
+     * Defines whether {@link ProductComponentLink product component links} of product components
+     * in this repository keep their target once it has been resolved, so navigating the product
+     * structure does not need to look up the target in the repository again. Disabled by default.
+     * <p>
+     * Cached targets are strongly referenced by the links' sources and are not updated if the
+     * target is replaced in the repository later on. Only enable this for repositories whose
+     * product components do not change and whose caches are large enough to hold the product
+     * components reachable by links anyway.
+     *
+     * @see AbstractTocBasedRuntimeRepository#warmUp(WarmUpOptions)
+     */
+    public void setCachingProductComponentLinkTargets(boolean cachingProductComponentLinkTargets) {
+        this.cachingProductComponentLinkTargets = cachingProductComponentLinkTargets;
+    }
+
     @Override
     public String toString() {
         return name;
@@ -710,34 +745,74 @@ public abstract class AbstractRuntimeRepository implements IRuntimeRepository {
         if (lookup != null) {
             return lookup.getEnumValue(id);
         }
-        String methodName = "";
+        if (!clazz.isEnum()) {
+            return clazz.cast(getEnumValueIndex(clazz).valuesById().get(id));
+        }
+        try {
+            Method valueByIdMethod = clazz.getDeclaredMethod("getValueById", String.class); // $NON-NLS-1$
+            Object value = valueByIdMethod.invoke(null, id);
+            return (T)value;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(
+                    "The provided enumeration class doesn't provide an identifying method getValueById.", e); //$NON-NLS-1$
+        } catch (SecurityException | IllegalAccessException | InvocationTargetException e) {
+            throw unableToCallMethodException(e);
+        }
+    }
+
+    /**
+     * Returns the index of the values of the given extensible enum by their id. The index contains
+     * the values of this and all referenced repositories and is created with the first lookup. It
+     * is created again if the enum values of this or one of the referenced repositories
+     * {@link #enumValuesChanged() have changed} since.
+     */
+    private EnumValueIndex getEnumValueIndex(Class<?> clazz) {
+        int modificationCount = getEnumValuesModificationCount();
+        EnumValueIndex index = enumValueIndices.get(clazz);
+        if (index == null || index.modificationCount() != modificationCount) {
+            index = createEnumValueIndex(clazz, modificationCount);
+            enumValueIndices.put(clazz, index);
+        }
+        return index;
+    }
 
+    private EnumValueIndex createEnumValueIndex(Class<?> clazz, int modificationCount) {
         try {
-            if (!clazz.isEnum()) {
-                methodName = "getEnumValueId";
-                List<T> enumValues = getEnumValues(clazz);
-                Method enumValueIdMethod = clazz.getDeclaredMethod(methodName); // $NON-NLS-1$
-                enumValueIdMethod.setAccessible(true);
-                for (T enumValue : enumValues) {
-                    Object idValue = enumValueIdMethod.invoke(enumValue);
-                    if (id.equals(idValue)) {
-                        return enumValue;
-                    }
+            Method enumValueIdMethod = clazz.getDeclaredMethod("getEnumValueId"); // $NON-NLS-1$
+            enumValueIdMethod.setAccessible(true);
+            List<?> enumValues = getEnumValuesOriginal(clazz);
+            Map<Object, Object> valuesById = new HashMap<>(enumValues.size() * 4 / 3 + 1);
+            for (Object enumValue : enumValues) {
+                Object idValue = enumValueIdMethod.invoke(enumValue);
+                if (idValue != null) {
+                    valuesById.putIfAbsent(idValue, enumValue);
                 }
-            } else {
-                methodName = "getValueById";
-                Method valueByIdMethod = clazz.getDeclaredMethod(methodName, String.class); // $NON-NLS-1$
-                Object value = valueByIdMethod.invoke(null, id);
-                return (T)value;
             }
+            return new EnumValueIndex(modificationCount, valuesById);
         } catch (NoSuchMethodException e) {
             throw new IllegalArgumentException(
-                    "The provided enumeration class doesn't provide an identifying method " + methodName + ".", e); //$NON-NLS-1$
+                    "The provided enumeration class doesn't provide an identifying method getEnumValueId.", e); //$NON-NLS-1$
         } catch (SecurityException | IllegalAccessException | InvocationTargetException e) {
-            throwUnableToCallMethodException(e);
+            throw unableToCallMethodException(e);
         }
-        return null;
+    }
 
+    private int getEnumValuesModificationCount() {
+        int modificationCount = enumValuesModificationCount.get();
+        for (IRuntimeRepository repository : getAllReferencedRepositories()) {
+            modificationCount += ((AbstractRuntimeRepository)repository).enumValuesModificationCount.get();
+        }
+        return modificationCount;
+    }
+
+    /**
+     * Must be called by subclasses whenever enum values are added to or removed from this
+     * repository after it has been created, so that {@link #getEnumValue(Class, Object)} does not
+     * use an outdated index of the enum values in this or in any repository referencing this one.
+     */
+    protected void enumValuesChanged() {
+        enumValuesModificationCount.incrementAndGet();
+        enumValueIndices.clear();
     }
 
     @Override
@@ -753,8 +828,8 @@ public abstract class AbstractRuntimeRepository implements IRuntimeRepository {
         return result;
     }
 
-    private void throwUnableToCallMethodException(Exception e) {
-        throw new IllegalStateException("Unable to call the getEnumValueId of the provided enumeration value.", e); //$NON-NLS-1$
+    private IllegalStateException unableToCallMethodException(Exception e) {
+        return new IllegalStateException("Unable to call the getEnumValueId of the provided enumeration value.", e); //$NON-NLS-1$
     }
 
     @Override
@@ -804,6 +879,7 @@ public abstract class AbstractRuntimeRepository implements IRuntimeRepository {
     @Override
     public void addEnumValueLookupService(IEnumValueLookupService<?> lookup) {
         enumValueLookups.put(lookup.getEnumTypeClass(), lookup);
+        enumValuesChanged();
     }
 
     @Override
@@ -826,6 +902,7 @@ public abstract class AbstractRuntimeRepository implements IRuntimeRepository {
     @Override
     public void removeEnumValueLookupService(IEnumValueLookupService<?> lookup) {
         enumValueLookups.remove(lookup.getEnumTypeClass());
+        enumValuesChanged();
     }
 
     /**
@@ -924,4 +1001,12 @@ public abstract class AbstractRuntimeRepository implements IRuntimeRepository {
     public void setRuntimeRepositoryLookup(IRuntimeRepositoryLookup repositoryLookup) {
         runtimeRepositoryLookup = repositoryLookup;
     }
+
+    /**
+     * The values of an extensible enum by their id, created when the enum values of all
+     * repositories had the given modification count.
+     */
+    private record EnumValueIndex(int modificationCount, Map<Object, Object> valuesById) {
+    }
+
 }
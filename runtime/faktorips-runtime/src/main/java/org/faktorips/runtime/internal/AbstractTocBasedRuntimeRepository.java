@@ -22,13 +22,18 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.faktorips.runtime.GenerationId;
 import org.faktorips.runtime.ICacheFactory;
 import org.faktorips.runtime.IProductComponent;
 import org.faktorips.runtime.IProductComponentGeneration;
+import org.faktorips.runtime.IProductComponentLink;
+import org.faktorips.runtime.IProductObject;
 import org.faktorips.runtime.IRuntimeRepository;
 import org.faktorips.runtime.ITable;
+import org.faktorips.runtime.internal.WarmUpOptions.Content;
 import org.faktorips.runtime.internal.toc.CustomTocEntryObject;
 import org.faktorips.runtime.internal.toc.EnumContentTocEntry;
 import org.faktorips.runtime.internal.toc.GenerationTocEntry;
@@ -268,6 +273,90 @@ public abstract class AbstractTocBasedRuntimeRepository extends AbstractCachingR
         setTableOfContents(loadTableOfContents());
     }
 
+    /**
+     * Loads all product components, generations, tables and enum contents of this repository into
+     * the caches, using the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+     *
+     * @see #warmUp(WarmUpOptions)
+     */
+    public CompletableFuture<Integer> warmUp() {
+        return warmUp(new WarmUpOptions());
+    }
+
+    /**
+     * Loads the content of this repository's table of contents into the caches in parallel, so later
+     * requests do not have to wait for the objects being read from XML. Referenced repositories are
+     * not warmed up.
+     * <p>
+     * Note that warming up only keeps the objects if the caches created by the {@link ICacheFactory}
+     * are large enough to hold them. Link targets resolved because of
+     * {@link WarmUpOptions#setResolvingLinkTargets(boolean)} are kept by the links if the
+     * repository {@link #setCachingProductComponentLinkTargets(boolean) caches link targets}.
+     *
+     * @param options defining the executor, which kinds of content should be loaded and the
+     *            progress listener
+     * @return a future completing with the number of loaded objects when all objects are loaded, or
+     *             exceptionally if any object could not be loaded
+     */
+    public CompletableFuture<Integer> warmUp(WarmUpOptions options) {
+        List<TocEntry> entries = new ArrayList<>();
+        List<Runnable> loaders = new ArrayList<>();
+        for (ProductCmptTocEntry entry : toc.getProductCmptTocEntries()) {
+            if (options.getFilter().test(entry)) {
+                if (options.getContents().contains(Content.PRODUCT_COMPONENTS)) {
+                    entries.add(entry);
+                    loaders.add(() -> resolveLinkTargets(getProductComponentInternal(entry.getIpsObjectId()),
+                            options));
+                }
+                if (options.getContents().contains(Content.PRODUCT_COMPONENT_GENERATIONS)) {
+                    for (GenerationTocEntry generationEntry : entry.getGenerationEntries()) {
+                        entries.add(generationEntry);
+                        loaders.add(() -> resolveLinkTargets(getProductComponentGenerationInternal(
+                                entry.getIpsObjectId(), generationEntry.getValidFrom()), options));
+                    }
+                }
+            }
+        }
+        if (options.getContents().contains(Content.TABLES)) {
+            for (TableContentTocEntry entry : toc.getTableTocEntries()) {
+                if (options.getFilter().test(entry)) {
+                    entries.add(entry);
+                    loaders.add(() -> getTableInternal(entry.getIpsObjectQualifiedName()));
+                }
+            }
+        }
+        if (options.getContents().contains(Content.ENUM_CONTENTS)) {
+            for (EnumContentTocEntry entry : toc.getEnumContentTocEntries()) {
+                // entries without XML resource only reference enum types without content
+                if (IpsStringUtils.isNotEmpty(entry.getXmlResourceName()) && options.getFilter().test(entry)) {
+                    entries.add(entry);
+                    loaders.add(() -> getEnumValuesInternal(
+                            getClass(entry.getImplementationClassName(), getClassLoader())));
+                }
+            }
+        }
+        int totalCount = entries.size();
+        AtomicInteger loadedCount = new AtomicInteger();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[totalCount];
+        for (int i = 0; i < totalCount; i++) {
+            TocEntry entry = entries.get(i);
+            Runnable loader = loaders.get(i);
+            futures[i] = CompletableFuture.runAsync(() -> {
+                loader.run();
+                options.getProgressListener().loaded(entry, loadedCount.incrementAndGet(), totalCount);
+            }, options.getExecutor());
+        }
+        return CompletableFuture.allOf(futures).thenApply(v -> totalCount);
+    }
+
+    private void resolveLinkTargets(IProductObject productObject, WarmUpOptions options) {
+        if (options.isResolvingLinkTargets() && productObject != null) {
+            for (IProductComponentLink<? extends IProductComponent> link : productObject.getLinks()) {
+                link.getTarget();
+            }
+        }
+    }
+
     /**
      * Returns the class for the given qualified class name.
      *
@@ -33,6 +33,7 @@ import org.faktorips.runtime.IProductComponent;
 import org.faktorips.runtime.IProductComponentGeneration;
 import org.faktorips.runtime.IRuntimeRepository;
 import org.faktorips.runtime.ITable;
+import org.faktorips.runtime.caching.BoundedMemoizer;
 import org.faktorips.runtime.internal.productvariant.ProductVariantRuntimeHelper;
 import org.faktorips.runtime.internal.toc.CustomTocEntryObject;
 import org.faktorips.runtime.internal.toc.EnumContentTocEntry;
@@ -51,7 +52,6 @@ import org.faktorips.values.DefaultInternationalString;
 import org.faktorips.values.InternationalString;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
@@ -65,6 +65,8 @@ public abstract class AbstractXmlInputStreamRepository extends AbstractTocBasedR
 
     private final ProductVariantRuntimeHelper productVariantHelper = new ProductVariantRuntimeHelper();
 
+    private volatile BoundedMemoizer<ProductCmptTocEntry, ProductComponentDocument> productCmptDocumentCache;
+
     public AbstractXmlInputStreamRepository(String name, ICacheFactory cacheFactory, ClassLoader cl) {
         super(name, cacheFactory, cl);
     }
@@ -121,17 +123,21 @@ public abstract class AbstractXmlInputStreamRepository extends AbstractTocBasedR
 
     @Override
     protected IProductComponent createProductCmpt(ProductCmptTocEntry tocEntry) {
-        Element prodCmptElement = getDocumentElement(tocEntry);
+        Element prodCmptElement = getProductComponentDocument(tocEntry).getProductCmptElement();
         ProductComponent productCmpt;
-        if (!getProductVariantHelper().isProductVariantXML(prodCmptElement)) {
-            productCmpt = createProductComponentInstance(tocEntry.getImplementationClassName(),
-                    tocEntry.getIpsObjectId(), tocEntry.getKindId(), tocEntry.getVersionId());
-            productCmpt.initFromXml(prodCmptElement);
-        } else {
-            ProductComponent originalProdCmpt = getProductVariantHelper().getOriginalProdCmpt(this, prodCmptElement);
-            productCmpt = createProductComponentInstance(originalProdCmpt.getClass().getName(),
-                    tocEntry.getIpsObjectId(), tocEntry.getKindId(), tocEntry.getVersionId());
-            getProductVariantHelper().initProductComponentVariation(originalProdCmpt, productCmpt, prodCmptElement);
+        synchronized (ProductComponentDocument.getLock(prodCmptElement)) {
+            if (!getProductVariantHelper().isProductVariantXML(prodCmptElement)) {
+                productCmpt = createProductComponentInstance(tocEntry.getImplementationClassName(),
+                        tocEntry.getIpsObjectId(), tocEntry.getKindId(), tocEntry.getVersionId());
+                productCmpt.initFromXml(prodCmptElement);
+            } else {
+                ProductComponent originalProdCmpt = getProductVariantHelper().getOriginalProdCmpt(this,
+                        prodCmptElement);
+                productCmpt = createProductComponentInstance(originalProdCmpt.getClass().getName(),
+                        tocEntry.getIpsObjectId(), tocEntry.getKindId(), tocEntry.getVersionId());
+                getProductVariantHelper().initProductComponentVariation(originalProdCmpt, productCmpt,
+                        prodCmptElement);
+            }
         }
         productCmpt.setQualifiedName(tocEntry.getIpsObjectQualifiedName());
         return productCmpt;
@@ -139,20 +145,23 @@ public abstract class AbstractXmlInputStreamRepository extends AbstractTocBasedR
 
     @Override
     protected IProductComponentGeneration createProductCmptGeneration(GenerationTocEntry generationTocEntry) {
+        // the product component must be loaded before locking the document it may be read from
+        ProductComponent productCmpt = (ProductComponent)getProductComponent(
+                generationTocEntry.getParent().getIpsObjectId());
         Element genElement = getDocumentElement(generationTocEntry);
-        if (!getProductVariantHelper().isProductVariantXML(genElement)) {
-            ProductComponent productCmpt = (ProductComponent)getProductComponent(
-                    generationTocEntry.getParent().getIpsObjectId());
-            if (productCmpt == null) {
-                throw new RuntimeException("Can't get product component for toc entry " + generationTocEntry);
+        synchronized (ProductComponentDocument.getLock(genElement)) {
+            if (!getProductVariantHelper().isProductVariantXML(genElement)) {
+                if (productCmpt == null) {
+                    throw new RuntimeException("Can't get product component for toc entry " + generationTocEntry);
+                }
+                ProductComponentGeneration productCmptGen = createProductComponentGenerationInstance(
+                        generationTocEntry, productCmpt);
+                productCmptGen.initFromXml(genElement);
+                return productCmptGen;
+            } else {
+                return getProductVariantHelper().initProductComponentGenerationVariation(this, generationTocEntry,
+                        genElement);
             }
-            ProductComponentGeneration productCmptGen = createProductComponentGenerationInstance(generationTocEntry,
-                    productCmpt);
-            productCmptGen.initFromXml(genElement);
-            return productCmptGen;
-        } else {
-            return getProductVariantHelper().initProductComponentGenerationVariation(this, generationTocEntry,
-                    genElement);
         }
     }
 
@@ -212,22 +221,47 @@ public abstract class AbstractXmlInputStreamRepository extends AbstractTocBasedR
 
     /**
      * This method returns the xml element of the product component generation identified by the
-     * tocEntry
+     * tocEntry. The element is taken from the {@link #getProductComponentDocument(ProductCmptTocEntry)
+     * product component's document}, so the product component's XML is parsed only once for all of
+     * its generations.
      */
     protected Element getDocumentElement(GenerationTocEntry tocEntry) {
-        Element docElement = getDocumentElement(tocEntry.getParent());
-        NodeList nl = docElement.getChildNodes();
-        DateTime validFrom = tocEntry.getValidFrom();
-        for (int i = 0; i < nl.getLength(); i++) {
-            if ("Generation".equals(nl.item(i).getNodeName())) {
-                Element genElement = (Element)nl.item(i);
-                DateTime generationValidFrom = DateTime.parseIso(genElement.getAttribute("validFrom"));
-                if (validFrom.equals(generationValidFrom)) {
-                    return genElement;
+        Element genElement = getProductComponentDocument(tocEntry.getParent())
+                .getGenerationElement(tocEntry.getValidFrom());
+        if (genElement == null) {
+            throw new RuntimeException("Can't find the generation for the ToC entry " + tocEntry);
+        }
+        return genElement;
+    }
+
+    /**
+     * Returns the parsed XML of the product component identified by the tocEntry. The documents of
+     * recently loaded product components are cached, so loading the product component and its
+     * generations requires only one call of {@link #getDocumentElement(ProductCmptTocEntry)}.
+     * <p>
+     * The elements of the returned document are shared between threads. Reading them must be
+     * synchronized on {@link ProductComponentDocument#getLock(Element)}.
+     */
+    protected ProductComponentDocument getProductComponentDocument(ProductCmptTocEntry tocEntry) {
+        try {
+            return getProductComponentDocumentCache().compute(tocEntry);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private BoundedMemoizer<ProductCmptTocEntry, ProductComponentDocument> getProductComponentDocumentCache() {
+        BoundedMemoizer<ProductCmptTocEntry, ProductComponentDocument> cache = productCmptDocumentCache;
+        if (cache == null) {
+            synchronized (this) {
+                cache = productCmptDocumentCache;
+                if (cache == null) {
+                    cache = ProductComponentDocument.createCache(this::getDocumentElement);
+                    productCmptDocumentCache = cache;
                 }
             }
         }
-        throw new RuntimeException("Can't find the generation for the ToC entry " + tocEntry);
+        return cache;
     }
 
     /**
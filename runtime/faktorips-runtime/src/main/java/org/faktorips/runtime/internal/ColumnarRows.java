@@ -0,0 +1,361 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.internal;
+
+import java.math.BigInteger;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+import org.faktorips.values.Decimal;
+
+/**
+ * A list of table rows that stores the rows' values column by column instead of keeping the row
+ * objects. {@link Integer}, {@link Long} and {@link Decimal} columns are stored in primitive arrays,
+ * all other columns, for example {@link String} columns, are dictionary encoded so that every
+ * distinct value is kept only once.
+ * <p>
+ * Rows are decomposed into their column values when they are {@link #add(Object) added} and
+ * created again by the row factory whenever they are {@link #get(int) read}. Reading the same row
+ * twice therefore returns two different but equivalent row objects. Apart from adding rows the list
+ * is unmodifiable.
+ * <p>
+ * A {@link Table} stores its rows in this list if it {@link Table#createColumnarRows() creates}
+ * one. The search structures of the table then only refer to the indices of their rows, see
+ * {@link Table#createResultStructure(Object, int)}.
+ *
+ * @param <R> the type of the rows
+ */
+public class ColumnarRows<R> extends AbstractList<R> implements RandomAccess {
+
+    private static final int INITIAL_CAPACITY = 200;
+
+    private final Column<R>[] columns;
+
+    private final Function<Object[], ? extends R> rowFactory;
+
+    private int size;
+
+    private ColumnarRows(Column<R>[] columns, Function<Object[], ? extends R> rowFactory) {
+        this.columns = columns;
+        this.rowFactory = rowFactory;
+    }
+
+    /**
+     * Creates a {@link Builder} to define the columns of a {@link ColumnarRows} list.
+     */
+    public static <R> Builder<R> builder() {
+        return new Builder<>();
+    }
+
+    @Override
+    public boolean add(R row) {
+        for (Column<R> column : columns) {
+            column.add(size, row);
+        }
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public R get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Object[] values = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            values[i] = columns[i].get(index);
+        }
+        return rowFactory.apply(values);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of distinct values in the given column if it is dictionary encoded or
+     * <code>-1</code> if it is stored in a primitive array.
+     */
+    public int getDictionarySize(int columnIndex) {
+        return columns[columnIndex] instanceof DictionaryColumn<R> dictionaryColumn
+                ? dictionaryColumn.dictionary.size()
+                : -1;
+    }
+
+    /**
+     * Trims the capacity of the column arrays to the number of rows and releases the lookup maps
+     * used to encode the dictionary columns. Rows may still be added afterwards.
+     */
+    public void trimToSize() {
+        for (Column<R> column : columns) {
+            column.trimToSize(size);
+        }
+    }
+
+    /**
+     * Builder defining the columns of {@link ColumnarRows}.
+     */
+    public static class Builder<R> {
+
+        private final List<Column<R>> columns = new ArrayList<>();
+
+        private Builder() {
+            // use ColumnarRows.builder()
+        }
+
+        /**
+         * Adds a column of the given type. The column is stored in a primitive array for
+         * {@link Integer}, {@link Long} and {@link Decimal} and dictionary encoded for all other
+         * types.
+         *
+         * @param type the type of the column's values
+         * @param getter the function reading the column's value from a row
+         */
+        public <T> Builder<R> column(Class<T> type, Function<? super R, ? extends T> getter) {
+            if (Integer.class.equals(type)) {
+                columns.add(new IntegerColumn<>(getter));
+            } else if (Long.class.equals(type)) {
+                columns.add(new LongColumn<>(getter));
+            } else if (Decimal.class.equals(type)) {
+                columns.add(new DecimalColumn<>(getter));
+            } else {
+                columns.add(new DictionaryColumn<>(getter));
+            }
+            return this;
+        }
+
+        /**
+         * Creates the {@link ColumnarRows} list.
+         *
+         * @param rowFactory the function creating a row from the values of all columns, in the
+         *            order the columns were added
+         */
+        @SuppressWarnings("unchecked")
+        public ColumnarRows<R> build(Function<Object[], ? extends R> rowFactory) {
+            return new ColumnarRows<>(columns.toArray(new Column[columns.size()]), rowFactory);
+        }
+
+    }
+
+    private abstract static class Column<R> {
+
+        private final Function<? super R, ?> getter;
+
+        Column(Function<? super R, ?> getter) {
+            this.getter = getter;
+        }
+
+        void add(int index, R row) {
+            set(index, getter.apply(row));
+        }
+
+        abstract void set(int index, Object value);
+
+        abstract Object get(int index);
+
+        abstract void trimToSize(int size);
+
+        static int newCapacity(int capacity, int index) {
+            return Math.max(index + 1, Math.max(INITIAL_CAPACITY, capacity + (capacity >> 1)));
+        }
+
+    }
+
+    private static final class DictionaryColumn<R> extends Column<R> {
+
+        private final List<Object> dictionary = new ArrayList<>();
+
+        private Map<Object, Integer> codes = new HashMap<>();
+
+        private int[] values = new int[0];
+
+        DictionaryColumn(Function<? super R, ?> getter) {
+            super(getter);
+        }
+
+        @Override
+        void set(int index, Object value) {
+            if (index >= values.length) {
+                values = Arrays.copyOf(values, newCapacity(values.length, index));
+            }
+            if (codes == null) {
+                codes = new HashMap<>();
+                for (int i = 0; i < dictionary.size(); i++) {
+                    codes.put(dictionary.get(i), i);
+                }
+            }
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = dictionary.size();
+                dictionary.add(value);
+                codes.put(value, code);
+            }
+            values[index] = code;
+        }
+
+        @Override
+        Object get(int index) {
+            return dictionary.get(values[index]);
+        }
+
+        @Override
+        void trimToSize(int size) {
+            values = Arrays.copyOf(values, size);
+            ((ArrayList<Object>)dictionary).trimToSize();
+            codes = null;
+        }
+
+    }
+
+    private static final class IntegerColumn<R> extends Column<R> {
+
+        private final BitSet nulls = new BitSet();
+
+        private int[] values = new int[0];
+
+        IntegerColumn(Function<? super R, ?> getter) {
+            super(getter);
+        }
+
+        @Override
+        void set(int index, Object value) {
+            if (index >= values.length) {
+                values = Arrays.copyOf(values, newCapacity(values.length, index));
+            }
+            if (value == null) {
+                nulls.set(index);
+            } else {
+                values[index] = (Integer)value;
+            }
+        }
+
+        @Override
+        Object get(int index) {
+            return nulls.get(index) ? null : Integer.valueOf(values[index]);
+        }
+
+        @Override
+        void trimToSize(int size) {
+            values = Arrays.copyOf(values, size);
+        }
+
+    }
+
+    private static final class LongColumn<R> extends Column<R> {
+
+        private final BitSet nulls = new BitSet();
+
+        private long[] values = new long[0];
+
+        LongColumn(Function<? super R, ?> getter) {
+            super(getter);
+        }
+
+        @Override
+        void set(int index, Object value) {
+            if (index >= values.length) {
+                values = Arrays.copyOf(values, newCapacity(values.length, index));
+            }
+            if (value == null) {
+                nulls.set(index);
+            } else {
+                values[index] = (Long)value;
+            }
+        }
+
+        @Override
+        Object get(int index) {
+            return nulls.get(index) ? null : Long.valueOf(values[index]);
+        }
+
+        @Override
+        void trimToSize(int size) {
+            values = Arrays.copyOf(values, size);
+        }
+
+    }
+
+    /**
+     * Stores decimals as unscaled long value and scale. {@link Decimal#NULL}, <code>null</code> and
+     * decimals whose unscaled value does not fit into a long are marked by special scales, the
+     * latter are kept in a separate map.
+     */
+    private static final class DecimalColumn<R> extends Column<R> {
+
+        private static final int NULL_SCALE = Integer.MIN_VALUE;
+
+        private static final int DECIMAL_NULL_SCALE = Integer.MIN_VALUE + 1;
+
+        private static final int LARGE_VALUE_SCALE = Integer.MIN_VALUE + 2;
+
+        private final Map<Integer, Decimal> largeValues = new HashMap<>();
+
+        private long[] unscaledValues = new long[0];
+
+        private int[] scales = new int[0];
+
+        DecimalColumn(Function<? super R, ?> getter) {
+            super(getter);
+        }
+
+        @Override
+        void set(int index, Object value) {
+            if (index >= scales.length) {
+                int newCapacity = newCapacity(scales.length, index);
+                unscaledValues = Arrays.copyOf(unscaledValues, newCapacity);
+                scales = Arrays.copyOf(scales, newCapacity);
+            }
+            Decimal decimal = (Decimal)value;
+            if (decimal == null) {
+                scales[index] = NULL_SCALE;
+            } else if (decimal.isNull()) {
+                scales[index] = DECIMAL_NULL_SCALE;
+            } else {
+                BigInteger unscaledValue = decimal.bigDecimalValue().unscaledValue();
+                if (unscaledValue.bitLength() < Long.SIZE && decimal.scale() > LARGE_VALUE_SCALE) {
+                    unscaledValues[index] = unscaledValue.longValue();
+                    scales[index] = decimal.scale();
+                } else {
+                    scales[index] = LARGE_VALUE_SCALE;
+                    largeValues.put(index, decimal);
+                }
+            }
+        }
+
+        @Override
+        Object get(int index) {
+            int scale = scales[index];
+            return switch (scale) {
+                case NULL_SCALE -> null;
+                case DECIMAL_NULL_SCALE -> Decimal.NULL;
+                case LARGE_VALUE_SCALE -> largeValues.get(index);
+                default -> Decimal.valueOf(unscaledValues[index], scale);
+            };
+        }
+
+        @Override
+        void trimToSize(int size) {
+            unscaledValues = Arrays.copyOf(unscaledValues, size);
+            scales = Arrays.copyOf(scales, size);
+        }
+
+    }
+
+}
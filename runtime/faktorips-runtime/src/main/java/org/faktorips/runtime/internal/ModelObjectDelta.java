@@ -30,6 +30,7 @@ import org.faktorips.runtime.IModelObjectDelta;
 import org.faktorips.runtime.IModelObjectDeltaVisitor;
 import org.faktorips.runtime.ITimedConfigurableModelObject;
 import org.faktorips.runtime.internal.delta.ChildDeltaCreator;
+import org.faktorips.runtime.internal.delta.DeltaComputationContext;
 import org.faktorips.runtime.model.IpsModel;
 import org.faktorips.runtime.model.type.AssociationKind;
 import org.faktorips.runtime.model.type.PolicyAttribute;
@@ -326,7 +327,7 @@ public class ModelObjectDelta implements IModelObjectDelta {
             return;
         }
         if (!options.areValuesEqual(modelClass, property, value1, value2)) {
-            markPropertyChanged(property);
+            markPropertyChanged(property, options);
         }
 
     }
@@ -336,7 +337,7 @@ public class ModelObjectDelta implements IModelObjectDelta {
             return;
         }
         if (value1 != value2) {
-            markPropertyChanged(property);
+            markPropertyChanged(property, options);
         }
     }
 
@@ -345,7 +346,7 @@ public class ModelObjectDelta implements IModelObjectDelta {
             return;
         }
         if (value1 != value2) {
-            markPropertyChanged(property);
+            markPropertyChanged(property, options);
         }
     }
 
@@ -354,7 +355,7 @@ public class ModelObjectDelta implements IModelObjectDelta {
             return;
         }
         if (value1 != value2) {
-            markPropertyChanged(property);
+            markPropertyChanged(property, options);
         }
     }
 
@@ -363,7 +364,7 @@ public class ModelObjectDelta implements IModelObjectDelta {
             return;
         }
         if (value1 != value2) {
-            markPropertyChanged(property);
+            markPropertyChanged(property, options);
         }
     }
 
@@ -372,10 +373,15 @@ public class ModelObjectDelta implements IModelObjectDelta {
             return;
         }
         if (value1 != value2) {
-            markPropertyChanged(property);
+            markPropertyChanged(property, options);
         }
     }
 
+    private void markPropertyChanged(String property, IDeltaComputationOptions options) {
+        markPropertyChanged(property);
+        DeltaComputationContext.changeDetected(options);
+    }
+
     /**
      * Marks the given property as having a different value in the model object and the reference
      * model object.
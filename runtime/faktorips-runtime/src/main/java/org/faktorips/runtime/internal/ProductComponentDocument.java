@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.xml.parsers.DocumentBuilder;
+
+import org.faktorips.runtime.caching.BoundedMemoizer;
+import org.faktorips.runtime.caching.IComputable;
+import org.faktorips.runtime.internal.toc.GenerationTocEntry;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * The parsed XML of a product component together with an index of its generation elements by their
+ * valid from date. Parsing a product component once and keeping this document for a while allows
+ * loading all of its generations without parsing the XML again for every generation.
+ * <p>
+ * DOM implementations are not thread safe, even for read access. Callers reading the elements of a
+ * shared document must therefore synchronize on {@link #getLock(Element)}.
+ */
+public class ProductComponentDocument {
+
+    /**
+     * The number of documents kept by a cache created with {@link #createCache(Function)}.
+     */
+    public static final int CACHE_SIZE = 100;
+
+    private final Element productCmptElement;
+
+    private Map<DateTime, Element> generationElements;
+
+    public ProductComponentDocument(Element productCmptElement) {
+        this.productCmptElement = productCmptElement;
+    }
+
+    /**
+     * Returns the object to synchronize on while reading the given element, that is its owner
+     * document or the element itself if it has none.
+     */
+    public static Object getLock(Element element) {
+        Document ownerDocument = element.getOwnerDocument();
+        return ownerDocument == null ? element : ownerDocument;
+    }
+
+    /**
+     * Creates a cache for the documents of recently loaded product components. Usually a product
+     * component and its generations are loaded shortly after each other, so only a small number of
+     * documents needs to be kept.
+     *
+     * @param loader the function parsing the XML of a product component, identified by the cache's
+     *            key
+     */
+    public static <K> BoundedMemoizer<K, ProductComponentDocument> createCache(Function<K, Element> loader) {
+        return new BoundedMemoizer<>(
+                IComputable.of(ProductComponentDocument.class, loader.andThen(ProductComponentDocument::new)),
+                CACHE_SIZE);
+    }
+
+    /**
+     * Returns the XML element of the product component.
+     */
+    public Element getProductCmptElement() {
+        return productCmptElement;
+    }
+
+    /**
+     * Returns the XML element of the generation valid from the given date or <code>null</code> if
+     * there is no such generation. The generation elements are indexed in a single pass on first
+     * access.
+     */
+    public Element getGenerationElement(DateTime validFrom) {
+        return getGenerationElements().get(validFrom);
+    }
+
+    /**
+     * Returns a copy of the XML element of the product component in a new document. Unlike the
+     * shared element, the copy can be read without synchronization.
+     *
+     * @param documentBuilder the builder creating the new document
+     */
+    public Element copyProductCmptElement(DocumentBuilder documentBuilder) {
+        return copy(productCmptElement, documentBuilder);
+    }
+
+    /**
+     * Returns a copy of the XML element of the generation valid from the given date in a new
+     * document or <code>null</code> if there is no such generation. Unlike the shared element, the
+     * copy can be read without synchronization.
+     *
+     * @param validFrom the valid from date of the generation
+     * @param documentBuilder the builder creating the new document
+     */
+    public Element copyGenerationElement(DateTime validFrom, DocumentBuilder documentBuilder) {
+        Element genElement = getGenerationElement(validFrom);
+        return genElement == null ? null : copy(genElement, documentBuilder);
+    }
+
+    private Element copy(Element element, DocumentBuilder documentBuilder) {
+        Document document = documentBuilder.newDocument();
+        Element copy;
+        synchronized (getLock(element)) {
+            copy = (Element)document.importNode(element, true);
+        }
+        document.appendChild(copy);
+        return copy;
+    }
+
+    /**
+     * Returns the number of generation elements in this document.
+     */
+    public int getNumberOfGenerations() {
+        return getGenerationElements().size();
+    }
+
+    private Map<DateTime, Element> getGenerationElements() {
+        synchronized (getLock(productCmptElement)) {
+            if (generationElements == null) {
+                generationElements = indexGenerationElements();
+            }
+            return generationElements;
+        }
+    }
+
+    private Map<DateTime, Element> indexGenerationElements() {
+        Map<DateTime, Element> index = new HashMap<>();
+        NodeList nl = productCmptElement.getChildNodes();
+        for (int i = 0; i < nl.getLength(); i++) {
+            Node node = nl.item(i);
+            if (GenerationTocEntry.XML_TAG.equals(node.getNodeName())) {
+                Element genElement = (Element)node;
+                index.putIfAbsent(DateTime.parseIso(genElement.getAttribute(GenerationTocEntry.PROPERTY_VALID_FROM)),
+                        genElement);
+            }
+        }
+        return index;
+    }
+
+}
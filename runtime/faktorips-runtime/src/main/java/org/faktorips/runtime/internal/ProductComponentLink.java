@@ -17,6 +17,7 @@ import org.faktorips.runtime.IProductComponent;
 import org.faktorips.runtime.IProductComponentGeneration;
 import org.faktorips.runtime.IProductComponentLink;
 import org.faktorips.runtime.IProductComponentLinkSource;
+import org.faktorips.runtime.IRuntimeRepository;
 import org.faktorips.values.InternationalString;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -39,6 +40,7 @@ public class ProductComponentLink<T extends IProductComponent> extends RuntimeOb
     private String targetId;
     private String associationName;
     private InternationalString description;
+    private volatile T target;
 
     /**
      * Creates a new link for the given product component generation. Target and cardinality must be
@@ -151,6 +153,7 @@ public class ProductComponentLink<T extends IProductComponent> extends RuntimeOb
     public void initFromXml(Element element) {
         associationName = element.getAttribute("association");
         targetId = element.getAttribute("targetRuntimeId");
+        target = null;
         targetName = element.getAttribute("target");
         String maxStr = element.getAttribute("maxCardinality");
         Integer maxCardinality = null;
@@ -187,11 +190,28 @@ public class ProductComponentLink<T extends IProductComponent> extends RuntimeOb
         return linkElement;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The target is looked up in the source's repository. If the repository
+     * {@link AbstractRuntimeRepository#isCachingProductComponentLinkTargets() caches link targets},
+     * it is looked up only once and kept by this link.
+     */
     @Override
     @SuppressWarnings("unchecked")
     public T getTarget() {
+        T cachedTarget = target;
+        if (cachedTarget != null) {
+            return cachedTarget;
+        }
         try {
-            return (T)source.getRepository().getExistingProductComponent(targetId);
+            IRuntimeRepository repository = source.getRepository();
+            T resolvedTarget = (T)repository.getExistingProductComponent(targetId);
+            if (repository instanceof AbstractRuntimeRepository abstractRepository
+                    && abstractRepository.isCachingProductComponentLinkTargets()) {
+                target = resolvedTarget;
+            }
+            return resolvedTarget;
         } catch (NullPointerException e) {
             return null;
         }
@@ -0,0 +1,474 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.internal;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.transform.TransformerException;
+
+import org.faktorips.runtime.internal.toc.AbstractReadonlyTableOfContents;
+import org.faktorips.runtime.internal.toc.EnumContentTocEntry;
+import org.faktorips.runtime.internal.toc.EnumXmlAdapterTocEntry;
+import org.faktorips.runtime.internal.toc.FormulaTestTocEntry;
+import org.faktorips.runtime.internal.toc.GenerationTocEntry;
+import org.faktorips.runtime.internal.toc.PolicyCmptTypeTocEntry;
+import org.faktorips.runtime.internal.toc.ProductCmptTocEntry;
+import org.faktorips.runtime.internal.toc.ProductCmptTypeTocEntry;
+import org.faktorips.runtime.internal.toc.ReadonlyTableOfContents;
+import org.faktorips.runtime.internal.toc.TableContentTocEntry;
+import org.faktorips.runtime.internal.toc.TestCaseTocEntry;
+import org.faktorips.runtime.internal.toc.TocEntryObject;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * A snapshot of all XML resources of a runtime repository, that is its table of contents and the
+ * XML of all product components, tables, enum contents, test cases and custom objects, in a single
+ * binary file. The file is memory mapped when opened, so the resources are read without looking
+ * them up in the class path one by one.
+ * <p>
+ * The file consists of
+ * <ol>
+ * <li>the magic number {@value #MAGIC_NUMBER} and the format {@value #VERSION},</li>
+ * <li>the contents of all resources, one after the other,</li>
+ * <li>the entries of the table of contents, that is the product data version, the number of
+ * entries and each entry's type followed by its properties, so the table of contents is read
+ * without parsing its XML. Entries created by other {@link org.faktorips.runtime.internal.toc.ITocEntryFactory
+ * ITocEntryFactories} than the base ones are stored as their XML element,</li>
+ * <li>the index, that is the path of the table of contents resource, the offset and length of the
+ * table of contents entries, the number of resources and for each resource its path, offset and
+ * length,</li>
+ * <li>the offset of the index as the last eight bytes.</li>
+ * </ol>
+ * Numbers are written in big endian byte order, strings in modified UTF-8 as written by
+ * {@link DataOutputStream#writeUTF(String)}.
+ */
+public class RepositorySnapshot {
+
+    /**
+     * The magic number every snapshot file starts with, "FIPS" in ASCII.
+     */
+    public static final int MAGIC_NUMBER = 0x46495053;
+
+    /**
+     * The version of the snapshot format.
+     */
+    public static final int VERSION = 2;
+
+    private static final int HEADER_LENGTH = 8;
+
+    private static final byte PRODUCT_CMPT_ENTRY = 1;
+    private static final byte TABLE_CONTENT_ENTRY = 2;
+    private static final byte TEST_CASE_ENTRY = 3;
+    private static final byte FORMULA_TEST_ENTRY = 4;
+    private static final byte ENUM_CONTENT_ENTRY = 5;
+    private static final byte ENUM_XML_ADAPTER_ENTRY = 6;
+    private static final byte PRODUCT_CMPT_TYPE_ENTRY = 7;
+    private static final byte POLICY_CMPT_TYPE_ENTRY = 8;
+    private static final byte XML_ENTRY = 9;
+
+    private final ByteBuffer buffer;
+
+    private final String tocResourcePath;
+
+    private final Resource tocEntries;
+
+    private final Map<String, Resource> resources;
+
+    private RepositorySnapshot(ByteBuffer buffer, String tocResourcePath, Resource tocEntries,
+            Map<String, Resource> resources) {
+        this.buffer = buffer;
+        this.tocResourcePath = tocResourcePath;
+        this.tocEntries = tocEntries;
+        this.resources = resources;
+    }
+
+    /**
+     * Opens the given snapshot file by mapping it into memory. Only the index is read eagerly, the
+     * resources are read when requested.
+     *
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a snapshot of a supported version
+     */
+    public static RepositorySnapshot open(Path snapshotFile) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("The snapshot " + snapshotFile + " exceeds the maximum size of "
+                        + Integer.MAX_VALUE + " bytes.");
+            }
+            buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.limit() < HEADER_LENGTH + Long.BYTES || buffer.getInt(0) != MAGIC_NUMBER) {
+            throw new IllegalArgumentException(snapshotFile + " is not a repository snapshot.");
+        }
+        if (buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new IllegalArgumentException("The snapshot " + snapshotFile + " has the unsupported version "
+                    + buffer.getInt(Integer.BYTES) + ".");
+        }
+        int indexOffset = (int)buffer.getLong(buffer.limit() - Long.BYTES);
+        try (DataInputStream index = new DataInputStream(
+                new ByteBufferInputStream(buffer.slice(indexOffset, buffer.limit() - Long.BYTES - indexOffset)))) {
+            String tocResourcePath = index.readUTF();
+            Resource tocEntries = new Resource(index.readInt(), index.readInt());
+            int count = index.readInt();
+            Map<String, Resource> resources = new HashMap<>(count * 4 / 3 + 1);
+            for (int i = 0; i < count; i++) {
+                resources.put(index.readUTF(), new Resource(index.readInt(), index.readInt()));
+            }
+            return new RepositorySnapshot(buffer, tocResourcePath, tocEntries, resources);
+        }
+    }
+
+    /**
+     * Writes a snapshot of the repository described by the given table of contents resource to the
+     * given file. The table of contents and all resources it references are read from the given
+     * class loader.
+     *
+     * @param cl the class loader providing the resources
+     * @param tocResourcePath the path of the table of contents resource, e.g.
+     *            "org/faktorips/sample/internal/faktorips-repository-toc.xml"
+     * @param snapshotFile the file the snapshot is written to, an existing file is replaced
+     *
+     * @throws IOException if a resource cannot be read or the file cannot be written
+     */
+    public static void write(ClassLoader cl, String tocResourcePath, Path snapshotFile) throws IOException {
+        Element tocElement = readTableOfContents(cl, tocResourcePath);
+        ReadonlyTableOfContents toc = new ReadonlyTableOfContents(cl);
+        List<TocEntryObject> entries = new ArrayList<>();
+        List<Element> entryElements = new ArrayList<>();
+        for (Node node = tocElement.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node instanceof Element entryElement) {
+                entries.add(toc.createEntryFromXml(entryElement));
+                entryElements.add(entryElement);
+            }
+        }
+        Set<String> resourcePaths = new LinkedHashSet<>();
+        resourcePaths.add(tocResourcePath);
+        for (TocEntryObject entry : entries) {
+            addResourcePath(resourcePaths, entry.getXmlResourceName());
+            if (entry instanceof ProductCmptTocEntry productCmptEntry) {
+                productCmptEntry.getGenerationEntries()
+                        .forEach(g -> addResourcePath(resourcePaths, g.getXmlResourceName()));
+            }
+        }
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(snapshotFile)))) {
+            out.writeInt(MAGIC_NUMBER);
+            out.writeInt(VERSION);
+            Map<String, Resource> resources = new HashMap<>();
+            for (String resourcePath : resourcePaths) {
+                int offset = out.size();
+                try (InputStream is = getResourceAsStream(cl, resourcePath)) {
+                    is.transferTo(out);
+                }
+                resources.put(resourcePath, new Resource(offset, out.size() - offset));
+            }
+            int tocEntriesOffset = out.size();
+            out.writeUTF(tocElement.getAttribute(AbstractReadonlyTableOfContents.PRODUCT_DATA_VERSION_XML_ELEMENT));
+            out.writeInt(entries.size());
+            for (int i = 0; i < entries.size(); i++) {
+                writeEntry(out, entries.get(i), entryElements.get(i));
+            }
+            int indexOffset = out.size();
+            out.writeUTF(tocResourcePath);
+            out.writeInt(tocEntriesOffset);
+            out.writeInt(indexOffset - tocEntriesOffset);
+            out.writeInt(resources.size());
+            for (String resourcePath : resourcePaths) {
+                Resource resource = resources.get(resourcePath);
+                out.writeUTF(resourcePath);
+                out.writeInt(resource.offset());
+                out.writeInt(resource.length());
+            }
+            out.writeLong(indexOffset);
+            if (out.size() == Integer.MAX_VALUE) {
+                throw new IOException("The snapshot " + snapshotFile + " exceeds the maximum size of "
+                        + Integer.MAX_VALUE + " bytes.");
+            }
+        }
+    }
+
+    private static void addResourcePath(Set<String> resourcePaths, String resourcePath) {
+        if (IpsStringUtils.isNotBlank(resourcePath)) {
+            resourcePaths.add(resourcePath);
+        }
+    }
+
+    private static Element readTableOfContents(ClassLoader cl, String tocResourcePath) throws IOException {
+        try (InputStream is = getResourceAsStream(cl, tocResourcePath)) {
+            return XmlUtil.getDocumentBuilder()
+                    .parse(new InputSource(new InputStreamReader(is, StandardCharsets.UTF_8))).getDocumentElement();
+        } catch (SAXException e) {
+            throw new IOException("Error loading table of contents from " + tocResourcePath, e);
+        }
+    }
+
+    // CSOFF: CyclomaticComplexity
+    private static void writeEntry(DataOutputStream out, TocEntryObject entry, Element entryElement)
+            throws IOException {
+        Class<?> entryClass = entry.getClass();
+        if (entryClass == ProductCmptTocEntry.class) {
+            ProductCmptTocEntry productCmptEntry = (ProductCmptTocEntry)entry;
+            writeEntryObject(out, PRODUCT_CMPT_ENTRY, entry);
+            writeString(out, productCmptEntry.getKindId());
+            writeString(out, productCmptEntry.getVersionId());
+            writeString(out, productCmptEntry.getGenerationImplClassName());
+            writeString(out, productCmptEntry.getValidTo() == null ? null : productCmptEntry.getValidTo().toIsoFormat());
+            List<GenerationTocEntry> generationEntries = productCmptEntry.getGenerationEntries();
+            out.writeInt(generationEntries.size());
+            for (GenerationTocEntry generationEntry : generationEntries) {
+                out.writeUTF(generationEntry.getValidFrom().toIsoFormat());
+                writeString(out, generationEntry.getImplementationClassName());
+                // an empty resource name refers to the product component's resource
+                String xmlResourceName = generationEntry.getXmlResourceName();
+                writeString(out, xmlResourceName.equals(entry.getXmlResourceName()) ? "" : xmlResourceName);
+            }
+        } else if (entryClass == TableContentTocEntry.class) {
+            writeEntryObject(out, TABLE_CONTENT_ENTRY, entry);
+        } else if (entryClass == TestCaseTocEntry.class) {
+            writeEntryObject(out, TEST_CASE_ENTRY, entry);
+        } else if (entryClass == FormulaTestTocEntry.class) {
+            writeEntryObject(out, FORMULA_TEST_ENTRY, entry);
+            writeString(out, ((FormulaTestTocEntry)entry).getKindId());
+            writeString(out, ((FormulaTestTocEntry)entry).getVersionId());
+        } else if (entryClass == EnumContentTocEntry.class) {
+            writeEntryObject(out, ENUM_CONTENT_ENTRY, entry);
+        } else if (entryClass == EnumXmlAdapterTocEntry.class) {
+            writeEntryObject(out, ENUM_XML_ADAPTER_ENTRY, entry);
+        } else if (entryClass == ProductCmptTypeTocEntry.class) {
+            writeEntryObject(out, PRODUCT_CMPT_TYPE_ENTRY, entry);
+        } else if (entryClass == PolicyCmptTypeTocEntry.class) {
+            writeEntryObject(out, POLICY_CMPT_TYPE_ENTRY, entry);
+        } else {
+            out.writeByte(XML_ENTRY);
+            try {
+                out.writeUTF(XmlUtil.nodeToString(entryElement, StandardCharsets.UTF_8.name(), "\n"));
+            } catch (TransformerException e) {
+                throw new IOException("Error writing the table of contents entry " + entry, e);
+            }
+        }
+    }
+    // CSON: CyclomaticComplexity
+
+    private static void writeEntryObject(DataOutputStream out, byte type, TocEntryObject entry) throws IOException {
+        out.writeByte(type);
+        writeString(out, entry.getIpsObjectId());
+        writeString(out, entry.getIpsObjectQualifiedName());
+        writeString(out, entry.getXmlResourceName());
+        writeString(out, entry.getImplementationClassName());
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        out.writeBoolean(s != null);
+        if (s != null) {
+            out.writeUTF(s);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static InputStream getResourceAsStream(ClassLoader cl, String resourcePath) throws IOException {
+        InputStream is = cl.getResourceAsStream(resourcePath);
+        if (is == null) {
+            throw new IOException("Can't find resource " + resourcePath);
+        }
+        return is;
+    }
+
+    /**
+     * Returns the path of the table of contents resource this snapshot was written from.
+     */
+    public String getTocResourcePath() {
+        return tocResourcePath;
+    }
+
+    /**
+     * Returns whether this snapshot contains the resource with the given path.
+     */
+    public boolean contains(String resourcePath) {
+        return resources.containsKey(resourcePath);
+    }
+
+    /**
+     * Returns a stream reading the resource with the given path or <code>null</code> if this
+     * snapshot does not contain such a resource. The stream reads directly from the mapped file
+     * and does not need to be closed.
+     */
+    public InputStream getResourceAsStream(String resourcePath) {
+        Resource resource = resources.get(resourcePath);
+        if (resource == null) {
+            return null;
+        }
+        return new ByteBufferInputStream(buffer.slice(resource.offset(), resource.length()));
+    }
+
+    /**
+     * Returns a stream reading the table of contents resource.
+     */
+    public InputStream getTableOfContentsAsStream() {
+        return getResourceAsStream(tocResourcePath);
+    }
+
+    /**
+     * Reads the table of contents from the entries stored in this snapshot, without parsing the
+     * XML of the table of contents resource.
+     *
+     * @param cl the class loader of the repository, used to load the classes referenced by the
+     *            table of contents and to find custom {@link org.faktorips.runtime.internal.toc.ITocEntryFactory
+     *            ITocEntryFactories}
+     *
+     * @throws IOException if the entries cannot be read
+     */
+    public ReadonlyTableOfContents readTableOfContents(ClassLoader cl) throws IOException {
+        ReadonlyTableOfContents toc = new ReadonlyTableOfContents(cl);
+        try (DataInputStream in = new DataInputStream(
+                new ByteBufferInputStream(buffer.slice(tocEntries.offset(), tocEntries.length())))) {
+            String productDataVersion = in.readUTF();
+            int count = in.readInt();
+            List<TocEntryObject> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                entries.add(readEntry(in, toc));
+            }
+            toc.initFromEntries(productDataVersion, entries);
+        }
+        return toc;
+    }
+
+    // CSOFF: CyclomaticComplexity
+    private static TocEntryObject readEntry(DataInputStream in, ReadonlyTableOfContents toc) throws IOException {
+        byte type = in.readByte();
+        if (type == XML_ENTRY) {
+            return readXmlEntry(in.readUTF(), toc);
+        }
+        String ipsObjectId = readString(in);
+        String ipsObjectQualifiedName = readString(in);
+        String xmlResourceName = readString(in);
+        String implementationClassName = readString(in);
+        return switch (type) {
+            case PRODUCT_CMPT_ENTRY -> readProductCmptEntry(in, ipsObjectId, ipsObjectQualifiedName, xmlResourceName,
+                    implementationClassName);
+            case TABLE_CONTENT_ENTRY -> new TableContentTocEntry(ipsObjectId, ipsObjectQualifiedName,
+                    xmlResourceName, implementationClassName);
+            case TEST_CASE_ENTRY -> new TestCaseTocEntry(ipsObjectId, ipsObjectQualifiedName, xmlResourceName,
+                    implementationClassName);
+            case FORMULA_TEST_ENTRY -> new FormulaTestTocEntry(ipsObjectId, ipsObjectQualifiedName, readString(in),
+                    readString(in), implementationClassName);
+            case ENUM_CONTENT_ENTRY -> new EnumContentTocEntry(ipsObjectId, ipsObjectQualifiedName,
+                    xmlResourceName, implementationClassName);
+            case ENUM_XML_ADAPTER_ENTRY -> new EnumXmlAdapterTocEntry(ipsObjectId, ipsObjectQualifiedName,
+                    implementationClassName);
+            case PRODUCT_CMPT_TYPE_ENTRY -> new ProductCmptTypeTocEntry(ipsObjectId, ipsObjectQualifiedName,
+                    implementationClassName);
+            case POLICY_CMPT_TYPE_ENTRY -> new PolicyCmptTypeTocEntry(ipsObjectId, ipsObjectQualifiedName,
+                    implementationClassName);
+            default -> throw new IOException("Unknown table of contents entry type " + type);
+        };
+    }
+    // CSON: CyclomaticComplexity
+
+    private static ProductCmptTocEntry readProductCmptEntry(DataInputStream in,
+            String ipsObjectId,
+            String ipsObjectQualifiedName,
+            String xmlResourceName,
+            String implementationClassName) throws IOException {
+        String kindId = readString(in);
+        String versionId = readString(in);
+        String generationImplClassName = readString(in);
+        DateTime validTo = DateTime.parseIso(readString(in));
+        ProductCmptTocEntry entry = new ProductCmptTocEntry(ipsObjectId, ipsObjectQualifiedName, kindId, versionId,
+                xmlResourceName, implementationClassName, generationImplClassName, validTo);
+        int generationCount = in.readInt();
+        List<GenerationTocEntry> generationEntries = new ArrayList<>(generationCount);
+        for (int i = 0; i < generationCount; i++) {
+            generationEntries.add(new GenerationTocEntry(entry, DateTime.parseIso(in.readUTF()), readString(in),
+                    readString(in)));
+        }
+        entry.setGenerationEntries(generationEntries);
+        return entry;
+    }
+
+    private static TocEntryObject readXmlEntry(String xml, ReadonlyTableOfContents toc) throws IOException {
+        try {
+            return toc.createEntryFromXml(
+                    XmlUtil.getDocumentBuilder().parse(new InputSource(new StringReader(xml))).getDocumentElement());
+        } catch (SAXException e) {
+            throw new IOException("Error reading the table of contents entry " + xml, e);
+        }
+    }
+
+    private record Resource(int offset, int length) {
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            int count = (int)Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+    }
+
+}
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.internal;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.faktorips.runtime.ICopySupport;
+import org.faktorips.runtime.IDependantObject;
+import org.faktorips.runtime.IModelObject;
+
+/**
+ * The copy map used by the generated copy support to create a
+ * {@link ICopySupport#newSharingCopy(IModelObject...) sharing copy}. Like any copy map it maps the
+ * original objects to their copies. In addition, it knows which objects of the copied object tree
+ * are copied at all: the root, the objects to modify and all objects on the path from an object to
+ * modify up to the root. All other objects are shared between the original and the copy.
+ *
+ * @since 27.1
+ */
+public class SharingCopyMap extends IdentityHashMap<IModelObject, IModelObject> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Set<IModelObject> objectsToCopy = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Creates a copy map for copying the given root and the given objects to modify.
+     *
+     * @param root the object that is copied
+     * @param objectsToModify the objects that will be modified in the copy. They must be part of
+     *            the root's object tree.
+     *
+     * @throws IllegalArgumentException if one of the objects to modify is not part of the root's
+     *             object tree
+     */
+    public SharingCopyMap(IModelObject root, IModelObject... objectsToModify) {
+        objectsToCopy.add(root);
+        for (IModelObject objectToModify : objectsToModify) {
+            addPathToRoot(root, objectToModify);
+        }
+    }
+
+    private void addPathToRoot(IModelObject root, IModelObject objectToModify) {
+        IModelObject object = objectToModify;
+        while (objectsToCopy.add(object)) {
+            IModelObject parent = object instanceof IDependantObject dependantObject
+                    ? dependantObject.getParentModelObject()
+                    : null;
+            if (parent == null) {
+                throw new IllegalArgumentException(
+                        "The object " + objectToModify + " is not part of the object tree of " + root);
+            }
+            object = parent;
+        }
+    }
+
+    /**
+     * Returns whether the given original object is shared with the copy instead of being copied.
+     */
+    public boolean isShared(IModelObject original) {
+        return !objectsToCopy.contains(original);
+    }
+
+}
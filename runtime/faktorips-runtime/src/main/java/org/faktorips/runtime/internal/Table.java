@@ -23,6 +23,8 @@ import javax.xml.parsers.SAXParserFactory;
 import org.faktorips.runtime.IRuntimeRepository;
 import org.faktorips.runtime.ITable;
 import org.faktorips.runtime.IllegalRepositoryModificationException;
+import org.faktorips.runtime.internal.tableindex.ResultStructure;
+import org.faktorips.runtime.internal.tableindex.UniqueResultStructure;
 import org.faktorips.runtime.xml.IToXmlSupport;
 import org.faktorips.values.DefaultInternationalString;
 import org.faktorips.values.InternationalString;
@@ -107,20 +109,79 @@ public abstract class Table<R> implements ITable<R> {
      */
     public void initFromXml(InputStream is, IRuntimeRepository productRepository, String qualifiedTableName)
             throws Exception {
-        rows = new ArrayList<>(200);
+        ColumnarRows<R> columnarRows = createColumnarRows();
+        rows = columnarRows == null ? new ArrayList<>(200) : columnarRows;
         name = qualifiedTableName;
 
         SAXParser saxParser = SAXParserFactory.newInstance().newSAXParser();
         saxParser.parse(new InputSource(is), new TableSaxHandler(this, productRepository));
-        ((ArrayList<R>)rows).trimToSize();
+        if (columnarRows == null) {
+            ((ArrayList<R>)rows).trimToSize();
+        }
         init();
     }
 
     protected final void init() {
+        if (!(rows instanceof ColumnarRows)) {
+            ColumnarRows<R> columnarRows = createColumnarRows();
+            if (columnarRows != null) {
+                columnarRows.addAll(rows);
+                rows = columnarRows;
+            }
+        }
+        if (rows instanceof ColumnarRows<R> columnarRows) {
+            columnarRows.trimToSize();
+        }
         initKeyMaps();
         performAdditionalInitializations();
     }
 
+    /**
+     * Template method to store the rows of this table column by column. Tables with millions of
+     * rows need considerably less memory if their rows are stored as {@link ColumnarRows}, at the
+     * cost of creating a row object every time a row is read.
+     * <p>
+     * Subclasses may override to return a new, empty {@link ColumnarRows} list defining the columns
+     * of the table's rows. The default implementation returns <code>null</code>, so the row objects
+     * are kept as they are. Generated tables override this method if the generator setting
+     * <code>columnarTableRows</code> is enabled.
+     */
+    protected ColumnarRows<R> createColumnarRows() {
+        return null;
+    }
+
+    /**
+     * Is used by generated classes within the initKeyMaps() method to create the result structure
+     * for a non unique index. If the rows are stored as {@link ColumnarRows}, the result structure
+     * only keeps the row's index.
+     *
+     * @param row the row that is the result
+     * @param rowIndex the index of the row in {@link #rows}
+     */
+    protected ResultStructure<R> createResultStructure(R row, int rowIndex) {
+        if (rows instanceof ColumnarRows) {
+            return ResultStructure.createWithRowIndex(rows, rowIndex);
+        } else {
+            return ResultStructure.createWith(row);
+        }
+    }
+
+    /**
+     * Is used by generated classes within the initKeyMaps() method to create the result structure
+     * for a unique index. If the rows are stored as {@link ColumnarRows}, the result structure only
+     * keeps the row's index.
+     *
+     * @param row the row that is the result
+     * @param rowIndex the index of the row in {@link #rows}
+     */
+    protected UniqueResultStructure<R> createUniqueResultStructure(R row, int rowIndex) {
+        if (rows instanceof ColumnarRows) {
+            return UniqueResultStructure.createWithRowIndex(rows, rowIndex);
+        } else {
+            return UniqueResultStructure.createWith(row);
+        }
+    }
+
     /**
      * Template method to perform additional initializations. Is called during the initialization of
      * the table (from XML), right after {@link #initKeyMaps()}.
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.internal;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+import org.faktorips.runtime.internal.toc.TocEntry;
+import org.faktorips.runtime.internal.toc.TocEntryObject;
+
+/**
+ * Options for {@link AbstractTocBasedRuntimeRepository#warmUp(WarmUpOptions) warming up} a runtime
+ * repository. By default all product components, generations, tables and enum contents are loaded
+ * using the {@link ForkJoinPool#commonPool() common pool}.
+ */
+public class WarmUpOptions {
+
+    private Executor executor = ForkJoinPool.commonPool();
+
+    private Set<Content> contents = EnumSet.allOf(Content.class);
+
+    private Predicate<? super TocEntryObject> filter = e -> true;
+
+    private boolean resolvingLinkTargets;
+
+    private IWarmUpProgressListener progressListener = (entry, loadedCount, totalCount) -> {
+        // nothing to do
+    };
+
+    /**
+     * The {@link Executor} loading the objects in parallel. Use a single threaded executor or
+     * {@code Runnable::run} to load them sequentially.
+     */
+    public WarmUpOptions setExecutor(Executor executor) {
+        this.executor = Objects.requireNonNull(executor);
+        return this;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * The kinds of content that should be loaded, all by default.
+     */
+    public WarmUpOptions setContents(Content first, Content... rest) {
+        contents = EnumSet.of(first, rest);
+        return this;
+    }
+
+    public Set<Content> getContents() {
+        return contents;
+    }
+
+    /**
+     * Restricts the loaded objects to those whose table of contents entry matches the given filter.
+     * Generations are loaded if the entry of their product component matches.
+     */
+    public WarmUpOptions setFilter(Predicate<? super TocEntryObject> filter) {
+        this.filter = Objects.requireNonNull(filter);
+        return this;
+    }
+
+    /**
+     * Restricts the loaded objects to those whose qualified name starts with the given prefix, for
+     * example a package name like {@code "motor."}.
+     */
+    public WarmUpOptions setQualifiedNamePrefix(String qualifiedNamePrefix) {
+        return setFilter(e -> e.getIpsObjectQualifiedName().startsWith(qualifiedNamePrefix));
+    }
+
+    public Predicate<? super TocEntryObject> getFilter() {
+        return filter;
+    }
+
+    /**
+     * Defines whether the targets of the links of every loaded product component and generation
+     * are resolved, disabled by default. If the repository
+     * {@link AbstractRuntimeRepository#setCachingProductComponentLinkTargets(boolean) caches link
+     * targets}, the whole link graph of the loaded objects is thereby resolved eagerly.
+     */
+    public WarmUpOptions setResolvingLinkTargets(boolean resolvingLinkTargets) {
+        this.resolvingLinkTargets = resolvingLinkTargets;
+        return this;
+    }
+
+    public boolean isResolvingLinkTargets() {
+        return resolvingLinkTargets;
+    }
+
+    /**
+     * A listener that is informed after each loaded object.
+     */
+    public WarmUpOptions setProgressListener(IWarmUpProgressListener progressListener) {
+        this.progressListener = Objects.requireNonNull(progressListener);
+        return this;
+    }
+
+    public IWarmUpProgressListener getProgressListener() {
+        return progressListener;
+    }
+
+    /**
+     * The kinds of content in a runtime repository that can be loaded while warming up.
+     */
+    public enum Content {
+        PRODUCT_COMPONENTS,
+        PRODUCT_COMPONENT_GENERATIONS,
+        TABLES,
+        ENUM_CONTENTS
+    }
+
+    /**
+     * Listener to report the progress of warming up a runtime repository. The listener may be called
+     * concurrently from the threads of the {@link WarmUpOptions#getExecutor() executor}.
+     */
+    @FunctionalInterface
+    public interface IWarmUpProgressListener {
+
+        /**
+         * Called after the object for the given table of contents entry has been loaded.
+         *
+         * @param entry the entry of the loaded object
+         * @param loadedCount the number of objects loaded so far
+         * @param totalCount the number of objects that are loaded in total
+         */
+        void loaded(TocEntry entry, int loadedCount, int totalCount);
+
+    }
+
+}
@@ -10,9 +10,16 @@
 
 package org.faktorips.runtime.internal.delta;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinTask;
 
 import org.faktorips.runtime.IDeltaComputationOptions;
 import org.faktorips.runtime.IDeltaSupport;
@@ -35,6 +42,8 @@ public class ChildDeltaCreator {
 
     private final AssociationKind kind;
 
+    private final DeltaComputationContext context;
+
     /**
      * Instantiates the creator for the given association name, kind and
      * {@link IDeltaComputationOptions}.
@@ -65,6 +74,7 @@ public class ChildDeltaCreator {
         this.association = association;
         this.kind = kind;
         this.options = AssociationKind.Association == kind ? withoutSubtrees(options) : options;
+        context = DeltaComputationContext.of(options);
     }
 
     /**
@@ -114,6 +124,7 @@ public class ChildDeltaCreator {
             List<? extends IModelObject> originals,
             List<? extends IModelObject> refObjects) {
         int max = Math.max(originals.size(), refObjects.size());
+        List<ChildDelta> childDeltas = new ArrayList<>(max);
         for (int i = 0; i < max; i++) {
             if (hasObject(originals, i)) {
                 IModelObject original = originals.get(i);
@@ -121,26 +132,27 @@ public class ChildDeltaCreator {
                     IModelObject refObject = refObjects.get(i);
                     if (options.isSame(original, refObject)) {
                         if (kind == AssociationKind.Composition) {
-                            IModelObjectDelta childDelta = ((IDeltaSupport)original).computeDelta(refObject, options);
-                            updateAssociationInfo(childDelta);
-                            delta.addChildDelta(childDelta);
+                            childDeltas.add(ChildDelta.change(original, refObject, false));
                         }
                     } else {
-                        delta.addChildDelta(ModelObjectDelta.newDifferentObjectAtPositionChangedDelta(original,
-                                refObject, association, kind));
+                        childDeltas.add(ChildDelta.of(ModelObjectDelta.newDifferentObjectAtPositionChangedDelta(
+                                original, refObject, association, kind)));
                     }
                 } else {
-                    delta.addChildDelta(ModelObjectDelta.newRemoveDelta(original, association, kind, options));
+                    childDeltas.add(ChildDelta.of(ModelObjectDelta.newRemoveDelta(original, association, kind,
+                            options)));
                 }
             } else {
                 if (hasObject(refObjects, i)) {
-                    delta.addChildDelta(ModelObjectDelta.newAddDelta(refObjects.get(i), association, kind, options));
+                    childDeltas.add(ChildDelta.of(ModelObjectDelta.newAddDelta(refObjects.get(i), association, kind,
+                            options)));
                 } else {
                     throw new RuntimeException(
                             "Error in delta computation. Both objects null in assocation " + association);
                 }
             }
         }
+        addChildDeltas(delta, childDeltas);
     }
 
     private <T> boolean hasObject(Collection<T> collection, int index) {
@@ -150,12 +162,18 @@ public class ChildDeltaCreator {
     private void createChildDeltasPerObject(ModelObjectDelta delta,
             List<? extends IModelObject> originals,
             List<? extends IModelObject> refObjects) {
+        Object[] originalKeys = getIdentityKeys(originals);
+        Object[] refKeys = originalKeys == null ? null : getIdentityKeys(refObjects);
+        if (refKeys != null) {
+            createChildDeltasPerKey(delta, originals, originalKeys, refObjects, refKeys);
+            return;
+        }
         int removeCounter = 0;
         int size = originals.size();
+        List<ChildDelta> childDeltas = new ArrayList<>(size);
         for (int i = 0; i < size; i++) {
-            IModelObjectDelta childDelta = createRemoveMoveOrChangeDelta(originals.get(i), i, refObjects);
-            updateAssociationInfo(childDelta);
-            delta.addChildDelta(childDelta);
+            ChildDelta childDelta = createRemoveMoveOrChangeDelta(originals.get(i), i, refObjects);
+            childDeltas.add(childDelta);
             if (childDelta.isRemoved()) {
                 removeCounter++;
             }
@@ -163,6 +181,7 @@ public class ChildDeltaCreator {
         int refSize = refObjects.size();
         if (size - removeCounter == refSize) {
             // nothing has been added
+            addChildDeltas(delta, childDeltas);
             return;
         }
         for (int i = 0; i < refSize; i++) {
@@ -174,47 +193,134 @@ public class ChildDeltaCreator {
                 }
             }
             if (!exists) {
-                delta.addChildDelta(ModelObjectDelta.newAddDelta(refObjects.get(i), association, kind, options));
+                childDeltas.add(ChildDelta.of(ModelObjectDelta.newAddDelta(refObjects.get(i), association, kind,
+                        options)));
+            }
+        }
+        addChildDeltas(delta, childDeltas);
+    }
+
+    /**
+     * Returns the {@link IDeltaComputationOptions#getIdentityKey(IModelObject) identity keys} of the
+     * given objects or <code>null</code> if any object has no key.
+     */
+    private Object[] getIdentityKeys(List<? extends IModelObject> objects) {
+        Object[] keys = new Object[objects.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = options.getIdentityKey(objects.get(i));
+            if (keys[i] == null) {
+                return null;
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Creates the same deltas as
+     * {@link #createChildDeltasPerObject(ModelObjectDelta, List, List)}, but matches the objects
+     * through a hash index of their identity keys.
+     */
+    private void createChildDeltasPerKey(ModelObjectDelta delta,
+            List<? extends IModelObject> originals,
+            Object[] originalKeys,
+            List<? extends IModelObject> refObjects,
+            Object[] refKeys) {
+        Map<Object, List<Integer>> refPositions = new HashMap<>(refKeys.length * 2);
+        for (int i = 0; i < refKeys.length; i++) {
+            refPositions.computeIfAbsent(refKeys[i], k -> new ArrayList<>(1)).add(i);
+        }
+        List<ChildDelta> childDeltas = new ArrayList<>(originalKeys.length);
+        for (int i = 0; i < originalKeys.length; i++) {
+            IModelObject original = originals.get(i);
+            List<Integer> positions = refPositions.get(originalKeys[i]);
+            if (positions == null) {
+                childDeltas.add(ChildDelta.of(ModelObjectDelta.newRemoveDelta(original, association, kind, options)));
+            } else if (i < refKeys.length && originalKeys[i].equals(refKeys[i])) {
+                childDeltas.add(ChildDelta.change(original, refObjects.get(i), false));
+            } else {
+                childDeltas.add(ChildDelta.change(original, refObjects.get(positions.get(0)), true));
+            }
+        }
+        Set<Object> originalKeySet = new HashSet<>(Arrays.asList(originalKeys));
+        for (int i = 0; i < refKeys.length; i++) {
+            if (!originalKeySet.contains(refKeys[i])) {
+                childDeltas.add(ChildDelta.of(ModelObjectDelta.newAddDelta(refObjects.get(i), association, kind,
+                        options)));
+            }
+        }
+        addChildDeltas(delta, childDeltas);
+    }
+
+    /**
+     * Computes the pending child deltas, in parallel if requested by the
+     * {@link DeltaComputationContext}, and adds them to the given delta in their original order.
+     */
+    private void addChildDeltas(ModelObjectDelta delta, List<ChildDelta> childDeltas) {
+        if (context != null && context.isParallel() && kind == AssociationKind.Composition
+                && childDeltas.size() > 1) {
+            List<ForkJoinTask<IModelObjectDelta>> tasks = new ArrayList<>(childDeltas.size());
+            for (ChildDelta childDelta : childDeltas) {
+                tasks.add(ForkJoinTask.adapt(() -> computeChildDelta(childDelta)));
+            }
+            ForkJoinTask.invokeAll(tasks);
+            for (ForkJoinTask<IModelObjectDelta> task : tasks) {
+                delta.addChildDelta(task.join());
+            }
+        } else {
+            for (ChildDelta childDelta : childDeltas) {
+                delta.addChildDelta(computeChildDelta(childDelta));
             }
         }
     }
 
+    private IModelObjectDelta computeChildDelta(ChildDelta childDelta) {
+        IModelObjectDelta computedDelta;
+        if (childDelta.delta() != null) {
+            computedDelta = childDelta.delta();
+        } else {
+            computedDelta = createChangeDelta(childDelta.original(), childDelta.refObject());
+            if (childDelta.moved()) {
+                markMoved((ModelObjectDelta)computedDelta);
+            }
+        }
+        updateAssociationInfo(computedDelta);
+        if (context != null) {
+            context.deltaComputed(computedDelta);
+        }
+        return computedDelta;
+    }
+
+    private IModelObjectDelta createChangeDelta(IModelObject original, IModelObject refObject) {
+        if (kind == AssociationKind.Composition) {
+            return ((IDeltaSupport)original).computeDelta(refObject, options);
+        } else {
+            return ModelObjectDelta.newEmptyDelta(original, refObject);
+        }
+    }
+
     private void updateAssociationInfo(IModelObjectDelta childDelta) {
         ((ModelObjectDelta)childDelta).setAssociation(association);
         ((ModelObjectDelta)childDelta).setAssociationKind(kind);
     }
 
-    private final IModelObjectDelta createRemoveMoveOrChangeDelta(IModelObject original,
+    private final ChildDelta createRemoveMoveOrChangeDelta(IModelObject original,
             int position,
             List<? extends IModelObject> refObjects) {
 
         int refSize = refObjects.size();
         if (position < refSize && options.isSame(original, refObjects.get(position))) {
-            IModelObject refObject = refObjects.get(position);
-            if (kind == AssociationKind.Composition) {
-                return ((IDeltaSupport)original).computeDelta(refObject, options);
-            } else {
-                return ModelObjectDelta.newEmptyDelta(original, refObject);
-            }
+            return ChildDelta.change(original, refObjects.get(position), false);
         }
         // check for moved object
         for (int i = 0; i < refSize; i++) {
             if (i != position) {
                 IModelObject refObject = refObjects.get(i);
                 if (options.isSame(original, refObject)) {
-                    if (kind == AssociationKind.Composition) {
-                        IModelObjectDelta childDelta = ((IDeltaSupport)original).computeDelta(refObject, options);
-                        markMoved((ModelObjectDelta)childDelta);
-                        return childDelta;
-                    } else {
-                        ModelObjectDelta delta = ModelObjectDelta.newEmptyDelta(original, refObject);
-                        markMoved(delta);
-                        return delta;
-                    }
+                    return ChildDelta.change(original, refObject, true);
                 }
             }
         }
-        return ModelObjectDelta.newRemoveDelta(original, association, kind, options);
+        return ChildDelta.of(ModelObjectDelta.newRemoveDelta(original, association, kind, options));
     }
 
     private void markMoved(ModelObjectDelta delta) {
@@ -223,6 +329,27 @@ public class ChildDeltaCreator {
         }
     }
 
+    /**
+     * A child delta that is either already created or still has to be computed by comparing the
+     * original with the reference object.
+     */
+    private record ChildDelta(IModelObjectDelta delta, IModelObject original, IModelObject refObject,
+            boolean moved) {
+
+        static ChildDelta of(IModelObjectDelta delta) {
+            return new ChildDelta(delta, null, null, false);
+        }
+
+        static ChildDelta change(IModelObject original, IModelObject refObject, boolean moved) {
+            return new ChildDelta(null, original, refObject, moved);
+        }
+
+        boolean isRemoved() {
+            return delta != null && delta.isRemoved();
+        }
+
+    }
+
     private static IDeltaComputationOptions withoutSubtrees(final IDeltaComputationOptions options) {
         return new DeltaComputationOptionsWithoutSubtrees(options);
     }
@@ -240,6 +367,11 @@ public class ChildDeltaCreator {
             return options.isSame(object1, object2);
         }
 
+        @Override
+        public Object getIdentityKey(IModelObject object) {
+            return options.getIdentityKey(object);
+        }
+
         @Override
         public boolean isCreateSubtreeDelta() {
             return false;
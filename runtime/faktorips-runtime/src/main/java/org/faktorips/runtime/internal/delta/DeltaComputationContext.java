@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.internal.delta;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.faktorips.runtime.DeltaComputation;
+import org.faktorips.runtime.IDeltaComputationOptions;
+import org.faktorips.runtime.IDeltaSupport;
+import org.faktorips.runtime.IModelObject;
+import org.faktorips.runtime.IModelObjectDelta;
+import org.faktorips.runtime.IModelObjectDeltaListener;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * {@link IDeltaComputationOptions} used by a {@link DeltaComputation}. They delegate all options to
+ * the given options and are passed through the whole delta computation, so the
+ * {@link ChildDeltaCreator} and the {@link org.faktorips.runtime.internal.ModelObjectDelta
+ * ModelObjectDelta} can report computed deltas and detected changes.
+ * <p>
+ * Note that this is an internal class whose API may not be stable and thus should not be called by
+ * client code directly.
+ */
+public class DeltaComputationContext implements IDeltaComputationOptions {
+
+    private final IDeltaComputationOptions options;
+
+    @CheckForNull
+    private final IModelObjectDeltaListener listener;
+
+    private final boolean stopOnChange;
+
+    @CheckForNull
+    private final ForkJoinPool pool;
+
+    private volatile boolean stopped;
+
+    /**
+     * @param options the options to delegate to
+     * @param listener the listener notified of every computed delta, may be <code>null</code>
+     * @param stopOnChange whether the computation stops as soon as any change is detected
+     * @param pool the pool to compute independent child deltas in parallel, <code>null</code> to
+     *            compute all deltas in the calling thread
+     */
+    public DeltaComputationContext(IDeltaComputationOptions options, @CheckForNull IModelObjectDeltaListener listener,
+            boolean stopOnChange, @CheckForNull ForkJoinPool pool) {
+        this.options = options;
+        this.listener = listener;
+        this.stopOnChange = stopOnChange;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the given options if they are a {@link DeltaComputationContext}, otherwise
+     * <code>null</code>.
+     */
+    @CheckForNull
+    public static DeltaComputationContext of(IDeltaComputationOptions options) {
+        return options instanceof DeltaComputationContext context ? context : null;
+    }
+
+    /**
+     * Computes the delta between the given objects.
+     *
+     * @return the delta or <code>null</code> if the computation was stopped
+     */
+    @CheckForNull
+    public IModelObjectDelta compute(IDeltaSupport original, IModelObject refObject) {
+        try {
+            IModelObjectDelta delta;
+            if (pool == null) {
+                delta = original.computeDelta(refObject, this);
+            } else {
+                delta = pool.invoke(ForkJoinTask.adapt(() -> original.computeDelta(refObject, this)));
+            }
+            deltaComputed(delta);
+            return delta;
+        } catch (DeltaComputationStoppedException e) {
+            return null;
+        }
+    }
+
+    public boolean isParallel() {
+        return pool != null;
+    }
+
+    /**
+     * Reports a completely computed delta, empty deltas are ignored.
+     *
+     * @throws DeltaComputationStoppedException if the computation is stopped
+     */
+    public void deltaComputed(IModelObjectDelta delta) {
+        checkStopped();
+        if (delta.isEmpty()) {
+            return;
+        }
+        if (stopOnChange || (listener != null && !listener.deltaComputed(delta))) {
+            stop();
+        }
+    }
+
+    /**
+     * Reports a detected change, for example a changed property.
+     *
+     * @throws DeltaComputationStoppedException if the computation is stopped
+     */
+    public void changeDetected() {
+        checkStopped();
+        if (stopOnChange) {
+            stop();
+        }
+    }
+
+    /**
+     * Reports a detected change if the given options are a {@link DeltaComputationContext}.
+     */
+    public static void changeDetected(IDeltaComputationOptions options) {
+        if (options instanceof DeltaComputationContext context) {
+            context.changeDetected();
+        }
+    }
+
+    private void checkStopped() {
+        if (stopped) {
+            throw new DeltaComputationStoppedException();
+        }
+    }
+
+    private void stop() {
+        stopped = true;
+        throw new DeltaComputationStoppedException();
+    }
+
+    @Override
+    public ComputationMethod getMethod(String association) {
+        return options.getMethod(association);
+    }
+
+    @Override
+    public boolean isSame(IModelObject object1, IModelObject object2) {
+        return options.isSame(object1, object2);
+    }
+
+    @Override
+    public Object getIdentityKey(IModelObject object) {
+        return options.getIdentityKey(object);
+    }
+
+    @Override
+    public boolean ignore(Class<?> clazz, String property) {
+        return options.ignore(clazz, property);
+    }
+
+    @Override
+    public boolean isCreateSubtreeDelta() {
+        return options.isCreateSubtreeDelta();
+    }
+
+    @Override
+    public boolean areValuesEqual(Class<?> clazz, String property, Object value1, Object value2) {
+        return options.areValuesEqual(clazz, property, value1, value2);
+    }
+
+    @Override
+    public boolean ignoreAssociations() {
+        return options.ignoreAssociations();
+    }
+
+    @Override
+    public boolean ignoreMoved() {
+        return options.ignoreMoved();
+    }
+
+    /**
+     * Thrown through the generated delta computation code to stop the computation.
+     */
+    private static final class DeltaComputationStoppedException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private DeltaComputationStoppedException() {
+            super(null, null, false, false);
+        }
+
+    }
+
+}
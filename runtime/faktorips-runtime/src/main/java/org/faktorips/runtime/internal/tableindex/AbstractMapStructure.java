@@ -10,6 +10,8 @@
 
 package org.faktorips.runtime.internal.tableindex;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -90,20 +92,41 @@ public abstract class AbstractMapStructure<K, V extends SearchStructure<R> & Mer
         return structure;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If there is only one nested structure, its result set is returned directly. Otherwise the
+     * result sets of all nested structures are merged into a new set. The returned set is
+     * unmodifiable in both cases.
+     */
     @Override
     public Set<R> get() {
+        Collection<V> values = getValues();
+        if (values.isEmpty()) {
+            return Collections.emptySet();
+        } else if (values.size() == 1) {
+            return values.iterator().next().get();
+        }
         HashSet<R> resultSet = new HashSet<>();
-        for (V value : getMap().values()) {
+        for (V value : values) {
             Set<R> set = value.get();
             resultSet.addAll(set);
         }
-        return resultSet;
+        return Collections.unmodifiableSet(resultSet);
     }
 
     protected Map<K, V> getMap() {
         return map;
     }
 
+    /**
+     * Returns the nested structures. Subclasses that do not keep all mappings in the
+     * {@link #getMap() map} may override to return them without changing the map.
+     */
+    protected Collection<V> getValues() {
+        return getMap().values();
+    }
+
     /**
      * Checks whether the given result is <code>null</code> and returns a fall-back result (an empty
      * {@link ResultStructure}) in that case.
@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.internal.tableindex;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A hash map that stores its keys and values in two arrays using open addressing with linear
+ * probing. Unlike {@link java.util.HashMap} it does not create an entry object per mapping, so a
+ * {@link KeyStructure} with millions of keys needs considerably less memory.
+ * <p>
+ * Like {@link java.util.HashMap} the map calls <code>key.equals(storedKey)</code> with the key
+ * given to {@link #get(Object)}, so a {@link KeyStructure} can search it with a probe key. Mappings
+ * cannot be removed, as search structures are only ever added to.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+final class CompactHashMap<K, V> extends AbstractMap<K, V> {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    /** Marks the <code>null</code> key, as an empty slot has the key <code>null</code> */
+    private static final Object NULL_KEY = new Object();
+
+    private Object[] keys = new Object[INITIAL_CAPACITY];
+
+    private Object[] values = new Object[INITIAL_CAPACITY];
+
+    private int size;
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return keys[indexOf(mask(key))] != null;
+    }
+
+    @Override
+    public V get(Object key) {
+        return valueAt(indexOf(mask(key)));
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Object maskedKey = mask(key);
+        int index = indexOf(maskedKey);
+        V oldValue = valueAt(index);
+        if (keys[index] == null) {
+            if (4 * (size + 1) > 3 * keys.length) {
+                resize();
+                index = indexOf(maskedKey);
+            }
+            keys[index] = maskedKey;
+            size++;
+        }
+        values[index] = value;
+        return oldValue;
+    }
+
+    /**
+     * Returns the index of the slot containing the given key or of the empty slot the key would be
+     * stored in.
+     */
+    private int indexOf(Object maskedKey) {
+        int mask = keys.length - 1;
+        int index = hash(maskedKey) & mask;
+        Object storedKey = keys[index];
+        while (storedKey != null && storedKey != maskedKey && !maskedKey.equals(storedKey)) {
+            index = (index + 1) & mask;
+            storedKey = keys[index];
+        }
+        return index;
+    }
+
+    private void resize() {
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new Object[oldKeys.length * 2];
+        values = new Object[oldValues.length * 2];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int index = hash(oldKeys[i]) & mask;
+                while (keys[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private static int hash(Object maskedKey) {
+        int hash = maskedKey.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private static Object mask(Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private K keyAt(int index) {
+        Object key = keys[index];
+        return key == NULL_KEY ? null : (K)key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int index) {
+        return (V)values[index];
+    }
+
+    @Override
+    public Collection<V> values() {
+        return new AbstractCollection<>() {
+
+            @Override
+            public Iterator<V> iterator() {
+                return new SlotIterator<>() {
+
+                    @Override
+                    V get(int index) {
+                        return valueAt(index);
+                    }
+
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+        };
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new SlotIterator<>() {
+
+                    @Override
+                    Entry<K, V> get(int index) {
+                        return new SimpleImmutableEntry<>(keyAt(index), valueAt(index));
+                    }
+
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+        };
+    }
+
+    /**
+     * Iterates over the occupied slots of the map.
+     */
+    private abstract class SlotIterator<T> implements Iterator<T> {
+
+        private int nextIndex = findOccupiedSlot(0);
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < keys.length;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int index = nextIndex;
+            nextIndex = findOccupiedSlot(index + 1);
+            return get(index);
+        }
+
+        private int findOccupiedSlot(int startIndex) {
+            int index = startIndex;
+            while (index < keys.length && keys[index] == null) {
+                index++;
+            }
+            return index;
+        }
+
+        abstract T get(int index);
+
+    }
+
+}
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.internal.tableindex;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An immutable key consisting of the values of one or more columns, used as key in a
+ * {@link KeyStructure}. Two keys are equal if they contain equal values in the same order.
+ * <p>
+ * A {@link KeyStructure} whose keys are {@link CompositeKey composite keys} can be searched
+ * without creating a new key for every lookup by calling one of the
+ * {@link KeyStructure#getByKeyValues(Object) getByKeyValues} methods.
+ */
+public final class CompositeKey implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int INITIAL_HASH = 17;
+
+    private static final int HASH_FACTOR = 37;
+
+    private final Object[] values;
+
+    private final int hashCode;
+
+    private CompositeKey(Object[] values) {
+        this.values = values;
+        int hash = INITIAL_HASH;
+        for (Object value : values) {
+            hash = hash(hash, value);
+        }
+        hashCode = hash;
+    }
+
+    /**
+     * Creates a new {@link CompositeKey} containing the given values. The values may be
+     * <code>null</code>.
+     */
+    public static CompositeKey of(Object... values) {
+        return new CompositeKey(values.clone());
+    }
+
+    /**
+     * Creates a {@link CompositeKey} using the given array without copying it.
+     */
+    static CompositeKey wrap(Object[] values) {
+        return new CompositeKey(values);
+    }
+
+    static int initialHash() {
+        return INITIAL_HASH;
+    }
+
+    static int hash(int hash, Object value) {
+        return HASH_FACTOR * hash + Objects.hashCode(value);
+    }
+
+    /**
+     * Returns the number of values in this key.
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Returns the value at the given position.
+     */
+    public Object get(int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns whether this key consists of the first <code>size</code> values of the given array.
+     */
+    boolean matches(Object[] otherValues, int size) {
+        if (values.length != size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (!Objects.equals(values[i], otherValues[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CompositeKey)) {
+            return false;
+        }
+        CompositeKey other = (CompositeKey)obj;
+        return hashCode == other.hashCode && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+
+}
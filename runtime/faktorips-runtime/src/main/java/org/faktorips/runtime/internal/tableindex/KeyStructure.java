@@ -10,12 +10,17 @@
 
 package org.faktorips.runtime.internal.tableindex;
 
-import java.util.HashMap;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 /**
  * An implementation of {@link AbstractMapStructure} mapping keys to nested {@link SearchStructure
  * SearchStructures} much like a map. This structure is useful for values that can be identified by
  * their key. The generic types are described in {@link AbstractMapStructure}.
+ * <p>
+ * If the keys are {@link CompositeKey composite keys}, the structure can be searched using the
+ * column values directly by calling one of the {@link #getByKeyValues(Object) getByKeyValues}
+ * methods. These methods do not create a new key for every lookup.
  * 
  * @see AbstractMapStructure
  */
@@ -23,7 +28,7 @@ public class KeyStructure<K, V extends SearchStructure<R> & MergeAndCopyStructur
         AbstractMapStructure<K, V, R> implements MergeAndCopyStructure<KeyStructure<K, V, R>> {
 
     KeyStructure() {
-        super(new HashMap<>());
+        super(new CompactHashMap<>());
     }
 
     /**
@@ -54,6 +59,64 @@ public class KeyStructure<K, V extends SearchStructure<R> & MergeAndCopyStructur
         }
     }
 
+    /**
+     * Returns the nested structure for the {@link CompositeKey} consisting of the given value.
+     * This is the same as calling <code>get(CompositeKey.of(value))</code> without creating the
+     * key.
+     */
+    public SearchStructure<R> getByKeyValues(Object value) {
+        return getByProbe(new KeyProbe().set(value));
+    }
+
+    /**
+     * Returns the nested structure for the {@link CompositeKey} consisting of the given values.
+     * This is the same as calling <code>get(CompositeKey.of(value1, value2))</code> without
+     * creating the key.
+     */
+    public SearchStructure<R> getByKeyValues(Object value1, Object value2) {
+        return getByProbe(new KeyProbe().set(value1, value2));
+    }
+
+    /**
+     * Returns the nested structure for the {@link CompositeKey} consisting of the given values.
+     * This is the same as calling <code>get(CompositeKey.of(value1, value2, value3))</code> without
+     * creating the key.
+     */
+    public SearchStructure<R> getByKeyValues(Object value1, Object value2, Object value3) {
+        return getByProbe(new KeyProbe().set(value1, value2, value3));
+    }
+
+    /**
+     * Returns the nested structure for the {@link CompositeKey} consisting of the given values.
+     * This is the same as calling <code>get(CompositeKey.of(value1, value2, value3, value4))</code>
+     * without creating the key.
+     */
+    public SearchStructure<R> getByKeyValues(Object value1, Object value2, Object value3, Object value4) {
+        return getByProbe(new KeyProbe().set(value1, value2, value3, value4));
+    }
+
+    /**
+     * Returns the nested structure for the {@link CompositeKey} consisting of the given values. Keys
+     * with more than four values are created for every lookup.
+     */
+    public SearchStructure<R> getByKeyValues(Object value1,
+            Object value2,
+            Object value3,
+            Object value4,
+            Object... moreValues) {
+        Object[] values = new Object[4 + moreValues.length];
+        values[0] = value1;
+        values[1] = value2;
+        values[2] = value3;
+        values[3] = value4;
+        System.arraycopy(moreValues, 0, values, 4, moreValues.length);
+        return get(CompositeKey.wrap(values));
+    }
+
+    private SearchStructure<R> getByProbe(KeyProbe probe) {
+        return getValidResult(getMap().get(probe));
+    }
+
     @Override
     public void merge(KeyStructure<K, V, R> map) {
         super.merge(map);
@@ -63,4 +126,63 @@ public class KeyStructure<K, V extends SearchStructure<R> & MergeAndCopyStructur
     public KeyStructure<K, V, R> copy() {
         return fillCopy(new KeyStructure<>());
     }
+
+    /**
+     * A mutable lookup key that is equal to every {@link CompositeKey} with the same values. The
+     * {@link CompactHashMap} calls <code>probe.equals(storedKey)</code>, so the probe finds the stored
+     * {@link CompositeKey} without copying the values into a new one. A new probe is created for
+     * every lookup, so lookups may run concurrently and nested. The probe never leaves the lookup.
+     */
+    @SuppressFBWarnings(value = "EQ_CHECK_FOR_OPERAND_NOT_COMPATIBLE_WITH_THIS", justification = "The probe is only used to look up composite keys in a map and never stored.")
+    private static final class KeyProbe {
+
+        private final Object[] values = new Object[4];
+
+        private int size;
+
+        private int hash;
+
+        KeyProbe set(Object value) {
+            values[0] = value;
+            size = 1;
+            hash = CompositeKey.hash(CompositeKey.initialHash(), value);
+            return this;
+        }
+
+        KeyProbe set(Object value1, Object value2) {
+            set(value1);
+            values[1] = value2;
+            size = 2;
+            hash = CompositeKey.hash(hash, value2);
+            return this;
+        }
+
+        KeyProbe set(Object value1, Object value2, Object value3) {
+            set(value1, value2);
+            values[2] = value3;
+            size = 3;
+            hash = CompositeKey.hash(hash, value3);
+            return this;
+        }
+
+        KeyProbe set(Object value1, Object value2, Object value3, Object value4) {
+            set(value1, value2, value3);
+            values[3] = value4;
+            size = 4;
+            hash = CompositeKey.hash(hash, value4);
+            return this;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof CompositeKey key && key.matches(values, size);
+        }
+
+    }
+
 }
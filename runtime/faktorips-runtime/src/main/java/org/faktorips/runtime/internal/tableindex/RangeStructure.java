@@ -10,6 +10,7 @@
 
 package org.faktorips.runtime.internal.tableindex;
 
+import java.util.Collection;
 import java.util.TreeMap;
 
 /**
@@ -28,6 +29,10 @@ import java.util.TreeMap;
  * 24 and all in between will yield value1 as a result. Calls to {@link #get(Object)} with the keys
  * 25 and higher will yield value2 respectively. The keys 9 and lower, however, will return an
  * {@link EmptySearchStructure}.
+ * <p>
+ * Lookups are done by a binary search in an array of the sorted keys that is created on the first
+ * call to {@link #get(Object)} after the structure has been changed. Until the structure is changed
+ * again, only the arrays are kept, as they need less memory than the {@link TreeMap}.
  * 
  * @see RangeType
  */
@@ -36,6 +41,8 @@ public class RangeStructure<K extends Comparable<? super K>, V extends SearchStr
 
     private final RangeType rangeType;
 
+    private volatile SortedEntries<K, V> sortedEntries;
+
     /**
      * @param rangeType defines how the bounds of ranges should be handled. Must not be
      *            <code>null</code>.
@@ -74,18 +81,53 @@ public class RangeStructure<K extends Comparable<? super K>, V extends SearchStr
         if (key == null) {
             return emptyResult();
         } else {
-            @SuppressWarnings("unchecked")
-            K kKey = (K)key;
-            V result = rangeType.getValue(getMap(), kKey);
+            SortedEntries<K, V> entries = getSortedEntries();
+            int index = rangeType.getIndex(entries.getKeys(), key);
+            V result = index < 0 ? null : entries.getValue(index);
             return getValidResult(result);
         }
     }
 
+    private SortedEntries<K, V> getSortedEntries() {
+        SortedEntries<K, V> entries = sortedEntries;
+        if (entries == null) {
+            synchronized (this) {
+                entries = sortedEntries;
+                if (entries == null) {
+                    entries = SortedEntries.moveFrom(getTreeMap());
+                    sortedEntries = entries;
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the structure has been searched before, the mappings are moved back from the sorted
+     * arrays into the map.
+     */
     @Override
     protected TreeMap<K, V> getMap() {
+        TreeMap<K, V> map = getTreeMap();
+        SortedEntries<K, V> entries = sortedEntries;
+        if (entries != null) {
+            entries.moveTo(map);
+            sortedEntries = null;
+        }
+        return map;
+    }
+
+    private TreeMap<K, V> getTreeMap() {
         return (TreeMap<K, V>)super.getMap();
     }
 
+    @Override
+    protected Collection<V> getValues() {
+        return getSortedEntries().getValues();
+    }
+
     @Override
     public void merge(RangeStructure<K, V, R> map) {
         super.merge(map);
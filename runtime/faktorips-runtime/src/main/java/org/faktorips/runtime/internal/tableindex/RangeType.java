@@ -10,6 +10,7 @@
 
 package org.faktorips.runtime.internal.tableindex;
 
+import java.util.Arrays;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.TreeMap;
@@ -57,6 +58,15 @@ public enum RangeType {
             }
             return getLowerValueIfNeccessary(tree, key, floorEntry);
         }
+
+        @Override
+        int getIndex(Object[] sortedKeys, Object key) {
+            if (ObjectUtil.isNull(key)) {
+                return -1;
+            }
+            int index = Arrays.binarySearch(sortedKeys, key);
+            return index >= 0 ? index - 1 : -index - 2;
+        }
     },
 
     /**
@@ -76,6 +86,15 @@ public enum RangeType {
             Entry<K, V> floorEntry = tree.floorEntry(key);
             return getOptionalValue(floorEntry);
         }
+
+        @Override
+        int getIndex(Object[] sortedKeys, Object key) {
+            if (ObjectUtil.isNull(key)) {
+                return -1;
+            }
+            int index = Arrays.binarySearch(sortedKeys, key);
+            return index >= 0 ? index : -index - 2;
+        }
     },
 
     /**
@@ -105,6 +124,16 @@ public enum RangeType {
             }
             return getHigherValueIfNeccessary(tree, key, ceilingEntry);
         }
+
+        @Override
+        int getIndex(Object[] sortedKeys, Object key) {
+            if (ObjectUtil.isNull(key)) {
+                return -1;
+            }
+            int index = Arrays.binarySearch(sortedKeys, key);
+            int higherIndex = index >= 0 ? index + 1 : -index - 1;
+            return higherIndex < sortedKeys.length ? higherIndex : -1;
+        }
     },
 
     /**
@@ -124,6 +153,16 @@ public enum RangeType {
             Entry<K, V> ceilingEntry = tree.ceilingEntry(key);
             return getOptionalValue(ceilingEntry);
         }
+
+        @Override
+        int getIndex(Object[] sortedKeys, Object key) {
+            if (ObjectUtil.isNull(key)) {
+                return -1;
+            }
+            int index = Arrays.binarySearch(sortedKeys, key);
+            int ceilingIndex = index >= 0 ? index : -index - 1;
+            return ceilingIndex < sortedKeys.length ? ceilingIndex : -1;
+        }
     };
 
     /**
@@ -150,6 +189,18 @@ public enum RangeType {
      */
     public abstract <K extends Comparable<? super K>, V> Optional<V> findValue(TreeMap<K, V> tree, K key);
 
+    /**
+     * Returns the index of the matching value for the given key, using the same strategy as
+     * {@link #getValue(TreeMap, Comparable)}, but searching the keys of the map as an array sorted
+     * in ascending order. This does not create any objects.
+     *
+     * @param sortedKeys the keys sorted in ascending order
+     * @param key the key to search, must not be <code>null</code>
+     * @return the index of the matching key in the array or <code>-1</code> if no matching value
+     *             could be found or the key is a null object.
+     */
+    abstract int getIndex(Object[] sortedKeys, Object key);
+
     private static <K extends Comparable<? super K>, V> Optional<V> getLowerValueIfNeccessary(TreeMap<K, V> tree,
             K key,
             Entry<K, V> floorEntry) {
@@ -13,6 +13,7 @@ package org.faktorips.runtime.internal.tableindex;
 import java.sql.ResultSet;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -36,7 +37,15 @@ public class ResultStructure<R> extends SearchStructure<R> implements MergeAndCo
     }
 
     ResultStructure(Set<R> result) {
-        resultSet = new HashSet<>(result);
+        this(result, true);
+    }
+
+    /**
+     * Creates a {@link ResultStructure} with the given result values. Subclasses that keep their
+     * result values themselves pass an empty set without copying it.
+     */
+    ResultStructure(Set<R> result, boolean copy) {
+        resultSet = copy ? new HashSet<>(result) : result;
     }
 
     /**
@@ -53,6 +62,15 @@ public class ResultStructure<R> extends SearchStructure<R> implements MergeAndCo
         return new ResultStructure<>(resultValues);
     }
 
+    /**
+     * Creates a new {@link ResultStructure} with the row at the given index of the given rows as its
+     * only result value. Instead of the row only the index is kept, so the rows can be stored in a
+     * compact form like {@link org.faktorips.runtime.internal.ColumnarRows ColumnarRows}.
+     */
+    public static <R> ResultStructure<R> createWithRowIndex(List<R> rows, int rowIndex) {
+        return new RowIndexResultStructure<>(rows, new int[] { rowIndex });
+    }
+
     @Override
     public SearchStructure<R> get(Object key) {
         return this;
@@ -65,7 +83,7 @@ public class ResultStructure<R> extends SearchStructure<R> implements MergeAndCo
 
     @Override
     public void merge(ResultStructure<R> otherStructure) {
-        resultSet.addAll(otherStructure.resultSet);
+        resultSet.addAll(otherStructure.get());
     }
 
     @Override
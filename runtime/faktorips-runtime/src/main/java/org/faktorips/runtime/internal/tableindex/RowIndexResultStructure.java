@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ * 
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ * 
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+
+package org.faktorips.runtime.internal.tableindex;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@link ResultStructure} that keeps the sorted indices of its result rows instead of the rows
+ * themselves. The rows are read from the table's row list when the result is requested.
+ */
+final class RowIndexResultStructure<R> extends ResultStructure<R> {
+
+    private final List<R> rows;
+
+    private int[] rowIndices;
+
+    RowIndexResultStructure(List<R> rows, int[] rowIndices) {
+        super(Collections.emptySet(), false);
+        this.rows = rows;
+        this.rowIndices = rowIndices;
+    }
+
+    @Override
+    public Set<R> get() {
+        if (rowIndices.length == 1) {
+            return Collections.singleton(rows.get(rowIndices[0]));
+        }
+        Set<R> resultSet = new HashSet<>(rowIndices.length * 4 / 3 + 1);
+        for (int rowIndex : rowIndices) {
+            resultSet.add(rows.get(rowIndex));
+        }
+        return Collections.unmodifiableSet(resultSet);
+    }
+
+    @Override
+    public void merge(ResultStructure<R> otherStructure) {
+        if (otherStructure instanceof RowIndexResultStructure<R> other && other.rows == rows) {
+            rowIndices = union(rowIndices, other.rowIndices);
+        } else {
+            throw new IllegalArgumentException(
+                    "Cannot merge " + this + " with a result structure that does not refer to the same rows.");
+        }
+    }
+
+    private static int[] union(int[] indices, int[] otherIndices) {
+        int[] union = new int[indices.length + otherIndices.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < indices.length || j < otherIndices.length) {
+            int next;
+            if (j >= otherIndices.length || (i < indices.length && indices[i] <= otherIndices[j])) {
+                next = indices[i++];
+            } else {
+                next = otherIndices[j++];
+            }
+            if (k == 0 || union[k - 1] != next) {
+                union[k++] = next;
+            }
+        }
+        return k == union.length ? union : Arrays.copyOf(union, k);
+    }
+
+    @Override
+    public ResultStructure<R> copy() {
+        return new RowIndexResultStructure<>(rows, rowIndices.clone());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(rowIndices);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if ((obj == null) || (getClass() != obj.getClass())) {
+            return false;
+        }
+        RowIndexResultStructure<?> other = (RowIndexResultStructure<?>)obj;
+        return rows == other.rows && Arrays.equals(rowIndices, other.rowIndices);
+    }
+
+    @Override
+    public String toString() {
+        return "RowIndexResultStructure [rowIndices=" + Arrays.toString(rowIndices) + "]";
+    }
+
+}
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ * 
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ * 
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+
+package org.faktorips.runtime.internal.tableindex;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@link UniqueResultStructure} that keeps the index of its result row instead of the row itself.
+ * The row is read from the table's row list when the result is requested.
+ */
+final class RowIndexUniqueResultStructure<R> extends UniqueResultStructure<R> {
+
+    private final List<R> rows;
+
+    private final int rowIndex;
+
+    RowIndexUniqueResultStructure(List<R> rows, int rowIndex) {
+        this.rows = rows;
+        this.rowIndex = rowIndex;
+    }
+
+    @Override
+    public Set<R> get() {
+        return Collections.singleton(rows.get(rowIndex));
+    }
+
+    @Override
+    public R getUnique(R defaultValue) {
+        return rows.get(rowIndex);
+    }
+
+    @Override
+    public R getUnique() {
+        return rows.get(rowIndex);
+    }
+
+    @Override
+    public int hashCode() {
+        return rowIndex;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if ((obj == null) || (getClass() != obj.getClass())) {
+            return false;
+        }
+        RowIndexUniqueResultStructure<?> other = (RowIndexUniqueResultStructure<?>)obj;
+        return rows == other.rows && rowIndex == other.rowIndex;
+    }
+
+    @Override
+    public String toString() {
+        return "RowIndexUniqueResultStructure [" + rowIndex + "]";
+    }
+
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.internal.tableindex;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * The keys and values of a {@link TreeMap} as two arrays, sorted by key in ascending order. The
+ * range structures search these arrays by a binary search. As the arrays do not need an entry
+ * object per mapping, the structures keep only the arrays once they have been searched and move
+ * the mappings back into their {@link TreeMap} only if they are changed again.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+final class SortedEntries<K, V> {
+
+    private final Object[] keys;
+
+    private final Object[] values;
+
+    private SortedEntries(Object[] keys, Object[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * Creates the sorted entries of the given map and clears the map.
+     */
+    static <K, V> SortedEntries<K, V> moveFrom(TreeMap<K, V> map) {
+        SortedEntries<K, V> entries = new SortedEntries<>(map.keySet().toArray(), map.values().toArray());
+        map.clear();
+        return entries;
+    }
+
+    /**
+     * Puts all entries into the given map.
+     */
+    @SuppressWarnings("unchecked")
+    void moveTo(TreeMap<K, V> map) {
+        for (int i = 0; i < keys.length; i++) {
+            map.put((K)keys[i], (V)values[i]);
+        }
+    }
+
+    Object[] getKeys() {
+        return keys;
+    }
+
+    @SuppressWarnings("unchecked")
+    K getKey(int index) {
+        return (K)keys[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    V getValue(int index) {
+        return (V)values[index];
+    }
+
+    int size() {
+        return keys.length;
+    }
+
+    /**
+     * Returns the values as an unmodifiable list.
+     */
+    @SuppressWarnings("unchecked")
+    List<V> getValues() {
+        return (List<V>)Collections.unmodifiableList(Arrays.asList(values));
+    }
+
+}
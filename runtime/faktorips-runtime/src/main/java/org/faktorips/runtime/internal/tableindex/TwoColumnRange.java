@@ -140,6 +140,22 @@ class TwoColumnRange<K extends Comparable<? super K>> implements Comparable<TwoC
         return upperBound.compareTo(otherKey.upperBound);
     }
 
+    /**
+     * Compares the lower bound of this range to the given value, like {@link #compareTo} compares
+     * this range to the range <code>[value..value]</code>, but without creating that range.
+     */
+    int compareLowerBoundTo(K value) {
+        return lowerBound.compareToValue(value, IntervalDirection.RIGHT);
+    }
+
+    /**
+     * Returns whether the upper bound of this range is not below the given value, that is whether
+     * the given value is not above this range.
+     */
+    boolean isUpperBoundNotBelow(K value) {
+        return upperBound.compareToValue(value, IntervalDirection.LEFT) >= 0;
+    }
+
     /**
      * Checks whether this range overlaps with the other range.
      * <p>
@@ -279,6 +295,21 @@ class TwoColumnRange<K extends Comparable<? super K>> implements Comparable<TwoC
             }
         }
 
+        /**
+         * Compares this bound to the bound with the given value and direction without creating it.
+         */
+        int compareToValue(K value, IntervalDirection valueDirection) {
+            if (isInfinity()) {
+                return direction == IntervalDirection.LEFT ? -1 : 1;
+            }
+            int compareValue = boundaryValue.compareTo(value);
+            if (direction == valueDirection || compareValue != 0) {
+                return compareValue;
+            } else {
+                return direction == IntervalDirection.RIGHT ? -1 : 1;
+            }
+        }
+
         private int compareInfinity(Bound<K> otherBound) {
             if (isInfinity() && otherBound.isInfinity()) {
                 if (direction == otherBound.direction) {
@@ -10,6 +10,7 @@
 
 package org.faktorips.runtime.internal.tableindex;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.TreeMap;
@@ -52,11 +53,17 @@ import org.faktorips.values.ObjectUtil;
  * maps to {"AAA"}. This range includes all values less than and equal to 100. Calling
  * <code>put(0, null, "BBB")</code> in turn defines a range from 0 to positive infinity. This range
  * includes all values greater than and equal to 0.
+ * <p>
+ * Lookups are done by a binary search in an array of the sorted ranges that is created on the first
+ * call to {@link #get(Object)} after the structure has been changed. Until the structure is changed
+ * again, only the arrays are kept, as they need less memory than the {@link TreeMap}.
  */
 public class TwoColumnRangeStructure<K extends Comparable<? super K>, V extends SearchStructure<R> & MergeAndCopyStructure<V>, R>
         extends AbstractMapStructure<TwoColumnRange<K>, V, R> implements
         MergeAndCopyStructure<TwoColumnRangeStructure<K, V, R>> {
 
+    private volatile SortedEntries<TwoColumnRange<K>, V> sortedEntries;
+
     TwoColumnRangeStructure() {
         super(new TreeMap<>());
     }
@@ -117,55 +124,81 @@ public class TwoColumnRangeStructure<K extends Comparable<? super K>, V extends
         new OverlappingRangePutter<>(getMap()).put(key, value);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the structure has been searched before, the mappings are moved back from the sorted
+     * arrays into the map.
+     */
     @Override
     protected TreeMap<TwoColumnRange<K>, V> getMap() {
+        TreeMap<TwoColumnRange<K>, V> map = getTreeMap();
+        SortedEntries<TwoColumnRange<K>, V> entries = sortedEntries;
+        if (entries != null) {
+            entries.moveTo(map);
+            sortedEntries = null;
+        }
+        return map;
+    }
+
+    private TreeMap<TwoColumnRange<K>, V> getTreeMap() {
         return (TreeMap<TwoColumnRange<K>, V>)super.getMap();
     }
 
+    @Override
+    protected Collection<V> getValues() {
+        return getSortedEntries().getValues();
+    }
+
     @Override
     public SearchStructure<R> get(Object key) {
         if (ObjectUtil.isNull(key)) {
             return emptyResult();
         } else {
-            TwoColumnRange<K> twoColumnKey = createTwoColumnKey(key);
-            V result = getMatchingValue(twoColumnKey);
+            @SuppressWarnings("unchecked")
+            K kKey = (K)key;
+            V result = getMatchingValue(kKey);
             return getValidResult(result);
         }
     }
 
-    private TwoColumnRange<K> createTwoColumnKey(Object key) {
-        @SuppressWarnings("unchecked")
-        K kKey = (K)key;
-        return new TwoColumnRange<>(kKey, kKey);
-    }
-
     /**
-     * Returns the value mapped by the given TwoColumnRange/range or <code>null</code> if no
-     * matching value can be found.
-     * <p>
-     * A simple get on the tree map might not yield the correct result (if any at all). This is due
-     * to the fact that {@link TwoColumnRange}'s equals()/hashCode() considers only the lowerBound.
-     * Thus it will only find a value requesting the same lower bound (when calling the
-     * {@link Map#get(Object)} method directly). Mostly though, this is not the case.
-     * {@link #get(Object)} is called for values <em>within</em> such a range.
-     * <p>
-     * This method uses the {@link TreeMap#floorEntry(Object)} method to retrieve the entry holding
-     * the value for the next lower key. For example: the map contains key (10-20); Asking for
-     * (15-15) will find the entry for (10-20) as it is the one with the next lower bound. Asking
-     * for (15-25) will yield <code>null</code> however as the requested range does not fully
-     * overlap with the range defined by the {@link TreeMap}.
+     * Searches the range with the greatest lower bound not above the given key, the only range
+     * that may contain the key because the ranges in the map never overlap.
      */
-    private V getMatchingValue(TwoColumnRange<K> twoColumnKey) {
-        Entry<TwoColumnRange<K>, V> floorEntry = getMap().floorEntry(twoColumnKey);
-        if (isMatchingEntry(twoColumnKey, floorEntry)) {
-            return floorEntry.getValue();
+    private V getMatchingValue(K key) {
+        SortedEntries<TwoColumnRange<K>, V> entries = getSortedEntries();
+        int low = 0;
+        int high = entries.size() - 1;
+        int floorIndex = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (entries.getKey(mid).compareLowerBoundTo(key) <= 0) {
+                floorIndex = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (floorIndex >= 0 && entries.getKey(floorIndex).isUpperBoundNotBelow(key)) {
+            return entries.getValue(floorIndex);
         } else {
             return null;
         }
     }
 
-    private boolean isMatchingEntry(TwoColumnRange<K> twoColumnKey, Entry<TwoColumnRange<K>, V> floorEntry) {
-        return floorEntry != null && twoColumnKey.compareToUpperBound(floorEntry.getKey()) <= 0;
+    private SortedEntries<TwoColumnRange<K>, V> getSortedEntries() {
+        SortedEntries<TwoColumnRange<K>, V> entries = sortedEntries;
+        if (entries == null) {
+            synchronized (this) {
+                entries = sortedEntries;
+                if (entries == null) {
+                    entries = SortedEntries.moveFrom(getTreeMap());
+                    sortedEntries = entries;
+                }
+            }
+        }
+        return entries;
     }
 
     @Override
@@ -450,4 +483,7 @@ public class TwoColumnRangeStructure<K extends Comparable<? super K>, V extends
         }
     }
 
+    /**
+     * The ranges and values of the map as arrays, sorted by lower bound in ascending order.
+     */
 }
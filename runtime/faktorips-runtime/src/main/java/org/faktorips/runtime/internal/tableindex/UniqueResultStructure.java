@@ -11,7 +11,8 @@
 package org.faktorips.runtime.internal.tableindex;
 
 import java.sql.ResultSet;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -35,6 +36,13 @@ public class UniqueResultStructure<R> extends SearchStructure<R> implements
         uniqueResult = result;
     }
 
+    /**
+     * Constructor for subclasses that keep their result value themselves.
+     */
+    UniqueResultStructure() {
+        uniqueResult = null;
+    }
+
     /**
      * Creates a new {@link ResultSet} with the given resultValue as its only result value. The
      * resultValue must not be null.
@@ -43,6 +51,15 @@ public class UniqueResultStructure<R> extends SearchStructure<R> implements
         return new UniqueResultStructure<>(resultValue);
     }
 
+    /**
+     * Creates a new {@link UniqueResultStructure} with the row at the given index of the given rows
+     * as its only result value. Instead of the row only the index is kept, so the rows can be stored
+     * in a compact form like {@link org.faktorips.runtime.internal.ColumnarRows ColumnarRows}.
+     */
+    public static <R> UniqueResultStructure<R> createWithRowIndex(List<R> rows, int rowIndex) {
+        return new RowIndexUniqueResultStructure<>(rows, rowIndex);
+    }
+
     @Override
     public SearchStructure<R> get(Object key) {
         return this;
@@ -50,15 +67,13 @@ public class UniqueResultStructure<R> extends SearchStructure<R> implements
 
     @Override
     public Set<R> get() {
-        HashSet<R> result = new HashSet<>();
-        result.add(uniqueResult);
-        return result;
+        return Collections.singleton(uniqueResult);
     }
 
     @Override
     public void merge(UniqueResultStructure<R> otherStructure) {
         throw new UnsupportedOperationException("Unique key violation: " + this + " cannot be merged with "
-                + otherStructure.uniqueResult + "");
+                + otherStructure.getUnique() + "");
     }
 
     @Override
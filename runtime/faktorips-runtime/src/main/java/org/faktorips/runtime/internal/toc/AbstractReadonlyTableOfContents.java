@@ -108,7 +108,44 @@ public abstract class AbstractReadonlyTableOfContents implements IReadonlyTableO
      * Initializes the table of contents with data stored in the xml element.
      */
     public void initFromXml(Element tocElement) {
-        productDataVersion = tocElement.getAttribute(PRODUCT_DATA_VERSION_XML_ELEMENT);
+        initProductDataVersion(tocElement.getAttribute(PRODUCT_DATA_VERSION_XML_ELEMENT));
+        NodeList nl = tocElement.getChildNodes();
+        for (int i = 0; i < nl.getLength(); i++) {
+            if (nl.item(i) instanceof Element entryElement) {
+                internalAddEntry(createEntryFromXml(entryElement));
+            }
+        }
+    }
+
+    /**
+     * Initializes the table of contents with the given entries, that were read before from the
+     * xml element of a table of contents, in the order they were read.
+     *
+     * @param productDataVersion the product data version as found in the xml element, a maven
+     *            version is resolved like in {@link #initFromXml(Element)}
+     * @param entries the entries of the table of contents
+     *
+     * @since 27.1
+     */
+    public void initFromEntries(String productDataVersion, List<? extends TocEntryObject> entries) {
+        initProductDataVersion(productDataVersion);
+        entries.forEach(this::internalAddEntry);
+    }
+
+    /**
+     * Creates the entry stored in the given xml element of a table of contents, using the
+     * {@link ITocEntryFactory} registered for the element's tag.
+     *
+     * @since 27.1
+     */
+    public TocEntryObject createEntryFromXml(Element entryElement) {
+        return getTocEntryFactoriesByXmlTag()
+                .get(entryElement.getNodeName())
+                .createFromXml(entryElement);
+    }
+
+    private void initProductDataVersion(String version) {
+        productDataVersion = version;
         if (productDataVersion == null) {
             productDataVersion = "0";
         }
@@ -116,15 +153,6 @@ public abstract class AbstractReadonlyTableOfContents implements IReadonlyTableO
         if (productDataVersion.startsWith("mvn:")) {
             productDataVersion = fromMaven(productDataVersion);
         }
-        NodeList nl = tocElement.getChildNodes();
-        for (int i = 0; i < nl.getLength(); i++) {
-            if (nl.item(i) instanceof Element entryElement) {
-                internalAddEntry(
-                        getTocEntryFactoriesByXmlTag()
-                                .get(entryElement.getNodeName())
-                                .createFromXml(entryElement));
-            }
-        }
     }
 
     private String fromMaven(String mga) {
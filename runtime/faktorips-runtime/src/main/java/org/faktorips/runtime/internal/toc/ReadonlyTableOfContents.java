@@ -115,6 +115,12 @@ public class ReadonlyTableOfContents extends AbstractReadonlyTableOfContents {
         super.initFromXml(tocElement);
     }
 
+    @Override
+    public void initFromEntries(String productDataVersion, List<? extends TocEntryObject> entries) {
+        initHashMaps(entries.size());
+        super.initFromEntries(productDataVersion, entries);
+    }
+
     protected void initHashMaps(int tocSize) {
         /*
          * The size of the HashMaps is set to estimated values depending on the maximum size of the
@@ -10,8 +10,14 @@
 
 package org.faktorips.runtime.model;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import org.faktorips.annotation.UtilityClass;
 import org.faktorips.runtime.IModelObject;
@@ -21,7 +27,6 @@ import org.faktorips.runtime.ITable;
 import org.faktorips.runtime.IValidationContext;
 import org.faktorips.runtime.Message;
 import org.faktorips.runtime.MessageList;
-import org.faktorips.runtime.caching.Memoizer;
 import org.faktorips.runtime.model.annotation.AnnotatedDeclaration;
 import org.faktorips.runtime.model.annotation.IpsEnumType;
 import org.faktorips.runtime.model.annotation.IpsExtensibleEnum;
@@ -38,60 +43,82 @@ import org.faktorips.runtime.model.type.Type;
  * Repository of Faktor-IPS model information. This class should be used to obtain model instances
  * from runtime classes or their instances instead of using the constructors. By caching model
  * information, this class operates more efficiently if model information is retrieved repeatedly.
+ * <p>
+ * The model information is cached with the runtime classes it is created for. It is kept as long as
+ * the classes are loaded and is released together with their class loader.
  */
 @UtilityClass
 public enum IpsModel {
     /* no instances */;
 
-    private static final Memoizer<Class<? extends ITable<?>>, TableStructure> TABLE_MODEL_CACHE = Memoizer
-            .of(TableStructure.class, tableObjectClass -> {
-                if (tableObjectClass.isAnnotationPresent(IpsTableStructure.class)) {
-                    return new TableStructure(tableObjectClass);
-                } else {
-                    throw new IllegalArgumentException(
-                            "The class " + tableObjectClass.getName() + " is not annotated as IpsTableStructure.");
-                }
-            });
-
-    private static final Memoizer<Class<?>, EnumType> ENUM_MODEL_CACHE = Memoizer.of(EnumType.class,
-            enumObjectClass -> {
-                if (enumObjectClass.isAnnotationPresent(IpsEnumType.class)) {
-                    return new EnumType(enumObjectClass);
-                } else {
-                    throw new IllegalArgumentException(
-                            "The class " + enumObjectClass.getName() + " is not annotated as IpsEnumType.");
-                }
-            });
+    private static final ClassValue<TableStructure> TABLE_MODEL_CACHE = new ClassValue<>() {
+        @SuppressWarnings("unchecked")
+        @Override
+        protected TableStructure computeValue(Class<?> tableObjectClass) {
+            if (tableObjectClass.isAnnotationPresent(IpsTableStructure.class)) {
+                return new TableStructure((Class<? extends ITable<?>>)tableObjectClass);
+            } else {
+                throw new IllegalArgumentException(
+                        "The class " + tableObjectClass.getName() + " is not annotated as IpsTableStructure.");
+            }
+        }
+    };
 
-    private static final Memoizer<AnnotatedDeclaration, ProductCmptType> PRODUCT_MODEL_CACHE = Memoizer
-            .of(ProductCmptType.class, annotatedDeclaration -> {
-                if (annotatedDeclaration.is(IpsProductCmptType.class)) {
-                    String name = annotatedDeclaration.get(IpsProductCmptType.class).name();
-                    return new ProductCmptType(name, annotatedDeclaration);
-                } else {
-                    throw new IllegalArgumentException("The class " + annotatedDeclaration.getDeclarationClassName()
-                            + " is not annotated as product component type.");
-                }
-            });
+    private static final ClassValue<EnumType> ENUM_MODEL_CACHE = new ClassValue<>() {
+        @Override
+        protected EnumType computeValue(Class<?> enumObjectClass) {
+            if (enumObjectClass.isAnnotationPresent(IpsEnumType.class)) {
+                return new EnumType(enumObjectClass);
+            } else {
+                throw new IllegalArgumentException(
+                        "The class " + enumObjectClass.getName() + " is not annotated as IpsEnumType.");
+            }
+        }
+    };
 
-    private static final Memoizer<AnnotatedDeclaration, PolicyCmptType> POLICY_MODEL_CACHE = Memoizer
-            .of(PolicyCmptType.class, annotatedModelType -> {
-                if (annotatedModelType.is(IpsPolicyCmptType.class)) {
-                    String name = annotatedModelType.get(IpsPolicyCmptType.class).name();
-                    return new PolicyCmptType(name, annotatedModelType);
-                } else {
-                    throw new IllegalArgumentException("The class " + annotatedModelType.getDeclarationClassName()
-                            + " is not annotated as policy component type.");
-                }
-            });
+    /**
+     * Product component types by the {@linkplain #getDeclarationKey(AnnotatedDeclaration) key} of
+     * their annotated declaration.
+     */
+    private static final ClassValue<ProductCmptType> PRODUCT_MODEL_CACHE = new ClassValue<>() {
+        @Override
+        protected ProductCmptType computeValue(Class<?> declarationKey) {
+            AnnotatedDeclaration annotatedDeclaration = AnnotatedDeclaration.from(declarationKey);
+            if (annotatedDeclaration.is(IpsProductCmptType.class)) {
+                String name = annotatedDeclaration.get(IpsProductCmptType.class).name();
+                return new ProductCmptType(name, annotatedDeclaration);
+            } else {
+                throw new IllegalArgumentException("The class " + annotatedDeclaration.getDeclarationClassName()
+                        + " is not annotated as product component type.");
+            }
+        }
+    };
 
-    private static <K, V> V get(Memoizer<K, V> memoizer, K key) {
-        try {
-            return memoizer.compute(key);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RuntimeException(e);
+    /**
+     * Policy component types by the {@linkplain #getDeclarationKey(AnnotatedDeclaration) key} of
+     * their annotated declaration.
+     */
+    private static final ClassValue<PolicyCmptType> POLICY_MODEL_CACHE = new ClassValue<>() {
+        @Override
+        protected PolicyCmptType computeValue(Class<?> declarationKey) {
+            AnnotatedDeclaration annotatedModelType = AnnotatedDeclaration.from(declarationKey);
+            if (annotatedModelType.is(IpsPolicyCmptType.class)) {
+                String name = annotatedModelType.get(IpsPolicyCmptType.class).name();
+                return new PolicyCmptType(name, annotatedModelType);
+            } else {
+                throw new IllegalArgumentException("The class " + annotatedModelType.getDeclarationClassName()
+                        + " is not annotated as policy component type.");
+            }
         }
+    };
+
+    /**
+     * Returns the class a type for the given declaration is cached for. The published interface and
+     * its implementation share the same type, so the implementation class is used if there is one.
+     */
+    private static Class<?> getDeclarationKey(AnnotatedDeclaration annotatedDeclaration) {
+        Class<?> implementationClass = annotatedDeclaration.getImplementationClass();
+        return implementationClass != null ? implementationClass : annotatedDeclaration.getPublishedInterface();
     }
 
     /**
@@ -100,7 +127,7 @@ public enum IpsModel {
      *             class
      */
     public static TableStructure getTableStructure(Class<? extends ITable<?>> tableObjectClass) {
-        return get(TABLE_MODEL_CACHE, tableObjectClass);
+        return TABLE_MODEL_CACHE.get(tableObjectClass);
     }
 
     /**
@@ -142,7 +169,7 @@ public enum IpsModel {
                 && implementationClass.getSuperclass() != null) {
             annotatedDeclaration = AnnotatedDeclaration.from(implementationClass.getSuperclass());
         }
-        return get(PRODUCT_MODEL_CACHE, annotatedDeclaration);
+        return PRODUCT_MODEL_CACHE.get(getDeclarationKey(annotatedDeclaration));
     }
 
     /**
@@ -175,7 +202,7 @@ public enum IpsModel {
      * @see #isPolicyCmptType(Class)
      */
     public static PolicyCmptType getPolicyCmptType(Class<? extends IModelObject> policyModelClass) {
-        return get(POLICY_MODEL_CACHE, AnnotatedDeclaration.from(policyModelClass));
+        return POLICY_MODEL_CACHE.get(getDeclarationKey(AnnotatedDeclaration.from(policyModelClass)));
     }
 
     /**
@@ -238,7 +265,7 @@ public enum IpsModel {
      * @see #isEnumType(Class)
      */
     public static EnumType getEnumType(Class<?> enumObjectClass) {
-        return get(ENUM_MODEL_CACHE, enumObjectClass);
+        return ENUM_MODEL_CACHE.get(enumObjectClass);
     }
 
     /**
@@ -267,11 +294,87 @@ public enum IpsModel {
      * @since 25.1
      */
     public static MessageList validate(IRuntimeRepository repository, IValidationContext context) {
+        return validate(repository, context, new ModelValidationOptions().setExecutor(Runnable::run));
+    }
+
+    /**
+     * Validates all product components and enum values in the given repository against their model,
+     * in parallel using the {@link ModelValidationOptions#getExecutor() executor} of the given
+     * options. Every product component (together with its generations) and the values of every enum
+     * are validated by a task of their own.
+     * <p>
+     * The messages are returned in the order of the validated objects in the repository, regardless
+     * of the order in which the tasks finish. If the validation stops early because of
+     * {@link ModelValidationOptions#isFailFast() fail-fast} or the
+     * {@link ModelValidationOptions#getMaxMessages() maximum number of messages}, which objects have
+     * been validated depends on the scheduling of the tasks.
+     *
+     * @see #validate(IRuntimeRepository, IValidationContext)
+     *
+     * @param context the {@link IValidationContext}, needed to determine the {@link Locale} in
+     *            which to create {@link Message Messages}
+     * @param options defining the executor and when to stop the validation
+     * @return a {@link MessageList} containing the validation messages
+     *
+     * @since 27.1
+     */
+    public static MessageList validate(IRuntimeRepository repository,
+            IValidationContext context,
+            ModelValidationOptions options) {
+        List<Consumer<MessageList>> validations = new ArrayList<>();
+        for (String id : repository.getAllProductComponentIds()) {
+            validations.add(messages -> {
+                IProductComponent productComponent = repository.getExistingProductComponent(id);
+                getProductCmptType(productComponent).validate(productComponent, messages, context);
+            });
+        }
+        for (Class<?> enumClass : repository.getAllEnumClasses()) {
+            validations.add(messages -> getEnumType(enumClass).validate(messages, context,
+                    repository.getEnumValues(enumClass)));
+        }
+
+        MessageList[] results = new MessageList[validations.size()];
+        AtomicBoolean stopped = new AtomicBoolean();
+        AtomicInteger messageCount = new AtomicInteger();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[validations.size()];
+        for (int i = 0; i < futures.length; i++) {
+            int index = i;
+            futures[i] = CompletableFuture.runAsync(() -> {
+                if (stopped.get()) {
+                    return;
+                }
+                MessageList messages = new MessageList();
+                validations.get(index).accept(messages);
+                results[index] = messages;
+                if ((options.isFailFast() && messages.containsErrorMsg())
+                        || messageCount.addAndGet(messages.size()) >= options.getMaxMessages()) {
+                    stopped.set(true);
+                }
+            }, options.getExecutor());
+        }
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+        return merge(results, options.getMaxMessages());
+    }
+
+    private static MessageList merge(MessageList[] results, int maxMessages) {
         MessageList messages = new MessageList();
-        repository.getAllProductComponents()
-                .forEach(p -> IpsModel.getProductCmptType(p).validate(p, messages, context));
-        repository.getAllEnumClasses().stream().map(IpsModel::getEnumType)
-                .forEach(et -> et.validate(messages, context, repository.getEnumValues(et.getEnumClass())));
+        for (MessageList result : results) {
+            if (result != null) {
+                for (Message message : result) {
+                    if (messages.size() >= maxMessages) {
+                        return messages;
+                    }
+                    messages.add(message);
+                }
+            }
+        }
         return messages;
     }
 
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.model;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.faktorips.runtime.IRuntimeRepository;
+import org.faktorips.runtime.IValidationContext;
+
+/**
+ * Options for {@link IpsModel#validate(IRuntimeRepository, IValidationContext, ModelValidationOptions)
+ * validating} all product components and enum values of a runtime repository. By default all
+ * objects are validated using the {@link ForkJoinPool#commonPool() common pool} and all messages
+ * are returned.
+ *
+ * @since 27.1
+ */
+public class ModelValidationOptions {
+
+    private Executor executor = ForkJoinPool.commonPool();
+
+    private boolean failFast;
+
+    private int maxMessages = Integer.MAX_VALUE;
+
+    /**
+     * The {@link Executor} validating the objects in parallel. Use a single threaded executor or
+     * {@code Runnable::run} to validate them sequentially.
+     */
+    public ModelValidationOptions setExecutor(Executor executor) {
+        this.executor = Objects.requireNonNull(executor);
+        return this;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Defines whether the validation stops after the first object with an error message, disabled
+     * by default. Objects that are already being validated at that moment are still finished.
+     */
+    public ModelValidationOptions setFailFast(boolean failFast) {
+        this.failFast = failFast;
+        return this;
+    }
+
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    /**
+     * The maximum number of messages that are returned. The validation stops as soon as this number
+     * of messages is reached.
+     */
+    public ModelValidationOptions setMaxMessages(int maxMessages) {
+        if (maxMessages < 1) {
+            throw new IllegalArgumentException("The maximum number of messages must be positive: " + maxMessages);
+        }
+        this.maxMessages = maxMessages;
+        return this;
+    }
+
+    public int getMaxMessages() {
+        return maxMessages;
+    }
+
+}
@@ -19,8 +19,6 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
-import org.faktorips.runtime.caching.Memoizer;
-
 /**
  * Helper class that represents a type that was generated by Faktor-IPS with meta data in its
  * annotations. The meta data for a type is split into interface and implementation, sometimes only
@@ -30,11 +28,21 @@ import org.faktorips.runtime.caching.Memoizer;
  */
 public class AnnotatedDeclaration {
 
-    private static final Memoizer<Class<?>, AnnotatedDeclaration> ANNOTATED_TYPE_CACHE = Memoizer
-            .of(AnnotatedDeclaration.class, AnnotatedDeclaration::new);
+    private static final ClassValue<AnnotatedDeclaration> ANNOTATED_TYPE_CACHE = new ClassValue<>() {
+        @Override
+        protected AnnotatedDeclaration computeValue(Class<?> generatedClass) {
+            return new AnnotatedDeclaration(generatedClass);
+        }
+    };
 
     private final List<Class<?>> annotatedClasses = new ArrayList<>();
 
+    /** The declared fields of all annotated classes, read once when they are first requested */
+    private volatile List<Field> declaredFields;
+
+    /** The declared methods of all annotated classes, read once when they are first requested */
+    private volatile List<Method> declaredMethods;
+
     private AnnotatedDeclaration(Class<?> modelClass) {
         add(getPublishedInterface(modelClass));
         add(getImplementationClass(modelClass));
@@ -54,12 +62,7 @@ public class AnnotatedDeclaration {
      * @return An instance of {@link AnnotatedDeclaration} for the given generated class
      */
     public static AnnotatedDeclaration from(Class<?> generatedClass) {
-        try {
-            return ANNOTATED_TYPE_CACHE.compute(generatedClass);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RuntimeException(e);
-        }
+        return ANNOTATED_TYPE_CACHE.get(generatedClass);
     }
 
     /**
@@ -104,11 +107,16 @@ public class AnnotatedDeclaration {
      * @return A list of fields that are declared in this type
      */
     public List<Field> getDeclaredFields() {
-        ArrayList<Field> result = new ArrayList<>();
-        for (Class<?> annotatedClass : annotatedClasses) {
-            result.addAll(Arrays.asList(annotatedClass.getDeclaredFields()));
+        List<Field> fields = declaredFields;
+        if (fields == null) {
+            ArrayList<Field> result = new ArrayList<>();
+            for (Class<?> annotatedClass : annotatedClasses) {
+                result.addAll(Arrays.asList(annotatedClass.getDeclaredFields()));
+            }
+            fields = List.copyOf(result);
+            declaredFields = fields;
         }
-        return result;
+        return new ArrayList<>(fields);
     }
 
     /**
@@ -119,17 +127,22 @@ public class AnnotatedDeclaration {
      * @return A list of fields that are declared in this type
      */
     public List<Method> getDeclaredMethods() {
-        ArrayList<Method> result = new ArrayList<>();
-        for (Class<?> annotatedClass : annotatedClasses) {
-            for (Method declaredMethod : annotatedClass.getDeclaredMethods()) {
-                // filter out overridden methods generated when overriding methods use covariant
-                // return types
-                if (!declaredMethod.isBridge()) {
-                    result.add(declaredMethod);
+        List<Method> methods = declaredMethods;
+        if (methods == null) {
+            ArrayList<Method> result = new ArrayList<>();
+            for (Class<?> annotatedClass : annotatedClasses) {
+                for (Method declaredMethod : annotatedClass.getDeclaredMethods()) {
+                    // filter out overridden methods generated when overriding methods use covariant
+                    // return types
+                    if (!declaredMethod.isBridge()) {
+                        result.add(declaredMethod);
+                    }
                 }
             }
+            methods = List.copyOf(result);
+            declaredMethods = methods;
         }
-        return result;
+        return new ArrayList<>(methods);
     }
 
     public List<AnnotatedElement> getDeclaredElements() {
@@ -44,11 +44,14 @@ public abstract class Association extends TypePart {
 
     private final Method getter;
 
+    private final MethodInvoker getterInvoker;
+
     public Association(Type type, Method getter) {
         super(getAssociationAnnotation(getter).name(), type,
                 getter.getAnnotation(IpsExtensionProperties.class), Deprecation.of(getter));
         annotation = getAssociationAnnotation(getter);
         this.getter = getter;
+        getterInvoker = MethodInvoker.of(getter);
     }
 
     private static IpsAssociation getAssociationAnnotation(Method getterMethod) {
@@ -291,6 +294,10 @@ public abstract class Association extends TypePart {
         return getter;
     }
 
+    MethodInvoker getGetterInvoker() {
+        return getterInvoker;
+    }
+
     // CSOFF: ParameterNumber
     protected <V, R> void validate(MessageList list,
             IValidationContext context,
@@ -12,9 +12,10 @@ package org.faktorips.runtime.model.type;
 
 import java.lang.reflect.Method;
 import java.util.Calendar;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.faktorips.runtime.IConfigurableModelObject;
 import org.faktorips.runtime.IModelObject;
@@ -55,11 +56,14 @@ public class DefaultPolicyAttribute extends PolicyAttribute {
     private final Method getter;
     private final Method setter;
 
-    private Method defaultValueGetter;
-    private Method defaultValueSetter;
+    private final MethodInvoker getterInvoker;
+    private final MethodInvoker setterInvoker;
 
-    private Map<Type, Method> valueSetMethods = new HashMap<>(2);
-    private Method allowedValuesSetter;
+    private MethodInvoker defaultValueGetter;
+    private MethodInvoker defaultValueSetter;
+
+    private final Map<Type, Optional<MethodInvoker>> valueSetMethods = new ConcurrentHashMap<>(2);
+    private MethodInvoker allowedValuesSetter;
 
     public DefaultPolicyAttribute(PolicyCmptType policyCmptType, Method getter, Method setter,
             boolean changingOverTime) {
@@ -68,6 +72,8 @@ public class DefaultPolicyAttribute extends PolicyAttribute {
                 Deprecation.of(getter));
         this.getter = getter;
         this.setter = setter;
+        getterInvoker = MethodInvoker.of(getter);
+        setterInvoker = MethodInvoker.of(setter);
     }
 
     @Override
@@ -77,7 +83,7 @@ public class DefaultPolicyAttribute extends PolicyAttribute {
 
     @Override
     public Object getValue(IModelObject modelObject) {
-        return invokeMethod(getter, modelObject);
+        return invokeMethod(getterInvoker, modelObject);
     }
 
     @Override
@@ -90,7 +96,7 @@ public class DefaultPolicyAttribute extends PolicyAttribute {
                         getName(), getType().getName()));
             }
         } else {
-            invokeMethod(setter, modelObject, value);
+            invokeMethod(setterInvoker, modelObject, value);
         }
     }
 
@@ -116,9 +122,9 @@ public class DefaultPolicyAttribute extends PolicyAttribute {
                 getRelevantProductObject(source, effectiveDate));
     }
 
-    private Method getDefaultValueGetter(Type type) {
+    private MethodInvoker getDefaultValueGetter(Type type) {
         if (defaultValueGetter == null) {
-            defaultValueGetter = findDefaultValueGetter(type);
+            defaultValueGetter = MethodInvoker.of(findDefaultValueGetter(type));
         }
         return defaultValueGetter;
     }
@@ -155,9 +161,9 @@ public class DefaultPolicyAttribute extends PolicyAttribute {
         invokeMethod(getDefaultValueSetter(getType().getProductCmptType()), productObject, defaultValue);
     }
 
-    private Method getDefaultValueSetter(Type type) {
+    private MethodInvoker getDefaultValueSetter(Type type) {
         if (defaultValueSetter == null) {
-            defaultValueSetter = findDefaultValueSetter(type);
+            defaultValueSetter = MethodInvoker.of(findDefaultValueSetter(type));
         }
         return defaultValueSetter;
     }
@@ -173,19 +179,19 @@ public class DefaultPolicyAttribute extends PolicyAttribute {
 
     @Override
     public ValueSet<?> getValueSet(IModelObject modelObject, IValidationContext context) {
-        Method valueSetMethod = getValueSetMethod(getType());
+        MethodInvoker valueSetMethod = getValueSetMethod(getType());
         return getValueSet(valueSetMethod, modelObject, context);
     }
 
     @Override
     public ValueSet<?> getValueSet(IProductComponent source, Calendar effectiveDate, IValidationContext context) {
-        Method valueSetMethod = getValueSetMethod(getType().getProductCmptType());
+        MethodInvoker valueSetMethod = getValueSetMethod(getType().getProductCmptType());
         Object productObject = getRelevantProductObject(source, effectiveDate);
         return getValueSet(valueSetMethod, productObject, context);
     }
 
     // CSOFF: CyclomaticComplexity
-    private ValueSet<?> getValueSet(Method valueSetMethod, Object object, IValidationContext context) {
+    private ValueSet<?> getValueSet(MethodInvoker valueSetMethod, Object object, IValidationContext context) {
         if (valueSetMethod == null) {
             if (Boolean.class.equals(getDatatype()) || boolean.class.equals(getDatatype())) {
                 return new OrderedValueSet<>(!getDatatype().isPrimitive(), null, Boolean.TRUE, Boolean.FALSE);
@@ -208,25 +214,21 @@ public class DefaultPolicyAttribute extends PolicyAttribute {
                 }
             }
             return new UnrestrictedValueSet<>(!getDatatype().isPrimitive());
-        } else if (valueSetMethod.getParameterTypes().length == 0) {
+        } else if (valueSetMethod.getMethod().getParameterCount() == 0) {
             return (ValueSet<?>)invokeMethod(valueSetMethod, object);
-        } else if (valueSetMethod.getParameterTypes().length == 1) {
+        } else if (valueSetMethod.getMethod().getParameterCount() == 1) {
             return (ValueSet<?>)invokeMethod(valueSetMethod, object, context);
         } else {
             throw new IllegalStateException("The method for retrieving the allowed values of attribute: " + getName()
-                    + " has too many arguments: " + valueSetMethod);
+                    + " has too many arguments: " + valueSetMethod.getMethod());
         }
     }
     // CSON: CyclomaticComplexity
 
-    private Method getValueSetMethod(Type model) {
-        if (valueSetMethods.containsKey(model)) {
-            return valueSetMethods.get(model);
-        } else {
-            Method valueSetMethod = findValueSetMethod(model);
-            valueSetMethods.put(model, valueSetMethod);
-            return valueSetMethod;
-        }
+    private MethodInvoker getValueSetMethod(Type model) {
+        return valueSetMethods
+                .computeIfAbsent(model, m -> Optional.ofNullable(MethodInvoker.of(findValueSetMethod(m))))
+                .orElse(null);
     }
 
     @Override
@@ -262,9 +264,9 @@ public class DefaultPolicyAttribute extends PolicyAttribute {
         invokeMethod(getAllowedValuesSetter(getType().getProductCmptType()), productObject, valueSet);
     }
 
-    private Method getAllowedValuesSetter(Type type) {
+    private MethodInvoker getAllowedValuesSetter(Type type) {
         if (allowedValuesSetter == null) {
-            allowedValuesSetter = findAllowedValuesSetter(type);
+            allowedValuesSetter = MethodInvoker.of(findAllowedValuesSetter(type));
         }
         return allowedValuesSetter;
     }
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.model.type;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * Calls a {@link Method} of a model class through a {@link MethodHandle} that is created once when
+ * the model element is created, so calling it costs about as much as a direct call instead of a
+ * reflective {@link Method#invoke(Object, Object...)}.
+ * <p>
+ * If the method is not accessible for a method handle, it is called reflectively.
+ */
+final class MethodInvoker {
+
+    private final Method method;
+
+    private final int parameterCount;
+
+    /** Type <code>(Object, Object...)Object</code> with one argument for every parameter */
+    @CheckForNull
+    private final MethodHandle handle;
+
+    /** Type <code>(Object, Object[])Object</code> */
+    @CheckForNull
+    private final MethodHandle spreader;
+
+    private MethodInvoker(Method method) {
+        this.method = method;
+        parameterCount = method.getParameterCount();
+        MethodHandle genericHandle = createHandle(method);
+        handle = genericHandle;
+        spreader = genericHandle == null ? null : genericHandle.asSpreader(Object[].class, parameterCount);
+    }
+
+    /**
+     * Creates a {@link MethodInvoker} for the given method or returns <code>null</code> if the
+     * method is <code>null</code>.
+     */
+    @CheckForNull
+    static MethodInvoker of(@CheckForNull Method method) {
+        return method == null ? null : new MethodInvoker(method);
+    }
+
+    /**
+     * Returns the method of the given invoker or <code>null</code> if the invoker is
+     * <code>null</code>.
+     */
+    @CheckForNull
+    static Method methodOf(@CheckForNull MethodInvoker invoker) {
+        return invoker == null ? null : invoker.method;
+    }
+
+    @CheckForNull
+    private static MethodHandle createHandle(Method method) {
+        try {
+            MethodHandle methodHandle = MethodHandles.publicLookup().unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+            }
+            return methodHandle.asType(MethodType.genericMethodType(method.getParameterCount() + 1));
+        } catch (IllegalAccessException e) {
+            // the method is called reflectively
+            return null;
+        }
+    }
+
+    Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Calls the method on the given object with the given arguments. Exceptions thrown by the
+     * method are thrown unwrapped.
+     */
+    // CSOFF: IllegalThrows
+    Object invoke(Object target, Object... arguments) throws Throwable {
+        // CSON: IllegalThrows
+        if (handle == null) {
+            try {
+                return method.invoke(target, arguments);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+        if (arguments.length == parameterCount) {
+            switch (parameterCount) {
+                case 0:
+                    return (Object)handle.invokeExact(target);
+                case 1:
+                    return (Object)handle.invokeExact(target, arguments[0]);
+                case 2:
+                    return (Object)handle.invokeExact(target, arguments[0], arguments[1]);
+                default:
+                    break;
+            }
+        }
+        return (Object)spreader.invokeExact(target, arguments);
+    }
+
+}
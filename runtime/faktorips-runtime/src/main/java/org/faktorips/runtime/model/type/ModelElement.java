@@ -160,6 +160,16 @@ public abstract class ModelElement {
         }
     }
 
+    static Object invokeMethod(MethodInvoker invoker, Object source, Object... arguments) {
+        try {
+            return invoker.invoke(source, arguments);
+            // CSOFF: IllegalCatch
+        } catch (Throwable e) {
+            // CSON: IllegalCatch
+            throw createGetterError(source, MethodInvoker.methodOf(invoker), arguments, e);
+        }
+    }
+
     private static IllegalArgumentException createGetterError(Object source,
             Method method,
             Object[] args,
@@ -33,9 +33,9 @@ import org.faktorips.valueset.IntegerRange;
  */
 public class PolicyAssociation extends Association {
 
-    private final Method addMethod;
-    private final Method removeMethod;
-    private final Method getCardinalityMethod;
+    private final MethodInvoker addMethod;
+    private final MethodInvoker removeMethod;
+    private final MethodInvoker getCardinalityMethod;
 
     /**
      *
@@ -48,9 +48,9 @@ public class PolicyAssociation extends Association {
      */
     public PolicyAssociation(Type type, Method getterMethod, Method addMethod, Method removeMethod) {
         super(type, getterMethod);
-        this.addMethod = addMethod;
-        this.removeMethod = removeMethod;
-        getCardinalityMethod = findGetCardinalityMethod();
+        this.addMethod = MethodInvoker.of(addMethod);
+        this.removeMethod = MethodInvoker.of(removeMethod);
+        getCardinalityMethod = MethodInvoker.of(findGetCardinalityMethod());
     }
 
     /**
@@ -68,9 +68,9 @@ public class PolicyAssociation extends Association {
     public PolicyAssociation(Type type, Method getterMethod, Method addMethod, Method removeMethod,
             Method getCardinalityMethod) {
         super(type, getterMethod);
-        this.addMethod = addMethod;
-        this.removeMethod = removeMethod;
-        this.getCardinalityMethod = getCardinalityMethod;
+        this.addMethod = MethodInvoker.of(addMethod);
+        this.removeMethod = MethodInvoker.of(removeMethod);
+        this.getCardinalityMethod = MethodInvoker.of(getCardinalityMethod);
     }
 
     private Method findGetCardinalityMethod() {
@@ -119,7 +119,8 @@ public class PolicyAssociation extends Association {
 
     @Override
     public PolicyAssociation createOverwritingAssociationFor(Type subType) {
-        return new PolicyAssociation(subType, getGetterMethod(), addMethod, removeMethod, getCardinalityMethod);
+        return new PolicyAssociation(subType, getGetterMethod(), MethodInvoker.methodOf(addMethod),
+                MethodInvoker.methodOf(removeMethod), MethodInvoker.methodOf(getCardinalityMethod));
     }
 
     /**
@@ -137,7 +138,7 @@ public class PolicyAssociation extends Association {
             return;
         }
         Object cardinalitySource = IProductComponentGeneration.class
-                .isAssignableFrom(getCardinalityMethod.getDeclaringClass())
+                .isAssignableFrom(getCardinalityMethod.getMethod().getDeclaringClass())
                         ? effectiveDate != null
                                 ? product.getGenerationBase(effectiveDate)
                                 : product.getLatestProductComponentGeneration()
@@ -206,7 +207,7 @@ public class PolicyAssociation extends Association {
      */
     public List<IModelObject> getTargetObjects(IModelObject source) {
         List<IModelObject> targets = new ArrayList<>();
-        Object object = invokeMethod(getGetterMethod(), source);
+        Object object = invokeMethod(getGetterInvoker(), source);
         if (object instanceof Iterable<?> it) {
             for (Object target : it) {
                 targets.add((IModelObject)target);
@@ -73,11 +73,11 @@ public class ProductAssociation extends Association {
     public static final String MSGKEY_DATE_TO_NOT_VALID = "Validation.DateToNotValid";
 
     private final boolean changingOverTime;
-    private final Method getLinksMethod;
-    private final Method getCardinalityMethod;
-    private final Method addMethodWithCardinality;
-    private final Method addMethod;
-    private final Method removeMethod;
+    private final MethodInvoker getLinksMethod;
+    private final MethodInvoker getCardinalityMethod;
+    private final MethodInvoker addMethodWithCardinality;
+    private final MethodInvoker addMethod;
+    private final MethodInvoker removeMethod;
 
     // CSOFF: ParameterNumber
     public ProductAssociation(Type type, Method getterMethod, Method addMethod, Method addMethodWithCardinality,
@@ -86,21 +86,22 @@ public class ProductAssociation extends Association {
             Method getLinksMethod,
             Method getCardinalityMethod) {
         super(type, getterMethod);
-        this.addMethod = addMethod;
-        this.addMethodWithCardinality = addMethodWithCardinality;
-        this.removeMethod = removeMethod;
+        this.addMethod = MethodInvoker.of(addMethod);
+        this.addMethodWithCardinality = MethodInvoker.of(addMethodWithCardinality);
+        this.removeMethod = MethodInvoker.of(removeMethod);
         this.changingOverTime = changingOverTime;
-        this.getLinksMethod = getLinksMethod;
-        this.getCardinalityMethod = getCardinalityMethod;
+        this.getLinksMethod = MethodInvoker.of(getLinksMethod);
+        this.getCardinalityMethod = MethodInvoker.of(getCardinalityMethod);
     }
     // CSON: ParameterNumber
 
     @Override
     public ProductAssociation createOverwritingAssociationFor(Type subType) {
-        return new ProductAssociation(subType, getGetterMethod(), addMethod, addMethodWithCardinality, removeMethod,
+        return new ProductAssociation(subType, getGetterMethod(), MethodInvoker.methodOf(addMethod),
+                MethodInvoker.methodOf(addMethodWithCardinality), MethodInvoker.methodOf(removeMethod),
                 changingOverTime,
-                getLinksMethod,
-                getCardinalityMethod);
+                MethodInvoker.methodOf(getLinksMethod),
+                MethodInvoker.methodOf(getCardinalityMethod));
     }
 
     /**
@@ -151,7 +152,7 @@ public class ProductAssociation extends Association {
     public List<IProductComponent> getTargetObjects(IProductComponent productComponentSource, Calendar effectiveDate) {
         List<IProductComponent> targets = new ArrayList<>();
         Object source = getRelevantProductObject(productComponentSource, effectiveDate, isChangingOverTime());
-        Object returnValue = invokeMethod(getGetterMethod(), source);
+        Object returnValue = invokeMethod(getGetterInvoker(), source);
         if (returnValue instanceof Iterable<?> it) {
             for (Object target : it) {
                 targets.add((IProductComponent)target);
@@ -55,6 +55,10 @@ public class ProductAttribute extends Attribute {
 
     private final Method setter;
 
+    private final MethodInvoker getterInvoker;
+
+    private final MethodInvoker setterInvoker;
+
     /**
      * Cached super attribute with setter. Only populated if this attribute has no setter itself.
      * This avoids searching for the super attribute on every setValue call.
@@ -66,6 +70,8 @@ public class ProductAttribute extends Attribute {
                 findDatatype(getter), changingOverTime, Deprecation.of(getter));
         this.getter = getter;
         this.setter = setter;
+        this.getterInvoker = MethodInvoker.of(getter);
+        this.setterInvoker = MethodInvoker.of(setter);
         this.superAttributeWithSetter = findSuperAttributeWithSetter();
     }
 
@@ -145,7 +151,7 @@ public class ProductAttribute extends Attribute {
             throw new IllegalStateException(
                     "Getter for " + getType().getName() + "." + getName() + " is not available");
         }
-        return (T)invokeMethod(getter, getRelevantProductObject(productComponent, effectiveDate));
+        return (T)invokeMethod(getterInvoker, getRelevantProductObject(productComponent, effectiveDate));
     }
 
     /**
@@ -174,7 +180,7 @@ public class ProductAttribute extends Attribute {
             throw new IllegalStateException("Setter for attribute " + getType().getName() + "." + getName()
                     + " is not available");
         }
-        invokeMethod(setter, getRelevantProductObject(productComponent, effectiveDate), value);
+        invokeMethod(setterInvoker, getRelevantProductObject(productComponent, effectiveDate), value);
     }
 
     /**
@@ -203,7 +209,7 @@ public class ProductAttribute extends Attribute {
             throw new IllegalStateException("Setter for attribute " + getType().getName() + "." + getName()
                     + " is not available");
         }
-        invokeMethod(setter, getRelevantProductObject(generation), value);
+        invokeMethod(setterInvoker, getRelevantProductObject(generation), value);
     }
 
     /**
@@ -13,7 +13,8 @@ package org.faktorips.runtime.productdataprovider;
 import java.io.InputStream;
 
 import org.faktorips.runtime.IVersionChecker;
-import org.faktorips.runtime.internal.DateTime;
+import org.faktorips.runtime.caching.BoundedMemoizer;
+import org.faktorips.runtime.internal.ProductComponentDocument;
 import org.faktorips.runtime.internal.toc.CustomTocEntryObject;
 import org.faktorips.runtime.internal.toc.EnumContentTocEntry;
 import org.faktorips.runtime.internal.toc.GenerationTocEntry;
@@ -24,7 +25,6 @@ import org.faktorips.runtime.internal.toc.TestCaseTocEntry;
 import org.faktorips.runtime.internal.toc.TocEntryObject;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
 /**
  * The {@link ClassLoaderProductDataProvider} is an implementation of {@link IProductDataProvider}
@@ -47,6 +47,9 @@ public class ClassLoaderProductDataProvider extends AbstractProductDataProvider
 
     private final String tocResourcePath;
 
+    private final BoundedMemoizer<DocumentKey, ProductComponentDocument> productCmptDocumentCache = ProductComponentDocument
+            .createCache(key -> getDocumentElement(key.resourcePath()));
+
     public ClassLoaderProductDataProvider(ClassLoaderDataSource dataSource, String tocResourcePath,
             boolean checkTocModifications) {
         super(IVersionChecker.STRICT);
@@ -72,9 +75,20 @@ public class ClassLoaderProductDataProvider extends AbstractProductDataProvider
                 : toc.getProductDataVersion();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The parsed XML of the product component is reused for its generations as long as the
+     * {@link #getBaseVersion() base version} does not change. The returned element is a copy that
+     * is not shared with other callers.
+     */
     @Override
     public Element getProductCmptData(ProductCmptTocEntry tocEntry) throws DataModifiedException {
-        return getDocumentElement(tocEntry);
+        String baseVersion = getBaseVersion();
+        Element productCmptElement = getProductComponentDocument(tocEntry, baseVersion)
+                .copyProductCmptElement(getDocumentBuilder());
+        throwExceptionIfModified(tocEntry.getIpsObjectId(), baseVersion);
+        return productCmptElement;
     }
 
     @Override
@@ -89,23 +103,35 @@ public class ClassLoaderProductDataProvider extends AbstractProductDataProvider
         return documentElement;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The generation is taken from the parsed XML of its product component, which is parsed only
+     * once for all of its generations as long as the {@link #getBaseVersion() base version} does
+     * not change. The returned element is a copy that is not shared with other callers.
+     */
     @Override
     public Element getProductCmptGenerationData(GenerationTocEntry tocEntry) throws DataModifiedException {
-        Element docElement = getDocumentElement(tocEntry.getParent().getXmlResourceName());
-        NodeList nl = docElement.getChildNodes();
-        DateTime validFrom = tocEntry.getValidFrom();
-        for (int i = 0; i < nl.getLength(); i++) {
-            if (GenerationTocEntry.XML_TAG.equals(nl.item(i).getNodeName())) {
-                Element genElement = (Element)nl.item(i);
-                DateTime generationValidFrom = DateTime
-                        .parseIso(genElement.getAttribute(GenerationTocEntry.PROPERTY_VALID_FROM));
-                if (validFrom.equals(generationValidFrom)) {
-                    throwExceptionIfModified(tocEntry.getParent().getIpsObjectId(), getBaseVersion());
-                    return genElement;
-                }
-            }
+        String baseVersion = getBaseVersion();
+        Element genElement = getProductComponentDocument(tocEntry.getParent(), baseVersion)
+                .copyGenerationElement(tocEntry.getValidFrom(), getDocumentBuilder());
+        if (genElement == null) {
+            throw new RuntimeException("Can't find the generation for the TOC entry '" + tocEntry + "'");
+        }
+        throwExceptionIfModified(tocEntry.getParent().getIpsObjectId(), baseVersion);
+        return genElement;
+    }
+
+    /**
+     * Returns the parsed XML of the product component, which is cached together with the base
+     * version it was read for. A changed base version therefore always parses the XML again.
+     */
+    private ProductComponentDocument getProductComponentDocument(ProductCmptTocEntry tocEntry, String baseVersion) {
+        try {
+            return productCmptDocumentCache.compute(new DocumentKey(tocEntry.getXmlResourceName(), baseVersion));
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
         }
-        throw new RuntimeException("Can't find the generation for the TOC entry '" + tocEntry + "'");
     }
 
     @Override
@@ -154,4 +180,7 @@ public class ClassLoaderProductDataProvider extends AbstractProductDataProvider
         return getDocumentElement(tocEntry);
     }
 
+    private record DocumentKey(String resourcePath, String baseVersion) {
+    }
+
 }
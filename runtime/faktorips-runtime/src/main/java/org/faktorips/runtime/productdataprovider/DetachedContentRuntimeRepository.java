@@ -15,6 +15,7 @@ import java.io.InputStream;
 import org.faktorips.runtime.ICacheFactory;
 import org.faktorips.runtime.formula.IFormulaEvaluatorFactory;
 import org.faktorips.runtime.internal.AbstractClassLoadingRuntimeRepository;
+import org.faktorips.runtime.internal.ProductComponentDocument;
 import org.faktorips.runtime.internal.toc.CustomTocEntryObject;
 import org.faktorips.runtime.internal.toc.EnumContentTocEntry;
 import org.faktorips.runtime.internal.toc.GenerationTocEntry;
@@ -85,6 +86,18 @@ public class DetachedContentRuntimeRepository extends AbstractClassLoadingRuntim
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The documents are not cached by this repository, as the product data provider has to check
+     * every access for modifications of the product data. The product data provider may reuse the
+     * parsed documents itself.
+     */
+    @Override
+    protected ProductComponentDocument getProductComponentDocument(ProductCmptTocEntry tocEntry) {
+        return new ProductComponentDocument(getDocumentElement(tocEntry));
+    }
+
     @Override
     protected Element getDocumentElement(GenerationTocEntry tocEntry) {
         try {
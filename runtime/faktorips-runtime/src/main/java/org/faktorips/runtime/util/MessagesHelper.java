@@ -16,9 +16,14 @@ import java.text.Format;
 import java.text.MessageFormat;
 import java.text.ParsePosition;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Locale;
+import java.util.Map;
 import java.util.MissingResourceException;
+import java.util.Optional;
 import java.util.ResourceBundle;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.faktorips.annotation.UtilityClass;
 import org.faktorips.values.NullObject;
@@ -54,8 +59,11 @@ import org.faktorips.values.NullObject;
  * The mechanism used here is the one of {@link java.text.MessageFormat}.
  * <p>
  * The property file loaded by the {@link ResourceBundle} is cached internally by
- * {@link SoftReference}s. So you do not have to worry about performance problems instantiation this
- * class multiple times.
+ * {@link SoftReference}s. Additionally, the messages found (or not found) for a key and locale are
+ * cached for every class loader, together with their parsed {@link MessageFormat} patterns. So you do not
+ * have to worry about performance problems instantiation this class multiple times. Changes to the
+ * property files after a message has been read are not seen, even if
+ * {@link ResourceBundle#clearCache(ClassLoader)} is called.
  * <p>
  * Example:
  * <p>
@@ -65,11 +73,21 @@ import org.faktorips.values.NullObject;
 @UtilityClass
 public class MessagesHelper {
 
+    /**
+     * The messages by class loader. A missing message is cached, too. The class loaders are weakly
+     * referenced, so the messages do not keep them from being unloaded.
+     */
+    private static final Map<ClassLoader, Map<MessageKey, CachedMessage>> MESSAGES = Collections
+            .synchronizedMap(new WeakHashMap<>());
+
     /** The qualified name. */
-    private String name;
+    private final String name;
 
     /** The classloader used to access the property files. */
-    private ClassLoader loader;
+    private final ClassLoader loader;
+
+    /** The cached messages of the {@link #loader} */
+    private final Map<MessageKey, CachedMessage> messages;
 
     private final Locale defaultLocale;
 
@@ -90,6 +108,7 @@ public class MessagesHelper {
         name = qualifiedName;
         this.loader = loader;
         this.defaultLocale = defaultLocale;
+        messages = MESSAGES.computeIfAbsent(loader, l -> new ConcurrentHashMap<>());
     }
 
     /**
@@ -108,11 +127,7 @@ public class MessagesHelper {
                     defaultLocale) {
                 @Override
                 public String getMessage(String key, Locale locale) {
-                    try {
-                        return super.getMessage(key, locale);
-                    } catch (MissingResourceException e) {
-                        return null;
-                    }
+                    return ((MessagesHelper)this).findMessage(key, locale).orElse(null);
                 }
             };
             // CSON: InnerAssignment
@@ -128,14 +143,36 @@ public class MessagesHelper {
      * @return the translated message located in the property file
      */
     public String getMessage(String key, Locale locale) {
-        return getMessageInternal(key, locale);
+        return findMessage(key, locale).orElseThrow(() -> new MissingResourceException(
+                "Can't find resource for bundle " + name + ", key " + key, name, key));
+    }
+
+    /**
+     * Returns the message for the given key in the given locale, the system default locale or the
+     * {@link #defaultLocale}, in that order. Messages that are not found are cached as well, so a
+     * missing message is only searched once.
+     */
+    private Optional<String> findMessage(String key, Locale locale) {
+        return Optional.ofNullable(getCachedMessage(key, locale).message);
+    }
+
+    private CachedMessage getCachedMessage(String key, Locale locale) {
+        return messages.computeIfAbsent(new MessageKey(name, key, locale, Locale.getDefault(), defaultLocale),
+                k -> new CachedMessage(loadMessage(key, locale), locale));
     }
 
-    private String getMessageInternal(String key, Locale locale) {
+    private String loadMessage(String key, Locale locale) {
+        String message = loadMessageFromBundle(key, locale);
+        return message != null ? message : loadMessageFromBundle(key, defaultLocale);
+    }
+
+    private String loadMessageFromBundle(String key, Locale locale) {
         try {
-            return ResourceBundle.getBundle(name, locale, loader).getString(key);
+            ResourceBundle bundle = ResourceBundle.getBundle(name, locale, loader);
+            return bundle.containsKey(key) ? bundle.getString(key) : null;
         } catch (MissingResourceException e) {
-            return ResourceBundle.getBundle(name, defaultLocale, loader).getString(key);
+            // no bundle for the locale
+            return null;
         }
     }
 
@@ -151,7 +188,10 @@ public class MessagesHelper {
      */
     public String getMessage(String key, Locale locale, Object... replacements) {
         String s = getMessage(key, locale);
-        IpsMessageFormat mf = new IpsMessageFormat(s, locale);
+        CachedMessage cachedMessage = getCachedMessage(key, locale);
+        MessageFormat messageFormat = s.equals(cachedMessage.message) ? cachedMessage.getMessageFormat()
+                : new MessageFormat(s, locale);
+        IpsMessageFormat mf = new IpsMessageFormat(messageFormat);
         return mf.format(replacements);
     }
 
@@ -168,11 +208,41 @@ public class MessagesHelper {
      * @return The message for the specified key
      */
     public String getMessageOr(String key, Locale locale, String fallBack) {
-        try {
-            return getMessageInternal(key, locale);
-        } catch (MissingResourceException e) {
-            return fallBack;
+        return findMessage(key, locale).orElse(fallBack);
+    }
+
+    private record MessageKey(String bundleName, String key, Locale locale, Locale systemLocale,
+            Locale defaultLocale) {
+    }
+
+    /**
+     * A message found (or not found) for a key and locale. Its {@link MessageFormat} is parsed when
+     * it is first needed. {@link MessageFormat} is not thread safe, so the parsed format is only
+     * used as prototype that is cloned for every message. Threads that parse the same message at
+     * the same time may each parse their own format, but no lock is taken.
+     */
+    private static final class CachedMessage {
+
+        private final String message;
+
+        private final Locale locale;
+
+        private volatile MessageFormat messageFormat;
+
+        private CachedMessage(String message, Locale locale) {
+            this.message = message;
+            this.locale = locale;
         }
+
+        private MessageFormat getMessageFormat() {
+            MessageFormat format = messageFormat;
+            if (format == null) {
+                format = new MessageFormat(message, locale);
+                messageFormat = format;
+            }
+            return (MessageFormat)format.clone();
+        }
+
     }
 
     private static class IpsMessageFormat extends Format {
@@ -184,8 +254,8 @@ public class MessagesHelper {
 
         private final MessageFormat delegateFormat;
 
-        public IpsMessageFormat(String pattern, Locale locale) {
-            delegateFormat = new MessageFormat(pattern, locale);
+        public IpsMessageFormat(MessageFormat delegateFormat) {
+            this.delegateFormat = delegateFormat;
         }
 
         @Override
@@ -12,9 +12,11 @@ package org.faktorips.runtime.validation;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.faktorips.runtime.IModelObject;
 import org.faktorips.runtime.IValidationContext;
-import org.faktorips.runtime.Message;
 import org.faktorips.runtime.MessageList;
 import org.faktorips.runtime.internal.IpsStringUtils;
 import org.faktorips.runtime.model.IpsModel;
@@ -30,6 +32,14 @@ import org.faktorips.valueset.ValueSet;
  */
 public class GenericRelevanceValidation {
 
+    /** The attributes of every model class by their property name */
+    private static final ClassValue<Map<String, PolicyAttribute>> ATTRIBUTES = new ClassValue<>() {
+        @Override
+        protected Map<String, PolicyAttribute> computeValue(Class<?> modelObjectClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     private final IModelObject modelObject;
     private final PolicyAttribute policyAttribute;
     private final Class<? extends IModelObject> definingModelObjectClass;
@@ -66,10 +76,39 @@ public class GenericRelevanceValidation {
             Class<? extends IModelObject> definingModelObjectClass,
             String propertyName,
             IValidationContext validationContext) {
-        return new GenericRelevanceValidation(modelObject, definingModelObjectClass,
-                IpsModel.getPolicyCmptType(modelObject).getAttribute(propertyName),
+        MessageList messages = new MessageList();
+        validate(messages, modelObject, definingModelObjectClass, propertyName, validationContext);
+        return messages;
+    }
+
+    /**
+     * Validates the given model object's attribute like {@link #of(IModelObject, Class, String,
+     * IValidationContext)}, but adds the messages to the given {@link MessageList} instead of
+     * creating a new one for every attribute. The attribute is looked up only once for every model
+     * class and property name.
+     *
+     * @param messages the list the messages resulting from the validation are added to
+     * @param modelObject the model object to validate
+     * @param propertyName the name of a {@link PolicyAttribute} of the model object
+     * @param validationContext the context containing information on what to validate and how to
+     *            create error messages
+     *
+     * @since 27.1
+     */
+    public static void validate(MessageList messages,
+            IModelObject modelObject,
+            Class<? extends IModelObject> definingModelObjectClass,
+            String propertyName,
+            IValidationContext validationContext) {
+        new GenericRelevanceValidation(modelObject, definingModelObjectClass,
+                getAttribute(modelObject, propertyName),
                 validationContext.getGenericAttributeValidationConfiguration())
-                        .validate();
+                        .validate(messages);
+    }
+
+    private static PolicyAttribute getAttribute(IModelObject modelObject, String propertyName) {
+        return ATTRIBUTES.get(modelObject.getClass()).computeIfAbsent(propertyName,
+                p -> IpsModel.getPolicyCmptType(modelObject).getAttribute(p));
     }
 
     /**
@@ -86,61 +125,36 @@ public class GenericRelevanceValidation {
      */
     public MessageList validate() {
         MessageList messages = new MessageList();
-        if (config.shouldValidate(policyAttribute, modelObject)) {
-            valueSet = config.getValueSet(policyAttribute, modelObject);
-            messages.add(validateValuePresentIfMandatory());
-            messages.add(validateValueNullIfIrrelevant());
-            messages.add(validateValueContainedIfPresent());
-        }
+        validate(messages);
         return messages;
     }
 
-    private Message validateValuePresentIfMandatory() {
-        if (isInvalidMandatory()) {
-            return config.createMessageForMissingMandatoryValue(policyAttribute, modelObject, definingModelObjectClass);
-        }
-        return null;
-    }
-
-    private Message validateValueNullIfIrrelevant() {
-        if (isInvalidIrrelevance()) {
-            return config.createMessageForValuePresentForIrrelevantAttribute(policyAttribute, modelObject,
-                    definingModelObjectClass);
-        }
-        return null;
-    }
-
-    private Message validateValueContainedIfPresent() {
-        if (isInvalidNotContained()) {
-            return config.createMessageForValueNotInAllowedValueSet(policyAttribute, modelObject,
-                    definingModelObjectClass, valueSet);
-        }
-        return null;
-    }
-
-    /**
-     * Indicates whether the attribute has a mandatory field violation: If the attribute is a
-     * mandatory field, the value must be != {@code null}.
-     */
-    private boolean isInvalidMandatory() {
-        return !isValuePresent() && Relevance.isMandatory(getValueSet());
-    }
-
-    /**
-     * Indicates whether the attribute has a violation of irrelevance: If the attribute is
-     * irrelevant, the value must be {@code null}.
-     */
-    private boolean isInvalidIrrelevance() {
-        return isValuePresent() && Relevance.isIrrelevant(getValueSet());
-    }
-
     /**
-     * Indicates whether there is a violation of the value range for the attribute: If the attribute
-     * is relevant, the value must be in the value range.
+     * Checks the attribute like {@link #validate()}, but adds the validation results to the given
+     * {@link MessageList}. The value set and the attribute's value are read only once.
+     *
+     * @param messages the list the validation results are added to
+     *
+     * @since 27.1
      */
-    private boolean isInvalidNotContained() {
-        return Relevance.isRelevant(getValueSet()) && isValuePresent() && getValueSet() != null
-                && !getValueSet().contains(getValue());
+    public void validate(MessageList messages) {
+        if (config.shouldValidate(policyAttribute, modelObject)) {
+            valueSet = config.getValueSet(policyAttribute, modelObject);
+            Relevance relevance = Relevance.of(valueSet);
+            Object value = policyAttribute.getValue(modelObject);
+            if (!isValuePresent(value)) {
+                if (relevance == Relevance.MANDATORY) {
+                    messages.add(config.createMessageForMissingMandatoryValue(policyAttribute, modelObject,
+                            definingModelObjectClass));
+                }
+            } else if (relevance == Relevance.IRRELEVANT) {
+                messages.add(config.createMessageForValuePresentForIrrelevantAttribute(policyAttribute, modelObject,
+                        definingModelObjectClass));
+            } else if (!isContained(value)) {
+                messages.add(config.createMessageForValueNotInAllowedValueSet(policyAttribute, modelObject,
+                        definingModelObjectClass, valueSet));
+            }
+        }
     }
 
     /**
@@ -149,19 +163,18 @@ public class GenericRelevanceValidation {
      * a {@link String}, the value is also considered not present if the {@link String} is empty or
      * only contains whitespace.
      */
-    private boolean isValuePresent() {
-        Object value = policyAttribute.getValue(modelObject);
+    private static boolean isValuePresent(Object value) {
         return !(ObjectUtil.isNull(value)
                 || (value instanceof CharSequence charSequence && IpsStringUtils.isBlank(charSequence.toString())));
     }
 
+    /**
+     * Indicates whether the given value is in the value range of the attribute, which is not
+     * {@link Relevance#IRRELEVANT}.
+     */
     @SuppressWarnings("unchecked")
-    private <T> T getValue() {
-        return (T)policyAttribute.getValue(modelObject);
-    }
-
-    private ValueSet<?> getValueSet() {
-        return valueSet;
+    private <T> boolean isContained(Object value) {
+        return ((ValueSet<T>)valueSet).contains((T)value);
     }
 
     public enum Error {
@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.validation;
+
+import static java.util.Objects.requireNonNull;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.faktorips.runtime.IDependantObject;
+import org.faktorips.runtime.IModelObject;
+import org.faktorips.runtime.IModelObjectVisitor;
+import org.faktorips.runtime.INotificationSupport;
+import org.faktorips.runtime.IValidationContext;
+import org.faktorips.runtime.IVisitorSupport;
+import org.faktorips.runtime.IpsPropertyChangeSupport;
+import org.faktorips.runtime.MessageList;
+import org.faktorips.runtime.internal.AbstractModelObject;
+
+/**
+ * Validates a model object and its dependants incrementally. The messages created by every object's
+ * own rules are cached; a call to {@link #validate()} only runs the rules of the objects that
+ * changed since the last call and merges their new messages with the cached ones.
+ * <p>
+ * Changes are tracked by {@link #attachTo(IModelObject, IValidationContext) listening} to the
+ * property change events of the model object and its children (see
+ * {@link IpsPropertyChangeSupport}) or by explicitly {@link #markDirty(IModelObject) marking}
+ * objects as changed. A changed object is revalidated together with its
+ * {@link IDependantObject#getParentModelObject() parents}, as their rules often check their
+ * children. If rules depend on other objects, those have to be marked as changed explicitly or
+ * everything has to be {@link #markAllDirty() revalidated}.
+ * <p>
+ * The objects are found using an {@link IModelObjectVisitor}, so the merged messages are in the
+ * order in which the objects are visited. Objects extending {@link AbstractModelObject} are
+ * validated one by one, all other objects are validated together with their dependants.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @since 27.1
+ */
+public class IncrementalValidation implements PropertyChangeListener {
+
+    private final IModelObject modelObject;
+
+    private final IValidationContext context;
+
+    /** The validation result of every object that was validated, by identity */
+    private Map<IModelObject, ObjectValidationResult> results = new IdentityHashMap<>();
+
+    private final Set<IModelObject> dirtyObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /** The merged messages, <code>null</code> if some object changed since the last validation */
+    private MessageList messages;
+
+    public IncrementalValidation(IModelObject modelObject, IValidationContext context) {
+        this.modelObject = requireNonNull(modelObject, "modelObject must not be null");
+        this.context = requireNonNull(context, "context must not be null");
+    }
+
+    /**
+     * Creates an incremental validation for the given model object that tracks all changes of the
+     * model object and its children.
+     *
+     * @param modelObject the model object to validate, must implement {@link INotificationSupport}
+     * @param context the context used for all validations
+     * @throws IllegalArgumentException if the model object does not support change notifications
+     */
+    public static IncrementalValidation attachTo(IModelObject modelObject, IValidationContext context) {
+        if (!(modelObject instanceof INotificationSupport notificationSupport)) {
+            throw new IllegalArgumentException(modelObject + " does not support change notifications");
+        }
+        IncrementalValidation incrementalValidation = new IncrementalValidation(modelObject, context);
+        notificationSupport.addPropertyChangeListener(incrementalValidation, true);
+        return incrementalValidation;
+    }
+
+    /**
+     * Stops tracking the changes of the model object, if this validation was
+     * {@link #attachTo(IModelObject, IValidationContext) attached} to it.
+     */
+    public void detach() {
+        if (modelObject instanceof INotificationSupport notificationSupport) {
+            notificationSupport.removePropertyChangeListener(this);
+        }
+    }
+
+    public IModelObject getModelObject() {
+        return modelObject;
+    }
+
+    /**
+     * Marks the source of the event as changed. Added children are validated anyway, removed
+     * children are no longer visited.
+     */
+    @Override
+    public void propertyChange(PropertyChangeEvent event) {
+        if (event.getSource() instanceof IModelObject changedObject) {
+            markDirty(changedObject);
+        } else {
+            markAllDirty();
+        }
+    }
+
+    /**
+     * Marks the given object and its parents as changed, so their rules are run again by the next
+     * {@link #validate()}.
+     */
+    public void markDirty(IModelObject changedObject) {
+        IModelObject object = changedObject;
+        while (object != null && dirtyObjects.add(object)) {
+            object = object instanceof IDependantObject dependantObject ? dependantObject.getParentModelObject()
+                    : null;
+        }
+        messages = null;
+    }
+
+    /**
+     * Discards all cached messages, so the next {@link #validate()} runs all rules again.
+     */
+    public void markAllDirty() {
+        results = new IdentityHashMap<>();
+        dirtyObjects.clear();
+        messages = null;
+    }
+
+    /**
+     * Returns whether the rules of the given object are run by the next {@link #validate()}.
+     */
+    public boolean isDirty(IModelObject object) {
+        return messages == null && (dirtyObjects.contains(object) || !results.containsKey(object));
+    }
+
+    /**
+     * Validates the model object and its dependants, running only the rules of the objects that
+     * changed since the last validation.
+     *
+     * @return a new message list containing the messages of all objects
+     */
+    public MessageList validate() {
+        if (messages == null) {
+            MessageList newMessages = new MessageList();
+            Map<IModelObject, ObjectValidationResult> newResults = new IdentityHashMap<>();
+            IVisitorSupport.orGenericVisitorSupport(modelObject).accept(object -> {
+                ObjectValidationResult result = results.get(object);
+                if (result == null || dirtyObjects.contains(object)) {
+                    result = validate(object);
+                }
+                newResults.put(object, result);
+                newMessages.add(result.messages());
+                return result.continueValidation();
+            });
+            results = newResults;
+            dirtyObjects.clear();
+            messages = newMessages;
+        }
+        MessageList result = new MessageList();
+        result.add(messages);
+        return result;
+    }
+
+    private ObjectValidationResult validate(IModelObject object) {
+        if (object instanceof AbstractModelObject abstractModelObject) {
+            MessageList objectMessages = new MessageList();
+            boolean continueValidation = abstractModelObject.validateSelfInternal(objectMessages, context);
+            return new ObjectValidationResult(objectMessages, continueValidation);
+        } else {
+            return new ObjectValidationResult(object.validate(context), false);
+        }
+    }
+
+    /**
+     * The messages created by an object's own rules and whether its dependants are validated.
+     */
+    private record ObjectValidationResult(MessageList messages, boolean continueValidation) {
+    }
+
+}
@@ -24,14 +24,25 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.lang.management.ManagementFactory;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
 
 import org.faktorips.runtime.DummyTocEntryFactory.DummyRuntimeObject;
+import org.faktorips.runtime.caching.CacheStatistics;
 import org.faktorips.runtime.internal.DateTime;
+import org.faktorips.runtime.internal.WarmUpOptions;
+import org.faktorips.runtime.internal.WarmUpOptions.Content;
 import org.faktorips.runtime.test.IpsFormulaTestCase;
 import org.faktorips.runtime.test.IpsTest2;
 import org.faktorips.runtime.test.IpsTestCase2;
@@ -92,6 +103,78 @@ public class ClassloaderRuntimeRepositoryTest {
         assertNull(repository.getProductComponent("notThere"));
     }
 
+    @Test
+    public void testGetCacheStatistics() {
+        ClassloaderRuntimeRepository mainRepository = ClassloaderRuntimeRepository
+                .create("org/faktorips/runtime/testrepository/faktorips-repository-toc.xml");
+
+        mainRepository.getProductComponent("motor.MotorBasic");
+        mainRepository.getProductComponent("motor.MotorBasic");
+        mainRepository.getProductComponent("home.HomeBasic");
+
+        Map<Class<?>, CacheStatistics> cacheStatistics = mainRepository.getCacheStatistics();
+        CacheStatistics productCmptStatistics = cacheStatistics.get(IProductComponent.class);
+        assertThat(productCmptStatistics.getHitCount(), is(1L));
+        assertThat(productCmptStatistics.getMissCount(), is(2L));
+        assertThat(productCmptStatistics.getLoadCount(), is(2L));
+        assertThat(productCmptStatistics.getSize(), is(2L));
+        assertThat(cacheStatistics.get(ITable.class).getRequestCount(), is(0L));
+    }
+
+    @Test
+    public void testRegisterCacheStatisticsMBean() throws Exception {
+        ObjectName objectName = repository.registerCacheStatisticsMBean();
+        try {
+            repository.getProductComponent("motor.MotorBasic");
+
+            TabularData cacheStatistics = (TabularData)ManagementFactory.getPlatformMBeanServer()
+                    .getAttribute(objectName, "CacheStatistics");
+            assertThat(cacheStatistics.isEmpty(), is(false));
+        } finally {
+            repository.unregisterCacheStatisticsMBean();
+        }
+        assertThat(ManagementFactory.getPlatformMBeanServer().isRegistered(objectName), is(false));
+    }
+
+    @Test
+    public void testWarmUp() throws Exception {
+        ClassloaderRuntimeRepository mainRepository = ClassloaderRuntimeRepository
+                .create("org/faktorips/runtime/testrepository/faktorips-repository-toc.xml");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        AtomicInteger lastReportedCount = new AtomicInteger();
+        try {
+            int loaded = mainRepository.warmUp(new WarmUpOptions().setExecutor(executor)
+                    .setProgressListener((entry, count, total) -> lastReportedCount.accumulateAndGet(count, Math::max)))
+                    .get();
+
+            assertThat(loaded, is(11));
+            assertThat(lastReportedCount.get(), is(11));
+        } finally {
+            executor.shutdown();
+        }
+        Map<Class<?>, CacheStatistics> cacheStatistics = mainRepository.getCacheStatistics();
+        assertThat(cacheStatistics.get(IProductComponent.class).getSize(), is(3L));
+        assertThat(cacheStatistics.get(IProductComponentGeneration.class).getSize(), is(5L));
+        assertThat(cacheStatistics.get(ITable.class).getSize(), is(3L));
+
+        mainRepository.getProductComponent("motor.MotorBasic");
+        assertThat(mainRepository.getCacheStatistics().get(IProductComponent.class).getLoadCount(), is(3L));
+    }
+
+    @Test
+    public void testWarmUp_Filtered() throws Exception {
+        ClassloaderRuntimeRepository mainRepository = ClassloaderRuntimeRepository
+                .create("org/faktorips/runtime/testrepository/faktorips-repository-toc.xml");
+
+        int loaded = mainRepository.warmUp(new WarmUpOptions().setExecutor(Runnable::run)
+                .setContents(Content.PRODUCT_COMPONENTS, Content.TABLES)
+                .setQualifiedNamePrefix("home.")).get();
+
+        assertThat(loaded, is(1));
+        assertThat(mainRepository.getCacheStatistics().get(IProductComponent.class).getSize(), is(1L));
+        assertThat(mainRepository.getCacheStatistics().get(ITable.class).getSize(), is(0L));
+    }
+
     @Test
     public void testGetProductComponent_KindId_VersionId() {
         MotorProduct motorProduct = (MotorProduct)repository.getProductComponent("motor.MotorPlus", "2005-01");
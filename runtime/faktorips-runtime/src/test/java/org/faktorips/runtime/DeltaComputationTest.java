@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+
+import org.faktorips.runtime.internal.ModelObjectDelta;
+import org.junit.Test;
+
+public class DeltaComputationTest {
+
+    private final IDeltaComputationOptions options = new DeltaComputationOptionsByPosition() {
+        @Override
+        public boolean isSame(IModelObject object1, IModelObject object2) {
+            return ((Node)object1).name.equals(((Node)object2).name);
+        }
+    };
+
+    @Test
+    public void testComputeDelta() {
+        Node original = tree();
+        Node reference = tree();
+        reference.children.get(1).value = 42;
+
+        IModelObjectDelta delta = new DeltaComputation(options).computeDelta(original, reference);
+
+        assertThat(delta.toString(), is(original.computeDelta(reference, options).toString()));
+        assertThat(delta.getChildDeltas().size(), is(1));
+        assertThat(delta.getChildDeltas().get(0).getOriginalObject(), is(original.children.get(1)));
+    }
+
+    @Test
+    public void testComputeDelta_Listener() {
+        Node original = tree();
+        Node reference = tree();
+        reference.children.get(0).children.get(0).value = 1;
+        reference.children.get(1).value = 2;
+        List<IModelObject> reported = new ArrayList<>();
+
+        boolean completed = new DeltaComputation(options).computeDelta(original, reference,
+                d -> reported.add(d.getOriginalObject()));
+
+        assertThat(completed, is(true));
+        assertThat(reported, is(List.of(original.children.get(0).children.get(0), original.children.get(0),
+                original.children.get(1), original)));
+    }
+
+    @Test
+    public void testComputeDelta_ListenerStops() {
+        Node original = tree();
+        Node reference = tree();
+        reference.children.get(0).value = 1;
+        reference.children.get(1).value = 2;
+        List<IModelObject> reported = new ArrayList<>();
+
+        boolean completed = new DeltaComputation(options).computeDelta(original, reference, d -> {
+            reported.add(d.getOriginalObject());
+            return false;
+        });
+
+        assertThat(completed, is(false));
+        assertThat(reported, is(List.of(original.children.get(0))));
+        assertThat(original.children.get(1).computeCount, is(0));
+    }
+
+    @Test
+    public void testHasDifference() {
+        Node original = tree();
+        Node reference = tree();
+
+        assertThat(new DeltaComputation(options).hasDifference(original, reference), is(false));
+
+        reference.value = 1;
+        assertThat(new DeltaComputation(options).hasDifference(original, reference), is(true));
+        // the children are not compared after the first difference
+        assertThat(original.children.get(0).computeCount, is(1));
+    }
+
+    @Test
+    public void testHasDifference_Added() {
+        Node original = tree();
+        Node reference = tree();
+        reference.children.add(new Node("added"));
+
+        assertThat(new DeltaComputation(options).hasDifference(original, reference), is(true));
+    }
+
+    @Test
+    public void testInParallel() {
+        Node original = tree();
+        Node reference = tree();
+        reference.children.get(0).children.get(1).value = 1;
+        reference.children.get(1).value = 2;
+        reference.children.remove(2);
+        List<IModelObjectDelta> reported = new CopyOnWriteArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            DeltaComputation deltaComputation = new DeltaComputation(options).inParallel(pool);
+
+            IModelObjectDelta delta = deltaComputation.computeDelta(original, reference);
+            boolean completed = deltaComputation.computeDelta(original, reference, reported::add);
+
+            assertThat(delta.toString(), is(original.computeDelta(reference, options).toString()));
+            assertThat(completed, is(true));
+            assertThat(reported.size(), is(5));
+            assertThat(deltaComputation.hasDifference(original, reference), is(true));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static Node tree() {
+        Node root = new Node("root");
+        for (int i = 0; i < 3; i++) {
+            Node child = new Node("child" + i);
+            child.children.add(new Node("grandchild" + i + "a"));
+            child.children.add(new Node("grandchild" + i + "b"));
+            root.children.add(child);
+        }
+        return root;
+    }
+
+    private static class Node implements IModelObject, IDeltaSupport {
+
+        private final String name;
+
+        private final List<Node> children = new ArrayList<>();
+
+        private int value;
+
+        private volatile int computeCount;
+
+        Node(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public MessageList validate(IValidationContext context) {
+            return new MessageList();
+        }
+
+        @Override
+        public IModelObjectDelta computeDelta(IModelObject otherObject, IDeltaComputationOptions options) {
+            computeCount++;
+            Node other = (Node)otherObject;
+            ModelObjectDelta delta = ModelObjectDelta.newDelta(this, other, options);
+            delta.checkPropertyChange("value", value, other.value, options);
+            ModelObjectDelta.createChildDeltas(delta, children, other.children, "children", options);
+            return delta;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+
+    }
+
+}
@@ -18,9 +18,13 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.Test;
@@ -671,6 +675,129 @@ public class MessageListTest {
         assertEquals(2, list.getMessage(1).getInvalidObjectProperties().size());
     }
 
+    @Test
+    public void testIndex_UpdatedOnAdd() {
+        MessageList list = new MessageList(Message.newWarning("w", "warning"));
+        list.setIndexed(true);
+        assertFalse(list.containsErrorMsg());
+
+        Message error = Message.newError("e", "error", this, "p1", "p2");
+        list.add(error);
+
+        assertTrue(list.containsErrorMsg());
+        assertEquals(1, list.getNoOfMessages(Severity.ERROR));
+        assertSame(error, list.getMessageByCode("e"));
+        assertEquals(Severity.ERROR, list.getSeverity());
+        assertThat(list.getMessagesFor(this), is(MessageList.of(error)));
+        assertThat(list.getMessagesFor(this, "p2"), is(MessageList.of(error)));
+    }
+
+    @Test
+    public void testIndex_DiscardedOnModification() {
+        Message warning = Message.newWarning("w", "warning");
+        Message error = Message.newError("e", "error");
+        MessageList list = MessageList.of(warning);
+        list.setIndexed(true);
+        assertEquals(Severity.WARNING, list.getSeverity());
+
+        list.add(error);
+        assertTrue(list.containsErrorMsg());
+
+        list.remove(error);
+        assertFalse(list.containsErrorMsg());
+
+        list.add(error);
+        for (Iterator<Message> iterator = list.iterator(); iterator.hasNext();) {
+            if (iterator.next() == warning) {
+                iterator.remove();
+            }
+        }
+        assertNull(list.getMessageByCode("w"));
+        assertSame(error, list.getMessageByCode("e"));
+
+        list.clear();
+        assertEquals(Severity.NONE, list.getSeverity());
+    }
+
+    @Test
+    public void testGetMessages_NotIndexed_Modifiable() {
+        Message warning = Message.newWarning("w", "warning");
+        Message error = Message.newError("e", "error");
+        MessageList list = MessageList.of(warning);
+        assertEquals(Severity.WARNING, list.getSeverity());
+
+        list.getMessages().set(0, error);
+
+        assertTrue(list.containsErrorMsg());
+        assertNull(list.getMessageByCode("w"));
+    }
+
+    @Test
+    public void testIndex_GetMessagesUnmodifiable() {
+        MessageList list = MessageList.of(Message.newWarning("w", "warning"));
+        list.setIndexed(true);
+        List<Message> messages = list.getMessages();
+
+        assertThrows(UnsupportedOperationException.class, () -> messages.set(0, Message.newError("e", "error")));
+        assertThrows(UnsupportedOperationException.class, () -> messages.add(Message.newError("e", "error")));
+    }
+
+    @Test
+    public void testIndex_SetMessagesCopied() {
+        Message warning = Message.newWarning("w", "warning");
+        Message error = Message.newError("e", "error");
+        List<Message> messages = new ArrayList<>(List.of(warning));
+        MessageList list = new MessageList();
+        list.setIndexed(true);
+        list.setMessages(messages);
+        assertEquals(Severity.WARNING, list.getSeverity());
+
+        messages.set(0, error);
+
+        assertEquals(Severity.WARNING, list.getSeverity());
+        assertThat(list.getMessagesByCode("w"), is(MessageList.of(warning)));
+    }
+
+    @Test
+    public void testSetIndexed_CopiesSharedMessages() {
+        Message warning = Message.newWarning("w", "warning");
+        Message error = Message.newError("e", "error");
+        MessageList list = MessageList.of(warning);
+        List<Message> messages = list.getMessages();
+        list.setIndexed(true);
+        assertTrue(list.isIndexed());
+        assertEquals(Severity.WARNING, list.getSeverity());
+
+        messages.set(0, error);
+
+        assertEquals(Severity.WARNING, list.getSeverity());
+        assertFalse(list.containsErrorMsg());
+    }
+
+    @Test
+    public void testSetIndexed_Disabled() {
+        MessageList list = MessageList.of(Message.newWarning("w", "warning"));
+        list.setIndexed(true);
+        assertEquals(Severity.WARNING, list.getSeverity());
+
+        list.setIndexed(false);
+        list.getMessages().add(Message.newError("e", "error"));
+
+        assertFalse(list.isIndexed());
+        assertTrue(list.containsErrorMsg());
+    }
+
+    @Test
+    public void testIndex_KeepsOrder() {
+        Message m1 = Message.newError("code", "1");
+        Message m2 = Message.newWarning("other", "2");
+        Message m3 = Message.newInfo("code", "3");
+        MessageList list = MessageList.of(m1, m2, m3);
+        list.setIndexed(true);
+
+        assertThat(list.getMessagesByCode("code"), is(MessageList.of(m1, m3)));
+    }
+
     private static final class RequiredInformationMissing implements IMarker {
 
         @Override
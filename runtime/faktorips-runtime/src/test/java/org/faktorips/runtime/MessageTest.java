@@ -12,20 +12,36 @@ package org.faktorips.runtime;
 
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.MissingResourceException;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.faktorips.runtime.Message.Builder;
+import org.faktorips.runtime.util.MessagesHelper;
+import org.faktorips.runtime.util.MessagesHelperTest;
 import org.faktorips.values.Money;
 import org.junit.Test;
 
@@ -619,4 +635,116 @@ public class MessageTest extends XmlAbstractTestCase {
         assertTrue(messageCreated.hasMarkers());
     }
 
+    @Test
+    public void testLazyText_NotRenderedForSeverityAndCode() {
+        AtomicInteger renderCount = new AtomicInteger();
+        Message message = new Builder(Severity.ERROR).text(() -> "text" + renderCount.incrementAndGet())
+                .code("1").create();
+        MessageList messageList = new MessageList(message);
+
+        assertThat(messageList.containsErrorMsg(), is(true));
+        assertThat(messageList.getMessageByCode("1"), is(sameInstance(message)));
+        assertThat(messageList.getMessagesFor(this).isEmpty(), is(true));
+        assertThat(renderCount.get(), is(0));
+        assertThat(message.isTextRendered(), is(false));
+    }
+
+    @Test
+    public void testLazyText_RenderedOnce() {
+        AtomicInteger renderCount = new AtomicInteger();
+        Message message = new Builder(Severity.ERROR).text(() -> "text" + renderCount.incrementAndGet())
+                .create();
+        Message copy = new Message(message);
+
+        assertThat(message.getText(), is("text1"));
+        assertThat(message.getText(), is("text1"));
+        assertThat(copy.getText(), is("text1"));
+        assertThat(message.isTextRendered(), is(true));
+        assertThat(renderCount.get(), is(1));
+    }
+
+    @Test
+    public void testLazyText_RenderedOnceConcurrently() throws Exception {
+        AtomicInteger renderCount = new AtomicInteger();
+        Message message = new Builder(Severity.ERROR).text(() -> "text" + renderCount.incrementAndGet())
+                .create();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> texts = executor.invokeAll(Collections.nCopies(8, message::getText));
+
+            for (Future<String> text : texts) {
+                assertThat(text.get(), is("text1"));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(renderCount.get(), is(1));
+    }
+
+    @Test
+    public void testLazyText_NeverNullWhileRenderedConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 2000; i++) {
+                Message message = new Builder(Severity.ERROR).text(() -> "text").create();
+                CyclicBarrier start = new CyclicBarrier(2);
+                Callable<String> getText = () -> {
+                    start.await();
+                    return message.getText();
+                };
+
+                for (Future<String> text : executor.invokeAll(List.of(getText, getText))) {
+                    assertThat(text.get(), is("text"));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testLazyText_MessagesHelper() {
+        MessagesHelper messagesHelper = new MessagesHelper(MessagesHelperTest.class.getName(),
+                getClass().getClassLoader(), Locale.ENGLISH);
+
+        Message message = new Builder(Severity.ERROR).text(messagesHelper, "test", Locale.GERMAN).create();
+
+        assertThat(message.isTextRendered(), is(false));
+        assertThat(message.getText(), is("testmessageInDe"));
+    }
+
+    @Test
+    public void testLazyText_MessagesHelper_MissingMessageFailsImmediately() {
+        MessagesHelper messagesHelper = new MessagesHelper(MessagesHelperTest.class.getName(),
+                getClass().getClassLoader(), Locale.ENGLISH);
+        Builder builder = new Builder(Severity.ERROR);
+
+        assertThrows(MissingResourceException.class, () -> builder.text(messagesHelper, "unknown", Locale.GERMAN));
+    }
+
+    @Test
+    public void testLazyText_EqualsEagerText() {
+        Message lazy = new Builder(Severity.ERROR).text(() -> "text").code("1").create();
+        Message eager = new Builder("text", Severity.ERROR).code("1").create();
+
+        assertThat(lazy.hashCode(), is(eager.hashCode()));
+        assertThat(lazy, is(eager));
+    }
+
+    @Test
+    public void testLazyText_RenderedForSerialization() throws Exception {
+        Message message = new Builder(Severity.ERROR).text(() -> "text").code("1").create();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(message);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Message deserialized = (Message)in.readObject();
+
+            assertThat(deserialized.getText(), is("text"));
+            assertThat(deserialized, is(message));
+        }
+    }
+
 }
@@ -3,6 +3,7 @@ package org.faktorips.runtime;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import org.faktorips.runtime.caching.CacheStatistics;
 import org.faktorips.runtime.caching.IComputable;
 import org.junit.Test;
 
@@ -24,6 +25,23 @@ public class SimpleCacheTest {
         assertThat(1, is(computedObjectOneAgain));
     }
 
+    @Test
+    public void testGetStatistics() throws InterruptedException {
+        IComputable<Object, Object> computable = IComputable.of(Object.class, this::getNotCachedNumber);
+        SimpleCache cache = new SimpleCache(computable);
+        cache.compute("One");
+        cache.compute("Two");
+        cache.compute("One");
+
+        CacheStatistics statistics = cache.getStatistics();
+
+        assertThat(statistics.getHitCount(), is(1L));
+        assertThat(statistics.getMissCount(), is(2L));
+        assertThat(statistics.getLoadCount(), is(2L));
+        assertThat(statistics.getEvictionCount(), is(0L));
+        assertThat(statistics.getSize(), is(2L));
+    }
+
     private Object getNotCachedNumber(@SuppressWarnings("unused") Object key) {
         return number++;
     }
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import org.faktorips.runtime.internal.DateTime;
+import org.faktorips.runtime.testrepository.home.HomeProduct;
+import org.faktorips.runtime.testrepository.motor.MotorProduct;
+import org.faktorips.runtime.testrepository.motor.MotorProductGen;
+import org.faktorips.runtime.testrepository.motor.RateTable;
+import org.faktorips.runtime.testrepository.test.TestPremiumCalculation;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SnapshotRuntimeRepositoryTest {
+
+    private static final String TOC_RESOURCE = "org/faktorips/runtime/testrepository/faktorips-repository-toc.xml";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private SnapshotRuntimeRepository repository;
+
+    @Before
+    public void setUp() throws IOException {
+        Path snapshotFile = temporaryFolder.newFile("repository.snapshot").toPath();
+        SnapshotRuntimeRepository.writeSnapshot(getClass().getClassLoader(), TOC_RESOURCE, snapshotFile);
+        repository = SnapshotRuntimeRepository.create(snapshotFile, getClass().getClassLoader());
+    }
+
+    @Test
+    public void testGetName() {
+        assertThat(repository.getName(), is(TOC_RESOURCE));
+    }
+
+    @Test
+    public void testGetProductComponent() {
+        MotorProduct motorPk = (MotorProduct)repository.getProductComponent("motor.MotorPlus");
+        assertNotNull(motorPk);
+        assertEquals(new DateTime(2010, 1, 16), motorPk.getValidTo());
+        assertNotNull(motorPk.getGenerationBase(new GregorianCalendar(2005, 1, 1)));
+        assertNotNull(repository.getProductComponent("home.HomeBasic"));
+        assertNull(repository.getProductComponent("notThere"));
+    }
+
+    @Test
+    public void testGetProductComponentGenerations() {
+        IProductComponent motorPk = repository.getProductComponent("motor.MotorPlus");
+
+        List<IProductComponentGeneration> generations = repository.getProductComponentGenerations(motorPk);
+
+        assertThat(generations.size(), is(3));
+        assertThat(generations.get(0) instanceof MotorProductGen, is(true));
+    }
+
+    @Test
+    public void testGetAllProductComponents_ByClass() {
+        assertThat(repository.getAllProductComponents(MotorProduct.class).size(), is(2));
+        assertThat(repository.getAllProductComponents(HomeProduct.class).size(), is(1));
+    }
+
+    @Test
+    public void testGetTable() {
+        assertNotNull((RateTable)repository.getTable("motor.RateTable"));
+    }
+
+    @Test
+    public void testGetIpsTestCase() {
+        TestPremiumCalculation test = (TestPremiumCalculation)repository.getIpsTestCase("test.CalculationTest1");
+
+        assertThat(test.getInputSumInsured(), is("42"));
+        assertThat(test.getExpResultPremium(), is("43"));
+    }
+
+    @Test
+    public void testCreate_NoSnapshot() throws IOException {
+        Path file = temporaryFolder.newFile("faktorips-repository-toc.xml").toPath();
+        Files.writeString(file, "<FaktorIps-TableOfContents/>");
+
+        assertThrows(IllegalArgumentException.class, () -> SnapshotRuntimeRepository.create(file));
+    }
+
+}
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.caching;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class BoundedMemoizerTest {
+
+    private final List<String> computedKeys = new ArrayList<>();
+
+    private String compute(String key) {
+        computedKeys.add(key);
+        return key.isEmpty() ? null : key.toUpperCase();
+    }
+
+    @Test
+    public void testCompute() throws InterruptedException {
+        BoundedMemoizer<String, String> memoizer = new BoundedMemoizer<>(IComputable.of(String.class, this::compute),
+                10);
+
+        assertThat(memoizer.compute("a"), is("A"));
+        assertThat(memoizer.compute("a"), is("A"));
+        assertThat(memoizer.compute("b"), is("B"));
+
+        assertThat(computedKeys, is(List.of("a", "b")));
+        assertThat(memoizer.size(), is(2));
+    }
+
+    @Test
+    public void testCompute_NullIsNotCached() throws InterruptedException {
+        BoundedMemoizer<String, String> memoizer = new BoundedMemoizer<>(IComputable.of(String.class, this::compute),
+                10);
+
+        assertThat(memoizer.compute(""), is(nullValue()));
+        assertThat(memoizer.compute(""), is(nullValue()));
+
+        assertThat(computedKeys, is(List.of("", "")));
+        assertThat(memoizer.size(), is(0));
+    }
+
+    @Test
+    public void testCompute_EvictsLeastRecentlyUsedOfProbation() throws InterruptedException {
+        BoundedMemoizer<String, String> memoizer = new BoundedMemoizer<>(IComputable.of(String.class, this::compute),
+                3);
+        memoizer.compute("a");
+        // second access promotes "a" to the protected segment
+        memoizer.compute("a");
+        memoizer.compute("b");
+        memoizer.compute("c");
+        memoizer.compute("d");
+
+        assertThat(memoizer.size(), is(3));
+        computedKeys.clear();
+        memoizer.compute("a");
+        memoizer.compute("c");
+        memoizer.compute("d");
+        assertThat(computedKeys, is(List.of()));
+        memoizer.compute("b");
+        assertThat(computedKeys, is(List.of("b")));
+    }
+
+    @Test
+    public void testCompute_MaximumWeight() throws InterruptedException {
+        BoundedMemoizer<String, String> memoizer = new BoundedMemoizer<>(IComputable.of(String.class, this::compute),
+                Long.MAX_VALUE, 5, String::length);
+        memoizer.compute("aa");
+        memoizer.compute("bb");
+        assertThat(memoizer.getWeight(), is(4L));
+
+        memoizer.compute("cc");
+
+        assertThat(memoizer.size(), is(2));
+        assertThat(memoizer.getWeight(), is(4L));
+    }
+
+    @Test
+    public void testCompute_ValueHeavierThanMaximumWeightIsNotCached() throws InterruptedException {
+        BoundedMemoizer<String, String> memoizer = new BoundedMemoizer<>(IComputable.of(String.class, this::compute),
+                Long.MAX_VALUE, 5, String::length);
+
+        assertThat(memoizer.compute("abcdef"), is("ABCDEF"));
+
+        assertThat(memoizer.size(), is(0));
+        assertThat(memoizer.getWeight(), is(0L));
+    }
+
+    @Test
+    public void testCompute_Concurrent() throws Exception {
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        BoundedMemoizer<Integer, Integer> memoizer = new BoundedMemoizer<>(IComputable.of(Integer.class, key -> {
+            computations.incrementAndGet();
+            return key * 2;
+        }), 100);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return memoizer.compute(21);
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS), is(42));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(computations.get(), is(1));
+    }
+
+    @Test
+    public void testGetStatistics() throws InterruptedException {
+        BoundedMemoizer<String, String> memoizer = new BoundedMemoizer<>(IComputable.of(String.class, this::compute),
+                2);
+        memoizer.compute("a");
+        memoizer.compute("a");
+        memoizer.compute("b");
+        memoizer.compute("c");
+
+        CacheStatistics statistics = memoizer.getStatistics();
+
+        assertThat(statistics.getHitCount(), is(1L));
+        assertThat(statistics.getMissCount(), is(3L));
+        assertThat(statistics.getLoadCount(), is(3L));
+        assertThat(statistics.getEvictionCount(), is(1L));
+        assertThat(statistics.getSize(), is(2L));
+        assertThat(statistics.getHitRate(), is(0.25));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeBound() {
+        new BoundedMemoizer<>(IComputable.of(String.class, this::compute), -1);
+    }
+
+}
@@ -130,6 +130,10 @@ public class AbstractClassLoadingRuntimeRepositoryTest {
         Element genElement = mock(Element.class);
         ProductVariantRuntimeHelper helper = mock(ProductVariantRuntimeHelper.class);
 
+        ProductCmptTocEntry parentEntry = mock(ProductCmptTocEntry.class);
+        when(parentEntry.getIpsObjectId()).thenReturn("parentId");
+        when(genEntry.getParent()).thenReturn(parentEntry);
+        doReturn(mock(ProductComponent.class)).when(repo).getProductComponent("parentId");
         doReturn(genElement).when(repo).getDocumentElement(genEntry);
         when(genElement.hasAttribute(anyString())).thenReturn(true);
         doReturn(helper).when(repo).getProductVariantHelper();
@@ -82,6 +82,7 @@ public abstract class AbstractModelObjectDeltaChildrenTest {
 
         private final ComputationMethod computationMethod;
         private boolean subtree = false;
+        private boolean identityKey = false;
 
         public TestOptions(ComputationMethod computationMethod) {
             super();
@@ -105,6 +106,11 @@ public abstract class AbstractModelObjectDeltaChildrenTest {
             return mo1.id.equals(mo2.id);
         }
 
+        @Override
+        public Object getIdentityKey(IModelObject object) {
+            return identityKey ? ((TestModelObject)object).id : null;
+        }
+
         @Override
         public boolean isCreateSubtreeDelta() {
             return subtree;
@@ -115,6 +121,11 @@ public abstract class AbstractModelObjectDeltaChildrenTest {
             return this;
         }
 
+        public TestOptions withIdentityKey() {
+            identityKey = true;
+            return this;
+        }
+
         @Override
         public boolean ignoreAssociations() {
             return false;
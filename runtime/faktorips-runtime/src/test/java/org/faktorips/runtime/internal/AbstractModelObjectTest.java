@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.faktorips.runtime.IModelObject;
+import org.junit.Test;
+
+public class AbstractModelObjectTest {
+
+    @Test
+    public void testReplaceCopiedTargets() {
+        TestModelObject target1 = new TestModelObject();
+        TestModelObject target2 = new TestModelObject();
+        TestModelObject target3 = new TestModelObject();
+        TestModelObject copy1 = new TestModelObject();
+        TestModelObject copy3 = new TestModelObject();
+        Map<IModelObject, IModelObject> copyMap = new IdentityHashMap<>();
+        copyMap.put(target1, copy1);
+        copyMap.put(target3, copy3);
+        List<TestModelObject> targets = new ArrayList<>(List.of(target1, target2, target3));
+
+        AbstractModelObject.replaceCopiedTargets(targets, copyMap);
+
+        assertThat(targets, is(List.of(copy1, target2, copy3)));
+    }
+
+    @Test
+    public void testReplaceCopiedTargets_Empty() {
+        List<TestModelObject> targets = new ArrayList<>();
+
+        AbstractModelObject.replaceCopiedTargets(targets, new IdentityHashMap<>());
+
+        assertThat(targets.isEmpty(), is(true));
+    }
+
+    private static class TestModelObject extends AbstractModelObject {
+        // only used as association target
+    }
+
+}
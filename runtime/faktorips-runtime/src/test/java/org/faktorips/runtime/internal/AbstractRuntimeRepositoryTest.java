@@ -498,12 +498,49 @@ public class AbstractRuntimeRepositoryTest {
                 is(TestConcreteExtensibleEnum.CLASS_VALUE_1));
     }
 
+    @Test
+    public void testGetEnumValueWithoutLookup_ValuesPutAfterLookup() {
+        TestConcreteExtensibleEnum extendedValue = new TestConcreteExtensibleEnum(2, "E1", "Extended Value 1");
+        assertThat(mainRepository.getEnumValue(TestConcreteExtensibleEnum.class, extendedValue.getId()),
+                is(nullValue()));
+
+        baseRepository.putEnumValues(TestConcreteExtensibleEnum.class, List.of(extendedValue));
+
+        assertThat(mainRepository.getEnumValue(TestConcreteExtensibleEnum.class, extendedValue.getId()),
+                is(extendedValue));
+        assertThat(mainRepository.getEnumValue(TestConcreteExtensibleEnum.class,
+                TestConcreteExtensibleEnum.CLASS_VALUE_1.getId()),
+                is(TestConcreteExtensibleEnum.CLASS_VALUE_1));
+
+        baseRepository.removeEnumValues(TestConcreteExtensibleEnum.class);
+
+        assertThat(mainRepository.getEnumValue(TestConcreteExtensibleEnum.class, extendedValue.getId()),
+                is(nullValue()));
+    }
+
     @Test
     public void testGetEnumValueWithoutLookup_JavaEnum() {
         assertThat(baseRepository.getEnumValue(TestConcreteJavaEnum.class, TestConcreteJavaEnum.JAVA_VALUE_1.getId()),
                 is(TestConcreteJavaEnum.JAVA_VALUE_1));
     }
 
+    @Test
+    public void testGetEnumValueFromReferencedLookup_LookupAddedAfterLookup() {
+        ConcreteLookup lookup = new ConcreteLookup();
+        assertThat(mainRepository.getEnumValue(TestConcreteExtensibleEnum.class, lookup.extendedValue1.getId()),
+                is(nullValue()));
+
+        baseRepository.addEnumValueLookupService(lookup);
+
+        assertThat(mainRepository.getEnumValue(TestConcreteExtensibleEnum.class, lookup.extendedValue1.getId()),
+                is(lookup.extendedValue1));
+
+        baseRepository.removeEnumValueLookupService(lookup);
+
+        assertThat(mainRepository.getEnumValue(TestConcreteExtensibleEnum.class, lookup.extendedValue1.getId()),
+                is(nullValue()));
+    }
+
     @Test
     public void testGetEnumValueFromReferencedLookup_WithAbstractBaseEnum() {
         // test if the search through referenced repositories works
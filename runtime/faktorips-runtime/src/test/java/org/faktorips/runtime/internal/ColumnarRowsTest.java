@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+
+package org.faktorips.runtime.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+
+import org.faktorips.values.Decimal;
+import org.junit.Test;
+
+public class ColumnarRowsTest {
+
+    private static ColumnarRows<TestTableRow> createColumnarRows() {
+        return ColumnarRows.<TestTableRow> builder()
+                .column(String.class, TestTableRow::getCompany)
+                .column(Integer.class, TestTableRow::getGender)
+                .column(Decimal.class, TestTableRow::getRate)
+                .build(values -> new TestTableRow((String)values[0], (Integer)values[1], (Decimal)values[2]));
+    }
+
+    @Test
+    public void testAddAndGet() {
+        ColumnarRows<TestTableRow> rows = createColumnarRows();
+
+        rows.add(new TestTableRow("KQV", 1, Decimal.valueOf("0.15")));
+        rows.add(new TestTableRow(null, null, Decimal.NULL));
+        rows.add(new TestTableRow("BBV", 0, null));
+
+        assertThat(rows.size(), is(3));
+        assertThat(rows.get(0).getCompany(), is("KQV"));
+        assertThat(rows.get(0).getGender(), is(1));
+        assertThat(rows.get(0).getRate(), is(Decimal.valueOf("0.15")));
+        assertThat(rows.get(1).getCompany(), is(nullValue()));
+        assertThat(rows.get(1).getGender(), is(nullValue()));
+        assertThat(rows.get(1).getRate(), is(Decimal.NULL));
+        assertThat(rows.get(2).getCompany(), is("BBV"));
+        assertThat(rows.get(2).getGender(), is(0));
+        assertThat(rows.get(2).getRate(), is(nullValue()));
+    }
+
+    @Test
+    public void testAdd_LargeDecimal() {
+        ColumnarRows<TestTableRow> rows = createColumnarRows();
+        Decimal largeValue = Decimal.valueOf("123456789012345678901234567890.123");
+
+        rows.add(new TestTableRow("KQV", 1, largeValue));
+
+        assertThat(rows.get(0).getRate(), is(largeValue));
+    }
+
+    @Test
+    public void testAdd_DictionaryEncodesStrings() {
+        ColumnarRows<TestTableRow> rows = createColumnarRows();
+
+        for (int i = 0; i < 1000; i++) {
+            rows.add(new TestTableRow(new String(i % 2 == 0 ? "KQV" : "BBV"), i, Decimal.valueOf(i, 2)));
+        }
+        rows.trimToSize();
+
+        assertThat(rows.size(), is(1000));
+        assertThat(rows.getDictionarySize(0), is(2));
+        assertThat(rows.getDictionarySize(1), is(-1));
+        assertThat(rows.get(998).getCompany() == rows.get(0).getCompany(), is(true));
+        assertThat(rows.get(999).getGender(), is(999));
+        assertThat(rows.get(999).getRate(), is(Decimal.valueOf("9.99")));
+    }
+
+    @Test
+    public void testAdd_AfterTrimToSize() {
+        ColumnarRows<TestTableRow> rows = createColumnarRows();
+        rows.add(new TestTableRow("KQV", 1, Decimal.valueOf("0.15")));
+        rows.trimToSize();
+
+        rows.add(new TestTableRow("KQV", 2, Decimal.valueOf("0.25")));
+
+        assertThat(rows.getDictionarySize(0), is(1));
+        assertThat(rows.get(1).getGender(), is(2));
+    }
+
+    @Test
+    public void testAddAll() {
+        ColumnarRows<TestTableRow> rows = createColumnarRows();
+
+        rows.addAll(List.of(new TestTableRow("KQV", 1, Decimal.valueOf("0.15")),
+                new TestTableRow("BBV", 0, Decimal.valueOf("0.35"))));
+
+        assertThat(rows.size(), is(2));
+        assertThat(rows.get(1).getCompany(), is("BBV"));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGet_OutOfBounds() {
+        createColumnarRows().get(0);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRemove() {
+        ColumnarRows<TestTableRow> rows = createColumnarRows();
+        rows.add(new TestTableRow("KQV", 1, Decimal.valueOf("0.15")));
+
+        rows.remove(0);
+    }
+
+}
@@ -731,6 +731,59 @@ public class ModelObjectDeltaChildrenByObjectTest extends AbstractModelObjectDel
         assertEquals(0, childDeltas.size());
     }
 
+    @Test
+    public void testCreateChildDeltas_toMany_IdentityKey() {
+        TestModelObject oldChild1 = new TestModelObject("Child1");
+        TestModelObject oldChild2 = new TestModelObject("Child2");
+        TestModelObject oldChild3 = new TestModelObject("Child3");
+        TestModelObject oldChild4 = new TestModelObject("Child4");
+        TestModelObject newChild1 = new TestModelObject("Child1");
+        TestModelObject newChild3 = new TestModelObject("Child3");
+        TestModelObject newChild4 = new TestModelObject("Child4");
+        TestModelObject newChild5 = new TestModelObject("Child5");
+        newChild3.setProperty(42);
+        List<TestModelObject> originals = of(oldChild1, oldChild2, oldChild3, oldChild4);
+        List<TestModelObject> references = of(newChild1, newChild5, newChild4, newChild3);
+        ModelObjectDelta deltaBySame = emptyParentDelta();
+        ModelObjectDelta deltaByKey = emptyParentDelta();
+
+        ModelObjectDelta.createChildDeltas(deltaBySame, originals, references, "children", computationByObject());
+        ModelObjectDelta.createChildDeltas(deltaByKey, originals, references, "children",
+                computationByObject().withIdentityKey());
+
+        List<IModelObjectDelta> childDeltas = deltaByKey.getChildDeltas();
+        assertThat(childDeltas.size(), is(deltaBySame.getChildDeltas().size()));
+        for (int i = 0; i < childDeltas.size(); i++) {
+            IModelObjectDelta expected = deltaBySame.getChildDeltas().get(i);
+            IModelObjectDelta actual = childDeltas.get(i);
+            assertThat(actual.getKind(), is(expected.getKind()));
+            assertThat(actual.isMoved(), is(expected.isMoved()));
+            assertThat(actual.getOriginalObject(), is(expected.getOriginalObject()));
+            assertThat(actual.getReferenceObject(), is(expected.getReferenceObject()));
+        }
+        assertThat(childDeltas.size(), is(4));
+        assertTrue(childDeltas.get(0).isRemoved());
+        assertTrue(childDeltas.get(1).isMoved());
+        assertTrue(childDeltas.get(1).isChanged());
+        assertTrue(childDeltas.get(2).isMoved());
+        assertTrue(childDeltas.get(3).isAdded());
+        assertEquals(newChild5, childDeltas.get(3).getReferenceObject());
+    }
+
+    @Test
+    public void testCreateChildDeltas_toMany_IdentityKey_Unchanged() {
+        ModelObjectDelta delta = emptyParentDelta();
+        TestModelObject oldChild1 = new TestModelObject("Child1");
+        TestModelObject oldChild2 = new TestModelObject("Child2");
+        TestModelObject newChild1 = new TestModelObject("Child1");
+        TestModelObject newChild2 = new TestModelObject("Child2");
+
+        ModelObjectDelta.createChildDeltas(delta, of(oldChild1, oldChild2), of(newChild1, newChild2), "children",
+                computationByObject().withIdentityKey());
+
+        assertTrue(delta.isEmpty());
+    }
+
     @Test
     public void testAreValuesEqual_Numeric_String() {
         Decimal value1 = Decimal.valueOf(4);
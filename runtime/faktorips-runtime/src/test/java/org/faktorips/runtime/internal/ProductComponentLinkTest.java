@@ -11,6 +11,7 @@
 package org.faktorips.runtime.internal;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.mock;
@@ -22,6 +23,7 @@ import java.util.Locale;
 
 import org.faktorips.runtime.CardinalityRange;
 import org.faktorips.runtime.IProductComponent;
+import org.faktorips.runtime.InMemoryRuntimeRepository;
 import org.faktorips.runtime.XmlAbstractTestCase;
 import org.junit.Before;
 import org.junit.Test;
@@ -142,4 +144,37 @@ public class ProductComponentLinkTest extends XmlAbstractTestCase {
         // default locale
         assertThat(link.getDescription(Locale.CHINESE), is("Die Beschreibung 1"));
     }
+
+    @Test
+    public void testGetTarget() {
+        InMemoryRuntimeRepository repository = new InMemoryRuntimeRepository();
+        TestProductComponent source = new TestProductComponent(repository, "source", "sourceKind", "sourceVersion");
+        TestProductComponent target = new TestProductComponent(repository, "target", "targetKind", "targetVersion");
+        repository.putProductComponent(target);
+        ProductComponentLink<IProductComponent> linkToTarget = new ProductComponentLink<>(source, target);
+        assertThat(linkToTarget.getTarget(), is(sameInstance(target)));
+
+        TestProductComponent newTarget = new TestProductComponent(repository, "target", "targetKind",
+                "targetVersion");
+        repository.putProductComponent(newTarget);
+
+        assertThat(linkToTarget.getTarget(), is(sameInstance(newTarget)));
+    }
+
+    @Test
+    public void testGetTarget_CachingLinkTargets() {
+        InMemoryRuntimeRepository repository = new InMemoryRuntimeRepository();
+        repository.setCachingProductComponentLinkTargets(true);
+        TestProductComponent source = new TestProductComponent(repository, "source", "sourceKind", "sourceVersion");
+        TestProductComponent target = new TestProductComponent(repository, "target", "targetKind", "targetVersion");
+        repository.putProductComponent(target);
+        ProductComponentLink<IProductComponent> linkToTarget = new ProductComponentLink<>(source, target);
+        assertThat(linkToTarget.getTarget(), is(sameInstance(target)));
+
+        TestProductComponent newTarget = new TestProductComponent(repository, "target", "targetKind",
+                "targetVersion");
+        repository.putProductComponent(newTarget);
+
+        assertThat(linkToTarget.getTarget(), is(sameInstance(target)));
+    }
 }
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.faktorips.runtime.internal.toc.GenerationTocEntry;
+import org.faktorips.runtime.internal.toc.ProductCmptTocEntry;
+import org.faktorips.runtime.internal.toc.ReadonlyTableOfContents;
+import org.faktorips.runtime.internal.toc.TocEntryObject;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.xml.sax.SAXException;
+
+public class RepositorySnapshotTest {
+
+    private static final String TOC_RESOURCE = "org/faktorips/runtime/testrepository/faktorips-repository-toc.xml";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testReadTableOfContents() throws IOException, SAXException {
+        ClassLoader cl = getClass().getClassLoader();
+        Path snapshotFile = temporaryFolder.newFile("repository.snapshot").toPath();
+        RepositorySnapshot.write(cl, TOC_RESOURCE, snapshotFile);
+        ReadonlyTableOfContents expectedToc = new ReadonlyTableOfContents(cl);
+        try (InputStream is = cl.getResourceAsStream(TOC_RESOURCE)) {
+            expectedToc.initFromXml(XmlUtil.getDocumentBuilder().parse(is).getDocumentElement());
+        }
+
+        ReadonlyTableOfContents toc = RepositorySnapshot.open(snapshotFile).readTableOfContents(cl);
+
+        assertThat(toc.getProductDataVersion(), is(expectedToc.getProductDataVersion()));
+        List<TocEntryObject> expectedEntries = expectedToc.getEntries();
+        List<TocEntryObject> entries = toc.getEntries();
+        assertThat(entries.size(), is(expectedEntries.size()));
+        for (int i = 0; i < entries.size(); i++) {
+            assertEntry(entries.get(i), expectedEntries.get(i));
+        }
+    }
+
+    private void assertEntry(TocEntryObject entry, TocEntryObject expectedEntry) {
+        assertThat(entry.getClass(), is((Object)expectedEntry.getClass()));
+        assertThat(entry.getIpsObjectId(), is(expectedEntry.getIpsObjectId()));
+        assertThat(entry.getIpsObjectQualifiedName(), is(expectedEntry.getIpsObjectQualifiedName()));
+        assertThat(entry.getXmlResourceName(), is(expectedEntry.getXmlResourceName()));
+        assertThat(entry.getImplementationClassName(), is(expectedEntry.getImplementationClassName()));
+        if (entry instanceof ProductCmptTocEntry productCmptEntry) {
+            ProductCmptTocEntry expectedProductCmptEntry = (ProductCmptTocEntry)expectedEntry;
+            assertThat(productCmptEntry.getKindId(), is(expectedProductCmptEntry.getKindId()));
+            assertThat(productCmptEntry.getVersionId(), is(expectedProductCmptEntry.getVersionId()));
+            assertThat(productCmptEntry.getValidTo(), is(expectedProductCmptEntry.getValidTo()));
+            List<GenerationTocEntry> generations = productCmptEntry.getGenerationEntries();
+            List<GenerationTocEntry> expectedGenerations = expectedProductCmptEntry.getGenerationEntries();
+            assertThat(generations.size(), is(expectedGenerations.size()));
+            for (int i = 0; i < generations.size(); i++) {
+                assertThat(generations.get(i).getValidFrom(), is(expectedGenerations.get(i).getValidFrom()));
+                assertThat(generations.get(i).getXmlResourceName(),
+                        is(expectedGenerations.get(i).getXmlResourceName()));
+                assertThat(generations.get(i).getImplementationClassName(),
+                        is(expectedGenerations.get(i).getImplementationClassName()));
+            }
+        }
+    }
+
+}
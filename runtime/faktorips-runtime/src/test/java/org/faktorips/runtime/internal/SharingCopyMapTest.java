@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.util.IdentityHashMap;
+
+import org.faktorips.runtime.IDependantObject;
+import org.faktorips.runtime.IModelObject;
+import org.junit.Test;
+
+public class SharingCopyMapTest {
+
+    private final TestModelObject root = new TestModelObject(null);
+    private final TestModelObject child = new TestModelObject(root);
+    private final TestModelObject grandChild = new TestModelObject(child);
+    private final TestModelObject otherChild = new TestModelObject(root);
+    private final TestModelObject otherGrandChild = new TestModelObject(otherChild);
+
+    @Test
+    public void testIsShared() {
+        SharingCopyMap copyMap = new SharingCopyMap(root, grandChild);
+
+        assertThat(copyMap.isShared(root), is(false));
+        assertThat(copyMap.isShared(child), is(false));
+        assertThat(copyMap.isShared(grandChild), is(false));
+        assertThat(copyMap.isShared(otherChild), is(true));
+        assertThat(copyMap.isShared(otherGrandChild), is(true));
+    }
+
+    @Test
+    public void testIsShared_NoObjectsToModify() {
+        SharingCopyMap copyMap = new SharingCopyMap(root);
+
+        assertThat(copyMap.isShared(root), is(false));
+        assertThat(copyMap.isShared(child), is(true));
+    }
+
+    @Test
+    public void testIsShared_SeveralObjectsToModify() {
+        SharingCopyMap copyMap = new SharingCopyMap(root, grandChild, child, otherChild);
+
+        assertThat(copyMap.isShared(child), is(false));
+        assertThat(copyMap.isShared(grandChild), is(false));
+        assertThat(copyMap.isShared(otherChild), is(false));
+        assertThat(copyMap.isShared(otherGrandChild), is(true));
+    }
+
+    @Test
+    public void testNew_ObjectNotInTree() {
+        TestModelObject otherRoot = new TestModelObject(null);
+        TestModelObject otherTreeChild = new TestModelObject(otherRoot);
+
+        assertThrows(IllegalArgumentException.class, () -> new SharingCopyMap(root, otherTreeChild));
+    }
+
+    @Test
+    public void testIsSharedInCopy() {
+        SharingCopyMap copyMap = new SharingCopyMap(root, grandChild);
+
+        assertThat(AbstractModelObject.isSharedInCopy(otherChild, copyMap), is(true));
+        assertThat(AbstractModelObject.isSharedInCopy(child, copyMap), is(false));
+        assertThat(AbstractModelObject.isSharedInCopy(otherChild, new IdentityHashMap<>()), is(false));
+    }
+
+    private static class TestModelObject extends AbstractModelObject implements IDependantObject {
+
+        private final IModelObject parent;
+
+        TestModelObject(IModelObject parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public IModelObject getParentModelObject() {
+            return parent;
+        }
+
+    }
+
+}
@@ -26,6 +26,8 @@ import org.faktorips.runtime.IRuntimeRepository;
 import org.faktorips.runtime.IllegalRepositoryModificationException;
 import org.faktorips.runtime.InMemoryRuntimeRepository;
 import org.faktorips.runtime.XmlAbstractTestCase;
+import org.faktorips.runtime.internal.tableindex.ResultStructure;
+import org.faktorips.runtime.internal.tableindex.UniqueResultStructure;
 import org.faktorips.runtime.internal.toc.TableContentTocEntry;
 import org.faktorips.values.Decimal;
 import org.faktorips.values.DefaultInternationalString;
@@ -88,6 +90,47 @@ public class TableTest extends XmlAbstractTestCase {
         assertEquals(getClass().getName(), table.getName());
     }
 
+    @Test
+    public void testInitFromXmlViaSax_ColumnarRows() throws Exception {
+        ColumnarTestTable columnarTable = new ColumnarTestTable();
+        InputStream is = getClass().getResourceAsStream(getClass().getSimpleName() + ".xml");
+
+        columnarTable.initFromXml(is, null, tocEntry.getIpsObjectId());
+
+        assertThat(columnarTable.rows instanceof ColumnarRows, is(true));
+        TestTableRow row = columnarTable.rows.get(5);
+        assertEquals("BBV", row.getCompany());
+        assertEquals(Integer.valueOf("1"), row.getGender());
+        assertEquals(Decimal.valueOf("0.35"), row.getRate());
+        assertEquals("TestDescription", columnarTable.getDescription(Locale.ENGLISH));
+    }
+
+    @Test
+    public void testCreateResultStructure_ColumnarRows() {
+        ColumnarTestTable columnarTable = new ColumnarTestTable(
+                List.of(new TestTableRow("KQV", 1, Decimal.valueOf("0.15")),
+                        new TestTableRow("BBV", 0, Decimal.valueOf("0.35"))));
+
+        ResultStructure<TestTableRow> resultStructure = columnarTable
+                .createResultStructure(columnarTable.rows.get(0), 0);
+        resultStructure.merge(columnarTable.createResultStructure(columnarTable.rows.get(1), 1));
+        UniqueResultStructure<TestTableRow> uniqueResultStructure = columnarTable
+                .createUniqueResultStructure(columnarTable.rows.get(1), 1);
+
+        assertThat(columnarTable.rows instanceof ColumnarRows, is(true));
+        assertThat(resultStructure.get().size(), is(2));
+        assertThat(uniqueResultStructure.getUnique().getCompany(), is("BBV"));
+    }
+
+    @Test
+    public void testCreateResultStructure() {
+        TestTableRow row = new TestTableRow("KQV", 1, Decimal.valueOf("0.15"));
+        table = new TestTable(List.of(row));
+
+        assertThat(table.createResultStructure(row, 0), is(ResultStructure.createWith(row)));
+        assertThat(table.createUniqueResultStructure(row, 0), is(UniqueResultStructure.createWith(row)));
+    }
+
     @Test
     public void testSetDescription_WithLocaleAndString() {
         IRuntimeRepository repo = new InMemoryRuntimeRepository();
@@ -118,4 +161,26 @@ public class TableTest extends XmlAbstractTestCase {
         when(readOnlyRepo.isModifiable()).thenReturn(false);
         table.setDescription(Locale.ENGLISH, "New Desc", readOnlyRepo);
     }
+
+    private static class ColumnarTestTable extends TestTable {
+
+        public ColumnarTestTable() {
+            super();
+        }
+
+        public ColumnarTestTable(List<TestTableRow> content) {
+            super(content);
+        }
+
+        @Override
+        protected ColumnarRows<TestTableRow> createColumnarRows() {
+            return ColumnarRows.<TestTableRow> builder()
+                    .column(String.class, TestTableRow::getCompany)
+                    .column(Integer.class, TestTableRow::getGender)
+                    .column(Decimal.class, TestTableRow::getRate)
+                    .build(values -> new TestTableRow((String)values[0], (Integer)values[1], (Decimal)values[2]));
+        }
+
+    }
+
 }
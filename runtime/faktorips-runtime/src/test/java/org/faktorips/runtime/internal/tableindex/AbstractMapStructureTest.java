@@ -13,6 +13,7 @@ package org.faktorips.runtime.internal.tableindex;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -137,6 +138,20 @@ public class AbstractMapStructureTest {
         return resultSet;
     }
 
+    @Test
+    public void testGet_empty() throws Exception {
+        assertTrue(abstractMapStructure.get().isEmpty());
+    }
+
+    @Test
+    public void testGet_oneKey() throws Exception {
+        ResultStructure<Integer> resultStructure = new ResultStructure<>(123);
+        resultStructure.merge(new ResultStructure<>(321));
+        abstractMapStructure.put("abc", resultStructure);
+
+        assertEquals(resultStructure.get(), abstractMapStructure.get());
+    }
+
     @Test
     public void testGet_multipleSameKey() throws Exception {
         abstractMapStructure.put("abc", new ResultStructure<>(123));
@@ -155,4 +170,12 @@ public class AbstractMapStructureTest {
         assertThat(abstractMapStructure.get(), hasItem(321));
     }
 
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGet_multipleDifferentKeys_unmodifiable() throws Exception {
+        abstractMapStructure.put("abc", new ResultStructure<>(123));
+        abstractMapStructure.put("xyz", new ResultStructure<>(321));
+
+        abstractMapStructure.get().add(42);
+    }
+
 }
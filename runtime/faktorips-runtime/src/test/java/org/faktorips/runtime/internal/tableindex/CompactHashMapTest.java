@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.internal.tableindex;
+
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class CompactHashMapTest {
+
+    private final CompactHashMap<Object, String> map = new CompactHashMap<>();
+
+    @Test
+    public void testGet_Empty() {
+        assertNull(map.get("a"));
+        assertFalse(map.containsKey("a"));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testPut() {
+        assertNull(map.put("a", "1"));
+        assertEquals("1", map.put("a", "2"));
+
+        assertEquals("2", map.get("a"));
+        assertTrue(map.containsKey("a"));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testPut_NullKey() {
+        map.put(null, "1");
+
+        assertEquals("1", map.get(null));
+        assertTrue(map.containsKey(null));
+        assertThat(map.keySet(), hasItem((Object)null));
+    }
+
+    @Test
+    public void testPut_ManyKeys() {
+        Map<Object, String> expected = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, "v" + i);
+            expected.put(i, "v" + i);
+        }
+
+        assertEquals(1000, map.size());
+        assertEquals("v0", map.get(0));
+        assertEquals("v999", map.get(999));
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+    }
+
+    @Test
+    public void testPut_SameHashCode() {
+        CollidingKey key1 = new CollidingKey("a");
+        CollidingKey key2 = new CollidingKey("b");
+
+        map.put(key1, "1");
+        map.put(key2, "2");
+
+        assertEquals("1", map.get(new CollidingKey("a")));
+        assertEquals("2", map.get(new CollidingKey("b")));
+        assertNull(map.get(new CollidingKey("c")));
+    }
+
+    @Test
+    public void testValues() {
+        map.put("a", "1");
+        map.put("b", "2");
+
+        assertEquals(2, map.values().size());
+        assertThat(map.values(), hasItem("1"));
+        assertThat(map.values(), hasItem("2"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRemove() {
+        map.put("a", "1");
+
+        map.remove("a");
+    }
+
+    private static final class CollidingKey {
+
+        private final String name;
+
+        private CollidingKey(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof CollidingKey other && name.equals(other.name);
+        }
+
+    }
+
+}
@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.internal.tableindex;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.junit.Test;
+
+public class CompositeKeyTest {
+
+    @Test
+    public void testEquals() {
+        assertThat(CompositeKey.of("a", 1), is(CompositeKey.of("a", 1)));
+        assertThat(CompositeKey.of("a", null), is(CompositeKey.of("a", null)));
+        assertThat(CompositeKey.of("a", 1), is(not(CompositeKey.of(1, "a"))));
+        assertThat(CompositeKey.of("a", 1), is(not(CompositeKey.of("a", 1, null))));
+    }
+
+    @Test
+    public void testHashCode() {
+        assertThat(CompositeKey.of("a", 1).hashCode(), is(CompositeKey.of("a", 1).hashCode()));
+        assertThat(CompositeKey.of("a", null).hashCode(), is(CompositeKey.of("a", null).hashCode()));
+    }
+
+    @Test
+    public void testOf_CopiesValues() {
+        Object[] values = { "a", 1 };
+        CompositeKey key = CompositeKey.of(values);
+
+        values[0] = "b";
+
+        assertThat(key.get(0), is("a"));
+        assertThat(key.size(), is(2));
+    }
+
+    @Test
+    public void testGet() {
+        CompositeKey key = CompositeKey.of("a", null);
+
+        assertThat(key.get(0), is("a"));
+        assertThat(key.get(1), is(nullValue()));
+    }
+
+}
@@ -150,4 +150,55 @@ public class KeyStructureTest {
         structure.put("ID_2", second);
     }
 
+    @Test
+    public void testGetByKeyValues() {
+        KeyStructure<CompositeKey, ResultStructure<Integer>, Integer> structure = KeyStructure.create();
+        structure.put(CompositeKey.of("a"), ResultStructure.createWith(1));
+        structure.put(CompositeKey.of("a", 2), ResultStructure.createWith(2));
+        structure.put(CompositeKey.of("a", 2, null), ResultStructure.createWith(3));
+        structure.put(CompositeKey.of("a", 2, null, 4L), ResultStructure.createWith(4));
+        structure.put(CompositeKey.of("a", 2, null, 4L, "e"), ResultStructure.createWith(5));
+
+        assertEquals(1, structure.getByKeyValues("a").getUnique().intValue());
+        assertEquals(2, structure.getByKeyValues("a", 2).getUnique().intValue());
+        assertEquals(3, structure.getByKeyValues("a", 2, null).getUnique().intValue());
+        assertEquals(4, structure.getByKeyValues("a", 2, null, 4L).getUnique().intValue());
+        assertEquals(5, structure.getByKeyValues("a", 2, null, 4L, "e").getUnique().intValue());
+    }
+
+    @Test
+    public void testGetByKeyValues_noValue() {
+        KeyStructure<CompositeKey, ResultStructure<Integer>, Integer> structure = KeyStructure.create();
+        structure.put(CompositeKey.of("a", 2), ResultStructure.createWith(2));
+
+        assertTrue(structure.getByKeyValues("a").get().isEmpty());
+        assertTrue(structure.getByKeyValues(2, "a").get().isEmpty());
+        assertTrue(structure.getByKeyValues("a", 2, null).get().isEmpty());
+        assertEquals(2, structure.getByKeyValues("a", 2).getUnique().intValue());
+    }
+
+    @Test
+    public void testGetByKeyValues_sameAsGet() {
+        KeyStructure<CompositeKey, ResultStructure<Integer>, Integer> structure = KeyStructure.create();
+        structure.put(CompositeKey.of("a", 2), ResultStructure.createWith(1));
+        structure.put(CompositeKey.of("a", 2), ResultStructure.createWith(2));
+
+        assertEquals(structure.get(CompositeKey.of("a", 2)).get(), structure.getByKeyValues("a", 2).get());
+    }
+
+    @Test
+    public void testGetByKeyValues_nestedLookup() {
+        KeyStructure<CompositeKey, ResultStructure<Integer>, Integer> structure = KeyStructure.create();
+        Object valueWithNestedLookup = new Object() {
+            @Override
+            public int hashCode() {
+                structure.getByKeyValues("b");
+                return 42;
+            }
+        };
+        structure.put(CompositeKey.of(valueWithNestedLookup, 2), ResultStructure.createWith(1));
+
+        assertThat(structure.getByKeyValues(valueWithNestedLookup, 2).get(), hasItem(1));
+    }
+
 }
@@ -120,6 +120,40 @@ public class RangeStructureTest {
         resultSetForKeyNullObject(isEmpty(), RangeType.UPPER_BOUND);
     }
 
+    @Test
+    public void testGet_SameAsGetValue() {
+        for (RangeType rangeType : RangeType.values()) {
+            createStructure(rangeType);
+            for (int key = -10; key <= 15; key++) {
+                ResultStructure<String> expected = rangeType.getValue(structure.getMap(), key);
+                Set<String> expectedResult = expected == null ? Set.of() : expected.get();
+                assertEquals(rangeType + " " + key, expectedResult, structure.get(key).get());
+            }
+        }
+    }
+
+    @Test
+    public void testGet_PutAfterGet() {
+        createStructure(RangeType.LOWER_BOUND_EQUAL);
+        assertThat(structure.get(20).get(), hasItem("C"));
+
+        structure.put(15, new ResultStructure<>("D"));
+
+        assertThat(structure.get(20).get(), hasItem("D"));
+        assertThat(structure.get(12).get(), hasItem("C"));
+    }
+
+    @Test
+    public void testGet_AllValuesAfterGet() {
+        createStructure(RangeType.LOWER_BOUND_EQUAL);
+        structure.get(5);
+
+        Set<String> result = structure.get();
+
+        assertEquals(Set.of("A", "B", "C"), result);
+        assertEquals(3, structure.getMap().size());
+    }
+
     private void createStructure(RangeType keyType) {
         structure = RangeStructure.create(keyType);
         structure.put(-5, new ResultStructure<>("A"));
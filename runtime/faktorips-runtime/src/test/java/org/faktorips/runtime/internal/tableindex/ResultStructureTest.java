@@ -19,6 +19,7 @@ import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.Test;
@@ -67,6 +68,17 @@ public class ResultStructureTest {
         assertThat(resultStructure.get(), hasItem(321));
     }
 
+    @Test
+    public void testMerge_rowIndexResult() throws Exception {
+        resultStructure = new ResultStructure<>(321);
+        ResultStructure<Integer> resultStructure2 = ResultStructure.createWithRowIndex(List.of(42, 123), 1);
+
+        resultStructure.merge(resultStructure2);
+
+        assertThat(resultStructure.get(), hasItem(123));
+        assertThat(resultStructure.get(), hasItem(321));
+    }
+
     @Test
     public void testMerge_emptyResults() throws Exception {
         resultStructure = new ResultStructure<>();
@@ -43,6 +43,27 @@ public class TwoColumnRangeStructureTest {
         structure2 = TwoColumnRangeStructure.create();
     }
 
+    @Test
+    public void testPut_AfterGet() {
+        assertThat(structure.get(5).get(), hasItem("A"));
+
+        structure.put(4, 14, new ResultStructure<>("C"));
+
+        assertThat(structure.get(5).get(), hasItem("A"));
+        assertThat(structure.get(5).get(), hasItem("C"));
+        assertThat(structure.get(13).get(), hasItem("B"));
+        assertThat(structure.get(13).get(), hasItem("C"));
+        assertThat(structure.get(130).get(), hasItem("exclusiveExclusive"));
+    }
+
+    @Test
+    public void testGet_AllValuesAfterGet() {
+        structure.get(5);
+
+        assertEquals(5, structure.get().size());
+        assertEquals(5, structure.getMap().size());
+    }
+
     @Test
     public void testGet_MiddleOfRange() {
         assertEquals(1, structure.get(5).get().size());
@@ -71,6 +92,18 @@ public class TwoColumnRangeStructureTest {
         assertThat(structure.get(320).get(), hasItem("inclusiveExclusive"));
     }
 
+    @Test
+    public void testGet_PutAfterGet() {
+        assertEquals(0, structure.get(10).get().size());
+
+        structure.put(9, 11, new ResultStructure<>("C"));
+
+        assertThat(structure.get(10).get(), hasItem("C"));
+        assertThat(structure.get(9).get(), hasItem("C"));
+        assertEquals(1, structure.get(12).get().size());
+        assertThat(structure.get(12).get(), hasItem("B"));
+    }
+
     @Test
     public void testGet_upperBoundOfRange() {
         assertEquals(1, structure.get(8).get().size());
@@ -14,10 +14,12 @@ import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.lessThan;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertSame;
@@ -28,6 +30,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.faktorips.runtime.CardinalityRange;
 import org.faktorips.runtime.FormulaExecutionException;
@@ -366,6 +370,72 @@ public class IpsModelTest {
         // an unannotated product
     }
 
+    @Test
+    public void testValidate_Parallel() {
+        IRuntimeRepository repository = createRepositoryToValidate();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            MessageList messages = IpsModel.validate(repository, new ValidationContext(),
+                    new ModelValidationOptions().setExecutor(executor));
+
+            assertThat(messages, is(IpsModel.validate(repository, new ValidationContext())));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testValidate_FailFast() {
+        IRuntimeRepository repository = createRepositoryToValidate();
+
+        MessageList messages = IpsModel.validate(repository, new ValidationContext(),
+                new ModelValidationOptions().setExecutor(Runnable::run).setFailFast(true));
+
+        assertThat(messages.containsErrorMsg(), is(true));
+        assertThat(messages.size(), is(lessThan(16)));
+        assertThat(messages.toString(), not(containsString("mandatoryDecimal")));
+    }
+
+    @Test
+    public void testValidate_MaxMessages() {
+        IRuntimeRepository repository = createRepositoryToValidate();
+
+        MessageList messages = IpsModel.validate(repository, new ValidationContext(),
+                new ModelValidationOptions().setMaxMessages(3));
+
+        assertThat(messages.size(), is(3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValidate_MaxMessagesNotPositive() {
+        new ModelValidationOptions().setMaxMessages(0);
+    }
+
+    private IRuntimeRepository createRepositoryToValidate() {
+        IModifiableRuntimeRepository repository = new InMemoryRuntimeRepository();
+        IpsModel.getProductCmptType(ConfiguringProduct.class);
+        TargetProduct targetProduct = new TargetProduct(repository, "T 1", "T", "1");
+        repository.putProductComponent(targetProduct);
+        ConfiguringProduct productComponent = new ConfiguringProduct(repository, "P 1", "P", "1");
+        productComponent.setAllowedValuesForStaticPolicyAttribute(new StringLengthValueSet(42));
+        productComponent.setStaticProductAttribute("foo");
+        productComponent.addStaticProductAssociation(targetProduct, new CardinalityRange(100, 200, 150));
+        repository.putProductComponent(productComponent);
+        ConfiguringProductAdj configuringProductAdj1 = new ConfiguringProductAdj(productComponent);
+        configuringProductAdj1.setValidFrom(new DateTime(2024, 1, 1));
+        configuringProductAdj1.setProductAttribute(-1);
+        configuringProductAdj1.setDefaultValuePolicyAttribute(99);
+        repository.putProductCmptGeneration(configuringProductAdj1);
+        Foo e1a = new Foo(1, "Eins", true);
+        Foo e1b = new Foo(1, "Eins", true);
+        Foo e2 = new Foo(2, "Eins", true);
+        repository.putEnumValues(Foo.class, List.of(e1a, e1b, e2));
+        repository.putEnumValues(MyEnumForMandatoryTests.class,
+                List.of(MyEnumForMandatoryTests.allSet, MyEnumForMandatoryTests.allNulls,
+                        MyEnumForMandatoryTests.allEmpty));
+        return repository;
+    }
+
     @IpsPolicyCmptType(name = "MyPolicy")
     private static class TestPolicy implements IModelObject {
 
@@ -451,27 +521,7 @@ public class IpsModelTest {
 
     @Test
     public void testValidate() {
-        IModifiableRuntimeRepository repository = new InMemoryRuntimeRepository();
-        IpsModel.getProductCmptType(ConfiguringProduct.class);
-        TargetProduct targetProduct = new TargetProduct(repository, "T 1", "T", "1");
-        repository.putProductComponent(targetProduct);
-        ConfiguringProduct productComponent = new ConfiguringProduct(repository, "P 1", "P", "1");
-        productComponent.setAllowedValuesForStaticPolicyAttribute(new StringLengthValueSet(42));
-        productComponent.setStaticProductAttribute("foo");
-        productComponent.addStaticProductAssociation(targetProduct, new CardinalityRange(100, 200, 150));
-        repository.putProductComponent(productComponent);
-        ConfiguringProductAdj configuringProductAdj1 = new ConfiguringProductAdj(productComponent);
-        configuringProductAdj1.setValidFrom(new DateTime(2024, 1, 1));
-        configuringProductAdj1.setProductAttribute(-1);
-        configuringProductAdj1.setDefaultValuePolicyAttribute(99);
-        repository.putProductCmptGeneration(configuringProductAdj1);
-        Foo e1a = new Foo(1, "Eins", true);
-        Foo e1b = new Foo(1, "Eins", true);
-        Foo e2 = new Foo(2, "Eins", true);
-        repository.putEnumValues(Foo.class, List.of(e1a, e1b, e2));
-        repository.putEnumValues(MyEnumForMandatoryTests.class,
-                List.of(MyEnumForMandatoryTests.allSet, MyEnumForMandatoryTests.allNulls,
-                        MyEnumForMandatoryTests.allEmpty));
+        IRuntimeRepository repository = createRepositoryToValidate();
 
         MessageList messages = IpsModel.validate(repository, new ValidationContext());
 
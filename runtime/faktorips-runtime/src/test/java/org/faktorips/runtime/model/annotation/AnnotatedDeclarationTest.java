@@ -18,6 +18,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
 
 import org.junit.Test;
 
@@ -109,6 +112,28 @@ public class AnnotatedDeclarationTest {
                 is(sameInstance(AnnotatedDeclaration.from(Implementation.class))));
     }
 
+    @Test
+    public void testGetDeclaredFields_ReturnsModifiableCopy() {
+        AnnotatedDeclaration annotatedDeclaration = AnnotatedDeclaration.from(Implementation.class);
+
+        List<Field> fields = annotatedDeclaration.getDeclaredFields();
+        List<Field> expectedFields = List.copyOf(fields);
+        fields.clear();
+
+        assertThat(annotatedDeclaration.getDeclaredFields(), is(equalTo(expectedFields)));
+    }
+
+    @Test
+    public void testGetDeclaredMethods_ReturnsModifiableCopy() {
+        AnnotatedDeclaration annotatedDeclaration = AnnotatedDeclaration.from(Implementation.class);
+
+        List<Method> methods = annotatedDeclaration.getDeclaredMethods();
+        List<Method> expectedMethods = List.copyOf(methods);
+        methods.clear();
+
+        assertThat(annotatedDeclaration.getDeclaredMethods(), is(equalTo(expectedMethods)));
+    }
+
     @IpsPublishedInterface(implementation = Implementation.class)
     private interface PublishedInterface {
         // an interface
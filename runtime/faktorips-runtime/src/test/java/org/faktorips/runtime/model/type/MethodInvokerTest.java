@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.model.type;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+
+public class MethodInvokerTest {
+
+    @Test
+    public void testOf_Null() {
+        assertThat(MethodInvoker.of(null), is(nullValue()));
+        assertThat(MethodInvoker.methodOf(null), is(nullValue()));
+    }
+
+    @Test
+    public void testInvoke_NoArguments() throws Throwable {
+        MethodInvoker invoker = MethodInvoker.of(PublicBean.class.getMethod("getValue"));
+
+        assertThat(invoker.invoke(new PublicBean("a")), is("a"));
+    }
+
+    @Test
+    public void testInvoke_Arguments() throws Throwable {
+        Method method = PublicBean.class.getMethod("concat", String.class, int.class, String.class);
+        MethodInvoker invoker = MethodInvoker.of(method);
+
+        assertThat(invoker.invoke(new PublicBean("a"), "b", 1, "c"), is("ab1c"));
+        assertThat(MethodInvoker.methodOf(invoker), is(method));
+    }
+
+    @Test
+    public void testInvoke_Static() throws Throwable {
+        MethodInvoker invoker = MethodInvoker.of(PublicBean.class.getMethod("twice", String.class));
+
+        assertThat(invoker.invoke(null, "x"), is("xx"));
+    }
+
+    @Test
+    public void testInvoke_NotAccessibleForMethodHandle() throws Throwable {
+        Method method = HiddenBean.class.getDeclaredMethod("getValue");
+        method.setAccessible(true);
+        MethodInvoker invoker = MethodInvoker.of(method);
+
+        assertThat(invoker.invoke(new HiddenBean()), is("hidden"));
+    }
+
+    @Test
+    public void testInvoke_ExceptionIsUnwrapped() throws Exception {
+        MethodInvoker invoker = MethodInvoker.of(PublicBean.class.getMethod("fail"));
+
+        Throwable exception = assertThrows(Throwable.class, () -> invoker.invoke(new PublicBean("a")));
+
+        assertThat(exception, is(instanceOf(UnsupportedOperationException.class)));
+    }
+
+    @Test
+    public void testInvokeMethod_ErrorIsWrapped() throws Exception {
+        MethodInvoker invoker = MethodInvoker.of(PublicBean.class.getMethod("fail"));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ModelElement.invokeMethod(invoker, new PublicBean("a")));
+
+        assertThat(exception.getCause(), is(instanceOf(UnsupportedOperationException.class)));
+    }
+
+    public static class PublicBean {
+
+        private final String value;
+
+        public PublicBean(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public String concat(String a, int b, String c) {
+            return value + a + b + c;
+        }
+
+        public static String twice(String s) {
+            return s + s;
+        }
+
+        public void fail() {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+    private static class HiddenBean {
+
+        private String getValue() {
+            return "hidden";
+        }
+
+    }
+
+}
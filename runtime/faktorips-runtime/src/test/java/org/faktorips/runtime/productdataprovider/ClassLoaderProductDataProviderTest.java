@@ -12,17 +12,24 @@ package org.faktorips.runtime.productdataprovider;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringReader;
 import java.util.GregorianCalendar;
 
 import javax.xml.parsers.DocumentBuilder;
 
 import org.faktorips.runtime.internal.DateTime;
+import org.faktorips.runtime.internal.XmlUtil;
 import org.faktorips.runtime.internal.toc.AbstractReadonlyTableOfContents;
 import org.faktorips.runtime.internal.toc.EnumContentTocEntry;
 import org.faktorips.runtime.internal.toc.GenerationTocEntry;
@@ -37,7 +44,8 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
 
 public class ClassLoaderProductDataProviderTest {
 
@@ -94,9 +102,12 @@ public class ClassLoaderProductDataProviderTest {
     public void testGetProductCmptData() throws DataModifiedException {
         String xmlResourceName = "XmlResourceName";
         ProductCmptTocEntry tocEntry = createProductCmptTocEntry(xmlResourceName, false);
-        Element mockRootElement = mockRootElementForResourcePath(xmlResourceName);
+        Element rootElement = documentForResourcePath(xmlResourceName, "<ProductComponent id=\"a\"/>");
+
+        Element productCmptData = productDataProvider.getProductCmptData(tocEntry);
 
-        assertEquals(mockRootElement, productDataProvider.getProductCmptData(tocEntry));
+        assertEquals("a", productCmptData.getAttribute("id"));
+        assertNotSame(rootElement, productCmptData);
     }
 
     @Test(expected = DataModifiedException.class)
@@ -163,14 +174,50 @@ public class ClassLoaderProductDataProviderTest {
         GenerationTocEntry generationTocEntry = new GenerationTocEntry(productCmptTocEntry, generationValidFrom, "",
                 "");
 
-        Element mockProductCmptElement = mockRootElementForResourcePath(xmlResourceName);
-        NodeList mockChildrenList = mock(NodeList.class);
-        when(mockChildrenList.getLength()).thenReturn(2);
-        mockGenerationChildElement(mockChildrenList, 0, DateTime.createDateOnly(new GregorianCalendar(1, 1, 1)));
-        Element mockChild2 = mockGenerationChildElement(mockChildrenList, 1, generationValidFrom);
-        when(mockProductCmptElement.getChildNodes()).thenReturn(mockChildrenList);
+        documentWithGenerationsForResourcePath(xmlResourceName, generationValidFrom);
 
-        assertEquals(mockChild2, productDataProvider.getProductCmptGenerationData(generationTocEntry));
+        Element generationData = productDataProvider.getProductCmptGenerationData(generationTocEntry);
+
+        assertEquals(GenerationTocEntry.XML_TAG, generationData.getNodeName());
+        assertEquals("2", generationData.getAttribute("id"));
+    }
+
+    @Test
+    public void testGetProductCmptGenerationData_ParsedOnceForAllGenerations() throws DataModifiedException {
+        String xmlResourceName = "foo";
+        DateTime generationValidFrom = DateTime.createDateOnly(new GregorianCalendar());
+        ProductCmptTocEntry productCmptTocEntry = createProductCmptTocEntry(xmlResourceName, false);
+        GenerationTocEntry generationTocEntry = new GenerationTocEntry(productCmptTocEntry, generationValidFrom, "",
+                "");
+        GenerationTocEntry otherGenerationTocEntry = new GenerationTocEntry(productCmptTocEntry,
+                DateTime.parseIso("0001-02-01"), "", "");
+        documentWithGenerationsForResourcePath(xmlResourceName, generationValidFrom);
+
+        productDataProvider.getProductCmptData(productCmptTocEntry);
+        Element generationData = productDataProvider.getProductCmptGenerationData(generationTocEntry);
+        Element otherGenerationData = productDataProvider.getProductCmptGenerationData(otherGenerationTocEntry);
+
+        assertEquals(generationValidFrom.toIsoFormat(),
+                generationData.getAttribute(GenerationTocEntry.PROPERTY_VALID_FROM));
+        assertEquals("0001-02-01", otherGenerationData.getAttribute(GenerationTocEntry.PROPERTY_VALID_FROM));
+        verify(mockDataSource, times(1)).loadDocument(eq(xmlResourceName), any(DocumentBuilder.class));
+    }
+
+    @Test
+    public void testGetProductCmptGenerationData_ParsedAgainForModifiedData() throws DataModifiedException {
+        String xmlResourceName = "foo";
+        DateTime generationValidFrom = DateTime.createDateOnly(new GregorianCalendar());
+        ProductCmptTocEntry productCmptTocEntry = createProductCmptTocEntry(xmlResourceName, false);
+        GenerationTocEntry generationTocEntry = new GenerationTocEntry(productCmptTocEntry, generationValidFrom, "",
+                "");
+        documentWithGenerationsForResourcePath(xmlResourceName, generationValidFrom);
+        productDataProvider.getProductCmptGenerationData(generationTocEntry);
+
+        modifyRepository();
+
+        assertThrows(DataModifiedException.class,
+                () -> productDataProvider.getProductCmptGenerationData(generationTocEntry));
+        verify(mockDataSource, times(2)).loadDocument(eq(xmlResourceName), any(DocumentBuilder.class));
     }
 
     @Test(expected = RuntimeException.class)
@@ -182,12 +229,8 @@ public class ClassLoaderProductDataProviderTest {
         GenerationTocEntry generationTocEntry = new GenerationTocEntry(productCmptTocEntry, generationValidFrom, "",
                 "");
 
-        Element mockProductCmptElement = mockRootElementForResourcePath(xmlResourceName);
-        NodeList mockChildrenList = mock(NodeList.class);
-        when(mockChildrenList.getLength()).thenReturn(2);
-        mockGenerationChildElement(mockChildrenList, 0, DateTime.createDateOnly(new GregorianCalendar(1, 1, 1)));
-        mockGenerationChildElement(mockChildrenList, 1, DateTime.createDateOnly(new GregorianCalendar(2, 2, 2)));
-        when(mockProductCmptElement.getChildNodes()).thenReturn(mockChildrenList);
+        documentWithGenerationsForResourcePath(xmlResourceName,
+                DateTime.createDateOnly(new GregorianCalendar(2, 2, 2)));
 
         productDataProvider.getProductCmptGenerationData(generationTocEntry);
     }
@@ -201,12 +244,7 @@ public class ClassLoaderProductDataProviderTest {
         GenerationTocEntry generationTocEntry = new GenerationTocEntry(productCmptTocEntry, generationValidFrom, "",
                 "");
 
-        Element mockProductCmptElement = mockRootElementForResourcePath(xmlResourceName);
-        NodeList mockChildrenList = mock(NodeList.class);
-        when(mockChildrenList.getLength()).thenReturn(2);
-        mockGenerationChildElement(mockChildrenList, 0, DateTime.createDateOnly(new GregorianCalendar(1, 1, 1)));
-        mockGenerationChildElement(mockChildrenList, 1, generationValidFrom);
-        when(mockProductCmptElement.getChildNodes()).thenReturn(mockChildrenList);
+        documentWithGenerationsForResourcePath(xmlResourceName, generationValidFrom);
 
         modifyRepository();
 
@@ -226,12 +264,7 @@ public class ClassLoaderProductDataProviderTest {
         GenerationTocEntry generationTocEntry = new GenerationTocEntry(productCmptTocEntry, generationValidFrom, "",
                 "");
 
-        Element mockProductCmptElement = mockRootElementForResourcePath(xmlResourceName);
-        NodeList mockChildrenList = mock(NodeList.class);
-        when(mockChildrenList.getLength()).thenReturn(2);
-        mockGenerationChildElement(mockChildrenList, 0, DateTime.createDateOnly(new GregorianCalendar(1, 1, 1)));
-        mockGenerationChildElement(mockChildrenList, 1, generationValidFrom);
-        when(mockProductCmptElement.getChildNodes()).thenReturn(mockChildrenList);
+        documentWithGenerationsForResourcePath(xmlResourceName, generationValidFrom);
 
         modifyRepository();
 
@@ -321,12 +354,21 @@ public class ClassLoaderProductDataProviderTest {
         when(mockDataSource.getLastModificationStamp(TOC_RESOURCE_PATH)).thenReturn("1234");
     }
 
-    private Element mockGenerationChildElement(NodeList nodeList, int index, DateTime validFrom) {
-        Element mockChild = mock(Element.class);
-        when(mockChild.getNodeName()).thenReturn(GenerationTocEntry.XML_TAG);
-        when(mockChild.getAttribute(GenerationTocEntry.PROPERTY_VALID_FROM)).thenReturn(validFrom.toIsoFormat());
-        when(nodeList.item(index)).thenReturn(mockChild);
-        return mockChild;
+    private void documentWithGenerationsForResourcePath(String resourcePath, DateTime validFrom) {
+        documentForResourcePath(resourcePath, "<ProductComponent>"
+                + "<Generation validFrom=\"0001-02-01\"/>"
+                + "<Generation validFrom=\"" + validFrom.toIsoFormat() + "\" id=\"2\"/>"
+                + "</ProductComponent>");
+    }
+
+    private Element documentForResourcePath(String resourcePath, String xml) {
+        try {
+            Document document = XmlUtil.getDocumentBuilder().parse(new InputSource(new StringReader(xml)));
+            when(mockDataSource.loadDocument(eq(resourcePath), any(DocumentBuilder.class))).thenReturn(document);
+            return document.getDocumentElement();
+        } catch (SAXException | IOException e) {
+            throw new RuntimeException(e);
+        }
     }
 
     private ClassLoaderProductDataProvider createProductDataProvider(boolean checkTocModifications) {
@@ -337,14 +379,14 @@ public class ClassLoaderProductDataProviderTest {
      * Creates a {@link ProductCmptTocEntry} with the given XML resource name.
      * 
      * @param xmlResourceName The name of the XML resource the TOC entry shall point to
-     * @param mockRootElement Flag indicating whether a document root element mock shall be directly
-     *            created for the given XML resource name
+     * @param mockRootElement Flag indicating whether a document shall be directly created for the
+     *            given XML resource name
      */
     private ProductCmptTocEntry createProductCmptTocEntry(String xmlResourceName, boolean mockRootElement) {
         ProductCmptTocEntry tocEntry = new ProductCmptTocEntry("", "", "", "", xmlResourceName, "", "",
                 mock(DateTime.class));
         if (mockRootElement) {
-            mockRootElementForResourcePath(xmlResourceName);
+            documentForResourcePath(xmlResourceName, "<ProductComponent/>");
         }
         return tocEntry;
     }
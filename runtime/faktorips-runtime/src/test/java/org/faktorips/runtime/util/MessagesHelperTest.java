@@ -12,8 +12,10 @@ package org.faktorips.runtime.util;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
 
 import java.util.Locale;
+import java.util.MissingResourceException;
 
 import org.faktorips.values.Decimal;
 import org.faktorips.values.Money;
@@ -127,6 +129,38 @@ public class MessagesHelperTest {
         assertEquals("fallback", message);
     }
 
+    @Test
+    public void testGetMessageOr_FallbackForCachedMissingMessage() throws Exception {
+        String qualifiedName = getClass().getName();
+        new MessagesHelper(qualifiedName, loader, defaultLocale).getMessageOr("n o t", Locale.GERMAN, "first");
+
+        String message = new MessagesHelper(qualifiedName, loader, defaultLocale).getMessageOr("n o t",
+                Locale.GERMAN, "second");
+
+        assertEquals("second", message);
+    }
+
+    @Test
+    public void testGetMessage_Missing() throws Exception {
+        String qualifiedName = getClass().getName();
+        MessagesHelper messagesHelper = new MessagesHelper(qualifiedName, loader, defaultLocale);
+
+        MissingResourceException exception = assertThrows(MissingResourceException.class,
+                () -> messagesHelper.getMessage("n o t", Locale.GERMAN));
+
+        assertEquals("n o t", exception.getKey());
+        assertEquals(qualifiedName, exception.getClassName());
+    }
+
+    @Test
+    public void testGetMessage_ReplacementsWithCachedFormat() throws Exception {
+        String qualifiedName = getClass().getName();
+        MessagesHelper messagesHelper = new MessagesHelper(qualifiedName, loader, defaultLocale);
+
+        assertEquals("test 1 abc 2", messagesHelper.getMessage("testReplaces", Locale.GERMAN, 1, 2));
+        assertEquals("test x abc y", messagesHelper.getMessage("testReplaces", Locale.GERMAN, "x", "y"));
+    }
+
     @Test
     public void testForI18n() throws Exception {
         String qualifiedName = getClass().getName();
@@ -16,6 +16,7 @@ import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.util.Locale;
@@ -84,6 +85,31 @@ public class GenericRelevanceValidationTest {
         assertThat(message.getText(), is("Das Feld \"Integer-Attribut\" muss einen Wert enthalten."));
     }
 
+    @Test
+    public void testValidate_AddsToMessageList() {
+        DefaultGenericAttributeValidationConfiguration config = new DefaultGenericAttributeValidationConfiguration(
+                Locale.GERMANY);
+        TestPolicyWithVisitor modelObject = spy(new TestPolicyWithVisitor());
+        modelObject.setAllowedValuesForIntegerAttribute(new OrderedValueSet<>(false, null, 1, 2));
+        modelObject.setIntegerAttribute(3);
+        MessageList messageList = new MessageList(Message.newInfo("code", "text"));
+
+        GenericRelevanceValidation.validate(messageList, modelObject, TestPolicyWithVisitor.class,
+                TestPolicyWithVisitor.PROPERTY_INTEGER_ATTRIBUTE,
+                new ValidationContext(Locale.GERMANY, getClass().getClassLoader(), config));
+
+        assertThat(messageList.size(), is(2));
+        assertThat(messageList.getMessage(1).getCode(),
+                startsWith(GenericRelevanceValidation.Error.ValueNotInValueSet.getId()));
+        verify(modelObject, times(1)).getIntegerAttribute();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValidate_AttributeNotFound() {
+        GenericRelevanceValidation.validate(new MessageList(), new TestPolicyWithVisitor(),
+                TestPolicyWithVisitor.class, "Foobar", new ValidationContext());
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testOf_AttributeNotFound() {
         GenericRelevanceValidation.of(new TestPolicyWithVisitor(), TestPolicyWithVisitor.class, "Foobar",
@@ -0,0 +1,267 @@
+/*******************************************************************************
+ * Copyright (c) Faktor Zehn GmbH - faktorzehn.org
+ *
+ * This source code is available under the terms of the AGPL Affero General Public License version
+ * 3.
+ *
+ * Please see LICENSE.txt for full license terms, including the additional permissions and
+ * restrictions as well as the possibility of alternative license terms.
+ *******************************************************************************/
+
+package org.faktorips.runtime.validation;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.faktorips.runtime.AssociationChangedEvent;
+import org.faktorips.runtime.IDependantObject;
+import org.faktorips.runtime.IModelObject;
+import org.faktorips.runtime.IModelObjectVisitor;
+import org.faktorips.runtime.INotificationSupport;
+import org.faktorips.runtime.IValidationContext;
+import org.faktorips.runtime.IVisitorSupport;
+import org.faktorips.runtime.IpsPropertyChangeSupport;
+import org.faktorips.runtime.Message;
+import org.faktorips.runtime.MessageList;
+import org.faktorips.runtime.ValidationContext;
+import org.faktorips.runtime.internal.AbstractModelObject;
+import org.junit.Test;
+
+public class IncrementalValidationTest {
+
+    @Test
+    public void testValidate_Initially() {
+        Node root = new Node("root");
+        Node child1 = root.addChild(new Node("child1"));
+        Node child2 = root.addChild(new Node("child2"));
+        child1.setValid(false);
+        child2.setValid(false);
+
+        MessageList messages = IncrementalValidation.attachTo(root, new ValidationContext()).validate();
+
+        assertThat(messages, is(root.validate(new ValidationContext())));
+        assertThat(messages.size(), is(2));
+        assertThat(messages.getMessage(0).getCode(), is("child1"));
+        assertThat(messages.getMessage(1).getCode(), is("child2"));
+    }
+
+    @Test
+    public void testValidate_Unchanged() {
+        Node root = new Node("root");
+        Node child = root.addChild(new Node("child"));
+        IncrementalValidation validation = IncrementalValidation.attachTo(root, new ValidationContext());
+        validation.validate();
+
+        MessageList messages = validation.validate();
+
+        assertThat(messages.isEmpty(), is(true));
+        assertThat(root.validationCount, is(1));
+        assertThat(child.validationCount, is(1));
+    }
+
+    @Test
+    public void testValidate_ChangedChild() {
+        Node root = new Node("root");
+        Node child1 = root.addChild(new Node("child1"));
+        Node child2 = root.addChild(new Node("child2"));
+        child2.setValid(false);
+        IncrementalValidation validation = IncrementalValidation.attachTo(root, new ValidationContext());
+        validation.validate();
+
+        child1.setValid(false);
+        assertThat(validation.isDirty(child1), is(true));
+        assertThat(validation.isDirty(root), is(true));
+        assertThat(validation.isDirty(child2), is(false));
+        MessageList messages = validation.validate();
+
+        assertThat(messages.size(), is(2));
+        assertThat(messages.getMessage(0).getCode(), is("child1"));
+        assertThat(messages.getMessage(1).getCode(), is("child2"));
+        assertThat(root.validationCount, is(2));
+        assertThat(child1.validationCount, is(2));
+        assertThat(child2.validationCount, is(1));
+        assertThat(validation.isDirty(child1), is(false));
+    }
+
+    @Test
+    public void testValidate_AddedAndRemovedChild() {
+        Node root = new Node("root");
+        Node child1 = root.addChild(new Node("child1"));
+        child1.setValid(false);
+        IncrementalValidation validation = IncrementalValidation.attachTo(root, new ValidationContext());
+        validation.validate();
+
+        root.removeChild(child1);
+        Node child2 = root.addChild(new Node("child2"));
+        child2.setValid(false);
+        MessageList messages = validation.validate();
+
+        assertThat(messages.size(), is(1));
+        assertThat(messages.getMessage(0).getCode(), is("child2"));
+    }
+
+    @Test
+    public void testValidate_ValidateSelfStopsValidation() {
+        Node root = new Node("root");
+        Node child = root.addChild(new Node("child"));
+        child.setValid(false);
+        root.setContinueValidation(false);
+        IncrementalValidation validation = IncrementalValidation.attachTo(root, new ValidationContext());
+
+        assertThat(validation.validate().isEmpty(), is(true));
+
+        root.setContinueValidation(true);
+        assertThat(validation.validate().size(), is(1));
+    }
+
+    @Test
+    public void testMarkAllDirty() {
+        Node root = new Node("root");
+        Node child = root.addChild(new Node("child"));
+        IncrementalValidation validation = IncrementalValidation.attachTo(root, new ValidationContext());
+        validation.validate();
+
+        validation.markAllDirty();
+        validation.validate();
+
+        assertThat(root.validationCount, is(2));
+        assertThat(child.validationCount, is(2));
+    }
+
+    @Test
+    public void testDetach() {
+        Node root = new Node("root");
+        IncrementalValidation validation = IncrementalValidation.attachTo(root, new ValidationContext());
+        validation.validate();
+        validation.detach();
+
+        root.setValid(false);
+
+        assertThat(validation.validate().isEmpty(), is(true));
+        assertThat(root.validationCount, is(1));
+    }
+
+    private static class Node extends AbstractModelObject
+            implements INotificationSupport, IDependantObject, IVisitorSupport {
+
+        private final IpsPropertyChangeSupport propertyChangeSupport = new IpsPropertyChangeSupport(this);
+
+        private final String name;
+
+        private final List<Node> children = new ArrayList<>();
+
+        private Node parent;
+
+        private boolean valid = true;
+
+        private boolean continueValidation = true;
+
+        private int validationCount;
+
+        Node(String name) {
+            this.name = name;
+        }
+
+        Node addChild(Node child) {
+            children.add(child);
+            child.parent = this;
+            notifyChangeListeners(new AssociationChangedEvent(this, "children", null, child));
+            return child;
+        }
+
+        void removeChild(Node child) {
+            children.remove(child);
+            child.parent = null;
+            notifyChangeListeners(new AssociationChangedEvent(this, "children", child, null));
+        }
+
+        void setValid(boolean valid) {
+            boolean oldValue = this.valid;
+            this.valid = valid;
+            notifyChangeListeners(new PropertyChangeEvent(this, "valid", oldValue, valid));
+        }
+
+        void setContinueValidation(boolean continueValidation) {
+            boolean oldValue = this.continueValidation;
+            this.continueValidation = continueValidation;
+            notifyChangeListeners(new PropertyChangeEvent(this, "continueValidation", oldValue, continueValidation));
+        }
+
+        @Override
+        protected boolean validateSelf(MessageList list, IValidationContext context) {
+            validationCount++;
+            if (!valid) {
+                list.add(Message.newError(name, name + " is invalid"));
+            }
+            return continueValidation;
+        }
+
+        @Override
+        protected void validateDependants(MessageList list, IValidationContext context) {
+            children.forEach(c -> c.validate(list, context));
+        }
+
+        @Override
+        public boolean accept(IModelObjectVisitor visitor) {
+            if (!visitor.visit(this)) {
+                return false;
+            }
+            children.forEach(c -> c.accept(visitor));
+            return true;
+        }
+
+        @Override
+        public IModelObject getParentModelObject() {
+            return parent;
+        }
+
+        @Override
+        public void notifyChangeListeners(PropertyChangeEvent event) {
+            if (event instanceof AssociationChangedEvent associationChangedEvent) {
+                propertyChangeSupport.fireAssociationChange(associationChangedEvent);
+            } else {
+                propertyChangeSupport.firePropertyChange(event);
+            }
+            if (parent != null) {
+                parent.notifyChangeListeners(event);
+            }
+        }
+
+        @Override
+        public void addPropertyChangeListener(PropertyChangeListener listener) {
+            propertyChangeSupport.addPropertyChangeListener(listener);
+        }
+
+        @Override
+        public void addPropertyChangeListener(PropertyChangeListener listener, boolean propagateEventsFromChildren) {
+            propertyChangeSupport.addPropertyChangeListener(listener, propagateEventsFromChildren);
+        }
+
+        @Override
+        public void removePropertyChangeListener(PropertyChangeListener listener) {
+            propertyChangeSupport.removePropertyChangeListener(listener);
+        }
+
+        @Override
+        public void addPropertyChangeListener(String propertyName, PropertyChangeListener listener) {
+            propertyChangeSupport.addPropertyChangeListener(propertyName, listener);
+        }
+
+        @Override
+        public void removePropertyChangeListener(String propertyName, PropertyChangeListener listener) {
+            propertyChangeSupport.removePropertyChangeListener(propertyName, listener);
+        }
+
+        @Override
+        public boolean hasListeners(String propertyName) {
+            return propertyChangeSupport.hasListeners(propertyName);
+        }
+
+    }
+
+}
@@ -10,6 +10,10 @@
 
 package org.faktorips.values;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.stream.Collector;
@@ -24,6 +28,12 @@ import java.util.stream.Stream;
  * number.</li>
  * <li>The class has a special subclass representing <code>null</code></li>
  * </ul>
+ * <p>
+ * Values whose unscaled value fits into a <code>long</code> and whose scale is between 0 and 18 are
+ * stored without a {@link BigDecimal}. Additions, subtractions, multiplications, divisions, scale
+ * changes and comparisons of such values are computed on the <code>long</code> values and only
+ * fall back to {@link BigDecimal} if the result would overflow. The serialized form always contains
+ * the {@link BigDecimal}.
  * 
  * @see java.math.BigDecimal
  * @see org.faktorips.values.DecimalNull
@@ -43,10 +53,62 @@ public class Decimal extends Number implements Comparable<Decimal>, NullObjectSu
 
     private static final long serialVersionUID = -642726667937769164L;
 
-    private final BigDecimal value;
+    /**
+     * The serialized form, the same as before the compact representation was introduced.
+     */
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("value", BigDecimal.class) };
+
+    private static final int MAX_COMPACT_SCALE = 18;
+
+    /**
+     * Marks the result of a <code>long</code> operation that overflowed. It is never used as a
+     * compact unscaled value.
+     */
+    private static final long INFLATED = Long.MIN_VALUE;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_COMPACT_SCALE + 1];
+
+    private static final double[] DOUBLE_POWERS_OF_TEN = new double[MAX_COMPACT_SCALE + 1];
+
+    /** The largest <code>long</code> that has an exact <code>double</code> representation. */
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        DOUBLE_POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i <= MAX_COMPACT_SCALE; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+            DOUBLE_POWERS_OF_TEN[i] = DOUBLE_POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    /**
+     * The value or <code>null</code> if this decimal is represented by {@link #unscaledValue} and
+     * {@link #scale}.
+     */
+    private final transient BigDecimal value;
+
+    private final transient long unscaledValue;
+
+    private final transient int scale;
+
+    /**
+     * The {@link BigDecimal} of a compact decimal, created on demand. While deserializing it holds
+     * the read value until {@link #readResolve()} is called.
+     */
+    private transient BigDecimal inflatedValue;
 
     Decimal(BigDecimal value) {
         this.value = value;
+        unscaledValue = 0;
+        scale = 0;
+    }
+
+    private Decimal(long unscaledValue, int scale) {
+        value = null;
+        this.unscaledValue = unscaledValue;
+        this.scale = scale;
     }
 
     /**
@@ -81,14 +143,14 @@ public class Decimal extends Number implements Comparable<Decimal>, NullObjectSu
         if (s == null || "".equals(s) || DecimalNull.STRING_REPRESENTATION.equals(s)) {
             return NULL;
         }
-        return new Decimal(new BigDecimal(s));
+        return of(new BigDecimal(s));
     }
 
     public static final Decimal valueOf(BigDecimal value) {
         if (value == null) {
             return NULL;
         }
-        return new Decimal(value);
+        return of(value);
     }
 
     /**
@@ -113,9 +175,30 @@ public class Decimal extends Number implements Comparable<Decimal>, NullObjectSu
     }
 
     public static final Decimal valueOf(long unscaledValue, int scale) {
+        return of(unscaledValue, scale);
+    }
+
+    private static Decimal of(long unscaledValue, int scale) {
+        if (scale >= 0 && scale <= MAX_COMPACT_SCALE && unscaledValue != INFLATED) {
+            return new Decimal(unscaledValue, scale);
+        }
         return new Decimal(BigDecimal.valueOf(unscaledValue, scale));
     }
 
+    private static Decimal of(BigDecimal value) {
+        int scale = value.scale();
+        if (scale >= 0 && scale <= MAX_COMPACT_SCALE && value.precision() <= MAX_COMPACT_SCALE) {
+            Decimal decimal = new Decimal(value.unscaledValue().longValue(), scale);
+            decimal.inflatedValue = value;
+            return decimal;
+        }
+        return new Decimal(value);
+    }
+
+    private boolean isCompact() {
+        return value == null;
+    }
+
     @Override
     public boolean isNull() {
         return false;
@@ -133,7 +216,7 @@ public class Decimal extends Number implements Comparable<Decimal>, NullObjectSu
      * @return the scale of this Decimal.
      */
     public int scale() {
-        return value.scale();
+        return isCompact() ? scale : value.scale();
     }
 
     /**
@@ -153,7 +236,10 @@ public class Decimal extends Number implements Comparable<Decimal>, NullObjectSu
      * @return <code>-this</code>
      */
     public Decimal negate() {
-        return new Decimal(value.negate());
+        if (isCompact()) {
+            return new Decimal(-unscaledValue, scale);
+        }
+        return of(value.negate());
     }
 
     /**
@@ -162,7 +248,7 @@ public class Decimal extends Number implements Comparable<Decimal>, NullObjectSu
      * @return -1, 0 or 1 as the value of this Decimal is negative, zero or positive.
      */
     public int signum() {
-        return value.signum();
+        return isCompact() ? Long.signum(unscaledValue) : value.signum();
     }
 
     /**
@@ -176,7 +262,13 @@ public class Decimal extends Number implements Comparable<Decimal>, NullObjectSu
         if (Decimals.isNull(d)) {
             return Decimal.NULL;
         }
-        return new Decimal(value.add(d.value));
+        if (isCompact() && d.isCompact()) {
+            Decimal sum = addCompact(d.unscaledValue, d.scale);
+            if (sum != null) {
+                return sum;
+            }
+        }
+        return of(bigDecimalValue().add(d.bigDecimalValue()));
     }
 
     /**
@@ -218,7 +310,7 @@ public class Decimal extends Number implements Comparable<Decimal>, NullObjectSu
         if (i == null) {
             return Decimal.NULL;
         }
-        return new Decimal(value.add(BigDecimal.valueOf(i.longValue())));
+        return add(i.intValue());
     }
 
     /**
@@ -229,7 +321,13 @@ public class Decimal extends Number implements Comparable<Decimal>, NullObjectSu
      * @return this + i
      */
     public Decimal add(int i) {
-        return new Decimal(value.add(BigDecimal.valueOf(i)));
+        if (isCompact()) {
+            Decimal sum = addCompact(i, 0);
+            if (sum != null) {
+                return sum;
+            }
+        }
+        return of(bigDecimalValue().add(BigDecimal.valueOf(i)));
     }
 
     /**
@@ -243,7 +341,13 @@ public class Decimal extends Number implements Comparable<Decimal>, NullObjectSu
         if (Decimals.isNull(d)) {
             return Decimal.NULL;
         }
-        return new Decimal(value.subtract(d.value));
+        if (isCompact() && d.isCompact()) {
+            Decimal difference = addCompact(-d.unscaledValue, d.scale);
+            if (difference != null) {
+                return difference;
+            }
+        }
+        return of(bigDecimalValue().subtract(d.bigDecimalValue()));
     }
 
     /**
@@ -254,7 +358,31 @@ public class Decimal extends Number implements Comparable<Decimal>, NullObjectSu
      * @return this - i
      */
     public Decimal subtract(int i) {
-        return new Decimal(value.subtract(BigDecimal.valueOf(i)));
+        if (isCompact()) {
+            Decimal difference = addCompact(-(long)i, 0);
+            if (difference != null) {
+                return difference;
+            }
+        }
+        return of(bigDecimalValue().subtract(BigDecimal.valueOf(i)));
+    }
+
+    /**
+     * Returns the sum of this compact decimal and the given compact value or <code>null</code> if
+     * the sum does not fit into a <code>long</code>.
+     */
+    private Decimal addCompact(long otherUnscaledValue, int otherScale) {
+        int resultScale = Math.max(scale, otherScale);
+        long x = scaleUp(unscaledValue, resultScale - scale);
+        long y = scaleUp(otherUnscaledValue, resultScale - otherScale);
+        if (x == INFLATED || y == INFLATED) {
+            return null;
+        }
+        long sum = x + y;
+        if (((x ^ sum) & (y ^ sum)) < 0 || sum == INFLATED) {
+            return null;
+        }
+        return new Decimal(sum, resultScale);
     }
 
     /**
@@ -272,7 +400,13 @@ public class Decimal extends Number implements Comparable<Decimal>, NullObjectSu
         if (Decimals.isNull(d)) {
             return Decimal.NULL;
         }
-        return new Decimal(value.multiply(d.value));
+        if (isCompact() && d.isCompact()) {
+            long product = multiply(unscaledValue, d.unscaledValue);
+            if (product != INFLATED) {
+                return of(product, scale + d.scale);
+            }
+        }
+        return of(bigDecimalValue().multiply(d.bigDecimalValue()));
     }
 
     /**
@@ -330,7 +464,7 @@ public class Decimal extends Number implements Comparable<Decimal>, NullObjectSu
         if (i == null) {
             return Decimal.NULL;
         }
-        return new Decimal(value.multiply(BigDecimal.valueOf(i.longValue())));
+        return multiply(i.longValue());
     }
 
     /**
@@ -342,7 +476,7 @@ public class Decimal extends Number implements Comparable<Decimal>, NullObjectSu
      * @return this * i or null if this is Decimal.NULL.
      */
     public Decimal multiply(int i) {
-        return new Decimal(value.multiply(BigDecimal.valueOf(i)));
+        return multiply((long)i);
     }
 
     /**
@@ -354,7 +488,13 @@ public class Decimal extends Number implements Comparable<Decimal>, NullObjectSu
      * @return this * l or Decimal.NULL if this is Decimal.NULL.
      */
     public Decimal multiply(long l) {
-        return new Decimal(value.multiply(BigDecimal.valueOf(l)));
+        if (isCompact()) {
+            long product = multiply(unscaledValue, l);
+            if (product != INFLATED) {
+                return new Decimal(product, scale);
+            }
+        }
+        return of(bigDecimalValue().multiply(BigDecimal.valueOf(l)));
     }
 
     /**
@@ -489,7 +629,34 @@ public class Decimal extends Number implements Comparable<Decimal>, NullObjectSu
         if (Decimals.isNull(d)) {
             return Decimal.NULL;
         }
-        return new Decimal(value.divide(d.value, scale, roundingMode));
+        if (isCompact() && d.isCompact() && d.unscaledValue != 0 && scale >= 0) {
+            Decimal quotient = divideCompact(d, scale, roundingMode);
+            if (quotient != null) {
+                return quotient;
+            }
+        }
+        return of(bigDecimalValue().divide(d.bigDecimalValue(), scale, roundingMode));
+    }
+
+    /**
+     * Returns the quotient of this compact decimal and the given compact decimal or
+     * <code>null</code> if the quotient cannot be computed on <code>long</code> values.
+     */
+    private Decimal divideCompact(Decimal d, int resultScale, RoundingMode roundingMode) {
+        int shift = resultScale + d.scale - this.scale;
+        if (resultScale > MAX_COMPACT_SCALE || shift < 0 || shift > MAX_COMPACT_SCALE) {
+            return null;
+        }
+        long dividend = scaleUp(unscaledValue, shift);
+        if (dividend == INFLATED) {
+            return null;
+        }
+        long divisor = d.unscaledValue;
+        if (divisor < 0) {
+            dividend = -dividend;
+            divisor = -divisor;
+        }
+        return new Decimal(divideAndRound(dividend, divisor, roundingMode), resultScale);
     }
 
     /**
@@ -565,7 +732,17 @@ public class Decimal extends Number implements Comparable<Decimal>, NullObjectSu
      * @see java.math.RoundingMode#UNNECESSARY
      */
     public Decimal setScale(int scale, RoundingMode roundingMode) {
-        return new Decimal(value.setScale(scale, roundingMode));
+        if (isCompact() && scale >= 0 && scale <= MAX_COMPACT_SCALE) {
+            if (scale < this.scale) {
+                long rounded = divideAndRound(unscaledValue, POWERS_OF_TEN[this.scale - scale], roundingMode);
+                return new Decimal(rounded, scale);
+            }
+            long scaled = scaleUp(unscaledValue, scale - this.scale);
+            if (scaled != INFLATED) {
+                return scale == this.scale ? this : new Decimal(scaled, scale);
+            }
+        }
+        return of(bigDecimalValue().setScale(scale, roundingMode));
     }
 
     /**
@@ -620,29 +797,44 @@ public class Decimal extends Number implements Comparable<Decimal>, NullObjectSu
 
     @Override
     public int intValue() {
-        return value.intValue();
+        return isCompact() ? (int)longValue() : value.intValue();
     }
 
     @Override
     public long longValue() {
+        if (isCompact()) {
+            return unscaledValue / POWERS_OF_TEN[scale];
+        }
         return value.longValue();
     }
 
     @Override
     public float floatValue() {
-        return value.floatValue();
+        return bigDecimalValue().floatValue();
     }
 
     @Override
     public double doubleValue() {
-        return value.doubleValue();
+        if (isCompact() && Math.abs(unscaledValue) <= MAX_EXACT_DOUBLE) {
+            // both operands are exact, so the division is rounded correctly like BigDecimal does
+            return unscaledValue / DOUBLE_POWERS_OF_TEN[scale];
+        }
+        return bigDecimalValue().doubleValue();
     }
 
     /**
      * Returns the value of the specified number as a <code>BigDecimal</code>.
      */
     public BigDecimal bigDecimalValue() {
-        return value;
+        if (!isCompact()) {
+            return value;
+        }
+        BigDecimal inflated = inflatedValue;
+        if (inflated == null) {
+            inflated = BigDecimal.valueOf(unscaledValue, scale);
+            inflatedValue = inflated;
+        }
+        return inflated;
     }
 
     /**
@@ -653,7 +845,7 @@ public class Decimal extends Number implements Comparable<Decimal>, NullObjectSu
     @Override
     public int compareTo(Decimal d) {
         throwExceptionIfNullValue(d);
-        return value.compareTo(d.value);
+        return compareValue(d);
     }
 
     /**
@@ -662,7 +854,7 @@ public class Decimal extends Number implements Comparable<Decimal>, NullObjectSu
      */
     public boolean greaterThan(Decimal d) {
         throwExceptionIfNullValue(d);
-        return value.compareTo(d.value) > 0;
+        return compareValue(d) > 0;
     }
 
     /**
@@ -672,7 +864,7 @@ public class Decimal extends Number implements Comparable<Decimal>, NullObjectSu
      */
     public boolean greaterThanOrEqual(Decimal d) {
         throwExceptionIfNullValue(d);
-        return value.compareTo(d.value) >= 0;
+        return compareValue(d) >= 0;
     }
 
     /**
@@ -681,7 +873,7 @@ public class Decimal extends Number implements Comparable<Decimal>, NullObjectSu
      */
     public boolean lessThan(Decimal d) {
         throwExceptionIfNullValue(d);
-        return value.compareTo(d.value) < 0;
+        return compareValue(d) < 0;
     }
 
     /**
@@ -691,7 +883,7 @@ public class Decimal extends Number implements Comparable<Decimal>, NullObjectSu
      */
     public boolean lessThanOrEqual(Decimal d) {
         throwExceptionIfNullValue(d);
-        return value.compareTo(d.value) <= 0;
+        return compareValue(d) <= 0;
     }
 
     /**
@@ -708,7 +900,7 @@ public class Decimal extends Number implements Comparable<Decimal>, NullObjectSu
         if (d == null || d.isNull()) {
             return false;
         }
-        return value.compareTo(d.value) == 0;
+        return compareValue(d) == 0;
     }
 
     /**
@@ -725,7 +917,7 @@ public class Decimal extends Number implements Comparable<Decimal>, NullObjectSu
         if (d == null || d.isNull()) {
             return false;
         }
-        return value.compareTo(d.value) != 0;
+        return compareValue(d) != 0;
     }
 
     /**
@@ -738,7 +930,7 @@ public class Decimal extends Number implements Comparable<Decimal>, NullObjectSu
         if (!(o instanceof Decimal other) || other.isNull()) {
             return false;
         }
-        return value.compareTo(other.value) == 0;
+        return compareValue(other) == 0;
     }
 
     /**
@@ -748,12 +940,112 @@ public class Decimal extends Number implements Comparable<Decimal>, NullObjectSu
      */
     @Override
     public int hashCode() {
-        return value.stripTrailingZeros().hashCode();
+        if (!isCompact()) {
+            return value.stripTrailingZeros().hashCode();
+        }
+        if (unscaledValue == 0) {
+            return BigDecimal.ZERO.hashCode();
+        }
+        long strippedValue = unscaledValue;
+        int strippedScale = scale;
+        while (strippedValue % 10 == 0) {
+            strippedValue /= 10;
+            strippedScale--;
+        }
+        return BigDecimal.valueOf(strippedValue, strippedScale).hashCode();
     }
 
     @Override
     public String toString() {
-        return value.toString();
+        return bigDecimalValue().toString();
+    }
+
+    private int compareValue(Decimal d) {
+        if (isCompact() && d.isCompact()) {
+            if (scale == d.scale) {
+                return Long.compare(unscaledValue, d.unscaledValue);
+            }
+            int commonScale = Math.max(scale, d.scale);
+            long x = scaleUp(unscaledValue, commonScale - scale);
+            long y = scaleUp(d.unscaledValue, commonScale - d.scale);
+            if (x != INFLATED && y != INFLATED) {
+                return Long.compare(x, y);
+            }
+        }
+        return bigDecimalValue().compareTo(d.bigDecimalValue());
+    }
+
+    /**
+     * Returns the given value multiplied by ten to the power of the given (non negative) number of
+     * digits or {@link #INFLATED} if the result does not fit into a <code>long</code>.
+     */
+    private static long scaleUp(long value, int digits) {
+        if (digits == 0) {
+            return value;
+        }
+        if (digits > MAX_COMPACT_SCALE) {
+            return value == 0 ? 0 : INFLATED;
+        }
+        return multiply(value, POWERS_OF_TEN[digits]);
+    }
+
+    /**
+     * Returns the product of the given values or {@link #INFLATED} if the product does not fit into
+     * a <code>long</code>.
+     */
+    private static long multiply(long x, long y) {
+        long product = x * y;
+        long high = Math.multiplyHigh(x, y);
+        if ((high == 0 && product >= 0) || (high == -1 && product < 0)) {
+            return product;
+        }
+        return INFLATED;
+    }
+
+    /**
+     * Divides the given values and rounds the quotient to an integer like
+     * {@link BigDecimal#divide(BigDecimal, int, RoundingMode)} does. The divisor must be positive.
+     */
+    private static long divideAndRound(long dividend, long divisor, RoundingMode roundingMode) {
+        long quotient = dividend / divisor;
+        long remainder = Math.abs(dividend % divisor);
+        if (remainder == 0) {
+            return quotient;
+        }
+        int sign = dividend < 0 ? -1 : 1;
+        boolean increment = switch (roundingMode) {
+            case UP -> true;
+            case DOWN -> false;
+            case CEILING -> sign > 0;
+            case FLOOR -> sign < 0;
+            case HALF_UP, HALF_DOWN, HALF_EVEN -> {
+                int half = Long.compare(remainder, divisor - remainder);
+                if (half != 0) {
+                    yield half > 0;
+                }
+                yield roundingMode == RoundingMode.HALF_UP
+                        || (roundingMode == RoundingMode.HALF_EVEN && (quotient & 1) != 0);
+            }
+            case UNNECESSARY -> throw new ArithmeticException("Rounding necessary");
+        };
+        return increment ? quotient + sign : quotient;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("value", bigDecimalValue());
+        out.writeFields();
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        inflatedValue = (BigDecimal)in.readFields().get("value", null);
+    }
+
+    /**
+     * Replaces the deserialized decimal by one with the representation for its value.
+     */
+    private Object readResolve() {
+        return inflatedValue == null ? this : of(inflatedValue);
     }
 
     private void throwExceptionIfNullValue(Decimal d) throws UnsupportedOperationException {
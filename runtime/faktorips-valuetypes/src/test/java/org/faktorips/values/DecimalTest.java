@@ -17,8 +17,13 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.junit.Test;
@@ -507,4 +512,102 @@ public class DecimalTest {
         assertEquals(Decimal.NULL, value1.min(Decimal.NULL));
     }
 
+    @Test
+    public void testArithmetic_LikeBigDecimal() {
+        List<String> values = List.of("0", "1", "-1", "0.5", "-0.5", "2.50", "-7.125", "123456789.123456789",
+                "-0.000000001", "9223372036854775807", "-922337203685477580.7", "0.123456789012345678",
+                "1E+3", "12345678901234567890.12");
+        for (String v1 : values) {
+            for (String v2 : values) {
+                BigDecimal b1 = new BigDecimal(v1);
+                BigDecimal b2 = new BigDecimal(v2);
+                Decimal d1 = Decimal.valueOf(v1);
+                Decimal d2 = Decimal.valueOf(v2);
+                String msg = v1 + ", " + v2;
+
+                assertEquals(msg, b1.add(b2), d1.add(d2).bigDecimalValue());
+                assertEquals(msg, b1.subtract(b2), d1.subtract(d2).bigDecimalValue());
+                assertEquals(msg, b1.multiply(b2), d1.multiply(d2).bigDecimalValue());
+                assertEquals(msg, b1.compareTo(b2), d1.compareTo(d2));
+                assertEquals(msg, b1.compareTo(b2) == 0, d1.equals(d2));
+                if (b1.compareTo(b2) == 0) {
+                    assertEquals(msg, d1.hashCode(), d2.hashCode());
+                }
+                if (b2.signum() != 0) {
+                    for (RoundingMode roundingMode : List.of(RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING,
+                            RoundingMode.FLOOR, RoundingMode.HALF_UP, RoundingMode.HALF_DOWN,
+                            RoundingMode.HALF_EVEN)) {
+                        assertEquals(msg, b1.divide(b2, 4, roundingMode),
+                                d1.divide(d2, 4, roundingMode).bigDecimalValue());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSetScale_LikeBigDecimal() {
+        for (String value : List.of("0", "2.5", "-2.5", "1.15", "-1.15", "1.25", "-1.251", "0.0000001",
+                "922337203685477580.7")) {
+            for (RoundingMode roundingMode : List.of(RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING,
+                    RoundingMode.FLOOR, RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN)) {
+                for (int scale = 0; scale < 4; scale++) {
+                    assertEquals(value + " " + roundingMode + " " + scale,
+                            new BigDecimal(value).setScale(scale, roundingMode),
+                            Decimal.valueOf(value).setScale(scale, roundingMode).bigDecimalValue());
+                }
+            }
+        }
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testSetScale_RoundingNecessary() {
+        Decimal.valueOf("1.25").setScale(1, RoundingMode.UNNECESSARY);
+    }
+
+    @Test
+    public void testOverflow() {
+        Decimal max = Decimal.valueOf(Long.MAX_VALUE, 0);
+
+        assertThat(max.add(1).toString(), is("9223372036854775808"));
+        assertThat(max.multiply(max).bigDecimalValue(),
+                is(BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.valueOf(Long.MAX_VALUE))));
+        assertThat(max.negate().subtract(2).toString(), is("-9223372036854775809"));
+        assertThat(max.setScale(2, RoundingMode.UNNECESSARY).toString(), is("9223372036854775807.00"));
+    }
+
+    @Test
+    public void testNumberValues_LikeBigDecimal() {
+        for (String value : List.of("0", "5.312", "-65.77", "0.1", "123456789.987654321", "9007199254740993",
+                "-922337203685477580.7")) {
+            BigDecimal expected = new BigDecimal(value);
+            Decimal decimal = Decimal.valueOf(value);
+
+            assertEquals(value, expected.doubleValue(), decimal.doubleValue(), 0);
+            assertEquals(value, expected.floatValue(), decimal.floatValue(), 0);
+            assertEquals(value, expected.longValue(), decimal.longValue());
+            assertEquals(value, expected.intValue(), decimal.intValue());
+            assertEquals(value, expected.toString(), decimal.toString());
+            assertEquals(value, expected.stripTrailingZeros().hashCode(), decimal.hashCode());
+        }
+    }
+
+    @Test
+    public void testSerializable() throws Exception {
+        for (Decimal decimal : List.of(Decimal.valueOf("1.50"), Decimal.valueOf("-12345678901234567890.123"),
+                Decimal.ZERO)) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(decimal);
+            }
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                Decimal deserialized = (Decimal)in.readObject();
+
+                assertThat(deserialized, is(decimal));
+                assertThat(deserialized.scale(), is(decimal.scale()));
+                assertThat(deserialized.add(Decimal.valueOf("0.01")), is(decimal.add(Decimal.valueOf("0.01"))));
+            }
+        }
+    }
+
 }